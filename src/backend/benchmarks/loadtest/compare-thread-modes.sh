@@ -0,0 +1,107 @@
+#!/bin/bash
+
+# Human Tasks:
+# 1. Build the application with the Java 21 profile: mvn -f ../pom.xml -Pjava21 package -DskipTests
+# 2. Build the load generator: mvn -B package (in the benchmarks directory)
+# 3. Raise the open file limit to at least 65536 (ulimit -n 65536) for 10k connections
+# 4. Run from the benchmarks directory on a JDK 21 installation
+
+# Requirement Addressed: Virtual Threads
+# Description: Starts the application once per execution mode, drives it with LoadTest and
+# prints throughput and latency percentiles side by side. The JVM and hardware of the run are
+# written next to the result, since the figures mean nothing without them
+
+set -euo pipefail
+
+APP_JAR="${APP_JAR:-../target/spring-boot-sample-actuator-3.0.0.jar}"
+LOAD_JAR="${LOAD_JAR:-target/benchmarks.jar}"
+PORT="${PORT:-8080}"
+CONNECTIONS="${CONNECTIONS:-10000}"
+WARMUP="${WARMUP:-10}"
+DURATION="${DURATION:-30}"
+RESULT="${RESULT:-target/loadtest.csv}"
+ENVIRONMENT="${RESULT%.csv}.env"
+
+# GET /messages reads through MessageRepository once the in-memory cache is disabled, so
+# every request performs a blocking JDBC query. Both modes share the same connection pool
+# and the prod platform pool of 200 threads.
+COMMON_ARGS=(
+    "--server.port=${PORT}"
+    "--server.tomcat.threads.max=200"
+    "--server.tomcat.max-connections=20000"
+    "--server.tomcat.accept-count=1000"
+    "--service.recent-messages.enabled=false"
+    "--spring.datasource.hikari.maximum-pool-size=50"
+    "--logging.level.root=WARN"
+    "--server.tomcat.accesslog.enabled=false"
+)
+
+APP_PID=""
+
+stop_app() {
+    if [ -n "${APP_PID}" ]; then
+        kill "${APP_PID}" 2>/dev/null || true
+        wait "${APP_PID}" 2>/dev/null || true
+        APP_PID=""
+    fi
+}
+
+trap stop_app EXIT
+
+wait_until_up() {
+    for _ in $(seq 1 60); do
+        if curl -fs "http://localhost:${PORT}/actuator/health" >/dev/null; then
+            return 0
+        fi
+        sleep 1
+    done
+    echo "Error: application did not start"
+    exit 1
+}
+
+run_mode() {
+    local label="$1"
+    local virtual="$2"
+
+    echo "=== ${label} (spring.threads.virtual.enabled=${virtual}) ==="
+    # jdk.tracePinnedThreads reports virtual threads pinned to their carrier by JDBC drivers
+    java -Xms1g -Xmx1g -Djdk.tracePinnedThreads=short -jar "${APP_JAR}" \
+        "${COMMON_ARGS[@]}" "--spring.threads.virtual.enabled=${virtual}" &
+    APP_PID=$!
+    wait_until_up
+
+    java -cp "${LOAD_JAR}" sample.actuator.benchmark.LoadTest \
+        --url "http://localhost:${PORT}/messages?limit=20" \
+        --connections "${CONNECTIONS}" \
+        --warmup "${WARMUP}" \
+        --duration "${DURATION}" \
+        --label "${label}" \
+        --result "${RESULT}"
+
+    stop_app
+}
+
+write_environment() {
+    mkdir -p "$(dirname "${ENVIRONMENT}")"
+    {
+        echo "date=$(date -u +%Y-%m-%dT%H:%M:%SZ)"
+        echo "java=$(java -version 2>&1 | head -n 1)"
+        echo "cpu.model=$(grep -m 1 'model name' /proc/cpuinfo 2>/dev/null | cut -d: -f2- | xargs)"
+        echo "cpu.count=$(nproc)"
+        echo "memory.total=$(grep -m 1 MemTotal /proc/meminfo 2>/dev/null | cut -d: -f2- | xargs)"
+        echo "connections=${CONNECTIONS}"
+        echo "warmup=${WARMUP}"
+        echo "duration=${DURATION}"
+    } > "${ENVIRONMENT}"
+}
+
+rm -f "${RESULT}"
+write_environment
+run_mode platform false
+run_mode virtual true
+
+echo
+echo "=== Comparison (${CONNECTIONS} connections, ${DURATION}s) ==="
+column -s, -t < "${RESULT}"
+echo
+cat "${ENVIRONMENT}"
@@ -0,0 +1,145 @@
+package sample.actuator.benchmark;
+
+// Jackson 2.15.0
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result files and reports per-benchmark changes in score,
+ * p99 latency (sample mode) and normalized allocation rate (GC profiler).
+ *
+ * Requirements addressed:
+ * - Request Path Benchmarking: Diffs benchmark results between builds against a
+ *   committed baseline, flagging changes beyond a relative threshold as regressions
+ */
+public class BaselineComparison {
+
+    private static final String THROUGHPUT_MODE = "thrpt";
+
+    private static final String SAMPLE_MODE = "sample";
+
+    private static final String ALLOC_RATE_NORM = "gc.alloc.rate.norm";
+
+    private static final String P99 = "99.0";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final double thresholdPercent;
+
+    /**
+     * Creates a comparison that reports relative changes above the given threshold.
+     *
+     * @param thresholdPercent relative change in percent treated as a regression
+     * @throws IllegalArgumentException if the threshold is negative
+     */
+    public BaselineComparison(double thresholdPercent) {
+        if (thresholdPercent < 0) {
+            throw new IllegalArgumentException("Threshold must not be negative");
+        }
+        this.thresholdPercent = thresholdPercent;
+    }
+
+    /**
+     * Prints a comparison of the current result against the baseline.
+     *
+     * @param baseline JMH JSON result of the reference build
+     * @param current JMH JSON result of the build under test
+     * @param out stream the report is written to
+     * @return number of metrics that regressed beyond the threshold
+     * @throws IOException if either file cannot be read
+     */
+    public int compare(Path baseline, Path current, PrintStream out) throws IOException {
+        Map<String, JsonNode> baselineRuns = index(objectMapper.readTree(baseline.toFile()));
+        Map<String, JsonNode> currentRuns = index(objectMapper.readTree(current.toFile()));
+
+        int regressions = 0;
+        out.printf("%-75s %-12s %14s %14s %9s%n", "Benchmark", "Metric", "Baseline", "Current", "Change");
+        for (Map.Entry<String, JsonNode> entry : currentRuns.entrySet()) {
+            JsonNode before = baselineRuns.get(entry.getKey());
+            if (before == null) {
+                out.printf("%-75s %s%n", entry.getKey(), "(new, no baseline)");
+                continue;
+            }
+            JsonNode after = entry.getValue();
+            String mode = after.path("mode").asText();
+            boolean higherIsBetter = THROUGHPUT_MODE.equals(mode);
+
+            regressions += report(out, entry.getKey(), "score",
+                before.path("primaryMetric").path("score").asDouble(),
+                after.path("primaryMetric").path("score").asDouble(), higherIsBetter);
+
+            if (SAMPLE_MODE.equals(mode)) {
+                regressions += report(out, entry.getKey(), "p99",
+                    before.path("primaryMetric").path("scorePercentiles").path(P99).asDouble(),
+                    after.path("primaryMetric").path("scorePercentiles").path(P99).asDouble(), false);
+            }
+
+            JsonNode allocBefore = findSecondary(before, ALLOC_RATE_NORM);
+            JsonNode allocAfter = findSecondary(after, ALLOC_RATE_NORM);
+            if (allocBefore != null && allocAfter != null) {
+                regressions += report(out, entry.getKey(), "B/op",
+                    allocBefore.path("score").asDouble(), allocAfter.path("score").asDouble(), false);
+            }
+        }
+
+        out.printf("%d regression(s) beyond %.1f%%%n", regressions, thresholdPercent);
+        return regressions;
+    }
+
+    private int report(PrintStream out, String key, String metric, double before, double after,
+                       boolean higherIsBetter) {
+        double change = before == 0 ? (after == 0 ? 0 : 100) : (after - before) / before * 100;
+        boolean regressed = higherIsBetter ? change < -thresholdPercent : change > thresholdPercent;
+        out.printf("%-75s %-12s %14.3f %14.3f %+8.1f%%%s%n",
+            key, metric, before, after, change, regressed ? "  REGRESSION" : "");
+        return regressed ? 1 : 0;
+    }
+
+    private Map<String, JsonNode> index(JsonNode runs) {
+        Map<String, JsonNode> indexed = new LinkedHashMap<>();
+        for (JsonNode run : runs) {
+            indexed.put(key(run), run);
+        }
+        return indexed;
+    }
+
+    /**
+     * Builds the key matching a run across result files: benchmark, @Param values sorted by
+     * name, since JMH writes one run per parameter combination, and mode.
+     */
+    private static String key(JsonNode run) {
+        StringBuilder key = new StringBuilder(run.path("benchmark").asText());
+        Map<String, String> params = new TreeMap<>();
+        run.path("params").fields().forEachRemaining(param -> params.put(param.getKey(), param.getValue().asText()));
+        if (!params.isEmpty()) {
+            StringJoiner joined = new StringJoiner(", ", " (", ")");
+            params.forEach((name, value) -> joined.add(name + "=" + value));
+            key.append(joined);
+        }
+        return key.append(" [").append(run.path("mode").asText()).append(']').toString();
+    }
+
+    /**
+     * Looks up a secondary metric by suffix, since older JMH versions prefix GC profiler
+     * metric names with a middle dot.
+     */
+    private JsonNode findSecondary(JsonNode run, String suffix) {
+        Iterator<Map.Entry<String, JsonNode>> fields = run.path("secondaryMetrics").fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (field.getKey().endsWith(suffix)) {
+                return field.getValue();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,141 @@
+package sample.actuator.benchmark;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * The command, JVM and hardware a benchmark result was measured with, stored next to the
+ * baseline (jmh-baseline.json gets jmh-baseline.properties) so a comparison can tell when
+ * the two results are not from the same setup.
+ *
+ * Requirements addressed:
+ * - Request Path Benchmarking: Records what a baseline was measured on, so numbers are only
+ *   compared against runs on the same JVM and hardware
+ */
+public final class BenchmarkEnvironment {
+
+    /**
+     * Keys that must match for a comparison to be meaningful; the command is informational.
+     */
+    private static final List<String> COMPARED_KEYS = List.of(
+        "java.version", "java.vm.name", "os.name", "os.arch", "cpu.model", "cpu.count", "memory.total");
+
+    private static final Path CPU_INFO = Path.of("/proc/cpuinfo");
+
+    private static final Path MEM_INFO = Path.of("/proc/meminfo");
+
+    private final Map<String, String> values;
+
+    private BenchmarkEnvironment(Map<String, String> values) {
+        this.values = values;
+    }
+
+    /**
+     * Captures the environment of the running JVM.
+     *
+     * @param command the benchmark command line, recorded as given
+     * @return the captured environment
+     */
+    public static BenchmarkEnvironment current(String command) {
+        Map<String, String> values = new TreeMap<>();
+        values.put("command", command);
+        values.put("java.version", System.getProperty("java.version"));
+        values.put("java.vm.name", System.getProperty("java.vm.name"));
+        values.put("os.name", System.getProperty("os.name"));
+        values.put("os.arch", System.getProperty("os.arch"));
+        values.put("cpu.count", Integer.toString(Runtime.getRuntime().availableProcessors()));
+        values.put("cpu.model", procValue(CPU_INFO, "model name"));
+        values.put("memory.total", procValue(MEM_INFO, "MemTotal"));
+        return new BenchmarkEnvironment(values);
+    }
+
+    /**
+     * Reads an environment written by {@link #write(Path)}.
+     *
+     * @param file the properties file
+     * @return the environment, or null if the file does not exist
+     * @throws IOException if the file cannot be read
+     */
+    public static BenchmarkEnvironment read(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            properties.load(reader);
+        }
+        Map<String, String> values = new TreeMap<>();
+        properties.stringPropertyNames().forEach(name -> values.put(name, properties.getProperty(name)));
+        return new BenchmarkEnvironment(values);
+    }
+
+    /**
+     * Gets the environment file belonging to a result file.
+     *
+     * @param result the JMH JSON result file
+     * @return the sibling file with the .properties extension
+     */
+    public static Path fileFor(Path result) {
+        String name = result.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return result.resolveSibling((dot > 0 ? name.substring(0, dot) : name) + ".properties");
+    }
+
+    /**
+     * Writes the environment as a properties file.
+     *
+     * @param file the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void write(Path file) throws IOException {
+        Properties properties = new Properties();
+        properties.putAll(values);
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            properties.store(writer, "Environment of the JMH baseline");
+        }
+    }
+
+    /**
+     * Prints every compared key whose value differs from the other environment.
+     *
+     * @param baseline environment the baseline was measured with
+     * @param out stream the differences are written to
+     * @return whether any compared key differs
+     */
+    public boolean reportDifferences(BenchmarkEnvironment baseline, PrintStream out) {
+        boolean differs = false;
+        for (String key : COMPARED_KEYS) {
+            String before = baseline.values.get(key);
+            String after = values.get(key);
+            if (!Objects.equals(before, after)) {
+                out.printf("Environment differs from baseline: %s was '%s', is '%s'%n", key, before, after);
+                differs = true;
+            }
+        }
+        return differs;
+    }
+
+    private static String procValue(Path file, String key) {
+        try {
+            for (String line : Files.readAllLines(file)) {
+                int colon = line.indexOf(':');
+                if (colon > 0 && line.substring(0, colon).trim().equals(key)) {
+                    return line.substring(colon + 1).trim();
+                }
+            }
+        }
+        catch (IOException ex) {
+            // Not Linux, or not readable: left unknown
+        }
+        return "unknown";
+    }
+}
@@ -0,0 +1,139 @@
+package sample.actuator.benchmark;
+
+// JMH 1.36
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Entry point of the benchmark jar. Runs every benchmark in this package with the GC
+ * profiler attached, writes the JMH JSON result and optionally diffs it against a
+ * baseline result captured from an earlier build.
+ *
+ * Saving a baseline also writes the command, JVM and hardware it was measured with to
+ * jmh-baseline.properties (see BenchmarkEnvironment). A comparison prints every difference
+ * to that environment and then does not fail on regressions, since the numbers are not
+ * comparable.
+ *
+ * Human Tasks:
+ * 1. Capture a baseline on a quiet machine: java -jar target/benchmarks.jar --save-baseline
+ * 2. Commit the resulting baseline/jmh-baseline.json and baseline/jmh-baseline.properties so
+ *    later builds can be compared against it
+ *
+ * Supported arguments:
+ * - --include &lt;regex&gt;: benchmarks to run (default: all benchmarks in this package)
+ * - --result &lt;path&gt;: JSON result file (default: target/jmh-result.json)
+ * - --baseline &lt;path&gt;: baseline file to compare with (default: baseline/jmh-baseline.json)
+ * - --save-baseline: copy the result over the baseline file instead of comparing
+ * - --threshold &lt;percent&gt;: relative change reported as a regression (default: 10)
+ * - --fail-on-regression: exit with status 1 when a regression is detected
+ *
+ * Requirements addressed:
+ * - Request Path Benchmarking: Provides an offline, reproducible way to detect throughput,
+ *   latency and allocation regressions between builds
+ */
+public final class BenchmarkRunner {
+
+    private static final String DEFAULT_INCLUDE = "sample\\.actuator\\.benchmark\\..*";
+
+    private static final String DEFAULT_RESULT = "target/jmh-result.json";
+
+    private static final String DEFAULT_BASELINE = "baseline/jmh-baseline.json";
+
+    private static final double DEFAULT_THRESHOLD_PERCENT = 10.0;
+
+    private BenchmarkRunner() {
+        // Utility class with static entry point only
+    }
+
+    /**
+     * Runs the benchmarks and processes the baseline according to the given arguments.
+     *
+     * @param args command line arguments, see class documentation
+     * @throws RunnerException if JMH fails to run the benchmarks
+     * @throws IOException if the result or baseline file cannot be read or written
+     */
+    public static void main(String[] args) throws RunnerException, IOException {
+        String include = DEFAULT_INCLUDE;
+        Path result = Paths.get(DEFAULT_RESULT);
+        Path baseline = Paths.get(DEFAULT_BASELINE);
+        boolean saveBaseline = false;
+        boolean failOnRegression = false;
+        double threshold = DEFAULT_THRESHOLD_PERCENT;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--include" -> include = requireValue(args, ++i);
+                case "--result" -> result = Paths.get(requireValue(args, ++i));
+                case "--baseline" -> baseline = Paths.get(requireValue(args, ++i));
+                case "--threshold" -> threshold = Double.parseDouble(requireValue(args, ++i));
+                case "--save-baseline" -> saveBaseline = true;
+                case "--fail-on-regression" -> failOnRegression = true;
+                default -> throw new IllegalArgumentException("Unknown argument: " + args[i]);
+            }
+        }
+
+        if (result.getParent() != null) {
+            Files.createDirectories(result.getParent());
+        }
+
+        // Fixed heap and collector so allocation and latency numbers are comparable across runs
+        Options options = new OptionsBuilder()
+                .include(include)
+                .addProfiler(GCProfiler.class)
+                .jvmArgsAppend("-Xms1g", "-Xmx1g", "-XX:+UseParallelGC")
+                .resultFormat(ResultFormatType.JSON)
+                .result(result.toString())
+                .build();
+        new Runner(options).run();
+        BenchmarkEnvironment environment =
+            BenchmarkEnvironment.current("java -jar target/benchmarks.jar " + String.join(" ", args));
+
+        if (saveBaseline) {
+            if (baseline.getParent() != null) {
+                Files.createDirectories(baseline.getParent());
+            }
+            Files.copy(result, baseline, StandardCopyOption.REPLACE_EXISTING);
+            environment.write(BenchmarkEnvironment.fileFor(baseline));
+            System.out.println("Baseline written to " + baseline);
+            return;
+        }
+
+        if (!Files.exists(baseline)) {
+            System.out.println("No baseline found at " + baseline + ", skipping comparison");
+            return;
+        }
+
+        BenchmarkEnvironment baselineEnvironment = BenchmarkEnvironment.read(BenchmarkEnvironment.fileFor(baseline));
+        boolean comparable = baselineEnvironment != null
+            && !environment.reportDifferences(baselineEnvironment, System.out);
+        if (baselineEnvironment == null) {
+            System.out.println("No environment recorded for " + baseline + ", results may not be comparable");
+        }
+
+        int regressions = new BaselineComparison(threshold).compare(baseline, result, System.out);
+        if (failOnRegression && regressions > 0) {
+            if (!comparable) {
+                System.out.println("Not failing: the baseline was measured in a different environment");
+                return;
+            }
+            System.exit(1);
+        }
+    }
+
+    private static String requireValue(String[] args, int index) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + args[index - 1]);
+        }
+        return args[index];
+    }
+}
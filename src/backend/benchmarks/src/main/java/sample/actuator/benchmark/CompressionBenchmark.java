@@ -0,0 +1,135 @@
+package sample.actuator.benchmark;
+
+// JMH 1.36
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Jackson 2.15.0
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import sample.actuator.dto.MessageItemResponse;
+import sample.actuator.dto.MessagePageResponse;
+
+/**
+ * Measures the CPU cost of gzip-compressing JSON message listings of increasing size
+ * against the bytes it saves, to choose server.compression.min-response-size.
+ *
+ * Each listing size is compressed per request, as the connector does, and the identity
+ * write is the baseline. The bytesIn and bytesOut counters report the payload size before
+ * and after compression per operation; comparing the time per operation with the bytes
+ * saved shows the size below which compression is not worth its CPU.
+ *
+ * Requirements addressed:
+ * - Response Compression: Provides the CPU vs. bytes-saved evidence for the compression
+ *   threshold
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CompressionBenchmark {
+
+    /**
+     * Number of messages in the listing; roughly 100 bytes of JSON each.
+     */
+    @Param({"1", "4", "10", "40", "100"})
+    private int messages;
+
+    private byte[] body;
+
+    private ByteArrayOutputStream buffer;
+
+    /**
+     * Bytes per operation before and after compression, reported next to the timings.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Sizes {
+
+        public long bytesIn;
+
+        public long bytesOut;
+
+        /**
+         * Clears the counters before each iteration.
+         */
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytesIn = 0;
+            bytesOut = 0;
+        }
+    }
+
+    /**
+     * Renders a GET /messages page with the given number of messages.
+     *
+     * @throws IOException if serialization fails
+     */
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        List<MessageItemResponse> items = new ArrayList<>(messages);
+        Instant base = Instant.parse("2024-01-01T00:00:00Z");
+        for (int i = 0; i < messages; i++) {
+            items.add(new MessageItemResponse((long) i, "Benchmark message number " + i, base.plusSeconds(i)));
+        }
+        body = objectMapper.writeValueAsBytes(new MessagePageResponse(items, "cursor"));
+        buffer = new ByteArrayOutputStream(body.length + 64);
+    }
+
+    /**
+     * Writes the body uncompressed.
+     *
+     * @param sizes counters of bytes in and out
+     * @return number of bytes written, consumed by JMH to prevent dead-code elimination
+     */
+    @Benchmark
+    public int identity(Sizes sizes) {
+        buffer.reset();
+        buffer.write(body, 0, body.length);
+        sizes.bytesIn += body.length;
+        sizes.bytesOut += buffer.size();
+        return buffer.size();
+    }
+
+    /**
+     * Compresses the body with gzip at the default level, as the connector does.
+     *
+     * @param sizes counters of bytes in and out
+     * @return number of bytes written, consumed by JMH to prevent dead-code elimination
+     * @throws IOException if compression fails
+     */
+    @Benchmark
+    public int gzip(Sizes sizes) throws IOException {
+        buffer.reset();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(body);
+        }
+        sizes.bytesIn += body.length;
+        sizes.bytesOut += buffer.size();
+        return buffer.size();
+    }
+}
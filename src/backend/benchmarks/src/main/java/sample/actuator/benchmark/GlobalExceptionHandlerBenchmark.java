@@ -0,0 +1,89 @@
+package sample.actuator.benchmark;
+
+// JMH 1.36
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Spring Framework v6.0.0
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.concurrent.TimeUnit;
+
+import sample.actuator.SampleController;
+import sample.actuator.exception.GlobalExceptionHandler;
+
+/**
+ * Benchmarks for the error response building in GlobalExceptionHandler.
+ *
+ * The exceptions are created once in setup so only the handler's response construction
+ * is measured, not stack trace capture. The generic Exception handler is not covered
+ * because it logs the exception, so its cost depends on the logging configuration.
+ *
+ * Requirements addressed:
+ * - Request Path Benchmarking: Measures the cost of building the 400 error responses
+ *   returned for invalid arguments and failed validation
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class GlobalExceptionHandlerBenchmark {
+
+    private GlobalExceptionHandler handler;
+
+    private IllegalArgumentException illegalArgumentException;
+
+    private MethodArgumentNotValidException validationException;
+
+    /**
+     * Creates the handler and pre-built exceptions mirroring the ones raised by SampleController.
+     *
+     * @throws NoSuchMethodException if SampleController.olleh(Message) cannot be resolved
+     */
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        handler = new GlobalExceptionHandler();
+        illegalArgumentException = new IllegalArgumentException("Server error");
+
+        SampleController.Message message = new SampleController.Message();
+        message.setValue("");
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(message, "message");
+        bindingResult.rejectValue("value", "NotBlank", "Message value cannot be blank");
+        MethodParameter parameter = new MethodParameter(
+            SampleController.class.getMethod("olleh", SampleController.Message.class), 0);
+        validationException = new MethodArgumentNotValidException(parameter, bindingResult);
+    }
+
+    /**
+     * Measures building the INVALID_ARGUMENT error response.
+     *
+     * @return the error response, consumed by JMH to prevent dead-code elimination
+     */
+    @Benchmark
+    public ResponseEntity<Object> illegalArgument() {
+        return handler.handleIllegalArgumentException(illegalArgumentException);
+    }
+
+    /**
+     * Measures building the VALIDATION_ERROR response, including field error extraction.
+     *
+     * @return the error response, consumed by JMH to prevent dead-code elimination
+     */
+    @Benchmark
+    public ResponseEntity<Object> validationFailure() {
+        return handler.handleValidationExceptions(validationException);
+    }
+}
@@ -0,0 +1,108 @@
+package sample.actuator.benchmark;
+
+// JMH 1.36
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Jackson 2.15.0
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import sample.actuator.dto.MessageResponse;
+import sample.actuator.json.JsonWriter;
+import sample.actuator.json.JsonWriterRegistry;
+
+/**
+ * Compares writing a MessageResponse with the ObjectMapper against the JsonWriter generated
+ * for it at build time. Both paths create one generator per response over the same reused
+ * buffer, as the HTTP message converters do; the GC profiler of BenchmarkRunner reports the
+ * per-response allocation of each.
+ *
+ * Human Tasks:
+ * 1. Install the application built with the generated writers:
+ *    mvn -f ../pom.xml -Pcompiled-json install -DskipTests -Dspring-boot.repackage.skip=true
+ *
+ * Requirements addressed:
+ * - Response Serialization Performance: Provides the CPU and allocation evidence for
+ *   enabling service.json.compiled-writers
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JsonWriterBenchmark {
+
+    private ObjectMapper objectMapper;
+
+    private JsonWriter<MessageResponse> writer;
+
+    private MessageResponse response;
+
+    private ByteArrayOutputStream buffer;
+
+    /**
+     * Creates the mapper, looks up the generated writer and builds a typical POST / response.
+     *
+     * @throws IllegalStateException if the application was built without the compiled-json profile
+     */
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        writer = JsonWriterRegistry.load(getClass().getClassLoader()).find(MessageResponse.class);
+        if (writer == null) {
+            throw new IllegalStateException("No generated writer for MessageResponse; "
+                + "install the application built with -Pcompiled-json");
+        }
+        response = MessageResponse.builder()
+            .message("Benchmark message")
+            .title("Hello Home")
+            .date(Instant.now())
+            .build();
+        buffer = new ByteArrayOutputStream(256);
+    }
+
+    /**
+     * Serializes the response through ObjectMapper.writeValue.
+     *
+     * @return number of bytes written, consumed by JMH to prevent dead-code elimination
+     * @throws IOException if serialization fails
+     */
+    @Benchmark
+    public int objectMapper() throws IOException {
+        buffer.reset();
+        objectMapper.writeValue(buffer, response);
+        return buffer.size();
+    }
+
+    /**
+     * Serializes the response through the generated writer.
+     *
+     * @return number of bytes written, consumed by JMH to prevent dead-code elimination
+     * @throws IOException if serialization fails
+     */
+    @Benchmark
+    public int compiledWriter() throws IOException {
+        buffer.reset();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(buffer, JsonEncoding.UTF8)) {
+            writer.write(response, generator, false);
+        }
+        return buffer.size();
+    }
+}
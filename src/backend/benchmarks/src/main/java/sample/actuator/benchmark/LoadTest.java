@@ -0,0 +1,210 @@
+package sample.actuator.benchmark;
+
+// HdrHistogram 2.1.12
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop HTTP load generator used to compare the platform-thread and virtual-thread
+ * execution modes of a running application.
+ *
+ * Each simulated connection sends its next request as soon as the previous response has
+ * been read, so the number of concurrent connections equals the configured connection
+ * count (HTTP/1.1 never multiplexes, so every in-flight request holds its own socket).
+ * Latencies of the measurement window are recorded into an HdrHistogram; the warm-up
+ * window is discarded.
+ *
+ * Human Tasks:
+ * 1. Raise the open file limit on both client and server hosts (ulimit -n 65536) before
+ *    running with 10k connections
+ * 2. Run client and server on separate machines for figures that are not CPU-starved
+ *
+ * Supported arguments:
+ * - --url &lt;url&gt;: request target (default: http://localhost:8080/messages?limit=20)
+ * - --connections &lt;n&gt;: concurrent connections (default: 10000)
+ * - --warmup &lt;seconds&gt;: discarded warm-up duration (default: 10)
+ * - --duration &lt;seconds&gt;: measured duration (default: 30)
+ * - --label &lt;name&gt;: name of the run in the result line (default: run)
+ * - --result &lt;path&gt;: CSV file the result line is appended to (default: target/loadtest.csv)
+ *
+ * Requirements addressed:
+ * - Virtual Threads: Measures throughput and p99 of each execution mode under 10k
+ *   concurrent connections
+ */
+public final class LoadTest {
+
+    private static final String CSV_HEADER =
+        "label,connections,requests,errors,throughput_rps,p50_ms,p99_ms,p999_ms,max_ms";
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private LoadTest() {
+        // Utility class with static entry point only
+    }
+
+    /**
+     * Runs the load test and prints and appends the result line.
+     *
+     * @param args command line arguments, see class documentation
+     * @throws IOException if the result file cannot be written
+     * @throws InterruptedException if interrupted while waiting for the run to finish
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        URI target = URI.create("http://localhost:8080/messages?limit=20");
+        int connections = 10_000;
+        int warmupSeconds = 10;
+        int durationSeconds = 30;
+        String label = "run";
+        Path result = Paths.get("target/loadtest.csv");
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--url" -> target = URI.create(requireValue(args, ++i));
+                case "--connections" -> connections = Integer.parseInt(requireValue(args, ++i));
+                case "--warmup" -> warmupSeconds = Integer.parseInt(requireValue(args, ++i));
+                case "--duration" -> durationSeconds = Integer.parseInt(requireValue(args, ++i));
+                case "--label" -> label = requireValue(args, ++i);
+                case "--result" -> result = Paths.get(requireValue(args, ++i));
+                default -> throw new IllegalArgumentException("Unknown argument: " + args[i]);
+            }
+        }
+
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors());
+        HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(30))
+            .executor(clientExecutor)
+            .build();
+        HttpRequest request = HttpRequest.newBuilder(target)
+            .header("Accept", "application/json")
+            .timeout(Duration.ofSeconds(60))
+            .GET()
+            .build();
+
+        Recorder recorder = new Recorder(HIGHEST_TRACKABLE_NANOS, 3);
+        LongAdder errors = new LongAdder();
+        Run run = new Run(client, request, recorder, errors, connections);
+
+        System.out.printf("Opening %d connections to %s%n", connections, target);
+        run.start();
+        TimeUnit.SECONDS.sleep(warmupSeconds);
+        recorder.reset();
+        errors.reset();
+        long measureStart = System.nanoTime();
+        TimeUnit.SECONDS.sleep(durationSeconds);
+        Histogram histogram = recorder.getIntervalHistogram();
+        long measuredErrors = errors.sum();
+        double elapsedSeconds = (System.nanoTime() - measureStart) / 1e9;
+        run.stop(Duration.ofSeconds(60));
+        clientExecutor.shutdownNow();
+
+        long requests = histogram.getTotalCount();
+        String line = String.format(Locale.ROOT, "%s,%d,%d,%d,%.1f,%.2f,%.2f,%.2f,%.2f",
+            label, connections, requests, measuredErrors, requests / elapsedSeconds,
+            millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(99)),
+            millis(histogram.getValueAtPercentile(99.9)), millis(histogram.getMaxValue()));
+        System.out.println(CSV_HEADER);
+        System.out.println(line);
+
+        if (result.getParent() != null) {
+            Files.createDirectories(result.getParent());
+        }
+        if (Files.notExists(result)) {
+            Files.writeString(result, CSV_HEADER + System.lineSeparator());
+        }
+        Files.writeString(result, line + System.lineSeparator(), StandardOpenOption.APPEND);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    private static String requireValue(String[] args, int index) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + args[index - 1]);
+        }
+        return args[index];
+    }
+
+    /**
+     * The set of closed-loop connections of one load test run.
+     */
+    private static final class Run {
+
+        private final HttpClient client;
+
+        private final HttpRequest request;
+
+        private final Recorder recorder;
+
+        private final LongAdder errors;
+
+        private final int connections;
+
+        private final CountDownLatch finished;
+
+        private volatile boolean running;
+
+        private Run(HttpClient client, HttpRequest request, Recorder recorder, LongAdder errors,
+                    int connections) {
+            this.client = client;
+            this.request = request;
+            this.recorder = recorder;
+            this.errors = errors;
+            this.connections = connections;
+            this.finished = new CountDownLatch(connections);
+        }
+
+        private void start() {
+            running = true;
+            for (int i = 0; i < connections; i++) {
+                send();
+            }
+        }
+
+        private void stop(Duration timeout) throws InterruptedException {
+            running = false;
+            if (!finished.await(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                System.out.printf("%d request(s) still in flight after %s%n", finished.getCount(), timeout);
+            }
+        }
+
+        private void send() {
+            long start = System.nanoTime();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, failure) -> {
+                    long latency = System.nanoTime() - start;
+                    if (failure != null || response.statusCode() >= 400) {
+                        errors.increment();
+                    }
+                    else {
+                        recorder.recordValue(Math.min(latency, HIGHEST_TRACKABLE_NANOS));
+                    }
+                    if (running) {
+                        send();
+                    }
+                    else {
+                        finished.countDown();
+                    }
+                });
+        }
+    }
+}
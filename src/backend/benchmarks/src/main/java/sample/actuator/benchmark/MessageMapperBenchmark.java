@@ -0,0 +1,87 @@
+package sample.actuator.benchmark;
+
+// JMH 1.36
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import sample.actuator.dto.MessageResponse;
+import sample.actuator.mapper.MessageMapper;
+import sample.actuator.mapper.MessageMapperImpl;
+import sample.actuator.model.Message;
+
+/**
+ * Benchmarks for the MapStruct-generated MessageMapper.
+ *
+ * Requirements addressed:
+ * - Request Path Benchmarking: Measures the cost of mapping a Message model to the
+ *   MessageResponse DTO returned by the POST endpoint, and of mapping a list of messages
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MessageMapperBenchmark {
+
+    /**
+     * Number of messages in the mapped list.
+     */
+    @Param({"10", "100"})
+    private int listSize;
+
+    private MessageMapper mapper;
+
+    private Message message;
+
+    private List<Message> messages;
+
+    /**
+     * Creates the generated mapper, a reusable valid message and a list of messages.
+     */
+    @Setup
+    public void setUp() {
+        mapper = new MessageMapperImpl();
+        message = new Message();
+        message.setValue("Benchmark message");
+        messages = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            Message item = new Message();
+            item.setValue("Benchmark message " + i);
+            messages.add(item);
+        }
+    }
+
+    /**
+     * Measures a single Message to MessageResponse mapping.
+     *
+     * @return the mapped response, consumed by JMH to prevent dead-code elimination
+     */
+    @Benchmark
+    public MessageResponse toMessageResponse() {
+        return mapper.toMessageResponse(message);
+    }
+
+    /**
+     * Measures mapping a list of messages into a presized response list.
+     *
+     * @return the mapped responses, consumed by JMH to prevent dead-code elimination
+     */
+    @Benchmark
+    public List<MessageResponse> toMessageResponses() {
+        return mapper.toMessageResponses(messages);
+    }
+}
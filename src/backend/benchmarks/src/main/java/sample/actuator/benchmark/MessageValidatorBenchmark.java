@@ -0,0 +1,80 @@
+package sample.actuator.benchmark;
+
+// JMH 1.36
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Spring Framework v6.0.0
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+
+import java.util.concurrent.TimeUnit;
+
+import sample.actuator.model.Message;
+import sample.actuator.validation.MessageValidator;
+
+/**
+ * Benchmarks for MessageValidator.validate() on both the accepting and the rejecting path.
+ *
+ * Requirements addressed:
+ * - Request Path Benchmarking: Measures programmatic validation cost, including the
+ *   Errors object each request has to allocate
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MessageValidatorBenchmark {
+
+    private MessageValidator validator;
+
+    private Message validMessage;
+
+    private Message blankMessage;
+
+    /**
+     * Creates the validator and one valid and one blank message.
+     */
+    @Setup
+    public void setUp() {
+        validator = new MessageValidator();
+        validMessage = new Message();
+        validMessage.setValue("Benchmark message");
+        blankMessage = new Message();
+        blankMessage.setValue("   ");
+    }
+
+    /**
+     * Measures validation of a message that passes.
+     *
+     * @return the errors holder, consumed by JMH to prevent dead-code elimination
+     */
+    @Benchmark
+    public Errors validateValid() {
+        Errors errors = new BeanPropertyBindingResult(validMessage, "message");
+        validator.validate(validMessage, errors);
+        return errors;
+    }
+
+    /**
+     * Measures validation of a blank message that is rejected.
+     *
+     * @return the errors holder, consumed by JMH to prevent dead-code elimination
+     */
+    @Benchmark
+    public Errors validateBlank() {
+        Errors errors = new BeanPropertyBindingResult(blankMessage, "message");
+        validator.validate(blankMessage, errors);
+        return errors;
+    }
+}
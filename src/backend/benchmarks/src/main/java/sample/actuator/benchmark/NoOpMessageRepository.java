@@ -0,0 +1,58 @@
+package sample.actuator.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.List;
+
+import sample.actuator.repository.MessageBucketRepository;
+import sample.actuator.repository.MessageStoreRepository;
+
+/**
+ * Factory for a MessageStoreRepository that discards every write, so benchmarks that go
+ * through the write-behind pipeline measure application code rather than the database.
+ */
+final class NoOpMessageRepository {
+
+    private NoOpMessageRepository() {
+        // Factory class with static methods only
+    }
+
+    /**
+     * Creates a repository proxy whose insertBatch() reports every message as inserted,
+     * whose list queries return an empty list, whose streaming methods stream nothing and
+     * whose other methods return null.
+     *
+     * @return a no-op MessageStoreRepository
+     */
+    static MessageStoreRepository create() {
+        return noOp(MessageStoreRepository.class);
+    }
+
+    /**
+     * Creates a bucket catalog repository proxy that stores nothing, with the same
+     * return values as create().
+     *
+     * @return a no-op MessageBucketRepository
+     */
+    static MessageBucketRepository createBucketRepository() {
+        return noOp(MessageBucketRepository.class);
+    }
+
+    private static <T> T noOp(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(
+            type.getClassLoader(),
+            new Class<?>[] {type},
+            (proxy, method, args) -> {
+                if ("insertBatch".equals(method.getName())) {
+                    return ((List<?>) args[0]).size();
+                }
+                if (List.class.equals(method.getReturnType())) {
+                    return Collections.emptyList();
+                }
+                if (long.class.equals(method.getReturnType())) {
+                    return 0L;
+                }
+                return null;
+            }));
+    }
+}
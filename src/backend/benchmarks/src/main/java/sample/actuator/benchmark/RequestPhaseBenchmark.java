@@ -0,0 +1,182 @@
+package sample.actuator.benchmark;
+
+// JMH 1.36
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Jakarta Servlet 6.0.0
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Spring Framework 6.0.0
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+
+// Micrometer 1.11.0
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+
+// Prometheus Java Client 0.16.0
+import io.prometheus.client.CollectorRegistry;
+import io.prometheus.client.exemplars.DefaultExemplarSampler;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import sample.actuator.SampleController;
+import sample.actuator.metrics.RequestPhase;
+import sample.actuator.metrics.RequestPhaseFilter;
+import sample.actuator.metrics.RequestPhaseInterceptor;
+import sample.actuator.metrics.RequestPhaseMetrics;
+import sample.actuator.metrics.RequestPhaseTimings;
+import sample.actuator.metrics.TimedValidator;
+import sample.actuator.metrics.TraceparentSpanContextSupplier;
+
+/**
+ * Benchmarks the overhead of per-phase request timing.
+ *
+ * Both benchmarks run the same simulated POST / request: every hook the application
+ * calls (security marker, interceptor callbacks, validation, the repository and mapping
+ * phases) is invoked with trivial work in between. The baseline runs it without
+ * RequestPhaseFilter, so no timings are bound and each hook returns immediately; the
+ * instrumented benchmark runs it through the filter into a Prometheus registry with an
+ * exemplar sampler, exactly as in production. The difference is the per-request cost of the phase histograms, which is
+ * expected to stay below one microsecond.
+ *
+ * Requirements addressed:
+ * - Request Latency Breakdown: Verifies phase timing adds less than 1µs per request
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RequestPhaseBenchmark {
+
+    /**
+     * Whether the request carries a sampled W3C traceparent, making it an exemplar candidate.
+     */
+    @Param({"false", "true"})
+    private boolean traced;
+
+    private RequestPhaseFilter filter;
+
+    private HttpServletRequest request;
+
+    private HttpServletResponse response;
+
+    private FilterChain chain;
+
+    /**
+     * Creates the filter over a Prometheus registry with exemplars, a request stub and the
+     * simulated handler.
+     */
+    @Setup
+    public void setUp() {
+        PrometheusMeterRegistry meterRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT,
+            new CollectorRegistry(), Clock.SYSTEM,
+            new DefaultExemplarSampler(new TraceparentSpanContextSupplier()));
+        filter = new RequestPhaseFilter(new RequestPhaseMetrics(meterRegistry, new double[] {0.5, 0.99, 0.999},
+            new Duration[] {Duration.ofNanos(100_000), Duration.ofMillis(1), Duration.ofMillis(10),
+                Duration.ofMillis(100), Duration.ofSeconds(1)}));
+        request = requestStub(traced ? "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01" : null);
+        response = (HttpServletResponse) Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class<?>[] {HttpServletResponse.class}, (proxy, method, args) -> null);
+
+        RequestPhaseInterceptor interceptor = new RequestPhaseInterceptor();
+        TimedValidator validator = new TimedValidator(new NoOpValidator());
+        SampleController.Message message = new SampleController.Message();
+        message.setValue("Benchmark message");
+        Errors errors = new BeanPropertyBindingResult(message, "message");
+        FilterChain handler = (req, res) -> {
+            HttpServletRequest httpRequest = (HttpServletRequest) req;
+            HttpServletResponse httpResponse = (HttpServletResponse) res;
+            interceptor.preHandle(httpRequest, httpResponse, this);
+            validator.validate(message, errors);
+            long start = System.nanoTime();
+            RequestPhaseTimings.record(RequestPhase.REPOSITORY, start);
+            start = System.nanoTime();
+            RequestPhaseTimings.record(RequestPhase.MAPPING, start);
+            interceptor.beforeBodyWrite(message, null, null, null, null, null);
+            interceptor.afterCompletion(httpRequest, httpResponse, this, null);
+        };
+        RequestPhaseFilter.SecurityCompleted securityCompleted = new RequestPhaseFilter.SecurityCompleted();
+        chain = (req, res) -> securityCompleted.doFilter(req, res, handler);
+    }
+
+    /**
+     * Measures the simulated request without phase timing.
+     *
+     * @throws IOException never thrown by the simulated handler
+     * @throws ServletException never thrown by the simulated handler
+     */
+    @Benchmark
+    public void baseline() throws IOException, ServletException {
+        chain.doFilter(request, response);
+    }
+
+    /**
+     * Measures the simulated request with phase timing and histogram recording.
+     *
+     * @throws IOException never thrown by the simulated handler
+     * @throws ServletException never thrown by the simulated handler
+     */
+    @Benchmark
+    public void instrumented() throws IOException, ServletException {
+        filter.doFilter(request, response, chain);
+    }
+
+    private static HttpServletRequest requestStub(String traceparent) {
+        Map<String, Object> attributes = new HashMap<>();
+        return (HttpServletRequest) Proxy.newProxyInstance(RequestPhaseBenchmark.class.getClassLoader(),
+            new Class<?>[] {HttpServletRequest.class}, (proxy, method, args) -> switch (method.getName()) {
+                case "getMethod" -> "POST";
+                case "getServletPath", "getRequestURI" -> "/";
+                case "getHeader" -> "traceparent".equalsIgnoreCase((String) args[0]) ? traceparent : null;
+                case "getDispatcherType" -> DispatcherType.REQUEST;
+                case "getAttribute" -> attributes.get((String) args[0]);
+                case "setAttribute" -> attributes.put((String) args[0], args[1]);
+                case "removeAttribute" -> attributes.remove((String) args[0]);
+                case "isAsyncStarted" -> false;
+                default -> null;
+            });
+    }
+
+    /**
+     * Validator standing in for Bean Validation, so only the timing around it is measured.
+     */
+    private static final class NoOpValidator implements SmartValidator {
+
+        @Override
+        public boolean supports(Class<?> clazz) {
+            return true;
+        }
+
+        @Override
+        public void validate(Object target, Errors errors) {
+        }
+
+        @Override
+        public void validate(Object target, Errors errors, Object... validationHints) {
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package sample.actuator.benchmark;
+
+// JMH 1.36
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Micrometer 1.11.0
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import sample.actuator.HelloWorldService;
+import sample.actuator.SampleController;
+import sample.actuator.ServiceProperties;
+import sample.actuator.dto.MessageResponse;
+import sample.actuator.exception.MessageQueueFullException;
+import sample.actuator.mapper.MessageMapperImpl;
+import sample.actuator.persistence.MessageBuckets;
+import sample.actuator.persistence.MessageSearchIndex;
+import sample.actuator.persistence.MessageValueIndex;
+import sample.actuator.persistence.MessageWriteBehindQueue;
+import sample.actuator.persistence.RecentMessageCache;
+import sample.actuator.repository.MessageStoreRepository;
+import sample.actuator.time.CoarseClock;
+
+/**
+ * Benchmarks for the GET / and POST / handler methods of SampleController, invoked
+ * directly so the numbers reflect controller work only (no servlet or Jackson overhead).
+ * POST / goes through a running write-behind queue backed by a no-op repository.
+ *
+ * Requirements addressed:
+ * - Request Path Benchmarking: Measures throughput, latency and allocation per operation
+ *   of SampleController.hello() and SampleController.olleh(Message)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SampleControllerBenchmark {
+
+    private SampleController controller;
+
+    private SampleController.Message message;
+
+    private MessageWriteBehindQueue messageWriteBehindQueue;
+
+    private CoarseClock coarseClock;
+
+    /**
+     * Creates the controller with a real HelloWorldService, a started write-behind queue,
+     * a started coarse clock and a reusable valid message.
+     */
+    @Setup
+    public void setUp() {
+        ServiceProperties serviceProperties = new ServiceProperties();
+        serviceProperties.getPersistence().setQueueCapacity(1_000_000);
+        serviceProperties.getPersistence().setBatchSize(1_000);
+        MessageStoreRepository repository = NoOpMessageRepository.create();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RecentMessageCache recentMessageCache = new RecentMessageCache(repository, serviceProperties, meterRegistry);
+        recentMessageCache.afterPropertiesSet();
+        MessageSearchIndex messageSearchIndex = new MessageSearchIndex(repository, serviceProperties, meterRegistry);
+        messageSearchIndex.afterPropertiesSet();
+        MessageValueIndex messageValueIndex = new MessageValueIndex(repository, meterRegistry);
+        MessageBuckets messageBuckets = new MessageBuckets(
+            NoOpMessageRepository.createBucketRepository(), repository, recentMessageCache, messageSearchIndex,
+            serviceProperties, meterRegistry);
+        messageBuckets.afterPropertiesSet();
+        messageWriteBehindQueue = new MessageWriteBehindQueue(repository, recentMessageCache,
+            messageSearchIndex, messageValueIndex, messageBuckets, serviceProperties, meterRegistry);
+        messageWriteBehindQueue.start();
+        coarseClock = new CoarseClock(serviceProperties);
+        coarseClock.start();
+        MessageMapperImpl messageMapper = new MessageMapperImpl();
+        messageMapper.setClock(coarseClock);
+        controller = new SampleController(new HelloWorldService(), messageWriteBehindQueue, messageMapper);
+        message = new SampleController.Message();
+        message.setValue("Benchmark message");
+    }
+
+    /**
+     * Stops the write-behind queue and the clock started for the trial.
+     */
+    @TearDown
+    public void tearDown() {
+        messageWriteBehindQueue.stop();
+        coarseClock.stop();
+    }
+
+    /**
+     * Measures the GET / handler.
+     *
+     * @return the response body map, consumed by JMH to prevent dead-code elimination
+     */
+    @Benchmark
+    public Map<String, String> hello() {
+        return controller.hello();
+    }
+
+    /**
+     * Measures the POST / handler with a valid message. If the writer falls behind, the
+     * rejected enqueue is counted as an operation, which shows up as a latency change.
+     *
+     * @return the mapped response, or null if the message was rejected
+     */
+    @Benchmark
+    public MessageResponse olleh() {
+        try {
+            return controller.olleh(message);
+        }
+        catch (MessageQueueFullException ex) {
+            return null;
+        }
+    }
+}
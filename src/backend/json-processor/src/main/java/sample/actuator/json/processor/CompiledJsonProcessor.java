@@ -0,0 +1,362 @@
+package sample.actuator.json.processor;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Generates a Jackson streaming writer for every class annotated with
+ * sample.actuator.json.CompiledJson.
+ *
+ * For a DTO named MessageResponse the processor emits MessageResponseJsonWriter in the same
+ * package. It implements sample.actuator.json.JsonWriter and writes the declared instance
+ * fields in declaration order through their getters, with the field names pre-encoded as
+ * SerializedString constants. Strings, primitives and their wrappers are written directly;
+ * any other value (dates, maps, nested objects) is handed to the generator's codec, so it
+ * serializes exactly as the application's ObjectMapper would. A field annotated with
+ * @JsonSerialize(using = ...) is written by a shared instance of that serializer. All
+ * generated writers are listed in META-INF/services/sample.actuator.json.JsonWriter.
+ *
+ * Property rules follow Jackson's defaults for the DTOs in this project:
+ * - static and transient fields, and fields annotated with @JsonIgnore, are skipped
+ * - the JSON name is the @JsonProperty value when present, otherwise the field name
+ * - the getter is isName() for primitive booleans and getName() otherwise (Lombok style)
+ * - a null value is omitted when the field, or else the class, is annotated with
+ *   @JsonInclude(NON_NULL) or @JsonInclude(NON_ABSENT), and written when either says
+ *   ALWAYS; without such an annotation the writer follows the ObjectMapper's default
+ *   inclusion, which it is passed at runtime. Other inclusion rules are rejected at build
+ *   time, as the writer could not reproduce them.
+ *
+ * Requirements addressed:
+ * - Response Serialization Performance: Moves DTO introspection from the request path to
+ *   the build
+ */
+@SupportedAnnotationTypes(CompiledJsonProcessor.ANNOTATION)
+public class CompiledJsonProcessor extends AbstractProcessor {
+
+    static final String ANNOTATION = "sample.actuator.json.CompiledJson";
+
+    static final String WRITER_INTERFACE = "sample.actuator.json.JsonWriter";
+
+    static final String WRITER_SUFFIX = "JsonWriter";
+
+    private static final String JSON_PROPERTY = "com.fasterxml.jackson.annotation.JsonProperty";
+
+    private static final String JSON_IGNORE = "com.fasterxml.jackson.annotation.JsonIgnore";
+
+    private static final String JSON_INCLUDE = "com.fasterxml.jackson.annotation.JsonInclude";
+
+    private static final String OMIT_NULLS_PARAMETER = "omitNulls";
+
+    private static final String JSON_SERIALIZE = "com.fasterxml.jackson.databind.annotation.JsonSerialize";
+
+    private static final String NO_SERIALIZER = "com.fasterxml.jackson.databind.JsonSerializer.None";
+
+    private final List<String> generatedWriters = new ArrayList<>();
+
+    private Elements elements;
+
+    private Filer filer;
+
+    private Messager messager;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.filer = processingEnv.getFiler();
+        this.messager = processingEnv.getMessager();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+            return false;
+        }
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.CLASS) {
+                    messager.printMessage(Diagnostic.Kind.ERROR,
+                        "@CompiledJson is only supported on classes", element);
+                    continue;
+                }
+                generateWriter((TypeElement) element);
+            }
+        }
+        return true;
+    }
+
+    private void generateWriter(TypeElement type) {
+        String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        String typeName = type.getQualifiedName().toString();
+        String writerName = typeName.substring(packageName.isEmpty() ? 0 : packageName.length() + 1)
+            .replace('.', '_') + WRITER_SUFFIX;
+        String qualifiedWriterName = packageName.isEmpty() ? writerName : packageName + "." + writerName;
+
+        String typeOmitNulls = omitNulls(type, OMIT_NULLS_PARAMETER);
+        if (typeOmitNulls == null) {
+            return;
+        }
+        List<Property> properties = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            Set<Modifier> modifiers = field.getModifiers();
+            if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.TRANSIENT)
+                    || findAnnotation(field, JSON_IGNORE) != null) {
+                continue;
+            }
+            String fieldOmitNulls = omitNulls(field, typeOmitNulls);
+            if (fieldOmitNulls == null) {
+                return;
+            }
+            properties.add(new Property(field, jsonName(field), serializerOf(field), fieldOmitNulls));
+        }
+
+        try {
+            JavaFileObject source = filer.createSourceFile(qualifiedWriterName, type);
+            try (PrintWriter out = new PrintWriter(source.openWriter())) {
+                writeSource(out, packageName, typeName, writerName, properties);
+            }
+            generatedWriters.add(qualifiedWriterName);
+        }
+        catch (IOException ex) {
+            messager.printMessage(Diagnostic.Kind.ERROR,
+                "Failed to generate " + qualifiedWriterName + ": " + ex.getMessage(), type);
+        }
+    }
+
+    private void writeSource(PrintWriter out, String packageName, String typeName, String writerName,
+                             List<Property> properties) {
+        if (!packageName.isEmpty()) {
+            out.println("package " + packageName + ";");
+            out.println();
+        }
+        out.println("import com.fasterxml.jackson.core.JsonGenerator;");
+        out.println("import com.fasterxml.jackson.core.io.SerializedString;");
+        out.println();
+        out.println("import java.io.IOException;");
+        out.println();
+        out.println("/**");
+        out.println(" * Streaming JSON writer for {@link " + typeName + "}, generated at build time.");
+        out.println(" */");
+        out.println("@javax.annotation.processing.Generated(\"" + getClass().getName() + "\")");
+        out.println("public final class " + writerName + " implements " + WRITER_INTERFACE + "<" + typeName + "> {");
+        out.println();
+        for (int i = 0; i < properties.size(); i++) {
+            Property property = properties.get(i);
+            out.println("    private static final SerializedString NAME_" + i + " = new SerializedString(\""
+                + escape(property.jsonName) + "\");");
+            out.println();
+            if (property.serializer != null) {
+                out.println("    private static final " + property.serializer + " SERIALIZER_" + i + " = new "
+                    + property.serializer + "();");
+                out.println();
+            }
+        }
+        out.println("    @Override");
+        out.println("    public Class<" + typeName + "> type() {");
+        out.println("        return " + typeName + ".class;");
+        out.println("    }");
+        out.println();
+        out.println("    @Override");
+        out.println("    public void write(" + typeName + " value, JsonGenerator generator, boolean "
+            + OMIT_NULLS_PARAMETER + ") throws IOException {");
+        out.println("        generator.writeStartObject();");
+        for (int i = 0; i < properties.size(); i++) {
+            writeProperty(out, properties.get(i), i);
+        }
+        out.println("        generator.writeEndObject();");
+        out.println("    }");
+        out.println("}");
+    }
+
+    private void writeProperty(PrintWriter out, Property property, int index) {
+        TypeMirror type = property.field.asType();
+        String accessor = "value." + getterName(property.field) + "()";
+        if (type.getKind().isPrimitive()) {
+            out.println("        generator.writeFieldName(NAME_" + index + ");");
+            switch (type.getKind()) {
+                case BOOLEAN -> out.println("        generator.writeBoolean(" + accessor + ");");
+                case CHAR -> out.println("        generator.writeString(String.valueOf(" + accessor + "));");
+                default -> out.println("        generator.writeNumber(" + accessor + ");");
+            }
+            return;
+        }
+        String local = "value" + index;
+        out.println("        " + type + " " + local + " = " + accessor + ";");
+        out.println("        if (" + local + " != null) {");
+        out.println("            generator.writeFieldName(NAME_" + index + ");");
+        if (property.serializer != null) {
+            out.println("            SERIALIZER_" + index + ".serialize(" + local + ", generator,");
+            out.println("                ((com.fasterxml.jackson.databind.ObjectMapper) generator.getCodec())"
+                + ".getSerializerProviderInstance());");
+        }
+        else {
+            String writeMethod = switch (type.toString()) {
+                case "java.lang.String" -> "writeString";
+                case "java.lang.Boolean" -> "writeBoolean";
+                case "java.lang.Byte", "java.lang.Short", "java.lang.Integer", "java.lang.Long",
+                     "java.lang.Float", "java.lang.Double",
+                     "java.math.BigInteger", "java.math.BigDecimal" -> "writeNumber";
+                // Delegates to the ObjectMapper the generator was created by
+                default -> "writeObject";
+            };
+            out.println("            generator." + writeMethod + "(" + local + ");");
+        }
+        out.println("        }");
+        if (!"true".equals(property.omitNulls)) {
+            out.println("        else" + ("false".equals(property.omitNulls) ? "" : " if (!" + property.omitNulls
+                + ")") + " {");
+            out.println("            generator.writeFieldName(NAME_" + index + ");");
+            out.println("            generator.writeNull();");
+            out.println("        }");
+        }
+    }
+
+    private void writeServiceFile() {
+        if (generatedWriters.isEmpty()) {
+            return;
+        }
+        try {
+            Writer writer = filer.createResource(StandardLocation.CLASS_OUTPUT, "",
+                "META-INF/services/" + WRITER_INTERFACE).openWriter();
+            try (PrintWriter out = new PrintWriter(writer)) {
+                generatedWriters.forEach(out::println);
+            }
+        }
+        catch (IOException ex) {
+            messager.printMessage(Diagnostic.Kind.ERROR,
+                "Failed to register generated JSON writers: " + ex.getMessage());
+        }
+    }
+
+    private static String jsonName(VariableElement field) {
+        AnnotationMirror jsonProperty = findAnnotation(field, JSON_PROPERTY);
+        if (jsonProperty != null) {
+            for (var entry : jsonProperty.getElementValues().entrySet()) {
+                ExecutableElement attribute = entry.getKey();
+                AnnotationValue value = entry.getValue();
+                if (attribute.getSimpleName().contentEquals("value") && !value.getValue().toString().isEmpty()) {
+                    return value.getValue().toString();
+                }
+            }
+        }
+        return field.getSimpleName().toString();
+    }
+
+    /**
+     * Resolves the null handling an element's @JsonInclude annotation asks for.
+     *
+     * @return "true" or "false" for an explicit rule, the fallback without one, or null
+     *         after reporting an unsupported rule
+     */
+    private String omitNulls(Element element, String fallback) {
+        AnnotationMirror jsonInclude = findAnnotation(element, JSON_INCLUDE);
+        if (jsonInclude == null) {
+            return fallback;
+        }
+        // Jackson's default for a bare @JsonInclude
+        String include = "ALWAYS";
+        for (var entry : jsonInclude.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals("value")) {
+                include = entry.getValue().getValue().toString();
+            }
+        }
+        return switch (include) {
+            case "ALWAYS" -> "false";
+            case "NON_NULL", "NON_ABSENT" -> "true";
+            case "USE_DEFAULTS" -> fallback;
+            default -> {
+                messager.printMessage(Diagnostic.Kind.ERROR,
+                    "@JsonInclude(" + include + ") is not supported by @CompiledJson", element);
+                yield null;
+            }
+        };
+    }
+
+    private static String serializerOf(VariableElement field) {
+        AnnotationMirror jsonSerialize = findAnnotation(field, JSON_SERIALIZE);
+        if (jsonSerialize != null) {
+            for (var entry : jsonSerialize.getElementValues().entrySet()) {
+                if (entry.getKey().getSimpleName().contentEquals("using")) {
+                    String serializer = entry.getValue().getValue().toString();
+                    return NO_SERIALIZER.equals(serializer) ? null : serializer;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String getterName(VariableElement field) {
+        String name = field.getSimpleName().toString();
+        String prefix = field.asType().getKind() == TypeKind.BOOLEAN ? "is" : "get";
+        return prefix + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static AnnotationMirror findAnnotation(Element element, String annotationType) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName()
+                    .contentEquals(annotationType)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private static String escape(String name) {
+        return name.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    /**
+     * A serialized field together with its JSON name, custom serializer, if any, and the
+     * expression deciding whether a null value is omitted.
+     */
+    private static final class Property {
+
+        private final VariableElement field;
+
+        private final String jsonName;
+
+        private final String serializer;
+
+        private final String omitNulls;
+
+        private Property(VariableElement field, String jsonName, String serializer, String omitNulls) {
+            this.field = field;
+            this.jsonName = jsonName;
+            this.serializer = serializer;
+            this.omitNulls = omitNulls;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package sample.actuator.json.processor;
+
+// JUnit Jupiter 5.9.3
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Jackson 2.15.0
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.StringWriter;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+/**
+ * Compiles sample DTOs with CompiledJsonProcessor and checks the generated writers produce
+ * the same JSON as an ObjectMapper.
+ *
+ * Requirements addressed:
+ * - Response Serialization Performance: Verifies the generated writers are a drop-in
+ *   replacement for Jackson's bean serialization
+ */
+public class CompiledJsonProcessorTest {
+
+    private static final String ANNOTATION = """
+        package sample.actuator.json;
+        public @interface CompiledJson {
+        }
+        """;
+
+    private static final String WRITER = """
+        package sample.actuator.json;
+        public interface JsonWriter<T> {
+            Class<T> type();
+            void write(T value, com.fasterxml.jackson.core.JsonGenerator generator, boolean omitNulls)
+                throws java.io.IOException;
+        }
+        """;
+
+    private static final String SERIALIZER = """
+        package sample.dto;
+        public class UpperCaseSerializer extends com.fasterxml.jackson.databind.ser.std.StdSerializer<String> {
+            public UpperCaseSerializer() { super(String.class); }
+            @Override
+            public void serialize(String value, com.fasterxml.jackson.core.JsonGenerator generator,
+                    com.fasterxml.jackson.databind.SerializerProvider provider) throws java.io.IOException {
+                generator.writeString(value.toUpperCase());
+            }
+        }
+        """;
+
+    private static final String DTO = """
+        package sample.dto;
+        import com.fasterxml.jackson.annotation.JsonIgnore;
+        import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+        @sample.actuator.json.CompiledJson
+        public class Sample {
+            public static final String CONSTANT = "skipped";
+            @JsonProperty("message_text") private String text;
+            private int count;
+            private boolean active;
+            private Long total;
+            private java.util.Map<String, Object> details;
+            @com.fasterxml.jackson.databind.annotation.JsonSerialize(using = UpperCaseSerializer.class)
+            private String code;
+            @JsonIgnore private String secret;
+            public Sample(String text, int count, boolean active, Long total, java.util.Map<String, Object> details,
+                    String code) {
+                this.text = text; this.count = count; this.active = active; this.total = total; this.details = details;
+                this.code = code;
+            }
+            public String getText() { return text; }
+            public int getCount() { return count; }
+            public boolean isActive() { return active; }
+            public Long getTotal() { return total; }
+            public java.util.Map<String, Object> getDetails() { return details; }
+            public String getCode() { return code; }
+            public String getSecret() { return secret; }
+        }
+        """;
+
+    private static final String PARTIAL_DTO = """
+        package sample.dto;
+        import com.fasterxml.jackson.annotation.JsonInclude;
+        @sample.actuator.json.CompiledJson
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        public class Partial {
+            private String omitted;
+            @JsonInclude private String kept;
+            private int count;
+            public String getOmitted() { return omitted; }
+            public String getKept() { return kept; }
+            public int getCount() { return count; }
+        }
+        """;
+
+    private static final String UNSUPPORTED_DTO = """
+        package sample.dto;
+        import com.fasterxml.jackson.annotation.JsonInclude;
+        @sample.actuator.json.CompiledJson
+        public class Unsupported {
+            @JsonInclude(JsonInclude.Include.NON_EMPTY) private String text;
+            public String getText() { return text; }
+        }
+        """;
+
+    @TempDir
+    Path workDir;
+
+    private Path classes;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        classes = Files.createDirectories(workDir.resolve("classes"));
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        boolean success = compile(classes, diagnostics, Map.of("Sample.java", DTO, "Partial.java", PARTIAL_DTO));
+        assertTrue(success, () -> errors(diagnostics).toString());
+    }
+
+    @Test
+    void testGeneratedWriterMatchesObjectMapper() throws Exception {
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {classes.toUri().toURL()},
+                getClass().getClassLoader())) {
+            Class<?> type = loader.loadClass("sample.dto.Sample");
+            Object sample = type.getConstructors()[0].newInstance("hello \"world\"", 3, true, null,
+                Map.of("nested", List.of(1, 2)), "abc");
+            Object writer = loader.loadClass("sample.dto.SampleJsonWriter").getConstructor().newInstance();
+
+            ObjectMapper objectMapper = new ObjectMapper();
+            String json = write(objectMapper, writer, sample, false);
+
+            assertEquals("{\"message_text\":\"hello \\\"world\\\"\",\"count\":3,\"active\":true,"
+                + "\"total\":null,\"details\":{\"nested\":[1,2]},\"code\":\"ABC\"}", json);
+            assertEquals(objectMapper.readTree(objectMapper.writeValueAsString(sample)), objectMapper.readTree(json));
+        }
+    }
+
+    @Test
+    void testGeneratedWriterOmitsNullsLikeObjectMapper() throws Exception {
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {classes.toUri().toURL()},
+                getClass().getClassLoader())) {
+            Object sample = loader.loadClass("sample.dto.Sample").getConstructors()[0].newInstance(null, 3, true,
+                null, null, "abc");
+            Object sampleWriter = loader.loadClass("sample.dto.SampleJsonWriter").getConstructor().newInstance();
+            Object partial = loader.loadClass("sample.dto.Partial").getConstructor().newInstance();
+            Object partialWriter = loader.loadClass("sample.dto.PartialJsonWriter").getConstructor().newInstance();
+
+            ObjectMapper nonNullMapper = new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+            ObjectMapper objectMapper = new ObjectMapper();
+
+            assertEquals("{\"count\":3,\"active\":true,\"code\":\"ABC\"}",
+                write(nonNullMapper, sampleWriter, sample, true));
+            assertEquals(nonNullMapper.writeValueAsString(sample), write(nonNullMapper, sampleWriter, sample, true));
+            // The class and field annotations take precedence over the mapper's default
+            assertEquals("{\"kept\":null,\"count\":0}", write(objectMapper, partialWriter, partial, false));
+            assertEquals(objectMapper.writeValueAsString(partial), write(objectMapper, partialWriter, partial, false));
+            assertEquals(nonNullMapper.writeValueAsString(partial), write(nonNullMapper, partialWriter, partial, true));
+        }
+    }
+
+    @Test
+    void testRejectsUnsupportedInclusion() throws Exception {
+        Path unsupportedClasses = Files.createDirectories(workDir.resolve("unsupported"));
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+        assertFalse(compile(unsupportedClasses, diagnostics, Map.of("Unsupported.java", UNSUPPORTED_DTO)));
+        assertTrue(errors(diagnostics).stream().anyMatch(error -> error.contains("NON_EMPTY")));
+    }
+
+    @Test
+    void testWritersAreRegisteredAsServices() throws Exception {
+        Path services = classes.resolve("META-INF/services/sample.actuator.json.JsonWriter");
+
+        assertEquals(List.of("sample.dto.PartialJsonWriter", "sample.dto.SampleJsonWriter"),
+            Files.readAllLines(services).stream().sorted().toList());
+    }
+
+    private boolean compile(Path output, DiagnosticCollector<JavaFileObject> diagnostics, Map<String, String> dtos)
+            throws Exception {
+        Path sources = Files.createDirectories(output.resolveSibling(output.getFileName() + "-src"));
+        List<File> files = new ArrayList<>();
+        files.add(write(sources, "CompiledJson.java", ANNOTATION));
+        files.add(write(sources, "JsonWriter.java", WRITER));
+        files.add(write(sources, "UpperCaseSerializer.java", SERIALIZER));
+        for (Map.Entry<String, String> dto : dtos.entrySet()) {
+            files.add(write(sources, dto.getKey(), dto.getValue()));
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null,
+                StandardCharsets.UTF_8)) {
+            List<String> options = List.of("-d", output.toString(), "-s", output.toString(),
+                "-classpath", classpathOf(ObjectMapper.class, JsonGenerator.class, JsonProperty.class));
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+                fileManager.getJavaFileObjectsFromFiles(files));
+            task.setProcessors(List.of(new CompiledJsonProcessor()));
+            return task.call();
+        }
+    }
+
+    private static List<String> errors(DiagnosticCollector<JavaFileObject> diagnostics) {
+        return diagnostics.getDiagnostics().stream()
+            .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+            .map(Object::toString)
+            .toList();
+    }
+
+    private static String write(ObjectMapper objectMapper, Object writer, Object value, boolean omitNulls)
+            throws Exception {
+        StringWriter out = new StringWriter();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            writer.getClass().getMethod("write", Object.class, JsonGenerator.class, boolean.class)
+                .invoke(writer, value, generator, omitNulls);
+        }
+        return out.toString();
+    }
+
+    private static File write(Path directory, String name, String content) throws Exception {
+        return Files.writeString(directory.resolve(name), content).toFile();
+    }
+
+    private static String classpathOf(Class<?>... types) throws URISyntaxException {
+        List<String> entries = new ArrayList<>();
+        for (Class<?> type : types) {
+            entries.add(Path.of(type.getProtectionDomain().getCodeSource().getLocation().toURI()).toString());
+        }
+        return String.join(File.pathSeparator, entries);
+    }
+}
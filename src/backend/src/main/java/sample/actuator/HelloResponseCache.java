@@ -0,0 +1,162 @@
+package sample.actuator;
+
+// Jackson 2.15.0
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Spring Framework 6.0.0
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Holds the GET / response body pre-serialized to JSON, together with its Content-Length
+ * and strong ETag, so the hello endpoint can be served without per-request allocation.
+ *
+ * The body is rendered once with the application's ObjectMapper and re-rendered only when
+ * HelloWorldService returns a different message than the one the cached body was built from.
+ * A gzip-compressed copy is rendered alongside it, so clients accepting gzip are served
+ * without compressing per request. It is only kept when it is smaller than the plain body,
+ * which short JSON bodies often are not.
+ *
+ * Requirements addressed:
+ * - Hello Endpoint Performance: Provides a cached byte[] rendering of the hello message
+ *   for the pre-serialized response mode of GET /
+ */
+@Component
+public class HelloResponseCache {
+
+    private final HelloWorldService helloWorldService;
+
+    private final ObjectMapper objectMapper;
+
+    private volatile Rendered rendered;
+
+    /**
+     * Constructs the cache with the message source and the serializer used for the body.
+     *
+     * @param helloWorldService Service component providing the hello message
+     * @param objectMapper Application ObjectMapper, so the body matches the controller output
+     */
+    public HelloResponseCache(HelloWorldService helloWorldService, ObjectMapper objectMapper) {
+        this.helloWorldService = helloWorldService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Returns the rendered hello response, re-rendering it only if the message changed.
+     * The common path is a reference comparison against the cached message.
+     *
+     * @return the current pre-serialized hello response
+     */
+    public Rendered get() {
+        String message = helloWorldService.getHelloMessage();
+        Rendered current = this.rendered;
+        if (current != null && (current.message == message || current.message.equals(message))) {
+            return current;
+        }
+        current = render(message);
+        this.rendered = current;
+        return current;
+    }
+
+    private Rendered render(String message) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(Collections.singletonMap("message", message));
+            String digest = DigestUtils.md5DigestAsHex(body);
+            byte[] gzipBody = gzip(body);
+            if (gzipBody.length >= body.length) {
+                gzipBody = null;
+            }
+            return new Rendered(message, body, "\"" + digest + "\"", gzipBody, "\"" + digest + "-gzip\"");
+        }
+        catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to serialize hello response", ex);
+        }
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Immutable pre-serialized hello response.
+     */
+    public static final class Rendered {
+
+        private final String message;
+
+        private final byte[] body;
+
+        private final String etag;
+
+        private final byte[] gzipBody;
+
+        private final String gzipEtag;
+
+        private Rendered(String message, byte[] body, String etag, byte[] gzipBody, String gzipEtag) {
+            this.message = message;
+            this.body = body;
+            this.etag = etag;
+            this.gzipBody = gzipBody;
+            this.gzipEtag = gzipEtag;
+        }
+
+        /**
+         * Gets the serialized JSON body. The array is shared and must not be modified.
+         *
+         * @return the JSON body bytes
+         */
+        public byte[] getBody() {
+            return body;
+        }
+
+        /**
+         * Gets the body length to send as Content-Length.
+         *
+         * @return the body length in bytes
+         */
+        public int getContentLength() {
+            return body.length;
+        }
+
+        /**
+         * Gets the strong ETag of the body, including the surrounding quotes.
+         *
+         * @return the quoted ETag value
+         */
+        public String getEtag() {
+            return etag;
+        }
+
+        /**
+         * Gets the gzip-compressed body. The array is shared and must not be modified.
+         *
+         * @return the compressed body, or null if compression does not make the body smaller
+         */
+        public byte[] getGzipBody() {
+            return gzipBody;
+        }
+
+        /**
+         * Gets the strong ETag of the gzip-compressed body, distinct from the plain body's.
+         *
+         * @return the quoted ETag value
+         */
+        public String getGzipEtag() {
+            return gzipEtag;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package sample.actuator;
+
+// Spring Framework 6.0.0
+import org.springframework.stereotype.Controller;
+import org.springframework.context.annotation.Description;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+// Spring Boot 3.0.0
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+
+// Jakarta Servlet 6.0.0
+import jakarta.servlet.http.HttpServletResponse;
+
+// SLF4J 2.0.7
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import sample.actuator.dto.MessagePageResponse;
+import sample.actuator.persistence.BulkMessageIngestService;
+import sample.actuator.persistence.MessageExportService;
+import sample.actuator.persistence.MessageQueryService;
+
+/**
+ * REST controller exposing read access to persisted messages.
+ *
+ * Requirements addressed:
+ * - Message Retrieval: Keyset-paginated listing of stored messages, newest first
+ * - Message Persistence: Streaming bulk ingestion of JSON array and NDJSON bodies
+ * - Message Export: Resumable NDJSON and Server-Sent Events export of the messages table
+ * - Message Search: Term and prefix search over stored messages, newest first
+ *
+ * Servlet runtime mode only: a page that misses the recent message cache blocks on JDBC,
+ * which must not run on the reactive event loop.
+ */
+@Controller
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Description("A controller for reading persisted messages")
+@RequestMapping("/messages")
+public class MessageController {
+
+    private static final Logger logger = LoggerFactory.getLogger(MessageController.class);
+
+    private final MessageQueryService messageQueryService;
+
+    private final BulkMessageIngestService bulkMessageIngestService;
+
+    private final MessageExportService messageExportService;
+
+    /**
+     * Constructs a new MessageController with required dependencies.
+     *
+     * @param messageQueryService Service reading pages of persisted messages
+     * @param bulkMessageIngestService Service ingesting bulk message bodies
+     * @param messageExportService Service streaming the messages table
+     */
+    public MessageController(MessageQueryService messageQueryService,
+                             BulkMessageIngestService bulkMessageIngestService,
+                             MessageExportService messageExportService) {
+        this.messageQueryService = messageQueryService;
+        this.bulkMessageIngestService = bulkMessageIngestService;
+        this.messageExportService = messageExportService;
+    }
+
+    /**
+     * Handles GET requests listing messages newest first, one page at a time.
+     *
+     * @param limit Number of messages per page
+     * @param cursor Cursor returned as nextCursor by the previous page; omit for the newest page
+     * @return Page of messages with the cursor of the next page
+     * @throws IllegalArgumentException if the limit is out of range or the cursor is invalid
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseBody
+    public MessagePageResponse list(@RequestParam(defaultValue = "20") int limit,
+                                    @RequestParam(required = false) String cursor) {
+        return messageQueryService.findPage(cursor, limit);
+    }
+
+    /**
+     * Handles GET requests searching messages, newest first, one page at a time.
+     *
+     * @param q Search terms; a message matches when it contains every term
+     * @param prefix Whether each term also matches the words it is a prefix of
+     * @param limit Number of messages per page
+     * @param cursor Cursor returned as nextCursor by the previous page; omit for the newest page
+     * @return Page of matching messages with the cursor of the next page
+     * @throws IllegalArgumentException if the query has no terms, the limit is out of range or
+     *                                  the cursor is invalid
+     */
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseBody
+    public MessagePageResponse search(@RequestParam String q,
+                                      @RequestParam(defaultValue = "false") boolean prefix,
+                                      @RequestParam(defaultValue = "20") int limit,
+                                      @RequestParam(required = false) String cursor) {
+        return messageQueryService.search(q, prefix, cursor, limit);
+    }
+
+    /**
+     * Handles POST requests ingesting many messages at once. The body is a JSON array of
+     * messages or an NDJSON stream of messages and is parsed incrementally; one result per
+     * element is streamed back in the same format as the body, in input order.
+     *
+     * @param contentType Content type of the body, application/json or application/x-ndjson
+     * @param body Request body stream
+     * @param response Response the per-item results are streamed to
+     * @throws IOException if the request or response stream fails
+     */
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public void bulk(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream body,
+                     HttpServletResponse response) throws IOException {
+        boolean ndjson = MediaType.APPLICATION_NDJSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(ndjson ? MediaType.APPLICATION_NDJSON_VALUE : MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        BulkMessageIngestService.Summary summary =
+            bulkMessageIngestService.ingest(body, response.getOutputStream(), ndjson);
+        logger.debug("Bulk ingestion finished: {} created, {} duplicate, {} invalid, {} failed, aborted={}",
+            summary.getCreated(), summary.getDuplicate(), summary.getInvalid(), summary.getFailed(),
+            summary.isAborted());
+    }
+
+    /**
+     * Handles GET requests exporting every persisted message as NDJSON, in id order.
+     *
+     * @param afterId Last id already received; only newer messages are exported
+     * @param since Only messages created at or after this ISO-8601 instant are exported
+     * @param until Only messages created before this ISO-8601 instant are exported
+     * @param response Response the rows are streamed to
+     * @throws IOException if the response stream fails
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportNdjson(@RequestParam(defaultValue = "0") long afterId,
+                             @RequestParam(required = false) Instant since,
+                             @RequestParam(required = false) Instant until,
+                             HttpServletResponse response) throws IOException {
+        export(afterId, since, until, response, MediaType.APPLICATION_NDJSON_VALUE,
+            MessageExportService.Format.NDJSON);
+    }
+
+    /**
+     * Handles GET requests exporting every persisted message as Server-Sent Events, in id
+     * order. A reconnecting EventSource resumes from its Last-Event-ID header.
+     *
+     * @param afterId Last id already received; only newer messages are exported
+     * @param lastEventId Id of the last event received before a reconnect, overrides afterId
+     * @param since Only messages created at or after this ISO-8601 instant are exported
+     * @param until Only messages created before this ISO-8601 instant are exported
+     * @param response Response the events are streamed to
+     * @throws IOException if the response stream fails
+     */
+    @GetMapping(value = "/export", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public void exportEvents(@RequestParam(defaultValue = "0") long afterId,
+                             @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+                             @RequestParam(required = false) Instant since,
+                             @RequestParam(required = false) Instant until,
+                             HttpServletResponse response) throws IOException {
+        export(lastEventId != null ? lastEventId : afterId, since, until, response,
+            MediaType.TEXT_EVENT_STREAM_VALUE, MessageExportService.Format.SSE);
+    }
+
+    private void export(long afterId, Instant since, Instant until, HttpServletResponse response,
+                        String contentType, MessageExportService.Format format) throws IOException {
+        if (afterId < 0) {
+            throw new IllegalArgumentException("afterId must not be negative");
+        }
+        if (since != null && until != null && !since.isBefore(until)) {
+            throw new IllegalArgumentException("since must be before until");
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(contentType);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        long exported = messageExportService.export(afterId, since, until, response.getOutputStream(), format);
+        logger.debug("Exported {} message(s) after id {} as {}", exported, afterId, format);
+    }
+}
\ No newline at end of file
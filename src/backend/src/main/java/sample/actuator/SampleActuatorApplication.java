@@ -7,6 +7,7 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.EnableAsync;
 
 /**
  * Main Spring Boot 3 application class that bootstraps the application and configures health indicators.
@@ -22,9 +23,12 @@ import org.springframework.context.annotation.Bean;
  *   while preserving existing functionality
  * - Health Endpoint Configuration: Implements custom health indicator for 
  *   application monitoring through actuator endpoints
+ * - Virtual Threads: @Async methods run on the application task executor, which is
+ *   backed by virtual threads in the Java 21 build
  */
 @SpringBootApplication
 @EnableConfigurationProperties(ServiceProperties.class)
+@EnableAsync
 public class SampleActuatorApplication {
 
     /**
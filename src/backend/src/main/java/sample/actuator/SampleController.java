@@ -6,18 +6,27 @@ import org.springframework.context.annotation.Description;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.validation.annotation.Validated;
 
-// Java Validation API 6.0.0
-import javax.validation.constraints.NotBlank;
+// Spring Boot 3.0.0
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+
+// Jakarta Validation API 3.0.2
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
 
-import java.util.Date;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.Map;
 
+import sample.actuator.dto.MessageResponse;
+import sample.actuator.mapper.MessageMapper;
+import sample.actuator.metrics.RequestPhase;
+import sample.actuator.metrics.RequestPhaseTimings;
+import sample.actuator.persistence.MessageWriteBehindQueue;
+
 /**
  * REST controller that handles HTTP requests for hello messages and demonstrates 
  * Spring Boot features including validation and error handling.
@@ -26,8 +35,12 @@ import java.util.Map;
  * - REST API Implementation: Implements REST endpoints for hello message functionality 
  *   using Spring Boot 3 and Java 6.x
  * - Message Validation: Implements message validation using Spring validation framework
+ *
+ * Servlet runtime mode only; ReactiveSampleController serves the same contract in the
+ * reactive profile.
  */
 @Controller
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @Description("A controller for handling requests for hello messages")
 @RequestMapping("/")
 @Validated
@@ -35,13 +48,23 @@ public class SampleController {
 
     private final HelloWorldService helloWorldService;
 
+    private final MessageWriteBehindQueue messageWriteBehindQueue;
+
+    private final MessageMapper messageMapper;
+
     /**
      * Constructs a new SampleController with required dependencies.
      * 
      * @param helloWorldService Service component for generating hello messages
+     * @param messageWriteBehindQueue Write-behind pipeline persisting accepted messages
+     * @param messageMapper Generated mapper producing the POST / response
      */
-    public SampleController(HelloWorldService helloWorldService) {
+    public SampleController(HelloWorldService helloWorldService,
+                            MessageWriteBehindQueue messageWriteBehindQueue,
+                            MessageMapper messageMapper) {
         this.helloWorldService = helloWorldService;
+        this.messageWriteBehindQueue = messageWriteBehindQueue;
+        this.messageMapper = messageMapper;
     }
 
     /**
@@ -60,17 +83,21 @@ public class SampleController {
 
     /**
      * Handles POST requests to the root endpoint with message validation.
+     * The validated message is queued for asynchronous batched persistence.
      * 
      * @param message The message object containing the value to validate
-     * @return Map containing the validated message and additional metadata
+     * @return the validated message with its title and timestamp
+     * @throws sample.actuator.exception.MessageQueueFullException if the persistence queue is full
      */
     @PostMapping(value = "/", produces = MediaType.APPLICATION_JSON_VALUE)
     @ResponseBody
-    public Map<String, Object> olleh(Message message) {
-        Map<String, Object> response = new LinkedHashMap<>();
-        response.put("message", message.getValue());
-        response.put("title", "Hello Home");
-        response.put("date", new Date());
+    public MessageResponse olleh(@Valid @RequestBody Message message) {
+        long start = System.nanoTime();
+        messageWriteBehindQueue.enqueue(message.getValue());
+        RequestPhaseTimings.record(RequestPhase.QUEUE, start);
+        start = System.nanoTime();
+        MessageResponse response = messageMapper.toMessageResponse(message);
+        RequestPhaseTimings.record(RequestPhase.MAPPING, start);
         return response;
     }
 
@@ -3,6 +3,10 @@ package sample.actuator;
 // Spring Boot 3.0.0
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
 /**
  * Configuration properties for service-specific settings.
  * 
@@ -23,6 +27,91 @@ public class ServiceProperties {
      */
     private String name;
 
+    /**
+     * Settings for the GET / hello endpoint.
+     */
+    private final Hello hello = new Hello();
+
+    /**
+     * Settings for the write-behind message persistence pipeline.
+     */
+    private final Persistence persistence = new Persistence();
+
+    /**
+     * Settings for the in-memory cache of recently persisted messages.
+     */
+    private final RecentMessages recentMessages = new RecentMessages();
+
+    /**
+     * Settings for background evaluation and caching of health indicators.
+     */
+    private final HealthCache healthCache = new HealthCache();
+
+    /**
+     * Settings for recording health state changes into the health_status table.
+     */
+    private final HealthHistory healthHistory = new HealthHistory();
+
+    /**
+     * Settings for response serialization.
+     */
+    private final Json json = new Json();
+
+    /**
+     * Settings for the coarse clock used to timestamp responses.
+     */
+    private final Timestamps timestamps = new Timestamps();
+
+    /**
+     * Settings for the per-client rate limit of the SampleController endpoints.
+     */
+    private final RateLimit rateLimit = new RateLimit();
+
+    /**
+     * Settings for the adaptive concurrency limit shedding excess load.
+     */
+    private final ConcurrencyLimit concurrencyLimit = new ConcurrencyLimit();
+
+    /**
+     * Settings for conditional GET handling and Cache-Control of cacheable routes.
+     */
+    private final HttpCache httpCache = new HttpCache();
+
+    /**
+     * Settings for the per-phase latency histograms of SampleController requests.
+     */
+    private final RequestPhases requestPhases = new RequestPhases();
+
+    /**
+     * Settings for the asynchronous logging pipeline and the access log.
+     */
+    private final Logging logging = new Logging();
+
+    /**
+     * Settings for the in-process message search index.
+     */
+    private final Search search = new Search();
+
+    /**
+     * Settings for message deduplication.
+     */
+    private final Dedup dedup = new Dedup();
+
+    /**
+     * Settings for the message store backing MessageStoreRepository.
+     */
+    private final Store store = new Store();
+
+    /**
+     * Settings for the time buckets of the messages table and their retention.
+     */
+    private final Buckets buckets = new Buckets();
+
+    /**
+     * Settings for routing read-only transactions to read replicas.
+     */
+    private final Replicas replicas = new Replicas();
+
     /**
      * Default constructor that initializes the name property with default value.
      */
@@ -51,4 +140,1887 @@ public class ServiceProperties {
         }
         this.name = name;
     }
-}
\ No newline at end of file
+
+    /**
+     * Gets the settings for the GET / hello endpoint.
+     *
+     * @return the hello endpoint settings, never null
+     */
+    public Hello getHello() {
+        return this.hello;
+    }
+
+    /**
+     * Gets the settings for the write-behind message persistence pipeline.
+     *
+     * @return the persistence settings, never null
+     */
+    public Persistence getPersistence() {
+        return this.persistence;
+    }
+
+    /**
+     * Gets the settings for the in-memory cache of recently persisted messages.
+     *
+     * @return the recent message cache settings, never null
+     */
+    public RecentMessages getRecentMessages() {
+        return this.recentMessages;
+    }
+
+    /**
+     * Gets the settings for background evaluation and caching of health indicators.
+     *
+     * @return the health cache settings, never null
+     */
+    public HealthCache getHealthCache() {
+        return this.healthCache;
+    }
+
+    /**
+     * Gets the settings for recording health state changes.
+     *
+     * @return the health history settings, never null
+     */
+    public HealthHistory getHealthHistory() {
+        return this.healthHistory;
+    }
+
+    /**
+     * Gets the settings for response serialization.
+     *
+     * @return the JSON settings, never null
+     */
+    public Json getJson() {
+        return this.json;
+    }
+
+    /**
+     * Gets the settings for the coarse clock used to timestamp responses.
+     *
+     * @return the timestamp settings, never null
+     */
+    public Timestamps getTimestamps() {
+        return this.timestamps;
+    }
+
+    /**
+     * Gets the settings for the per-client rate limit.
+     *
+     * @return the rate limit settings, never null
+     */
+    public RateLimit getRateLimit() {
+        return this.rateLimit;
+    }
+
+    /**
+     * Gets the settings for the adaptive concurrency limit.
+     *
+     * @return the concurrency limit settings, never null
+     */
+    public ConcurrencyLimit getConcurrencyLimit() {
+        return this.concurrencyLimit;
+    }
+
+    /**
+     * Gets the settings for conditional GET handling.
+     *
+     * @return the HTTP cache settings, never null
+     */
+    public HttpCache getHttpCache() {
+        return this.httpCache;
+    }
+
+    /**
+     * Gets the settings for the per-phase latency histograms.
+     *
+     * @return the request phase settings, never null
+     */
+    public RequestPhases getRequestPhases() {
+        return this.requestPhases;
+    }
+
+    /**
+     * Gets the settings for the asynchronous logging pipeline.
+     *
+     * @return the logging settings, never null
+     */
+    public Logging getLogging() {
+        return this.logging;
+    }
+
+    /**
+     * Gets the settings for the message search index.
+     *
+     * @return the search settings, never null
+     */
+    public Search getSearch() {
+        return this.search;
+    }
+
+    /**
+     * Gets the settings for message deduplication.
+     *
+     * @return the deduplication settings, never null
+     */
+    public Dedup getDedup() {
+        return this.dedup;
+    }
+
+    /**
+     * Gets the settings for the message store.
+     *
+     * @return the message store settings, never null
+     */
+    public Store getStore() {
+        return this.store;
+    }
+
+    /**
+     * Gets the settings for message buckets and retention.
+     *
+     * @return the bucket settings, never null
+     */
+    public Buckets getBuckets() {
+        return this.buckets;
+    }
+
+    /**
+     * Gets the settings for read replicas.
+     *
+     * @return the replica settings, never null
+     */
+    public Replicas getReplicas() {
+        return this.replicas;
+    }
+
+    /**
+     * Configuration properties for the GET / hello endpoint, bound under service.hello.*.
+     */
+    public static class Hello {
+
+        /**
+         * Whether GET / is served from a pre-serialized JSON body with precomputed
+         * Content-Length and ETag instead of going through the controller and Jackson.
+         */
+        private boolean precomputed = false;
+
+        /**
+         * Gets whether the pre-serialized response mode is enabled.
+         *
+         * @return true if GET / is served from the cached body
+         */
+        public boolean isPrecomputed() {
+            return this.precomputed;
+        }
+
+        /**
+         * Sets whether the pre-serialized response mode is enabled.
+         *
+         * @param precomputed true to serve GET / from the cached body
+         */
+        public void setPrecomputed(boolean precomputed) {
+            this.precomputed = precomputed;
+        }
+    }
+
+    /**
+     * Configuration properties for the write-behind message persistence pipeline,
+     * bound under service.persistence.*.
+     */
+    public static class Persistence {
+
+        /**
+         * Maximum number of accepted messages waiting to be written. POST / is rejected
+         * with 429 Too Many Requests while the queue is full.
+         */
+        private int queueCapacity = 10000;
+
+        /**
+         * Maximum number of messages written in one JDBC batch. Matches the
+         * hibernate.jdbc.batch_size of the prod profile.
+         */
+        private int batchSize = 50;
+
+        /**
+         * Maximum time the writer waits for a batch to fill before flushing what it has.
+         */
+        private Duration flushInterval = Duration.ofMillis(100);
+
+        /**
+         * Maximum time shutdown waits for queued messages to be flushed.
+         */
+        private Duration shutdownTimeout = Duration.ofSeconds(10);
+
+        /**
+         * Maximum number of messages returned by one page of the message read endpoints.
+         */
+        private int maxPageSize = 100;
+
+        /**
+         * JDBC fetch size of the streaming export cursor: rows transferred per round trip
+         * and the upper bound of rows buffered by the driver.
+         */
+        private int exportFetchSize = 500;
+
+        /**
+         * Maximum number of exports streaming at the same time. Each holds a database
+         * connection for its whole duration; further exports are rejected with 429 Too Many
+         * Requests.
+         */
+        private int exportMaxConcurrent = 2;
+
+        /**
+         * Gets the maximum number of queued messages.
+         *
+         * @return the queue capacity
+         */
+        public int getQueueCapacity() {
+            return this.queueCapacity;
+        }
+
+        /**
+         * Sets the maximum number of queued messages.
+         *
+         * @param queueCapacity the queue capacity, must be positive
+         * @throws IllegalArgumentException if queueCapacity is not positive
+         */
+        public void setQueueCapacity(int queueCapacity) {
+            if (queueCapacity <= 0) {
+                throw new IllegalArgumentException("Queue capacity must be positive");
+            }
+            this.queueCapacity = queueCapacity;
+        }
+
+        /**
+         * Gets the maximum JDBC batch size.
+         *
+         * @return the batch size
+         */
+        public int getBatchSize() {
+            return this.batchSize;
+        }
+
+        /**
+         * Sets the maximum JDBC batch size.
+         *
+         * @param batchSize the batch size, must be positive
+         * @throws IllegalArgumentException if batchSize is not positive
+         */
+        public void setBatchSize(int batchSize) {
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("Batch size must be positive");
+            }
+            this.batchSize = batchSize;
+        }
+
+        /**
+         * Gets the maximum time to wait for a batch to fill.
+         *
+         * @return the flush interval
+         */
+        public Duration getFlushInterval() {
+            return this.flushInterval;
+        }
+
+        /**
+         * Sets the maximum time to wait for a batch to fill.
+         *
+         * @param flushInterval the flush interval, must not be null
+         * @throws IllegalArgumentException if flushInterval is null
+         */
+        public void setFlushInterval(Duration flushInterval) {
+            if (flushInterval == null) {
+                throw new IllegalArgumentException("Flush interval must not be null");
+            }
+            this.flushInterval = flushInterval;
+        }
+
+        /**
+         * Gets the maximum time shutdown waits for the queue to drain.
+         *
+         * @return the shutdown timeout
+         */
+        public Duration getShutdownTimeout() {
+            return this.shutdownTimeout;
+        }
+
+        /**
+         * Sets the maximum time shutdown waits for the queue to drain.
+         *
+         * @param shutdownTimeout the shutdown timeout, must not be null
+         * @throws IllegalArgumentException if shutdownTimeout is null
+         */
+        public void setShutdownTimeout(Duration shutdownTimeout) {
+            if (shutdownTimeout == null) {
+                throw new IllegalArgumentException("Shutdown timeout must not be null");
+            }
+            this.shutdownTimeout = shutdownTimeout;
+        }
+
+        /**
+         * Gets the maximum number of messages per page.
+         *
+         * @return the maximum page size
+         */
+        public int getMaxPageSize() {
+            return this.maxPageSize;
+        }
+
+        /**
+         * Sets the maximum number of messages per page.
+         *
+         * @param maxPageSize the maximum page size, must be positive
+         * @throws IllegalArgumentException if maxPageSize is not positive
+         */
+        public void setMaxPageSize(int maxPageSize) {
+            if (maxPageSize <= 0) {
+                throw new IllegalArgumentException("Max page size must be positive");
+            }
+            this.maxPageSize = maxPageSize;
+        }
+
+        /**
+         * Gets the JDBC fetch size of the streaming export.
+         *
+         * @return the export fetch size
+         */
+        public int getExportFetchSize() {
+            return this.exportFetchSize;
+        }
+
+        /**
+         * Sets the JDBC fetch size of the streaming export.
+         *
+         * @param exportFetchSize the export fetch size, must be positive
+         * @throws IllegalArgumentException if exportFetchSize is not positive
+         */
+        public void setExportFetchSize(int exportFetchSize) {
+            if (exportFetchSize <= 0) {
+                throw new IllegalArgumentException("Export fetch size must be positive");
+            }
+            this.exportFetchSize = exportFetchSize;
+        }
+
+        /**
+         * Gets the maximum number of concurrent exports.
+         *
+         * @return the maximum number of concurrent exports
+         */
+        public int getExportMaxConcurrent() {
+            return this.exportMaxConcurrent;
+        }
+
+        /**
+         * Sets the maximum number of concurrent exports.
+         *
+         * @param exportMaxConcurrent the maximum number of concurrent exports, must be positive
+         * @throws IllegalArgumentException if exportMaxConcurrent is not positive
+         */
+        public void setExportMaxConcurrent(int exportMaxConcurrent) {
+            if (exportMaxConcurrent <= 0) {
+                throw new IllegalArgumentException("Export max concurrent must be positive");
+            }
+            this.exportMaxConcurrent = exportMaxConcurrent;
+        }
+    }
+
+    /**
+     * Configuration properties for the in-memory ring buffer of recently persisted
+     * messages, bound under service.recent-messages.*.
+     */
+    public static class RecentMessages {
+
+        /**
+         * Whether latest-message reads are served from the in-memory ring buffer.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Number of most recent messages held in memory. Reads asking for a larger
+         * window fall back to the database.
+         */
+        private int capacity = 1000;
+
+        /**
+         * Gets whether the recent message cache is enabled.
+         *
+         * @return true if latest-message reads are served from memory
+         */
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        /**
+         * Sets whether the recent message cache is enabled.
+         *
+         * @param enabled true to serve latest-message reads from memory
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Gets the number of messages held in memory.
+         *
+         * @return the cache capacity
+         */
+        public int getCapacity() {
+            return this.capacity;
+        }
+
+        /**
+         * Sets the number of messages held in memory.
+         *
+         * @param capacity the cache capacity, must be positive
+         * @throws IllegalArgumentException if capacity is not positive
+         */
+        public void setCapacity(int capacity) {
+            if (capacity <= 0) {
+                throw new IllegalArgumentException("Capacity must be positive");
+            }
+            this.capacity = capacity;
+        }
+    }
+
+    /**
+     * Configuration properties for background evaluation of health indicators,
+     * bound under service.health-cache.*.
+     */
+    public static class HealthCache {
+
+        /**
+         * Whether health indicators are evaluated on a background scheduler and served
+         * from their last result instead of being evaluated on every health request.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Interval between two background evaluations of each health indicator.
+         */
+        private Duration refreshInterval = Duration.ofSeconds(10);
+
+        /**
+         * Maximum age of a served result. Older results are reported as UNKNOWN.
+         */
+        private Duration ttl = Duration.ofSeconds(30);
+
+        /**
+         * Maximum time one indicator evaluation may take before it is reported as UNKNOWN.
+         */
+        private Duration timeout = Duration.ofSeconds(2);
+
+        /**
+         * Gets whether health indicator caching is enabled.
+         *
+         * @return true if indicators are evaluated in the background
+         */
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        /**
+         * Sets whether health indicator caching is enabled.
+         *
+         * @param enabled true to evaluate indicators in the background
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Gets the interval between background evaluations.
+         *
+         * @return the refresh interval
+         */
+        public Duration getRefreshInterval() {
+            return this.refreshInterval;
+        }
+
+        /**
+         * Sets the interval between background evaluations.
+         *
+         * @param refreshInterval the refresh interval, must not be null
+         * @throws IllegalArgumentException if refreshInterval is null
+         */
+        public void setRefreshInterval(Duration refreshInterval) {
+            if (refreshInterval == null) {
+                throw new IllegalArgumentException("Refresh interval must not be null");
+            }
+            this.refreshInterval = refreshInterval;
+        }
+
+        /**
+         * Gets the maximum age of a served result.
+         *
+         * @return the result time-to-live
+         */
+        public Duration getTtl() {
+            return this.ttl;
+        }
+
+        /**
+         * Sets the maximum age of a served result.
+         *
+         * @param ttl the result time-to-live, must not be null
+         * @throws IllegalArgumentException if ttl is null
+         */
+        public void setTtl(Duration ttl) {
+            if (ttl == null) {
+                throw new IllegalArgumentException("TTL must not be null");
+            }
+            this.ttl = ttl;
+        }
+
+        /**
+         * Gets the per-indicator evaluation timeout.
+         *
+         * @return the evaluation timeout
+         */
+        public Duration getTimeout() {
+            return this.timeout;
+        }
+
+        /**
+         * Sets the per-indicator evaluation timeout.
+         *
+         * @param timeout the evaluation timeout, must not be null
+         * @throws IllegalArgumentException if timeout is null
+         */
+        public void setTimeout(Duration timeout) {
+            if (timeout == null) {
+                throw new IllegalArgumentException("Timeout must not be null");
+            }
+            this.timeout = timeout;
+        }
+    }
+
+    /**
+     * Configuration properties for the health history recorder,
+     * bound under service.health-history.*.
+     */
+    public static class HealthHistory {
+
+        /**
+         * Whether health state changes are recorded into the health_status table.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Interval between two batched writes of pending health records.
+         */
+        private Duration flushInterval = Duration.ofSeconds(5);
+
+        /**
+         * Maximum number of health records waiting to be written. Changes arriving while
+         * the buffer is full are dropped and recorded again on the next evaluation.
+         */
+        private int maxPending = 1000;
+
+        /**
+         * Maximum number of records returned by one timeline query.
+         */
+        private int maxTimelineSize = 500;
+
+        /**
+         * Gets whether health history recording is enabled.
+         *
+         * @return true if health state changes are recorded
+         */
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        /**
+         * Sets whether health history recording is enabled.
+         *
+         * @param enabled true to record health state changes
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Gets the interval between batched writes.
+         *
+         * @return the flush interval
+         */
+        public Duration getFlushInterval() {
+            return this.flushInterval;
+        }
+
+        /**
+         * Sets the interval between batched writes.
+         *
+         * @param flushInterval the flush interval, must be positive
+         * @throws IllegalArgumentException if flushInterval is null or not positive
+         */
+        public void setFlushInterval(Duration flushInterval) {
+            if (flushInterval == null || flushInterval.isZero() || flushInterval.isNegative()) {
+                throw new IllegalArgumentException("Flush interval must be positive");
+            }
+            this.flushInterval = flushInterval;
+        }
+
+        /**
+         * Gets the maximum number of records waiting to be written.
+         *
+         * @return the pending buffer capacity
+         */
+        public int getMaxPending() {
+            return this.maxPending;
+        }
+
+        /**
+         * Sets the maximum number of records waiting to be written.
+         *
+         * @param maxPending the pending buffer capacity, must be positive
+         * @throws IllegalArgumentException if maxPending is not positive
+         */
+        public void setMaxPending(int maxPending) {
+            if (maxPending <= 0) {
+                throw new IllegalArgumentException("Max pending must be positive");
+            }
+            this.maxPending = maxPending;
+        }
+
+        /**
+         * Gets the maximum number of records returned by one timeline query.
+         *
+         * @return the maximum timeline size
+         */
+        public int getMaxTimelineSize() {
+            return this.maxTimelineSize;
+        }
+
+        /**
+         * Sets the maximum number of records returned by one timeline query.
+         *
+         * @param maxTimelineSize the maximum timeline size, must be positive
+         * @throws IllegalArgumentException if maxTimelineSize is not positive
+         */
+        public void setMaxTimelineSize(int maxTimelineSize) {
+            if (maxTimelineSize <= 0) {
+                throw new IllegalArgumentException("Max timeline size must be positive");
+            }
+            this.maxTimelineSize = maxTimelineSize;
+        }
+    }
+
+    /**
+     * Configuration properties for response serialization, bound under service.json.*.
+     */
+    public static class Json {
+
+        /**
+         * Whether @CompiledJson response types are written by the JsonWriters generated at
+         * build time (mvn -Pcompiled-json) instead of the ObjectMapper. Has no effect when
+         * the application was built without them.
+         */
+        private boolean compiledWriters = false;
+
+        /**
+         * Gets whether the generated JSON writers are used.
+         *
+         * @return true if @CompiledJson responses bypass the ObjectMapper
+         */
+        public boolean isCompiledWriters() {
+            return this.compiledWriters;
+        }
+
+        /**
+         * Sets whether the generated JSON writers are used.
+         *
+         * @param compiledWriters true to write @CompiledJson responses with the generated writers
+         */
+        public void setCompiledWriters(boolean compiledWriters) {
+            this.compiledWriters = compiledWriters;
+        }
+    }
+
+    /**
+     * Configuration properties for the coarse clock, bound under service.timestamps.*.
+     */
+    public static class Timestamps {
+
+        /**
+         * Interval at which the coarse clock reads the system clock. Timestamps taken from
+         * it are at most this old.
+         */
+        private Duration tickInterval = Duration.ofMillis(1);
+
+        /**
+         * Gets the interval at which the coarse clock is refreshed.
+         *
+         * @return the tick interval
+         */
+        public Duration getTickInterval() {
+            return this.tickInterval;
+        }
+
+        /**
+         * Sets the interval at which the coarse clock is refreshed.
+         *
+         * @param tickInterval the tick interval, must be positive
+         * @throws IllegalArgumentException if tickInterval is null or not positive
+         */
+        public void setTickInterval(Duration tickInterval) {
+            if (tickInterval == null || tickInterval.isZero() || tickInterval.isNegative()) {
+                throw new IllegalArgumentException("Tick interval must be positive");
+            }
+            this.tickInterval = tickInterval;
+        }
+    }
+
+    /**
+     * Configuration properties for the per-client rate limit of the SampleController
+     * endpoints, bound under service.rate-limit.*.
+     */
+    public static class RateLimit {
+
+        /**
+         * Whether POST requests to the SampleController endpoints are rate limited.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Number of requests a client may send at once before being limited.
+         */
+        private int burst = 50;
+
+        /**
+         * Sustained number of requests per second allowed for each client.
+         */
+        private double requestsPerSecond = 20;
+
+        /**
+         * Maximum number of clients tracked at the same time. The least recently seen
+         * clients are evicted beyond it.
+         */
+        private int maxClients = 10000;
+
+        /**
+         * Gets whether rate limiting is enabled.
+         *
+         * @return true if requests are rate limited per client
+         */
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        /**
+         * Sets whether rate limiting is enabled.
+         *
+         * @param enabled true to rate limit requests per client
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Gets the number of requests a client may send at once.
+         *
+         * @return the burst size
+         */
+        public int getBurst() {
+            return this.burst;
+        }
+
+        /**
+         * Sets the number of requests a client may send at once.
+         *
+         * @param burst the burst size, must be positive
+         * @throws IllegalArgumentException if burst is not positive
+         */
+        public void setBurst(int burst) {
+            if (burst <= 0) {
+                throw new IllegalArgumentException("Burst must be positive");
+            }
+            this.burst = burst;
+        }
+
+        /**
+         * Gets the sustained number of requests per second allowed for each client.
+         *
+         * @return the request rate
+         */
+        public double getRequestsPerSecond() {
+            return this.requestsPerSecond;
+        }
+
+        /**
+         * Sets the sustained number of requests per second allowed for each client.
+         *
+         * @param requestsPerSecond the request rate, must be positive
+         * @throws IllegalArgumentException if requestsPerSecond is not positive
+         */
+        public void setRequestsPerSecond(double requestsPerSecond) {
+            if (!(requestsPerSecond > 0)) {
+                throw new IllegalArgumentException("Requests per second must be positive");
+            }
+            this.requestsPerSecond = requestsPerSecond;
+        }
+
+        /**
+         * Gets the maximum number of clients tracked at the same time.
+         *
+         * @return the client table capacity
+         */
+        public int getMaxClients() {
+            return this.maxClients;
+        }
+
+        /**
+         * Sets the maximum number of clients tracked at the same time.
+         *
+         * @param maxClients the client table capacity, must be positive
+         * @throws IllegalArgumentException if maxClients is not positive
+         */
+        public void setMaxClients(int maxClients) {
+            if (maxClients <= 0) {
+                throw new IllegalArgumentException("Max clients must be positive");
+            }
+            this.maxClients = maxClients;
+        }
+    }
+
+    /**
+     * Configuration properties for the adaptive concurrency limit, bound under
+     * service.concurrency-limit.*.
+     */
+    public static class ConcurrencyLimit {
+
+        /**
+         * Whether requests beyond the adaptive concurrency limit are shed with 503.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Concurrency limit at startup, before any latency was observed.
+         */
+        private int initialLimit = 50;
+
+        /**
+         * Lowest value the limit backs off to.
+         */
+        private int minLimit = 5;
+
+        /**
+         * Highest value the limit grows to. Keep it below server.tomcat.threads.max so
+         * shedding starts before the thread pool is exhausted.
+         */
+        private int maxLimit = 150;
+
+        /**
+         * Request latency above which the limit is reduced.
+         */
+        private Duration latencyThreshold = Duration.ofMillis(250);
+
+        /**
+         * Factor the limit is multiplied by when a request exceeds the latency threshold.
+         */
+        private double backoffRatio = 0.9;
+
+        /**
+         * Shortest interval between two decreases of the limit. Slow completions within one
+         * window count as a single overload signal.
+         */
+        private Duration sampleWindow = Duration.ofSeconds(1);
+
+        /**
+         * Gets whether the concurrency limit is enabled.
+         *
+         * @return true if excess requests are shed
+         */
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        /**
+         * Sets whether the concurrency limit is enabled.
+         *
+         * @param enabled true to shed requests beyond the limit
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Gets the concurrency limit at startup.
+         *
+         * @return the initial limit
+         */
+        public int getInitialLimit() {
+            return this.initialLimit;
+        }
+
+        /**
+         * Sets the concurrency limit at startup.
+         *
+         * @param initialLimit the initial limit, must be positive
+         * @throws IllegalArgumentException if initialLimit is not positive
+         */
+        public void setInitialLimit(int initialLimit) {
+            if (initialLimit <= 0) {
+                throw new IllegalArgumentException("Initial limit must be positive");
+            }
+            this.initialLimit = initialLimit;
+        }
+
+        /**
+         * Gets the lowest value the limit backs off to.
+         *
+         * @return the minimum limit
+         */
+        public int getMinLimit() {
+            return this.minLimit;
+        }
+
+        /**
+         * Sets the lowest value the limit backs off to.
+         *
+         * @param minLimit the minimum limit, must be positive
+         * @throws IllegalArgumentException if minLimit is not positive
+         */
+        public void setMinLimit(int minLimit) {
+            if (minLimit <= 0) {
+                throw new IllegalArgumentException("Min limit must be positive");
+            }
+            this.minLimit = minLimit;
+        }
+
+        /**
+         * Gets the highest value the limit grows to.
+         *
+         * @return the maximum limit
+         */
+        public int getMaxLimit() {
+            return this.maxLimit;
+        }
+
+        /**
+         * Sets the highest value the limit grows to.
+         *
+         * @param maxLimit the maximum limit, must be positive
+         * @throws IllegalArgumentException if maxLimit is not positive
+         */
+        public void setMaxLimit(int maxLimit) {
+            if (maxLimit <= 0) {
+                throw new IllegalArgumentException("Max limit must be positive");
+            }
+            this.maxLimit = maxLimit;
+        }
+
+        /**
+         * Gets the request latency above which the limit is reduced.
+         *
+         * @return the latency threshold
+         */
+        public Duration getLatencyThreshold() {
+            return this.latencyThreshold;
+        }
+
+        /**
+         * Sets the request latency above which the limit is reduced.
+         *
+         * @param latencyThreshold the latency threshold, must be positive
+         * @throws IllegalArgumentException if latencyThreshold is null or not positive
+         */
+        public void setLatencyThreshold(Duration latencyThreshold) {
+            if (latencyThreshold == null || latencyThreshold.isZero() || latencyThreshold.isNegative()) {
+                throw new IllegalArgumentException("Latency threshold must be positive");
+            }
+            this.latencyThreshold = latencyThreshold;
+        }
+
+        /**
+         * Gets the factor the limit is multiplied by on slow requests.
+         *
+         * @return the backoff ratio
+         */
+        public double getBackoffRatio() {
+            return this.backoffRatio;
+        }
+
+        /**
+         * Sets the factor the limit is multiplied by on slow requests.
+         *
+         * @param backoffRatio the backoff ratio, must be greater than 0 and less than 1
+         * @throws IllegalArgumentException if backoffRatio is not between 0 and 1
+         */
+        public void setBackoffRatio(double backoffRatio) {
+            if (!(backoffRatio > 0 && backoffRatio < 1)) {
+                throw new IllegalArgumentException("Backoff ratio must be between 0 and 1");
+            }
+            this.backoffRatio = backoffRatio;
+        }
+
+        /**
+         * Gets the shortest interval between two decreases of the limit.
+         *
+         * @return the sample window
+         */
+        public Duration getSampleWindow() {
+            return this.sampleWindow;
+        }
+
+        /**
+         * Sets the shortest interval between two decreases of the limit.
+         *
+         * @param sampleWindow the sample window, must not be negative
+         * @throws IllegalArgumentException if sampleWindow is null or negative
+         */
+        public void setSampleWindow(Duration sampleWindow) {
+            if (sampleWindow == null || sampleWindow.isNegative()) {
+                throw new IllegalArgumentException("Sample window must not be negative");
+            }
+            this.sampleWindow = sampleWindow;
+        }
+    }
+
+    /**
+     * Configuration properties for ETag validation and Cache-Control of the cacheable GET
+     * routes, bound under service.http-cache.*. An empty Cache-Control value sends none.
+     */
+    public static class HttpCache {
+
+        /**
+         * Whether GET /, GET /messages and /actuator/info answer If-None-Match with 304.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Cache-Control sent with GET /.
+         */
+        private String helloCacheControl = "public, max-age=60";
+
+        /**
+         * Cache-Control sent with GET /messages. Defaults to revalidating every time, since
+         * new messages arrive continuously.
+         */
+        private String messagesCacheControl = "no-cache";
+
+        /**
+         * Cache-Control sent with /actuator/info.
+         */
+        private String infoCacheControl = "public, max-age=300";
+
+        /**
+         * Gets whether conditional GET handling is enabled.
+         *
+         * @return true if matching If-None-Match requests are answered with 304
+         */
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        /**
+         * Sets whether conditional GET handling is enabled.
+         *
+         * @param enabled true to answer matching If-None-Match requests with 304
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Gets the Cache-Control policy of GET /.
+         *
+         * @return the Cache-Control value, empty for none
+         */
+        public String getHelloCacheControl() {
+            return this.helloCacheControl;
+        }
+
+        /**
+         * Sets the Cache-Control policy of GET /.
+         *
+         * @param helloCacheControl the Cache-Control value, empty for none
+         * @throws IllegalArgumentException if helloCacheControl is null
+         */
+        public void setHelloCacheControl(String helloCacheControl) {
+            this.helloCacheControl = requireCacheControl(helloCacheControl);
+        }
+
+        /**
+         * Gets the Cache-Control policy of GET /messages.
+         *
+         * @return the Cache-Control value, empty for none
+         */
+        public String getMessagesCacheControl() {
+            return this.messagesCacheControl;
+        }
+
+        /**
+         * Sets the Cache-Control policy of GET /messages.
+         *
+         * @param messagesCacheControl the Cache-Control value, empty for none
+         * @throws IllegalArgumentException if messagesCacheControl is null
+         */
+        public void setMessagesCacheControl(String messagesCacheControl) {
+            this.messagesCacheControl = requireCacheControl(messagesCacheControl);
+        }
+
+        /**
+         * Gets the Cache-Control policy of /actuator/info.
+         *
+         * @return the Cache-Control value, empty for none
+         */
+        public String getInfoCacheControl() {
+            return this.infoCacheControl;
+        }
+
+        /**
+         * Sets the Cache-Control policy of /actuator/info.
+         *
+         * @param infoCacheControl the Cache-Control value, empty for none
+         * @throws IllegalArgumentException if infoCacheControl is null
+         */
+        public void setInfoCacheControl(String infoCacheControl) {
+            this.infoCacheControl = requireCacheControl(infoCacheControl);
+        }
+
+        private static String requireCacheControl(String cacheControl) {
+            if (cacheControl == null) {
+                throw new IllegalArgumentException("Cache-Control must not be null, use an empty value for none");
+            }
+            return cacheControl.trim();
+        }
+    }
+
+    /**
+     * Configuration properties for the per-phase latency histograms of SampleController
+     * requests, bound under service.request-phases.*.
+     */
+    public static class RequestPhases {
+
+        /**
+         * Whether SampleController requests are timed per phase (http.server.phase).
+         */
+        private boolean enabled = true;
+
+        /**
+         * Percentiles computed in the application and published with each phase timer.
+         */
+        private double[] percentiles = {0.5, 0.99, 0.999};
+
+        /**
+         * Histogram bucket boundaries published with each phase timer, for quantiles
+         * aggregated across instances in Prometheus.
+         */
+        private List<Duration> buckets = List.of(Duration.ofNanos(50_000), Duration.ofNanos(100_000),
+            Duration.ofNanos(250_000), Duration.ofNanos(500_000), Duration.ofMillis(1), Duration.ofNanos(2_500_000),
+            Duration.ofMillis(5), Duration.ofMillis(10), Duration.ofMillis(25), Duration.ofMillis(50),
+            Duration.ofMillis(100), Duration.ofMillis(250), Duration.ofMillis(500), Duration.ofSeconds(1),
+            Duration.ofMillis(2500));
+
+        /**
+         * Gets whether requests are timed per phase.
+         *
+         * @return true if the phase histograms are recorded
+         */
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        /**
+         * Sets whether requests are timed per phase.
+         *
+         * @param enabled true to record the phase histograms
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Gets the published percentiles.
+         *
+         * @return the percentiles, between 0 and 1
+         */
+        public double[] getPercentiles() {
+            return this.percentiles;
+        }
+
+        /**
+         * Sets the published percentiles.
+         *
+         * @param percentiles the percentiles, each between 0 and 1
+         * @throws IllegalArgumentException if percentiles is null or a value is outside [0, 1]
+         */
+        public void setPercentiles(double[] percentiles) {
+            if (percentiles == null) {
+                throw new IllegalArgumentException("Percentiles must not be null");
+            }
+            for (double percentile : percentiles) {
+                if (!(percentile >= 0 && percentile <= 1)) {
+                    throw new IllegalArgumentException("Percentiles must be between 0 and 1");
+                }
+            }
+            this.percentiles = percentiles;
+        }
+
+        /**
+         * Gets the published histogram bucket boundaries.
+         *
+         * @return the bucket boundaries
+         */
+        public List<Duration> getBuckets() {
+            return this.buckets;
+        }
+
+        /**
+         * Sets the published histogram bucket boundaries.
+         *
+         * @param buckets the bucket boundaries, each positive
+         * @throws IllegalArgumentException if buckets is null or contains a non-positive value
+         */
+        public void setBuckets(List<Duration> buckets) {
+            if (buckets == null) {
+                throw new IllegalArgumentException("Buckets must not be null");
+            }
+            for (Duration bucket : buckets) {
+                if (bucket == null || bucket.isZero() || bucket.isNegative()) {
+                    throw new IllegalArgumentException("Buckets must be positive");
+                }
+            }
+            this.buckets = buckets;
+        }
+    }
+
+    /**
+     * Configuration properties for the asynchronous logging pipeline, bound under
+     * service.logging.*. The buffer, batch and stack trace settings are read by
+     * logback-spring.xml; they are declared here for validation and metadata.
+     */
+    public static class Logging {
+
+        /**
+         * Whether Tomcat access log lines are logged to sample.actuator.access.
+         */
+        private boolean accessLog = true;
+
+        /**
+         * Tomcat access log pattern.
+         */
+        private String accessLogPattern = "%h %t \"%r\" %s %b";
+
+        /**
+         * Number of log events that can wait to be written before new ones are dropped.
+         */
+        private int bufferSize = 8192;
+
+        /**
+         * Maximum number of log events written with one write call.
+         */
+        private int batchSize = 256;
+
+        /**
+         * How long repeats of a written stack trace are suppressed.
+         */
+        private Duration stackTraceInterval = Duration.ofMinutes(1);
+
+        /**
+         * Gets whether the access log is enabled.
+         *
+         * @return true if access log lines are logged
+         */
+        public boolean isAccessLog() {
+            return this.accessLog;
+        }
+
+        /**
+         * Sets whether the access log is enabled.
+         *
+         * @param accessLog true to log access log lines
+         */
+        public void setAccessLog(boolean accessLog) {
+            this.accessLog = accessLog;
+        }
+
+        /**
+         * Gets the access log pattern.
+         *
+         * @return the Tomcat access log pattern
+         */
+        public String getAccessLogPattern() {
+            return this.accessLogPattern;
+        }
+
+        /**
+         * Sets the access log pattern.
+         *
+         * @param accessLogPattern the Tomcat access log pattern
+         * @throws IllegalArgumentException if accessLogPattern is null or blank
+         */
+        public void setAccessLogPattern(String accessLogPattern) {
+            if (accessLogPattern == null || accessLogPattern.isBlank()) {
+                throw new IllegalArgumentException("Access log pattern must not be blank");
+            }
+            this.accessLogPattern = accessLogPattern;
+        }
+
+        /**
+         * Gets the ring buffer size.
+         *
+         * @return the number of events that can wait to be written
+         */
+        public int getBufferSize() {
+            return this.bufferSize;
+        }
+
+        /**
+         * Sets the ring buffer size.
+         *
+         * @param bufferSize the number of events that can wait to be written, at least 1
+         * @throws IllegalArgumentException if bufferSize is less than 1
+         */
+        public void setBufferSize(int bufferSize) {
+            if (bufferSize < 1) {
+                throw new IllegalArgumentException("Buffer size must be at least 1");
+            }
+            this.bufferSize = bufferSize;
+        }
+
+        /**
+         * Gets the write batch size.
+         *
+         * @return the maximum number of events per write
+         */
+        public int getBatchSize() {
+            return this.batchSize;
+        }
+
+        /**
+         * Sets the write batch size.
+         *
+         * @param batchSize the maximum number of events per write, at least 1
+         * @throws IllegalArgumentException if batchSize is less than 1
+         */
+        public void setBatchSize(int batchSize) {
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("Batch size must be at least 1");
+            }
+            this.batchSize = batchSize;
+        }
+
+        /**
+         * Gets how long repeats of a written stack trace are suppressed.
+         *
+         * @return the suppression interval
+         */
+        public Duration getStackTraceInterval() {
+            return this.stackTraceInterval;
+        }
+
+        /**
+         * Sets how long repeats of a written stack trace are suppressed.
+         *
+         * @param stackTraceInterval the suppression interval, zero to write every stack trace
+         * @throws IllegalArgumentException if stackTraceInterval is null or negative
+         */
+        public void setStackTraceInterval(Duration stackTraceInterval) {
+            if (stackTraceInterval == null || stackTraceInterval.isNegative()) {
+                throw new IllegalArgumentException("Stack trace interval must not be negative");
+            }
+            this.stackTraceInterval = stackTraceInterval;
+        }
+    }
+
+    /**
+     * Configuration properties for the in-process message search index, bound under
+     * service.search.*.
+     */
+    public static class Search {
+
+        /**
+         * Number of id ranges the index is rebuilt from in parallel at startup.
+         */
+        private int rebuildThreads = 4;
+
+        /**
+         * Maximum number of dictionary terms a prefix query term expands to.
+         */
+        private int maxPrefixTerms = 1000;
+
+        /**
+         * Interval between two rebuilds of the index from the messages table, which pick up
+         * the messages written by other instances; zero disables them.
+         */
+        private Duration refreshInterval = Duration.ofMinutes(1);
+
+        /**
+         * Gets the number of parallel rebuild partitions.
+         *
+         * @return the number of id ranges streamed in parallel at startup
+         */
+        public int getRebuildThreads() {
+            return this.rebuildThreads;
+        }
+
+        /**
+         * Sets the number of parallel rebuild partitions.
+         *
+         * @param rebuildThreads the number of id ranges streamed in parallel, at least 1
+         * @throws IllegalArgumentException if rebuildThreads is less than 1
+         */
+        public void setRebuildThreads(int rebuildThreads) {
+            if (rebuildThreads < 1) {
+                throw new IllegalArgumentException("Rebuild threads must be at least 1");
+            }
+            this.rebuildThreads = rebuildThreads;
+        }
+
+        /**
+         * Gets the maximum prefix expansion.
+         *
+         * @return the maximum number of terms a prefix query term expands to
+         */
+        public int getMaxPrefixTerms() {
+            return this.maxPrefixTerms;
+        }
+
+        /**
+         * Sets the maximum prefix expansion.
+         *
+         * @param maxPrefixTerms the maximum number of terms a prefix expands to, at least 1
+         * @throws IllegalArgumentException if maxPrefixTerms is less than 1
+         */
+        public void setMaxPrefixTerms(int maxPrefixTerms) {
+            if (maxPrefixTerms < 1) {
+                throw new IllegalArgumentException("Max prefix terms must be at least 1");
+            }
+            this.maxPrefixTerms = maxPrefixTerms;
+        }
+
+        /**
+         * Gets the interval between two rebuilds of the index.
+         *
+         * @return the rebuild interval, zero if periodic rebuilds are disabled
+         */
+        public Duration getRefreshInterval() {
+            return this.refreshInterval;
+        }
+
+        /**
+         * Sets the interval between two rebuilds of the index.
+         *
+         * @param refreshInterval the rebuild interval, zero to disable periodic rebuilds
+         * @throws IllegalArgumentException if refreshInterval is null or negative
+         */
+        public void setRefreshInterval(Duration refreshInterval) {
+            if (refreshInterval == null || refreshInterval.isNegative()) {
+                throw new IllegalArgumentException("Refresh interval must not be negative");
+            }
+            this.refreshInterval = refreshInterval;
+        }
+    }
+
+    /**
+     * Configuration properties for message deduplication, bound under service.dedup.*.
+     */
+    public static class Dedup {
+
+        /**
+         * Whether written messages are skipped when their value is already stored.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Gets whether deduplication is enabled.
+         *
+         * @return true if messages with an already stored value are not written
+         */
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        /**
+         * Sets whether deduplication is enabled.
+         *
+         * @param enabled true to skip messages with an already stored value
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    /**
+     * Configuration properties for the message store, bound under service.store.*.
+     */
+    public static class Store {
+
+        /**
+         * Where messages are stored.
+         */
+        public enum Mode {
+
+            /**
+             * The messages table, through Spring Data JPA.
+             */
+            JPA,
+
+            /**
+             * An append-only log in memory-mapped files, see MappedMessageStore.
+             */
+            MAPPED
+        }
+
+        /**
+         * Where messages are stored.
+         */
+        private Mode mode = Mode.JPA;
+
+        /**
+         * Directory holding the files of the mapped store.
+         */
+        private String directory = "data/messages";
+
+        /**
+         * Size of one mapped region of the mapped store in bytes.
+         */
+        private int regionSize = 64 * 1024 * 1024;
+
+        /**
+         * Whether the mapped store forces every written batch to disk.
+         */
+        private boolean sync = false;
+
+        /**
+         * Gets where messages are stored.
+         *
+         * @return the store mode
+         */
+        public Mode getMode() {
+            return this.mode;
+        }
+
+        /**
+         * Sets where messages are stored.
+         *
+         * @param mode the store mode
+         * @throws IllegalArgumentException if mode is null
+         */
+        public void setMode(Mode mode) {
+            if (mode == null) {
+                throw new IllegalArgumentException("Store mode must not be null");
+            }
+            this.mode = mode;
+        }
+
+        /**
+         * Gets the directory of the mapped store.
+         *
+         * @return the directory holding the store files
+         */
+        public String getDirectory() {
+            return this.directory;
+        }
+
+        /**
+         * Sets the directory of the mapped store.
+         *
+         * @param directory the directory holding the store files
+         * @throws IllegalArgumentException if directory is null or blank
+         */
+        public void setDirectory(String directory) {
+            if (directory == null || directory.isBlank()) {
+                throw new IllegalArgumentException("Store directory must not be blank");
+            }
+            this.directory = directory;
+        }
+
+        /**
+         * Gets the size of one mapped region.
+         *
+         * @return the region size in bytes
+         */
+        public int getRegionSize() {
+            return this.regionSize;
+        }
+
+        /**
+         * Sets the size of one mapped region, which also bounds the size of a single message.
+         *
+         * @param regionSize the region size in bytes, a multiple of 4096 between 1 MB and 1 GB
+         * @throws IllegalArgumentException if regionSize is out of range or not page aligned
+         */
+        public void setRegionSize(int regionSize) {
+            if (regionSize < (1 << 20) || regionSize > (1 << 30) || regionSize % 4096 != 0) {
+                throw new IllegalArgumentException(
+                    "Region size must be a multiple of 4096 between 1048576 and 1073741824");
+            }
+            this.regionSize = regionSize;
+        }
+
+        /**
+         * Gets whether every written batch is forced to disk.
+         *
+         * @return true if batches are durable before they are acknowledged
+         */
+        public boolean isSync() {
+            return this.sync;
+        }
+
+        /**
+         * Sets whether every written batch is forced to disk.
+         *
+         * @param sync true to force batches to disk before acknowledging them
+         */
+        public void setSync(boolean sync) {
+            this.sync = sync;
+        }
+    }
+
+    /**
+     * Configuration properties for the time buckets of the messages table, bound under
+     * service.buckets.*.
+     */
+    public static class Buckets {
+
+        /**
+         * Length of one bucket: HOURS or DAYS, aligned to UTC.
+         */
+        private ChronoUnit granularity = ChronoUnit.DAYS;
+
+        /**
+         * Whether the messages of buckets older than the retention period are deleted.
+         */
+        private boolean retentionEnabled = false;
+
+        /**
+         * How long messages are kept; a bucket is purged once it ended this long ago.
+         */
+        private Duration retention = Duration.ofDays(30);
+
+        /**
+         * Interval between two runs of the retention job.
+         */
+        private Duration retentionInterval = Duration.ofHours(1);
+
+        /**
+         * Gets the length of one bucket.
+         *
+         * @return HOURS or DAYS
+         */
+        public ChronoUnit getGranularity() {
+            return this.granularity;
+        }
+
+        /**
+         * Sets the length of one bucket. Existing buckets keep their length.
+         *
+         * @param granularity HOURS or DAYS
+         * @throws IllegalArgumentException if granularity is neither HOURS nor DAYS
+         */
+        public void setGranularity(ChronoUnit granularity) {
+            if (granularity != ChronoUnit.HOURS && granularity != ChronoUnit.DAYS) {
+                throw new IllegalArgumentException("Bucket granularity must be HOURS or DAYS");
+            }
+            this.granularity = granularity;
+        }
+
+        /**
+         * Gets whether expired buckets are purged.
+         *
+         * @return true if the retention job runs
+         */
+        public boolean isRetentionEnabled() {
+            return this.retentionEnabled;
+        }
+
+        /**
+         * Sets whether expired buckets are purged.
+         *
+         * @param retentionEnabled true to run the retention job
+         */
+        public void setRetentionEnabled(boolean retentionEnabled) {
+            this.retentionEnabled = retentionEnabled;
+        }
+
+        /**
+         * Gets how long messages are kept.
+         *
+         * @return the retention period
+         */
+        public Duration getRetention() {
+            return this.retention;
+        }
+
+        /**
+         * Sets how long messages are kept.
+         *
+         * @param retention the retention period, at least one bucket long
+         * @throws IllegalArgumentException if retention is null or shorter than one hour
+         */
+        public void setRetention(Duration retention) {
+            if (retention == null || retention.compareTo(Duration.ofHours(1)) < 0) {
+                throw new IllegalArgumentException("Retention must be at least one hour");
+            }
+            this.retention = retention;
+        }
+
+        /**
+         * Gets the interval between two runs of the retention job.
+         *
+         * @return the retention job interval
+         */
+        public Duration getRetentionInterval() {
+            return this.retentionInterval;
+        }
+
+        /**
+         * Sets the interval between two runs of the retention job.
+         *
+         * @param retentionInterval the retention job interval, positive
+         * @throws IllegalArgumentException if retentionInterval is null or not positive
+         */
+        public void setRetentionInterval(Duration retentionInterval) {
+            if (retentionInterval == null || retentionInterval.isNegative() || retentionInterval.isZero()) {
+                throw new IllegalArgumentException("Retention interval must be positive");
+            }
+            this.retentionInterval = retentionInterval;
+        }
+    }
+
+    /**
+     * Configuration properties for read replicas, bound under service.replicas.*.
+     */
+    public static class Replicas {
+
+        /**
+         * Whether read-only transactions are routed to the replicas.
+         */
+        private boolean enabled = false;
+
+        /**
+         * JDBC URLs of the replicas. They are accessed with the spring.datasource credentials.
+         */
+        private List<String> urls = List.of();
+
+        /**
+         * Maximum number of connections in each replica pool.
+         */
+        private int maxPoolSize = 10;
+
+        /**
+         * Largest replication lag at which a replica still serves reads.
+         */
+        private Duration maxLag = Duration.ofSeconds(5);
+
+        /**
+         * Interval between two heartbeats written to the primary and read back from the replicas.
+         */
+        private Duration heartbeatInterval = Duration.ofSeconds(1);
+
+        /**
+         * Gets whether read-only transactions are routed to the replicas.
+         *
+         * @return true if replica routing is enabled
+         */
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        /**
+         * Sets whether read-only transactions are routed to the replicas.
+         *
+         * @param enabled true to enable replica routing
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Gets the JDBC URLs of the replicas.
+         *
+         * @return the replica URLs
+         */
+        public List<String> getUrls() {
+            return this.urls;
+        }
+
+        /**
+         * Sets the JDBC URLs of the replicas.
+         *
+         * @param urls the replica URLs, each non-blank
+         * @throws IllegalArgumentException if urls is null or contains a blank URL
+         */
+        public void setUrls(List<String> urls) {
+            if (urls == null) {
+                throw new IllegalArgumentException("Replica URLs must not be null");
+            }
+            for (String url : urls) {
+                if (url == null || url.isBlank()) {
+                    throw new IllegalArgumentException("Replica URLs must not be blank");
+                }
+            }
+            this.urls = urls;
+        }
+
+        /**
+         * Gets the maximum size of each replica pool.
+         *
+         * @return the maximum number of connections per replica
+         */
+        public int getMaxPoolSize() {
+            return this.maxPoolSize;
+        }
+
+        /**
+         * Sets the maximum size of each replica pool.
+         *
+         * @param maxPoolSize the maximum number of connections per replica, at least 1
+         * @throws IllegalArgumentException if maxPoolSize is less than 1
+         */
+        public void setMaxPoolSize(int maxPoolSize) {
+            if (maxPoolSize < 1) {
+                throw new IllegalArgumentException("Replica pool size must be at least 1");
+            }
+            this.maxPoolSize = maxPoolSize;
+        }
+
+        /**
+         * Gets the largest replication lag at which a replica serves reads.
+         *
+         * @return the maximum lag
+         */
+        public Duration getMaxLag() {
+            return this.maxLag;
+        }
+
+        /**
+         * Sets the largest replication lag at which a replica serves reads.
+         *
+         * @param maxLag the maximum lag, positive
+         * @throws IllegalArgumentException if maxLag is null or not positive
+         */
+        public void setMaxLag(Duration maxLag) {
+            if (maxLag == null || maxLag.isNegative() || maxLag.isZero()) {
+                throw new IllegalArgumentException("Max replica lag must be positive");
+            }
+            this.maxLag = maxLag;
+        }
+
+        /**
+         * Gets the interval between two replication heartbeats.
+         *
+         * @return the heartbeat interval
+         */
+        public Duration getHeartbeatInterval() {
+            return this.heartbeatInterval;
+        }
+
+        /**
+         * Sets the interval between two replication heartbeats.
+         *
+         * @param heartbeatInterval the heartbeat interval, positive
+         * @throws IllegalArgumentException if heartbeatInterval is null or not positive
+         */
+        public void setHeartbeatInterval(Duration heartbeatInterval) {
+            if (heartbeatInterval == null || heartbeatInterval.isNegative() || heartbeatInterval.isZero()) {
+                throw new IllegalArgumentException("Heartbeat interval must be positive");
+            }
+            this.heartbeatInterval = heartbeatInterval;
+        }
+    }
+}
@@ -13,6 +13,7 @@ import org.springframework.boot.actuate.autoconfigure.endpoint.EndpointAutoConfi
 // Internal components
 import sample.actuator.ExampleHealthIndicator;
 import sample.actuator.ExampleInfoContributor;
+import sample.actuator.health.HealthIndicatorCachingPostProcessor;
 
 /**
  * Configuration class for customizing Spring Boot Actuator endpoints and indicators.
@@ -68,4 +69,16 @@ public class ActuatorConfig extends EndpointAutoConfiguration {
     public ExampleInfoContributor infoContributor() {
         return new ExampleInfoContributor();
     }
+
+    /**
+     * Registers the post processor that moves health indicator evaluation onto a background
+     * scheduler, so /actuator/health serves cached results (see service.health-cache.*).
+     * Declared static so it is created before the indicators it wraps.
+     *
+     * @return Post processor wrapping every HealthIndicator bean
+     */
+    @Bean
+    public static HealthIndicatorCachingPostProcessor healthIndicatorCachingPostProcessor() {
+        return new HealthIndicatorCachingPostProcessor();
+    }
 }
\ No newline at end of file
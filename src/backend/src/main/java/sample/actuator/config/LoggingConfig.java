@@ -0,0 +1,71 @@
+package sample.actuator.config;
+
+// Spring Framework 6.0.0
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Spring Boot 3.0.0
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+
+// Logback 1.4.7
+import ch.qos.logback.classic.LoggerContext;
+
+// SLF4J 2.0.7
+import org.slf4j.ILoggerFactory;
+import org.slf4j.LoggerFactory;
+
+// Internal components
+import sample.actuator.ServiceProperties;
+import sample.actuator.logging.LoggerAccessLogValve;
+import sample.actuator.logging.LoggingMetrics;
+
+/**
+ * Configuration of the asynchronous logging pipeline declared in logback-spring.xml.
+ *
+ * Requirements addressed:
+ * - Asynchronous Logging: Publishes the pipeline's metrics and routes the Tomcat access
+ *   log through it
+ */
+@Configuration
+@ConditionalOnClass(LoggerContext.class)
+public class LoggingConfig {
+
+    /**
+     * Publishes the dropped event, queue size and suppressed stack trace metrics of the
+     * ring buffer appenders.
+     *
+     * @return the binder, or a binder without meters if SLF4J is not bound to Logback
+     */
+    @Bean
+    public LoggingMetrics loggingMetrics() {
+        ILoggerFactory loggerFactory = LoggerFactory.getILoggerFactory();
+        return new LoggingMetrics(loggerFactory instanceof LoggerContext loggerContext
+            ? loggerContext : new LoggerContext());
+    }
+
+    /**
+     * Adds the access log valve logging to sample.actuator.access unless
+     * service.logging.access-log=false. It replaces server.tomcat.accesslog, which writes
+     * synchronously on the request thread.
+     *
+     * @param serviceProperties Service configuration providing the access log pattern
+     * @return Customizer adding the valve to the Tomcat engine
+     */
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnClass(name = "org.apache.catalina.startup.Tomcat")
+    @ConditionalOnProperty(prefix = "service.logging", name = "access-log", havingValue = "true",
+        matchIfMissing = true)
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> accessLogCustomizer(
+            ServiceProperties serviceProperties) {
+        return factory -> {
+            LoggerAccessLogValve valve = new LoggerAccessLogValve();
+            valve.setPattern(serviceProperties.getLogging().getAccessLogPattern());
+            factory.addEngineValves(valve);
+        };
+    }
+}
@@ -0,0 +1,72 @@
+package sample.actuator.config;
+
+// Spring Framework 6.0.0
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+// Spring Boot 3.0.0
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+
+// Micrometer 1.11.0
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.nio.file.Path;
+
+// Internal components
+import sample.actuator.ServiceProperties;
+import sample.actuator.repository.MessageStoreRepository;
+import sample.actuator.store.MappedMessageRepository;
+import sample.actuator.store.MappedMessageStore;
+
+/**
+ * Configuration of the memory-mapped message store, active with service.store.mode=mapped.
+ *
+ * The MappedMessageRepository is registered as the primary MessageStoreRepository, so the
+ * write-behind queue, the caches, the indexes and the export all use it without changes.
+ * The JPA repository and the embedded database stay in place for the health tables.
+ *
+ * Requirements addressed:
+ * - Off-Heap Message Store: Switches message persistence to memory-mapped files
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "service.store", name = "mode", havingValue = "mapped")
+public class MessageStoreConfig {
+
+    /**
+     * Opens the store, replaying the log tail left by an unclean shutdown. It is closed,
+     * and its files forced to disk, when the context shuts down.
+     *
+     * @param serviceProperties Service configuration providing the store settings
+     * @param meterRegistry Registry for the store size gauges
+     * @return the opened store
+     */
+    @Bean(destroyMethod = "close")
+    public MappedMessageStore mappedMessageStore(ServiceProperties serviceProperties,
+                                                 MeterRegistry meterRegistry) {
+        ServiceProperties.Store settings = serviceProperties.getStore();
+        MappedMessageStore store = new MappedMessageStore(Path.of(settings.getDirectory()),
+            settings.getRegionSize(), settings.isSync());
+        Gauge.builder("messages.store.messages", store, MappedMessageStore::count)
+            .description("Messages in the mapped message store")
+            .register(meterRegistry);
+        Gauge.builder("messages.store.log.size", store, MappedMessageStore::logSize)
+            .description("Size of the mapped message log file")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        return store;
+    }
+
+    /**
+     * Replaces the JPA message repository as the store the message components use.
+     *
+     * @param mappedMessageStore the store holding the messages
+     * @return the repository over the store
+     */
+    @Bean
+    @Primary
+    public MessageStoreRepository mappedMessageRepository(MappedMessageStore mappedMessageStore) {
+        return new MappedMessageRepository(mappedMessageStore);
+    }
+}
@@ -0,0 +1,147 @@
+package sample.actuator.config;
+
+// Spring Framework 6.0.0
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+// Spring Boot 3.0.0
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+
+// Micrometer 1.11.0
+import io.micrometer.core.instrument.MeterRegistry;
+
+// HikariCP 5.0.1
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+// Internal components
+import sample.actuator.ServiceProperties;
+import sample.actuator.datasource.ReplicaLagMonitor;
+import sample.actuator.datasource.ReplicaPool;
+import sample.actuator.datasource.ReplicaRoutingDataSource;
+import sample.actuator.health.DataSourcePoolsHealthIndicator;
+
+/**
+ * Configuration of read replica routing, active with service.replicas.enabled=true.
+ *
+ * Replaces the auto-configured DataSource with a LazyConnectionDataSourceProxy over a
+ * ReplicaRoutingDataSource, so JPA, the JdbcTemplate fragments and the transaction manager
+ * all route without changes: @Transactional(readOnly = true) work goes to an in-sync
+ * replica, everything else to the primary. The primary pool is still configured by
+ * spring.datasource.* and spring.datasource.hikari.*; each replica gets its own pool named
+ * replica-1, replica-2 and so on, so hikaricp.* metrics are tagged per pool.
+ *
+ * Requirements addressed:
+ * - Read Replicas: Splits reads and writes across separate connection pools
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "service.replicas", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    /**
+     * Creates the primary pool from spring.datasource.*.
+     *
+     * @param properties Spring Boot DataSource settings
+     * @return the primary pool, named primary unless spring.datasource.hikari.pool-name is set
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * Creates one read-only pool per service.replicas.urls entry, using the credentials of
+     * the primary, and the DataSource routing between them.
+     *
+     * @param primaryDataSource Pool of the primary
+     * @param properties Spring Boot DataSource settings providing the credentials
+     * @param serviceProperties Service configuration providing service.replicas.*
+     * @param meterRegistry Registry for the pool and routing metrics
+     * @return the routing DataSource, which closes the replica pools on shutdown
+     * @throws IllegalStateException if no replica URL is configured
+     */
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             DataSourceProperties properties,
+                                                             ServiceProperties serviceProperties,
+                                                             MeterRegistry meterRegistry) {
+        ServiceProperties.Replicas settings = serviceProperties.getReplicas();
+        if (settings.getUrls().isEmpty()) {
+            throw new IllegalStateException("service.replicas.urls must list at least one replica");
+        }
+        List<ReplicaPool> replicas = new ArrayList<>();
+        for (String url : settings.getUrls()) {
+            HikariDataSource dataSource = DataSourceBuilder.create(getClass().getClassLoader())
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(properties.determineUsername())
+                .password(properties.determinePassword())
+                .build();
+            String name = "replica-" + (replicas.size() + 1);
+            dataSource.setPoolName(name);
+            dataSource.setMaximumPoolSize(settings.getMaxPoolSize());
+            dataSource.setReadOnly(true);
+            // Only DataSource beans are instrumented by Spring Boot
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.add(new ReplicaPool(name, dataSource));
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, meterRegistry);
+    }
+
+    /**
+     * Exposes the routing DataSource to the rest of the application.
+     *
+     * @param replicaRoutingDataSource the routing DataSource
+     * @return a proxy choosing the pool at the first statement of each transaction
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    /**
+     * Starts measuring the replication lag once the application is up.
+     *
+     * @param primaryDataSource Pool of the primary the heartbeat is written to
+     * @param replicaRoutingDataSource DataSource holding the replica pools
+     * @param serviceProperties Service configuration providing service.replicas.*
+     * @param meterRegistry Registry for the replica metrics
+     * @return the lag monitor
+     */
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(HikariDataSource primaryDataSource,
+                                               ReplicaRoutingDataSource replicaRoutingDataSource,
+                                               ServiceProperties serviceProperties, MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(primaryDataSource, replicaRoutingDataSource.getReplicas(), serviceProperties,
+            meterRegistry);
+    }
+
+    /**
+     * Reports the pools on /actuator/health.
+     *
+     * @param primaryDataSource Pool of the primary
+     * @param replicaRoutingDataSource DataSource holding the replica pools
+     * @param replicaLagMonitor Monitor reporting heartbeat failures
+     * @return Health indicator named dataSourcePools
+     */
+    @Bean
+    public DataSourcePoolsHealthIndicator dataSourcePoolsHealthIndicator(HikariDataSource primaryDataSource,
+            ReplicaRoutingDataSource replicaRoutingDataSource, ReplicaLagMonitor replicaLagMonitor) {
+        return new DataSourcePoolsHealthIndicator(primaryDataSource, replicaRoutingDataSource.getReplicas(),
+            replicaLagMonitor);
+    }
+}
@@ -1,12 +1,16 @@
 package sample.actuator.config;
 
 // Spring Security 6.0.0
+import org.springframework.http.HttpMethod;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Bean;
 
+// Spring Boot 3.0.0
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+
 /**
  * Security configuration class that configures Spring Security settings for the application.
  * 
@@ -15,8 +19,11 @@ import org.springframework.context.annotation.Bean;
  * 2. Verify that actuator endpoints are accessible at /actuator/** path
  * 3. Review security settings and adjust based on production requirements
  * 4. Consider implementing proper authentication mechanism instead of basic auth for production
+ *
+ * Servlet runtime mode only; ReactiveSecurityConfig applies the same rules in the reactive profile.
  */
 @Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @EnableWebSecurity
 public class SecurityConfig {
 
@@ -43,9 +50,13 @@ public class SecurityConfig {
             .authorizeHttpRequests(authorize -> authorize
                 // Allow unrestricted access to root endpoint
                 .requestMatchers("/").permitAll()
+                // Allow unrestricted access to the paginated message reads only; the export
+                // stream and any other /messages path require authentication
+                .requestMatchers(HttpMethod.GET, "/messages", "/messages/search").permitAll()
                 // Allow unrestricted access to actuator endpoints
                 .requestMatchers("/actuator/**").permitAll()
-                // Require authentication for all other requests
+                // Require authentication for all other requests, including POST /messages/bulk,
+                // which is neither rate nor concurrency limited
                 .anyRequest().authenticated()
             )
             
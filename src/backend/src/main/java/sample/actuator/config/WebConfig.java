@@ -1,10 +1,62 @@
 package sample.actuator.config;
 
 // Spring Framework 6.0.0 imports
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;  
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.function.SingletonSupplier;
+
+// Spring Boot 3.0.0 imports
+import org.springframework.boot.actuate.autoconfigure.endpoint.web.WebEndpointProperties;
+import org.springframework.boot.actuate.info.InfoEndpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+
+// Jackson 2.15.0
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Micrometer 1.11.0
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Jakarta Servlet 6.0.0
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// Internal components
+import sample.actuator.HelloResponseCache;
+import sample.actuator.ServiceProperties;
+import sample.actuator.filter.AdaptiveConcurrencyLimiter;
+import sample.actuator.filter.ClientRateLimiter;
+import sample.actuator.filter.ConditionalGetFilter;
+import sample.actuator.filter.ConcurrencyLimitFilter;
+import sample.actuator.filter.PrecomputedHelloFilter;
+import sample.actuator.filter.RateLimitFilter;
+import sample.actuator.health.ConcurrencyLimitHealthIndicator;
+import sample.actuator.json.CompiledJsonHttpMessageConverter;
+import sample.actuator.json.JsonWriterRegistry;
+import sample.actuator.metrics.RequestPhaseFilter;
+import sample.actuator.metrics.RequestPhaseInterceptor;
+import sample.actuator.metrics.RequestPhaseMetrics;
+import sample.actuator.metrics.TimedValidator;
+import sample.actuator.metrics.TraceparentSpanContextSupplier;
+import sample.actuator.persistence.MessageContentVersion;
 
 /**
  * Web configuration class for Spring MVC customization with CORS support.
@@ -14,11 +66,34 @@ import org.springframework.web.servlet.config.annotation.CorsRegistry;
  * 2. Review and adjust the CORS max age setting (3600 seconds) based on your requirements
  * 3. Confirm the list of allowed HTTP methods matches your API requirements
  * 4. Ensure the allowed headers list includes all headers required by your application
+ *
+ * Only applies to the servlet runtime mode; the reactive profile uses the WebFlux defaults.
  */
 @Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @EnableWebMvc
 public class WebConfig implements WebMvcConfigurer {
 
+    private final ServiceProperties serviceProperties;
+
+    private final ObjectProvider<RequestPhaseInterceptor> requestPhaseInterceptor;
+
+    private final ObjectProvider<jakarta.validation.Validator> beanValidator;
+
+    /**
+     * Constructs the web configuration.
+     *
+     * @param serviceProperties Service configuration providing service.json.compiled-writers
+     * @param requestPhaseInterceptor Marks the controller and serialization phases
+     * @param beanValidator Bean Validation provider behind @Valid, if on the classpath
+     */
+    public WebConfig(ServiceProperties serviceProperties, ObjectProvider<RequestPhaseInterceptor> requestPhaseInterceptor,
+            ObjectProvider<jakarta.validation.Validator> beanValidator) {
+        this.serviceProperties = serviceProperties;
+        this.requestPhaseInterceptor = requestPhaseInterceptor;
+        this.beanValidator = beanValidator;
+    }
+
     /**
      * Configures CORS mappings for the application endpoints including actuator endpoints.
      * Implements requirement: "Spring Boot 3 Migration - Configures web components for 
@@ -39,4 +114,270 @@ public class WebConfig implements WebMvcConfigurer {
             .allowCredentials(true)  // Enable credentials for secure endpoints
             .maxAge(3600);  // Cache CORS preflight requests for 1 hour
     }
-}
\ No newline at end of file
+
+    /**
+     * Marks the controller and serialization phases of SampleController requests unless
+     * service.request-phases.enabled=false.
+     *
+     * @param registry The interceptor registry to configure
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        RequestPhaseInterceptor interceptor = requestPhaseInterceptor.getIfAvailable();
+        if (serviceProperties.getRequestPhases().isEnabled() && interceptor != null) {
+            registry.addInterceptor(interceptor).addPathPatterns("/", "/foo");
+        }
+    }
+
+    /**
+     * Times @Valid request body validation as the validation phase unless
+     * service.request-phases.enabled=false. Returning null keeps the MVC default.
+     *
+     * @return the timed Bean Validation validator, or null
+     */
+    @Override
+    public Validator getValidator() {
+        jakarta.validation.Validator validator = beanValidator.getIfAvailable();
+        if (!serviceProperties.getRequestPhases().isEnabled() || validator == null) {
+            return null;
+        }
+        return new TimedValidator(new SpringValidatorAdapter(validator));
+    }
+
+    /**
+     * Places the converter for build-time generated JSON writers ahead of the Jackson
+     * converter when service.json.compiled-writers=true. It shares the Jackson converter's
+     * ObjectMapper so both paths produce the same JSON.
+     *
+     * @param converters The converters configured so far
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        if (!serviceProperties.getJson().isCompiledWriters()) {
+            return;
+        }
+        JsonWriterRegistry writers = JsonWriterRegistry.load(getClass().getClassLoader());
+        if (writers.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2HttpMessageConverter jackson) {
+                converters.add(i, new CompiledJsonHttpMessageConverter(jackson.getObjectMapper(), writers));
+                return;
+            }
+        }
+    }
+
+    /**
+     * Registers the pre-serialized GET / filter when service.hello.precomputed=true.
+     * The filter is ordered ahead of the Spring Security chain: GET / is permitted for
+     * everyone, and skipping the chain keeps the probe path free of per-request allocation.
+     *
+     * @param helloResponseCache Cache holding the pre-serialized hello response
+     * @return Registration of the filter for all request paths
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "service.hello", name = "precomputed", havingValue = "true")
+    public FilterRegistrationBean<PrecomputedHelloFilter> precomputedHelloFilter(
+            HelloResponseCache helloResponseCache) {
+        FilterRegistrationBean<PrecomputedHelloFilter> registration =
+            new FilterRegistrationBean<>(new PrecomputedHelloFilter(helloResponseCache));
+        registration.addUrlPatterns("/*");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 2);
+        return registration;
+    }
+
+    /**
+     * Registers the per-client rate limit for the SampleController endpoints unless
+     * service.rate-limit.enabled=false. It runs first, ahead of the Spring Security chain,
+     * so rejected requests cost neither the chain nor request body parsing.
+     *
+     * @param objectMapper Mapper used to write the 429 error body
+     * @param meterRegistry Registry the allowed/rejected counters are registered with
+     * @return Registration of the filter for the SampleController paths
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "service.rate-limit", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        ServiceProperties.RateLimit settings = serviceProperties.getRateLimit();
+        ClientRateLimiter rateLimiter = new ClientRateLimiter(settings.getBurst(),
+            settings.getRequestsPerSecond(), settings.getMaxClients());
+        FilterRegistrationBean<RateLimitFilter> registration =
+            new FilterRegistrationBean<>(new RateLimitFilter(rateLimiter, objectMapper, meterRegistry));
+        registration.addUrlPatterns("/", "/foo");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 4);
+        return registration;
+    }
+
+    /**
+     * Creates the adaptive concurrency limit unless service.concurrency-limit.enabled=false.
+     *
+     * @return the limiter shared by the filter and its health indicator
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "service.concurrency-limit", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+    public AdaptiveConcurrencyLimiter concurrencyLimiter() {
+        ServiceProperties.ConcurrencyLimit settings = serviceProperties.getConcurrencyLimit();
+        return new AdaptiveConcurrencyLimiter(settings.getInitialLimit(), settings.getMinLimit(),
+            settings.getMaxLimit(), settings.getLatencyThreshold(), settings.getBackoffRatio(),
+            settings.getSampleWindow());
+    }
+
+    /**
+     * Registers load shedding for the SampleController and message endpoints. It runs
+     * after the rate limit, so a single client over its rate cannot shrink the limit for
+     * everyone. The streaming /messages/bulk and /messages/export endpoints are not
+     * limited: their duration follows the payload size, not backend latency.
+     *
+     * @param limiter Adaptive limit requests are admitted against
+     * @param objectMapper Mapper used to write the 503 error body
+     * @param meterRegistry Registry the limiter metrics are registered with
+     * @return Registration of the filter for the limited paths
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "service.concurrency-limit", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter,
+            ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+            new FilterRegistrationBean<>(new ConcurrencyLimitFilter(limiter, objectMapper, meterRegistry));
+        registration.addUrlPatterns("/", "/foo", "/messages");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 3);
+        return registration;
+    }
+
+    /**
+     * Reports the concurrency limiter state on /actuator/health.
+     *
+     * @param limiter The limiter to report on
+     * @return Health indicator named concurrencyLimit
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "service.concurrency-limit", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+    public ConcurrencyLimitHealthIndicator concurrencyLimitHealthIndicator(AdaptiveConcurrencyLimiter limiter) {
+        return new ConcurrencyLimitHealthIndicator(limiter);
+    }
+
+    /**
+     * Registers conditional GET handling for GET /, GET /messages and /actuator/info
+     * unless service.http-cache.enabled=false. It runs before every other filter, so a
+     * 304 costs no rate limit token or concurrency permit.
+     *
+     * The hello ETag is the digest HelloResponseCache renders with the body, and the
+     * messages ETag is derived by MessageContentVersion from the stored id range and the
+     * page's cursor and limit. The info contributors of this
+     * application are static, so the info ETag is the digest of the first rendering.
+     *
+     * @param helloResponseCache Cache holding the hello body and its ETag
+     * @param messageContentVersion Source of the ETags of message pages
+     * @param infoEndpoint Info endpoint, if enabled
+     * @param webEndpointProperties Actuator web settings locating the info endpoint
+     * @param objectMapper Mapper used to render the info content for its digest
+     * @return Registration of the filter for the cacheable routes
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "service.http-cache", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+    public FilterRegistrationBean<ConditionalGetFilter> conditionalGetFilter(HelloResponseCache helloResponseCache,
+            MessageContentVersion messageContentVersion, ObjectProvider<InfoEndpoint> infoEndpoint,
+            ObjectProvider<WebEndpointProperties> webEndpointProperties, ObjectMapper objectMapper) {
+        ServiceProperties.HttpCache settings = serviceProperties.getHttpCache();
+        Map<String, ConditionalGetFilter.Route> routes = new LinkedHashMap<>();
+        routes.put("/", new ConditionalGetFilter.Route(() -> helloResponseCache.get().getEtag(),
+            settings.getHelloCacheControl()));
+        routes.put("/messages", new ConditionalGetFilter.Route(
+            (HttpServletRequest request) -> messageContentVersion.getEtag(request.getParameter("cursor"),
+                request.getParameter("limit")),
+            settings.getMessagesCacheControl()));
+        InfoEndpoint info = infoEndpoint.getIfAvailable();
+        WebEndpointProperties endpoints = webEndpointProperties.getIfAvailable();
+        if (info != null && endpoints != null) {
+            String infoPath = endpoints.getBasePath() + "/" + endpoints.getPathMapping().getOrDefault("info", "info");
+            routes.put(infoPath, new ConditionalGetFilter.Route(infoEtag(info, objectMapper),
+                settings.getInfoCacheControl()));
+        }
+        FilterRegistrationBean<ConditionalGetFilter> registration =
+            new FilterRegistrationBean<>(new ConditionalGetFilter(routes));
+        registration.addUrlPatterns(routes.keySet().toArray(String[]::new));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 5);
+        return registration;
+    }
+
+    private static Supplier<String> infoEtag(InfoEndpoint infoEndpoint, ObjectMapper objectMapper) {
+        return SingletonSupplier.of(() -> {
+            try {
+                return "\"" + DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(infoEndpoint.info())) + "\"";
+            }
+            catch (JsonProcessingException ex) {
+                throw new IllegalStateException("Unable to serialize info content", ex);
+            }
+        });
+    }
+
+    /**
+     * Creates the http.server.phase recorder unless service.request-phases.enabled=false.
+     *
+     * @param meterRegistry Registry the phase timers are registered with
+     * @return the recorder shared by the phase filter
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "service.request-phases", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+    public RequestPhaseMetrics requestPhaseMetrics(MeterRegistry meterRegistry) {
+        ServiceProperties.RequestPhases settings = serviceProperties.getRequestPhases();
+        return new RequestPhaseMetrics(meterRegistry, settings.getPercentiles(),
+            settings.getBuckets().toArray(Duration[]::new));
+    }
+
+    /**
+     * Registers phase timing for the SampleController endpoints directly ahead of the
+     * Spring Security chain. Requests rejected or answered by an earlier filter never reach
+     * the controller and are not timed.
+     *
+     * @param requestPhaseMetrics Recorder the completed phases are reported to
+     * @return Registration of the filter for the SampleController paths
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "service.request-phases", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+    public FilterRegistrationBean<RequestPhaseFilter> requestPhaseFilter(RequestPhaseMetrics requestPhaseMetrics) {
+        FilterRegistrationBean<RequestPhaseFilter> registration =
+            new FilterRegistrationBean<>(new RequestPhaseFilter(requestPhaseMetrics));
+        registration.addUrlPatterns("/", "/foo");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+
+    /**
+     * Registers the end of the security phase directly after the Spring Security chain.
+     *
+     * @return Registration of the marker filter for the SampleController paths
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "service.request-phases", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+    public FilterRegistrationBean<RequestPhaseFilter.SecurityCompleted> requestPhaseSecurityCompletedFilter() {
+        FilterRegistrationBean<RequestPhaseFilter.SecurityCompleted> registration =
+            new FilterRegistrationBean<>(new RequestPhaseFilter.SecurityCompleted());
+        registration.addUrlPatterns("/", "/foo");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+
+    /**
+     * Supplies the trace context of timed requests to the Prometheus exemplar sampler, so
+     * the http.server.phase buckets carry the trace id of a recent request.
+     *
+     * @return the W3C traceparent based span context supplier
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "service.request-phases", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+    public TraceparentSpanContextSupplier traceparentSpanContextSupplier() {
+        return new TraceparentSpanContextSupplier();
+    }
+}
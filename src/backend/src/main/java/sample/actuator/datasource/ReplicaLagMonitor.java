@@ -0,0 +1,204 @@
+package sample.actuator.datasource;
+
+// Micrometer 1.11.0
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+
+// SLF4J 2.0.7
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Spring Framework 6.0.0
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import sample.actuator.ServiceProperties;
+import sample.actuator.model.ReplicationHeartbeat;
+
+/**
+ * Measures the replication lag of every replica and decides which replicas serve reads.
+ *
+ * Every service.replicas.heartbeat-interval the current time is written to the
+ * replication_heartbeat row on the primary and read back from each replica. The lag of a
+ * replica is the age of the heartbeat it returns: IN_SYNC up to service.replicas.max-lag,
+ * LAGGING beyond, UNREACHABLE if the row cannot be read. Replicas start UNKNOWN, so reads
+ * made while the application starts go to the primary. If the heartbeat cannot be written,
+ * the replicas fall behind it and leave the rotation once max-lag has passed, since their
+ * freshness can no longer be verified.
+ *
+ * With several application instances every instance writes the heartbeat, so the measured
+ * lag also includes the clock skew between them.
+ *
+ * Exposed metrics:
+ * - datasource.replica.lag{pool}: lag measured by the last heartbeat, NaN if unknown
+ * - datasource.replica.available{pool}: 1 while the replica serves reads, otherwise 0
+ *
+ * Requirements addressed:
+ * - Read Replicas: Keeps replicas that fall behind the primary out of the read rotation
+ */
+public class ReplicaLagMonitor implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private static final String UPDATE_HEARTBEAT_SQL =
+        "UPDATE replication_heartbeat SET beat_at = ? WHERE id = " + ReplicationHeartbeat.ID;
+
+    private static final String INSERT_HEARTBEAT_SQL =
+        "INSERT INTO replication_heartbeat (id, beat_at) VALUES (" + ReplicationHeartbeat.ID + ", ?)";
+
+    private static final String SELECT_HEARTBEAT_SQL =
+        "SELECT beat_at FROM replication_heartbeat WHERE id = " + ReplicationHeartbeat.ID;
+
+    private final JdbcTemplate primary;
+
+    private final List<ReplicaPool> replicas;
+
+    private final List<JdbcTemplate> replicaTemplates = new ArrayList<>();
+
+    private final Duration maxLag;
+
+    private final long intervalMillis;
+
+    private volatile String heartbeatError;
+
+    private volatile boolean running;
+
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Constructs the monitor and registers the per-replica metrics.
+     *
+     * @param primary DataSource of the primary the heartbeat is written to
+     * @param replicas Pools of the replicas the heartbeat is read from
+     * @param serviceProperties Service configuration providing service.replicas.*
+     * @param meterRegistry Registry the replica metrics are published to
+     */
+    public ReplicaLagMonitor(DataSource primary, List<ReplicaPool> replicas, ServiceProperties serviceProperties,
+                             MeterRegistry meterRegistry) {
+        ServiceProperties.Replicas settings = serviceProperties.getReplicas();
+        this.primary = new JdbcTemplate(primary);
+        this.replicas = List.copyOf(replicas);
+        this.maxLag = settings.getMaxLag();
+        this.intervalMillis = settings.getHeartbeatInterval().toMillis();
+        for (ReplicaPool replica : this.replicas) {
+            replicaTemplates.add(new JdbcTemplate(replica.getDataSource()));
+            TimeGauge.builder("datasource.replica.lag", replica, TimeUnit.MILLISECONDS,
+                    pool -> pool.getStatus().getLag() != null ? pool.getStatus().getLag().toMillis() : Double.NaN)
+                .description("Replication lag measured by the last heartbeat")
+                .tag("pool", replica.getName())
+                .register(meterRegistry);
+            Gauge.builder("datasource.replica.available", replica, pool -> pool.isAvailable() ? 1 : 0)
+                .description("Whether the replica serves reads")
+                .tag("pool", replica.getName())
+                .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Writes the heartbeat and probes every replica once. Called periodically by the
+     * scheduler thread.
+     */
+    void run() {
+        writeHeartbeat(Instant.now());
+        for (int i = 0; i < replicas.size(); i++) {
+            probe(replicas.get(i), replicaTemplates.get(i));
+        }
+    }
+
+    /**
+     * Gets the error of the last heartbeat write.
+     *
+     * @return the error message, or null if the last heartbeat was written
+     */
+    public String getHeartbeatError() {
+        return heartbeatError;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("replica-monitor-");
+        threadFactory.setDaemon(true);
+        scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        scheduler.scheduleWithFixedDelay(this::run, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void writeHeartbeat(Instant now) {
+        Timestamp beatAt = Timestamp.from(now);
+        try {
+            if (primary.update(UPDATE_HEARTBEAT_SQL, beatAt) == 0) {
+                try {
+                    primary.update(INSERT_HEARTBEAT_SQL, beatAt);
+                }
+                catch (DuplicateKeyException ex) {
+                    // Inserted concurrently by another instance, whose heartbeat is as recent
+                }
+            }
+            if (heartbeatError != null) {
+                logger.info("Replication heartbeat written to the primary again");
+            }
+            heartbeatError = null;
+        }
+        catch (DataAccessException ex) {
+            if (heartbeatError == null) {
+                logger.warn("Failed to write the replication heartbeat to the primary", ex);
+            }
+            heartbeatError = ex.getMessage();
+        }
+    }
+
+    private void probe(ReplicaPool replica, JdbcTemplate template) {
+        ReplicaPool.Status status;
+        try {
+            Timestamp beatAt = template.queryForObject(SELECT_HEARTBEAT_SQL, Timestamp.class);
+            Duration lag = Duration.between(beatAt.toInstant(), Instant.now());
+            if (lag.isNegative()) {
+                lag = Duration.ZERO;
+            }
+            status = new ReplicaPool.Status(lag.compareTo(maxLag) <= 0 ? ReplicaPool.State.IN_SYNC
+                : ReplicaPool.State.LAGGING, lag, null);
+        }
+        catch (DataAccessException ex) {
+            status = new ReplicaPool.Status(ReplicaPool.State.UNREACHABLE, null, ex.getMessage());
+        }
+        ReplicaPool.State previous = replica.getStatus().getState();
+        replica.setStatus(status);
+        if (status.getState() != previous) {
+            if (status.getState() == ReplicaPool.State.IN_SYNC) {
+                logger.info("Replica {} is in sync, lag {} ms", replica.getName(), status.getLag().toMillis());
+            }
+            else {
+                logger.warn("Replica {} is {}, reads go to the primary: {}", replica.getName(), status.getState(),
+                    status.getLag() != null ? "lag " + status.getLag().toMillis() + " ms" : status.getError());
+            }
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package sample.actuator.datasource;
+
+// HikariCP 5.0.1
+import com.zaxxer.hikari.HikariDataSource;
+
+import java.time.Duration;
+
+/**
+ * Connection pool of one read replica together with its replication state.
+ *
+ * The state is updated by ReplicaLagMonitor after every heartbeat and read by
+ * ReplicaRoutingDataSource for every read-only transaction. It is published as one
+ * immutable Status, so readers never see the lag of one probe with the state of another.
+ *
+ * Requirements addressed:
+ * - Read Replicas: Tracks which replicas may serve reads
+ */
+public class ReplicaPool {
+
+    /**
+     * Replication state of a replica.
+     */
+    public enum State {
+
+        /**
+         * Not probed yet; the replica serves no reads.
+         */
+        UNKNOWN,
+
+        /**
+         * Lag within service.replicas.max-lag; the replica serves reads.
+         */
+        IN_SYNC,
+
+        /**
+         * Lag beyond service.replicas.max-lag; reads go to the primary.
+         */
+        LAGGING,
+
+        /**
+         * The heartbeat could not be read; reads go to the primary.
+         */
+        UNREACHABLE
+    }
+
+    private final String name;
+
+    private final HikariDataSource dataSource;
+
+    private volatile Status status = new Status(State.UNKNOWN, null, null);
+
+    /**
+     * Creates the replica in state UNKNOWN.
+     *
+     * @param name Name of the replica, also the Hikari pool name and routing key
+     * @param dataSource Connection pool of the replica
+     */
+    public ReplicaPool(String name, HikariDataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Gets the name of the replica.
+     *
+     * @return the pool name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the connection pool of the replica.
+     *
+     * @return the pool
+     */
+    public HikariDataSource getDataSource() {
+        return dataSource;
+    }
+
+    /**
+     * Gets the replication state measured by the last heartbeat.
+     *
+     * @return the current status, never null
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Gets whether the replica currently serves reads.
+     *
+     * @return true if the replica is IN_SYNC
+     */
+    public boolean isAvailable() {
+        return status.getState() == State.IN_SYNC;
+    }
+
+    /**
+     * Publishes the result of a heartbeat probe.
+     *
+     * @param status the measured status
+     */
+    void setStatus(Status status) {
+        this.status = status;
+    }
+
+    /**
+     * Replication state, lag and probe error of a replica at one heartbeat.
+     */
+    public static final class Status {
+
+        private final State state;
+
+        private final Duration lag;
+
+        private final String error;
+
+        /**
+         * Creates a status.
+         *
+         * @param state the replication state
+         * @param lag the measured lag, or null if the heartbeat could not be read
+         * @param error the probe error, or null if the probe succeeded
+         */
+        public Status(State state, Duration lag, String error) {
+            this.state = state;
+            this.lag = lag;
+            this.error = error;
+        }
+
+        /**
+         * Gets the replication state.
+         *
+         * @return the state
+         */
+        public State getState() {
+            return state;
+        }
+
+        /**
+         * Gets the measured lag.
+         *
+         * @return the lag, or null if unknown
+         */
+        public Duration getLag() {
+            return lag;
+        }
+
+        /**
+         * Gets the probe error.
+         *
+         * @return the error message, or null if the probe succeeded
+         */
+        public String getError() {
+            return error;
+        }
+    }
+}
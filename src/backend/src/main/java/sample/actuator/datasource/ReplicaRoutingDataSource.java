@@ -0,0 +1,120 @@
+package sample.actuator.datasource;
+
+// Spring Framework 6.0.0
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Micrometer 1.11.0
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.io.Closeable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+/**
+ * DataSource sending read-only transactions to the read replicas and everything else to
+ * the primary.
+ *
+ * The target is chosen when a connection is obtained: inside a transaction marked
+ * readOnly, the next available replica in round-robin order is used; outside a
+ * transaction, in a read-write transaction or when no replica is IN_SYNC, the primary is.
+ * Spring binds the transaction's connection before it publishes the read-only flag, so
+ * this DataSource must be wrapped in a LazyConnectionDataSourceProxy, which defers the
+ * choice to the first statement.
+ *
+ * Exposed metrics:
+ * - datasource.reads{target=replica|primary}: connections obtained for read-only
+ *   transactions, by the pool that served them
+ *
+ * Requirements addressed:
+ * - Read Replicas: Moves read-only transactions off the primary pool
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    /**
+     * Routing key of the primary.
+     */
+    static final String PRIMARY = "primary";
+
+    private final List<ReplicaPool> replicas;
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    private final Counter replicaReads;
+
+    private final Counter primaryReads;
+
+    /**
+     * Creates the routing DataSource and registers its metrics.
+     *
+     * @param primary DataSource of the primary
+     * @param replicas Pools of the replicas, each named uniquely and differently from "primary"
+     * @param meterRegistry Registry the routing metrics are published to
+     * @throws IllegalArgumentException if replicas is empty
+     */
+    public ReplicaRoutingDataSource(DataSource primary, List<ReplicaPool> replicas, MeterRegistry meterRegistry) {
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("At least one replica is required");
+        }
+        this.replicas = List.copyOf(replicas);
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (ReplicaPool replica : this.replicas) {
+            targets.put(replica.getName(), replica.getDataSource());
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        this.replicaReads = readCounter(meterRegistry, "replica");
+        this.primaryReads = readCounter(meterRegistry, "primary");
+    }
+
+    /**
+     * Gets the replica pools.
+     *
+     * @return the replicas, in configuration order
+     */
+    public List<ReplicaPool> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * Closes the replica pools. The primary is owned by the application context.
+     */
+    @Override
+    public void close() {
+        for (ReplicaPool replica : replicas) {
+            replica.getDataSource().close();
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            ReplicaPool replica = replicas.get((start + i) % size);
+            if (replica.isAvailable()) {
+                replicaReads.increment();
+                return replica.getName();
+            }
+        }
+        primaryReads.increment();
+        return PRIMARY;
+    }
+
+    private static Counter readCounter(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("datasource.reads")
+            .description("Connections obtained for read-only transactions")
+            .tag("target", target)
+            .register(meterRegistry);
+    }
+}
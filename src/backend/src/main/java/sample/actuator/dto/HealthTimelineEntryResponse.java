@@ -0,0 +1,45 @@
+package sample.actuator.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import java.time.Instant;
+
+/**
+ * Data Transfer Object (DTO) representing one recorded health state of a component.
+ *
+ * Requirement Addressed: Health History
+ * Location: Technical Specification/Actuator Endpoints/GET /actuator/healthhistory/{component}
+ * Description: Exposes the status and details a component entered, and when
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HealthTimelineEntryResponse {
+
+    /**
+     * Database identifier of the record, usable as the before parameter
+     */
+    private Long id;
+
+    /**
+     * Health status code such as UP or DOWN
+     */
+    private String status;
+
+    /**
+     * Health details as stored, written verbatim as JSON
+     */
+    @JsonRawValue
+    private String details;
+
+    /**
+     * Time of the evaluation that produced this state
+     */
+    private Instant checkedAt;
+}
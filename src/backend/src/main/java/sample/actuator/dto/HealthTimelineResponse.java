@@ -0,0 +1,39 @@
+package sample.actuator.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) representing a bounded page of the health timeline of a component.
+ *
+ * Requirement Addressed: Health History
+ * Location: Technical Specification/Actuator Endpoints/GET /actuator/healthhistory/{component}
+ * Description: Carries recorded health states, newest first, and the id to pass as the
+ * before parameter for the next (older) page, which is null when no older records exist
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HealthTimelineResponse {
+
+    /**
+     * Name of the health indicator
+     */
+    private String component;
+
+    /**
+     * Recorded states of this page, newest first
+     */
+    private List<HealthTimelineEntryResponse> entries;
+
+    /**
+     * Value to pass as the before parameter to fetch the next page, or null on the last page
+     */
+    private Long nextBefore;
+}
@@ -0,0 +1,48 @@
+package sample.actuator.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import java.time.Instant;
+
+/**
+ * Data Transfer Object (DTO) representing one time bucket of the messages table.
+ *
+ * Requirement Addressed: Message Time Buckets
+ * Location: Technical Specification/Actuator Endpoints/GET /actuator/messagebuckets
+ * Description: Exposes the time span of a bucket, the id range it covers and its size
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MessageBucketResponse {
+
+    /**
+     * Inclusive start of the bucket
+     */
+    private Instant start;
+
+    /**
+     * Exclusive end of the bucket
+     */
+    private Instant end;
+
+    /**
+     * Lowest message id in the bucket
+     */
+    private long firstId;
+
+    /**
+     * Highest message id in the bucket
+     */
+    private long lastId;
+
+    /**
+     * Number of messages written to the bucket
+     */
+    private long rows;
+}
@@ -0,0 +1,45 @@
+package sample.actuator.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) representing the bucket catalog of the messages table.
+ *
+ * Requirement Addressed: Message Time Buckets
+ * Location: Technical Specification/Actuator Endpoints/GET /actuator/messagebuckets
+ * Description: Carries the bucket layout, the retention period and every bucket,
+ * oldest first
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MessageBucketsResponse {
+
+    /**
+     * Length of one bucket, HOURS or DAYS
+     */
+    private String granularity;
+
+    /**
+     * Retention period, or null if retention is disabled
+     */
+    private Duration retention;
+
+    /**
+     * Number of messages in all buckets
+     */
+    private long rows;
+
+    /**
+     * Buckets, oldest first
+     */
+    private List<MessageBucketResponse> buckets;
+}
@@ -0,0 +1,38 @@
+package sample.actuator.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import java.time.Instant;
+
+/**
+ * Data Transfer Object (DTO) representing one persisted message in message read endpoints.
+ *
+ * Requirement Addressed: Message Retrieval
+ * Location: Technical Specification/Message Endpoints/GET /messages
+ * Description: Exposes the identifier, content and creation time of a stored message
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MessageItemResponse {
+
+    /**
+     * Database identifier of the message
+     */
+    private Long id;
+
+    /**
+     * The message content
+     */
+    private String value;
+
+    /**
+     * Time the message was accepted
+     */
+    private Instant createdAt;
+}
@@ -0,0 +1,34 @@
+package sample.actuator.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) representing one keyset-paginated page of messages.
+ *
+ * Requirement Addressed: Message Retrieval
+ * Location: Technical Specification/Message Endpoints/GET /messages
+ * Description: Carries a page of messages, newest first, and the opaque cursor for the
+ * next (older) page, which is null when no older messages exist
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MessagePageResponse {
+
+    /**
+     * Messages of this page, newest first
+     */
+    private List<MessageItemResponse> items;
+
+    /**
+     * Cursor to pass as the cursor parameter to fetch the next page, or null on the last page
+     */
+    private String nextCursor;
+}
@@ -5,7 +5,12 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import java.util.Date;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize; // version: 2.15.0
+
+import java.time.Instant;
+
+import sample.actuator.json.CompiledJson;
+import sample.actuator.time.CachedInstantSerializer;
 
 /**
  * Human Tasks:
@@ -22,6 +27,7 @@ import java.util.Date;
  * Description: Implements response format containing message, title and date fields
  * matching the LinkedHashMap structure used in the controller
  */
+@CompiledJson
 @Getter
 @Setter
 @NoArgsConstructor
@@ -40,7 +46,9 @@ public class MessageResponse {
     private String title;
     
     /**
-     * Timestamp indicating when the message was created/processed
+     * Timestamp indicating when the message was created/processed, written like a
+     * java.util.Date with the configured spring.jackson.date-format and time zone
      */
-    private Date date;
+    @JsonSerialize(using = CachedInstantSerializer.class)
+    private Instant date;
 }
\ No newline at end of file
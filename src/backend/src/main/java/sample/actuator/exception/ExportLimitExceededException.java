@@ -0,0 +1,20 @@
+package sample.actuator.exception;
+
+/**
+ * Thrown when an export cannot start because service.persistence.export-max-concurrent
+ * exports are already streaming. Mapped to 429 Too Many Requests by GlobalExceptionHandler.
+ *
+ * Requirements addressed:
+ * - Message Export: Bounds the database connections held by long-running exports
+ */
+public class ExportLimitExceededException extends RuntimeException {
+
+    /**
+     * Constructs the exception with the given detail message.
+     *
+     * @param message the detail message
+     */
+    public ExportLimitExceededException(String message) {
+        super(message);
+    }
+}
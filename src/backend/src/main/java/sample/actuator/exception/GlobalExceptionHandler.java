@@ -2,10 +2,18 @@ package sample.actuator.exception;
 
 // Spring Framework imports - version 6.0.0
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.validation.BindException;
+import org.springframework.validation.BindingResult;
+
+// SLF4J 2.0.7
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -20,10 +28,15 @@ import java.util.stream.Collectors;
  * 1. Ensure logging configuration is properly set up in application.properties/yaml
  * 2. Review and adjust error messages for production use if needed
  * 3. Configure any environment-specific error handling behavior
+ *
+ * The handlers only use ResponseEntity and exception types shared by Spring MVC and WebFlux,
+ * so the same error contract applies in the servlet and the reactive runtime modes.
  */
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
     /**
      * Handles IllegalArgumentException for invalid input parameters.
      * Implements requirement: Error Handling - Consistent error response format
@@ -52,10 +65,27 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Object> handleValidationExceptions(MethodArgumentNotValidException ex) {
+        return validationErrorResponse(ex.getBindingResult());
+    }
+
+    /**
+     * Handles validation exceptions raised by the reactive runtime mode: @Valid failures on
+     * WebFlux request bodies and programmatic MessageValidator failures.
+     * Implements requirement: Error Handling - Same validation error format on both stacks
+     *
+     * @param ex The WebExchangeBindException or BindException instance, both a BindingResult
+     * @return ResponseEntity containing validation error details with HTTP 400 status
+     */
+    @ExceptionHandler({WebExchangeBindException.class, BindException.class})
+    public ResponseEntity<Object> handleBindingExceptions(Exception ex) {
+        return validationErrorResponse((BindingResult) ex);
+    }
+
+    private ResponseEntity<Object> validationErrorResponse(BindingResult bindingResult) {
         Map<String, Object> errorResponse = new HashMap<>();
         
         // Extract and format validation errors
-        Map<String, String> validationErrors = ex.getBindingResult()
+        Map<String, String> validationErrors = bindingResult
             .getFieldErrors()
             .stream()
             .collect(Collectors.toMap(
@@ -73,6 +103,44 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Handles rejection by the write-behind persistence queue when it is at capacity.
+     * Implements requirement: Message Persistence - Backpressure with 429 and Retry-After
+     *
+     * @param ex The MessageQueueFullException instance
+     * @return ResponseEntity containing error details with HTTP 429 status
+     */
+    @ExceptionHandler(MessageQueueFullException.class)
+    public ResponseEntity<Object> handleMessageQueueFullException(MessageQueueFullException ex) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("timestamp", LocalDateTime.now().toString());
+        errorResponse.put("status", HttpStatus.TOO_MANY_REQUESTS.value());
+        errorResponse.put("error", "Too Many Requests");
+        errorResponse.put("message", ex.getMessage());
+        errorResponse.put("errorType", "QUEUE_FULL");
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(errorResponse);
+    }
+
+    /**
+     * Handles rejection of an export while the maximum number of exports is streaming.
+     * Implements requirement: Message Export - Bounded concurrent exports
+     *
+     * The export endpoints only produce NDJSON and Server-Sent Events, so the response has
+     * no error body, which could not be written in either format.
+     *
+     * @param ex The ExportLimitExceededException instance
+     * @return ResponseEntity with HTTP 429 status and Retry-After
+     */
+    @ExceptionHandler(ExportLimitExceededException.class)
+    public ResponseEntity<Object> handleExportLimitExceededException(ExportLimitExceededException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, "5")
+            .build();
+    }
+
     /**
      * Fallback handler for any unhandled exceptions in the application.
      * Implements requirement: Error Handling - General exception handling
@@ -92,9 +160,9 @@ public class GlobalExceptionHandler {
         // In a production environment, you might want to generate and include
         // an error reference number for tracking purposes
         
-        // Log the full exception for debugging while keeping the response generic
-        // Logger would be injected in a production setup
-        ex.printStackTrace(); // Replace with proper logging in production
+        // Log the full exception while keeping the response generic. The event is only
+        // enqueued here; repeated stack traces are suppressed by the JSON encoder
+        logger.error("Unhandled exception", ex);
 
         return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
     }
@@ -0,0 +1,20 @@
+package sample.actuator.exception;
+
+/**
+ * Thrown when a message cannot be accepted because the write-behind persistence queue
+ * is at capacity. Mapped to 429 Too Many Requests by GlobalExceptionHandler.
+ *
+ * Requirements addressed:
+ * - Message Persistence: Signals backpressure from the write-behind pipeline to clients
+ */
+public class MessageQueueFullException extends RuntimeException {
+
+    /**
+     * Constructs the exception with the given detail message.
+     *
+     * @param message the detail message
+     */
+    public MessageQueueFullException(String message) {
+        super(message);
+    }
+}
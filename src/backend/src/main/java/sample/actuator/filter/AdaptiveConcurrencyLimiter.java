@@ -0,0 +1,163 @@
+package sample.actuator.filter;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Concurrency limit that adapts to the observed request latency (AIMD).
+ *
+ * A request is admitted while fewer than the current limit are in flight. Every completion
+ * adjusts the limit:
+ * - slower than the latency threshold, or failed: the limit is multiplied by the backoff
+ *   ratio (multiplicative decrease), at most once per sample window
+ * - otherwise, if at least half the limit was in use: the limit grows by one (additive
+ *   increase)
+ *
+ * One overload episode completes many slow requests at once. Backing off for each of them
+ * would take the limit to the minimum after a single latency spike, so the slow completions
+ * within one sample window count as one overload signal.
+ *
+ * The limit stays between the configured minimum and maximum. When the database slows
+ * down, the limit drops to what it can serve within the threshold and the excess is shed
+ * immediately instead of queueing on request threads.
+ *
+ * Requirements addressed:
+ * - Load Shedding: Bounds the requests waiting on a slow backend well below the thread pool
+ *   size
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    private final long latencyThresholdNanos;
+
+    private final double backoffRatio;
+
+    private final long sampleWindowNanos;
+
+    private final LongSupplier nanoClock;
+
+    private final AtomicLong lastDecreaseNanos;
+
+    private final AtomicInteger limit;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final LongAdder shed = new LongAdder();
+
+    /**
+     * Creates the limiter.
+     *
+     * @param initialLimit limit before any request completed
+     * @param minLimit lowest limit the backoff can reach
+     * @param maxLimit highest limit the increase can reach
+     * @param latencyThreshold latency above which a completion counts as overload
+     * @param backoffRatio factor applied to the limit on overload, between 0 and 1
+     * @param sampleWindow shortest interval between two decreases of the limit
+     * @throws IllegalArgumentException if minLimit <= initialLimit <= maxLimit does not hold
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold,
+                                      double backoffRatio, Duration sampleWindow) {
+        this(initialLimit, minLimit, maxLimit, latencyThreshold, backoffRatio, sampleWindow, System::nanoTime);
+    }
+
+    /**
+     * Creates the limiter reading time from the given clock.
+     *
+     * @param initialLimit limit before any request completed
+     * @param minLimit lowest limit the backoff can reach
+     * @param maxLimit highest limit the increase can reach
+     * @param latencyThreshold latency above which a completion counts as overload
+     * @param backoffRatio factor applied to the limit on overload, between 0 and 1
+     * @param sampleWindow shortest interval between two decreases of the limit
+     * @param nanoClock monotonic time source in nanoseconds
+     * @throws IllegalArgumentException if minLimit <= initialLimit <= maxLimit does not hold
+     */
+    AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, Duration latencyThreshold,
+                               double backoffRatio, Duration sampleWindow, LongSupplier nanoClock) {
+        if (minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Initial limit must be between min limit and max limit");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.sampleWindowNanos = sampleWindow.toNanos();
+        this.nanoClock = nanoClock;
+        // The first overload may back off immediately
+        this.lastDecreaseNanos = new AtomicLong(nanoClock.getAsLong() - sampleWindowNanos);
+        this.limit = new AtomicInteger(initialLimit);
+    }
+
+    /**
+     * Admits a request if fewer than the current limit are in flight. Every admitted
+     * request must be completed with {@link #release(long, boolean)}.
+     *
+     * @return true if the request is admitted, false if it should be shed
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit.get()) {
+                shed.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Completes an admitted request and adjusts the limit to its outcome.
+     *
+     * @param latencyNanos time the request took
+     * @param failed whether the request failed with an exception
+     */
+    public void release(long latencyNanos, boolean failed) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        if (failed || latencyNanos > latencyThresholdNanos) {
+            long now = nanoClock.getAsLong();
+            long lastDecrease = lastDecreaseNanos.get();
+            // Only the completion that opens a new window backs off
+            if (now - lastDecrease >= sampleWindowNanos && lastDecreaseNanos.compareAndSet(lastDecrease, now)) {
+                limit.updateAndGet(current -> Math.max(minLimit, (int) (current * backoffRatio)));
+            }
+        }
+        else if (inFlightAtCompletion * 2 >= limit.get()) {
+            limit.updateAndGet(current -> Math.min(maxLimit, current + 1));
+        }
+    }
+
+    /**
+     * Gets the current concurrency limit.
+     *
+     * @return the number of requests admitted at the same time
+     */
+    public int getLimit() {
+        return limit.get();
+    }
+
+    /**
+     * Gets the number of admitted requests that have not completed yet.
+     *
+     * @return the in-flight request count
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Gets the number of requests shed since startup.
+     *
+     * @return the shed request count
+     */
+    public long getShed() {
+        return shed.sum();
+    }
+}
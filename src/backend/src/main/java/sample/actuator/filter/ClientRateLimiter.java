@@ -0,0 +1,130 @@
+package sample.actuator.filter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-client token buckets with a bounded, LRU-evicted key table.
+ *
+ * Each bucket is kept in its virtual-time form (GCRA): a single AtomicLong holds the
+ * theoretical arrival time of the next request, so admitting a request is one CAS with no
+ * lock and no refill bookkeeping. A client may send a burst of up to the bucket capacity at
+ * once and then one request per emission interval.
+ *
+ * The key table is split into stripes, each an access-ordered LinkedHashMap guarded by its
+ * own lock and holding at most its share of maxClients. The lock only covers the bucket
+ * lookup. An evicted client starts again with a full bucket.
+ *
+ * Requirements addressed:
+ * - Rate Limiting: Caps the request rate of each client with constant memory per client and
+ *   a bounded number of tracked clients
+ */
+public class ClientRateLimiter {
+
+    private static final int STRIPES = 16;
+
+    private final long emissionIntervalNanos;
+
+    private final long burstToleranceNanos;
+
+    private final Stripe[] stripes;
+
+    private final LongSupplier nanoClock;
+
+    /**
+     * Creates the limiter.
+     *
+     * @param burst number of requests a client may send at once
+     * @param requestsPerSecond sustained number of requests per second of a client
+     * @param maxClients maximum number of clients tracked at the same time
+     */
+    public ClientRateLimiter(int burst, double requestsPerSecond, int maxClients) {
+        this(burst, requestsPerSecond, maxClients, System::nanoTime);
+    }
+
+    /**
+     * Creates the limiter reading time from the given clock.
+     *
+     * @param burst number of requests a client may send at once
+     * @param requestsPerSecond sustained number of requests per second of a client
+     * @param maxClients maximum number of clients tracked at the same time
+     * @param nanoClock monotonic time source in nanoseconds
+     */
+    ClientRateLimiter(int burst, double requestsPerSecond, int maxClients, LongSupplier nanoClock) {
+        this.emissionIntervalNanos = Math.max(1, Math.round(1_000_000_000d / requestsPerSecond));
+        this.burstToleranceNanos = emissionIntervalNanos * (burst - 1);
+        this.nanoClock = nanoClock;
+        int stripeCapacity = Math.max(1, (maxClients + STRIPES - 1) / STRIPES);
+        this.stripes = new Stripe[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(stripeCapacity);
+        }
+    }
+
+    /**
+     * Takes a token from the client's bucket if one is available.
+     *
+     * @param client key of the client, such as its address
+     * @return 0 if the request is admitted, otherwise the nanoseconds until a token is available
+     */
+    public long tryAcquire(String client) {
+        AtomicLong arrival = stripeFor(client).bucket(client, nanoClock.getAsLong());
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long theoretical = arrival.get();
+            long wait = theoretical - burstToleranceNanos - now;
+            if (wait > 0) {
+                return wait;
+            }
+            long next = (theoretical - now > 0 ? theoretical : now) + emissionIntervalNanos;
+            if (arrival.compareAndSet(theoretical, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Gets the number of clients currently tracked.
+     *
+     * @return the number of buckets held
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private Stripe stripeFor(String client) {
+        int hash = client.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    /**
+     * One lock-guarded LRU segment of the key table.
+     */
+    private static final class Stripe {
+
+        private final Map<String, AtomicLong> buckets;
+
+        private Stripe(int capacity) {
+            this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, AtomicLong> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+
+        private synchronized AtomicLong bucket(String client, long now) {
+            return buckets.computeIfAbsent(client, key -> new AtomicLong(now));
+        }
+
+        private synchronized int size() {
+            return buckets.size();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package sample.actuator.filter;
+
+// Jakarta Servlet 6.0.0
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Spring Framework 6.0.0
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+// Jackson 2.15.0
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Micrometer 1.11.0
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Sheds requests with 503 Service Unavailable once the adaptive concurrency limit is
+ * reached, and feeds the latency of admitted requests back into the limit.
+ *
+ * The response is written before the request body is read or a controller is invoked, so
+ * a shed request costs a few microseconds of a request thread. Rejections carry
+ * Retry-After and the error format of GlobalExceptionHandler.
+ *
+ * Exposed metrics:
+ * - concurrency.limit: current concurrency limit
+ * - concurrency.inflight: admitted requests not completed yet
+ * - concurrency.shed: requests rejected at the limit
+ *
+ * Requirements addressed:
+ * - Load Shedding: Fails fast with 503 before request threads pile up behind a slow database
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Constructs the filter.
+     *
+     * @param limiter Adaptive limit requests are admitted against
+     * @param objectMapper Mapper used to write the rejection body
+     * @param meterRegistry Registry the limiter metrics are registered with
+     */
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter, ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry) {
+        this.limiter = limiter;
+        this.objectMapper = objectMapper;
+        Gauge.builder("concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+            .description("Current adaptive concurrency limit")
+            .register(meterRegistry);
+        Gauge.builder("concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+            .description("Requests admitted by the concurrency limiter and not completed yet")
+            .register(meterRegistry);
+        FunctionCounter.builder("concurrency.shed", limiter, AdaptiveConcurrencyLimiter::getShed)
+            .description("Requests rejected with 503 at the concurrency limit")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Admits the request against the limit, or writes a 503 response if it is reached.
+     *
+     * @param request the current request
+     * @param response the current response
+     * @param filterChain the chain invoked for admitted requests
+     * @throws IOException if writing the rejection fails
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!limiter.tryAcquire()) {
+            reject(response);
+            return;
+        }
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        }
+        finally {
+            limiter.release(System.nanoTime() - start, failed);
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        Map<String, Object> errorResponse = new LinkedHashMap<>();
+        errorResponse.put("timestamp", LocalDateTime.now().toString());
+        errorResponse.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+        errorResponse.put("error", "Service Unavailable");
+        errorResponse.put("message", "Server is at its concurrency limit");
+        errorResponse.put("errorType", "OVERLOADED");
+
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+}
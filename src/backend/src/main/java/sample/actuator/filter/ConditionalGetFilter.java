@@ -0,0 +1,206 @@
+package sample.actuator.filter;
+
+// Jakarta Servlet 6.0.0
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+// Spring Framework 6.0.0
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Answers conditional GET and HEAD requests with 304 Not Modified before the request
+ * reaches the dispatcher, so neither the controller nor JSON serialization runs for a
+ * client that already holds the current content.
+ *
+ * Each route is an exact servlet path with a source of its current strong ETag and a
+ * Cache-Control policy. Routes with one representation supply a tag rendered once per
+ * content version, so checking If-None-Match costs a string comparison; routes whose
+ * content depends on the query derive the tag from the request. Responses that pass
+ * through get the ETag and Cache-Control headers only if they succeed, so an error is
+ * never labelled with a cacheable validator, and only if the handler did not set its own,
+ * as PrecomputedHelloFilter does for its gzip variant.
+ *
+ * Cross-origin requests are passed through untouched: they need CORS processing, which
+ * happens in the dispatcher.
+ *
+ * Requirements addressed:
+ * - HTTP Response Caching: Saves bandwidth and CPU on the highest-volume GET routes
+ */
+public class ConditionalGetFilter extends OncePerRequestFilter {
+
+    private final Map<String, Route> routes;
+
+    /**
+     * Constructs the filter.
+     *
+     * @param routes Routes keyed by servlet path
+     */
+    public ConditionalGetFilter(Map<String, Route> routes) {
+        this.routes = Map.copyOf(routes);
+    }
+
+    /**
+     * Skips requests other than same-origin GET and HEAD to one of the routes.
+     *
+     * @param request the current request
+     * @return true if the request is not subject to conditional handling
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            return true;
+        }
+        return !routes.containsKey(request.getServletPath()) || request.getHeader(HttpHeaders.ORIGIN) != null;
+    }
+
+    /**
+     * Writes 304 if If-None-Match matches the route's current ETag, otherwise invokes the
+     * chain and adds the validator headers to a successful response.
+     *
+     * @param request the current request
+     * @param response the current response
+     * @param filterChain the chain invoked when the content has to be sent
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Route route = routes.get(request.getServletPath());
+        String etag = route.etag.apply(request);
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            applyHeaders(response, etag, route.cacheControl);
+            return;
+        }
+        filterChain.doFilter(request, new ValidatorHeadersResponse(response, etag, route.cacheControl));
+    }
+
+    /**
+     * Evaluates If-None-Match with the weak comparison RFC 9110 prescribes for it.
+     *
+     * @param ifNoneMatch the header value, may be null
+     * @param etag the current quoted ETag
+     * @return true if the client's copy is current
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        if (ifNoneMatch.equals(etag)) {
+            return true;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void applyHeaders(HttpServletResponse response, String etag, String cacheControl) {
+        response.setHeader(HttpHeaders.ETAG, etag);
+        if (!cacheControl.isEmpty()) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        }
+    }
+
+    /**
+     * A route served with conditional request support.
+     */
+    public static final class Route {
+
+        private final Function<HttpServletRequest, String> etag;
+
+        private final String cacheControl;
+
+        /**
+         * Creates a route with a single representation.
+         *
+         * @param etag supplier of the current quoted strong ETag
+         * @param cacheControl Cache-Control header value, or empty to send none
+         */
+        public Route(Supplier<String> etag, String cacheControl) {
+            this(request -> etag.get(), cacheControl);
+        }
+
+        /**
+         * Creates a route whose representation depends on the request, such as a page
+         * selected by query parameters.
+         *
+         * @param etag function of the request to its current quoted strong ETag
+         * @param cacheControl Cache-Control header value, or empty to send none
+         */
+        public Route(Function<HttpServletRequest, String> etag, String cacheControl) {
+            this.etag = etag;
+            this.cacheControl = cacheControl;
+        }
+    }
+
+    /**
+     * Adds the validator headers when the body is about to be written, once the status
+     * is known, and only for successful responses.
+     */
+    private static final class ValidatorHeadersResponse extends HttpServletResponseWrapper {
+
+        private final String etag;
+
+        private final String cacheControl;
+
+        private boolean applied;
+
+        private ValidatorHeadersResponse(HttpServletResponse response, String etag, String cacheControl) {
+            super(response);
+            this.etag = etag;
+            this.cacheControl = cacheControl;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            applyOnce();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            applyOnce();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            applyOnce();
+            super.flushBuffer();
+        }
+
+        private void applyOnce() {
+            if (applied) {
+                return;
+            }
+            applied = true;
+            if (getStatus() >= HttpServletResponse.SC_BAD_REQUEST || isCommitted()) {
+                return;
+            }
+            if (!containsHeader(HttpHeaders.ETAG)) {
+                setHeader(HttpHeaders.ETAG, etag);
+            }
+            if (!cacheControl.isEmpty() && !containsHeader(HttpHeaders.CACHE_CONTROL)) {
+                setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package sample.actuator.filter;
+
+// Jakarta Servlet 6.0.0
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Spring Framework 6.0.0
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+import sample.actuator.HelloResponseCache;
+
+/**
+ * Serves GET / directly from the pre-serialized body held by HelloResponseCache, bypassing
+ * handler mapping, the controller and Jackson. Writes the cached bytes with precomputed
+ * Content-Length and ETag, and answers a matching If-None-Match with 304 Not Modified.
+ * Clients accepting gzip get the pre-compressed copy when there is one, so the constant
+ * body is compressed once rather than by the connector on every request.
+ *
+ * Requests the cached body cannot answer identically to SampleController.hello() are passed
+ * down the chain unchanged: cross-origin requests (which need CORS processing) and requests
+ * whose Accept header does not allow JSON.
+ *
+ * Requirements addressed:
+ * - Hello Endpoint Performance: Allocation-free pre-serialized response mode for the
+ *   GET / endpoint hit by load balancer probe traffic
+ */
+public class PrecomputedHelloFilter extends OncePerRequestFilter {
+
+    private static final String ROOT_PATH = "/";
+
+    private final HelloResponseCache helloResponseCache;
+
+    /**
+     * Constructs the filter backed by the given response cache.
+     *
+     * @param helloResponseCache Cache holding the pre-serialized hello response
+     */
+    public PrecomputedHelloFilter(HelloResponseCache helloResponseCache) {
+        this.helloResponseCache = helloResponseCache;
+    }
+
+    /**
+     * Skips every request other than a same-origin GET / that accepts JSON.
+     *
+     * @param request the current request
+     * @return true if the request should go through the regular dispatcher path
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!"GET".equals(request.getMethod()) || !ROOT_PATH.equals(request.getServletPath())) {
+            return true;
+        }
+        return request.getHeader(HttpHeaders.ORIGIN) != null || !acceptsJson(request.getHeader(HttpHeaders.ACCEPT));
+    }
+
+    /**
+     * Writes the cached hello response, or 304 if the client already holds the current version.
+     *
+     * @param request the current request
+     * @param response the current response
+     * @param filterChain not invoked, the response is completed here
+     * @throws IOException if writing the body fails
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        HelloResponseCache.Rendered rendered = helloResponseCache.get();
+        boolean gzip = rendered.getGzipBody() != null && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String etag = gzip ? rendered.getGzipEtag() : rendered.getEtag();
+        response.setHeader(HttpHeaders.ETAG, etag);
+        if (rendered.getGzipBody() != null) {
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+
+        // Same weak comparison, lists and * as the ConditionalGetFilter routes
+        if (ConditionalGetFilter.matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        byte[] body = gzip ? rendered.getGzipBody() : rendered.getBody();
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        if (gzip) {
+            // Also stops the connector from compressing the body again
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * Checks Accept-Encoding for gzip without parsing it into quality values. The explicit
+     * opt-out gzip;q=0 is honoured; other spellings of a zero quality are not.
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        return acceptEncoding != null && acceptEncoding.contains("gzip") && !acceptEncoding.contains("gzip;q=0");
+    }
+
+    /**
+     * Checks the Accept header without parsing it into MediaType objects, treating a missing
+     * header as accepting anything.
+     */
+    private static boolean acceptsJson(String accept) {
+        return accept == null
+            || accept.contains(MediaType.APPLICATION_JSON_VALUE)
+            || accept.contains("*/*")
+            || accept.contains("application/*");
+    }
+}
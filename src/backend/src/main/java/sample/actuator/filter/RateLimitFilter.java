@@ -0,0 +1,127 @@
+package sample.actuator.filter;
+
+// Jakarta Servlet 6.0.0
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Spring Framework 6.0.0
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+// Jackson 2.15.0
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Micrometer 1.11.0
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rejects requests to the SampleController endpoints with 429 Too Many Requests once the
+ * client has used up its token bucket.
+ *
+ * Clients are keyed by their remote address. Behind a proxy this is the X-Forwarded-For
+ * client resolved by Tomcat's RemoteIpValve (server.tomcat.remoteip.*), which only trusts
+ * the header from internal proxies. GET, HEAD and OPTIONS are never limited, so probe
+ * traffic on GET / is unaffected. Rejections carry Retry-After and the error format of
+ * GlobalExceptionHandler.
+ *
+ * Exposed metrics:
+ * - ratelimit.requests{result=allowed|rejected}: admission decisions
+ * - ratelimit.clients: clients currently tracked
+ *
+ * Requirements addressed:
+ * - Rate Limiting: Stops a few bursting clients from occupying every request thread
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Set<String> LIMITED_PATHS = Set.of("/", "/foo");
+
+    private static final Set<String> UNLIMITED_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final ClientRateLimiter rateLimiter;
+
+    private final ObjectMapper objectMapper;
+
+    private final Counter allowed;
+
+    private final Counter rejected;
+
+    /**
+     * Constructs the filter.
+     *
+     * @param rateLimiter Per-client token buckets
+     * @param objectMapper Mapper used to write the rejection body
+     * @param meterRegistry Registry the admission counters are registered with
+     */
+    public RateLimitFilter(ClientRateLimiter rateLimiter, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+        this.allowed = Counter.builder("ratelimit.requests")
+            .description("Requests admitted or rejected by the per-client rate limiter")
+            .tag("result", "allowed")
+            .register(meterRegistry);
+        this.rejected = Counter.builder("ratelimit.requests")
+            .description("Requests admitted or rejected by the per-client rate limiter")
+            .tag("result", "rejected")
+            .register(meterRegistry);
+        Gauge.builder("ratelimit.clients", rateLimiter, ClientRateLimiter::size)
+            .description("Clients currently tracked by the rate limiter")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Skips safe methods and paths not served by SampleController.
+     *
+     * @param request the current request
+     * @return true if the request is not subject to rate limiting
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return UNLIMITED_METHODS.contains(request.getMethod()) || !LIMITED_PATHS.contains(request.getServletPath());
+    }
+
+    /**
+     * Admits the request if the client has a token left, otherwise writes a 429 response.
+     *
+     * @param request the current request
+     * @param response the current response
+     * @param filterChain the chain invoked for admitted requests
+     * @throws IOException if writing the rejection fails
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        long waitNanos = rateLimiter.tryAcquire(request.getRemoteAddr());
+        if (waitNanos == 0) {
+            allowed.increment();
+            filterChain.doFilter(request, response);
+            return;
+        }
+        rejected.increment();
+        long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+
+        Map<String, Object> errorResponse = new LinkedHashMap<>();
+        errorResponse.put("timestamp", LocalDateTime.now().toString());
+        errorResponse.put("status", HttpStatus.TOO_MANY_REQUESTS.value());
+        errorResponse.put("error", "Too Many Requests");
+        errorResponse.put("message", "Request rate limit exceeded");
+        errorResponse.put("errorType", "RATE_LIMITED");
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+}
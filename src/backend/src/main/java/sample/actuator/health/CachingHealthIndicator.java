@@ -0,0 +1,188 @@
+package sample.actuator.health;
+
+// Spring Boot Actuator Health - v3.0.0
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+// Micrometer 1.11.0
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * HealthIndicator decorator that serves the last result of a background evaluation of the
+ * wrapped indicator instead of evaluating it on the caller's thread.
+ *
+ * Each refresh runs the delegate on the evaluation pool. If it does not finish within the
+ * timeout, the served result becomes UNKNOWN and the evaluation is interrupted; while an
+ * evaluation is still in flight no further one is started, so a hung indicator costs at
+ * most one pool thread. Results older than the TTL are reported as UNKNOWN so a stalled
+ * scheduler never keeps serving a stale UP.
+ *
+ * Requirements addressed:
+ * - Health Endpoint Performance: Health requests from probes and scrapes never block on
+ *   indicator evaluation
+ */
+public class CachingHealthIndicator implements HealthIndicator {
+
+    private static final Health PENDING = Health.unknown()
+            .withDetail("reason", "Health check has not completed yet")
+            .build();
+
+    private final String name;
+
+    private final HealthIndicator delegate;
+
+    private final long ttlNanos;
+
+    private final Duration timeout;
+
+    private final AtomicBoolean inFlight = new AtomicBoolean();
+
+    private final List<HealthEvaluationListener> listeners = new CopyOnWriteArrayList<>();
+
+    private final Health stale;
+
+    private final Health timedOut;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Creates the decorator.
+     *
+     * @param name name of the indicator, used in metric tags and log messages
+     * @param delegate the indicator to evaluate in the background
+     * @param ttl maximum age of a served result
+     * @param timeout maximum duration of one evaluation
+     */
+    public CachingHealthIndicator(String name, HealthIndicator delegate, Duration ttl, Duration timeout) {
+        this.name = name;
+        this.delegate = delegate;
+        this.ttlNanos = ttl.toNanos();
+        this.timeout = timeout;
+        this.stale = Health.unknown()
+                .withDetail("reason", "Last result is older than " + ttl)
+                .build();
+        this.timedOut = Health.unknown()
+                .withDetail("reason", "Health check timed out after " + timeout)
+                .build();
+    }
+
+    /**
+     * Returns the last evaluated health without evaluating the delegate.
+     *
+     * @return the cached health, or UNKNOWN if none is available or it has expired
+     */
+    @Override
+    public Health health() {
+        Snapshot current = this.snapshot;
+        if (current == null) {
+            return PENDING;
+        }
+        if (System.nanoTime() - current.evaluatedAt > ttlNanos) {
+            return stale;
+        }
+        return current.health;
+    }
+
+    /**
+     * Gets the name of the wrapped indicator.
+     *
+     * @return the indicator name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Registers a listener notified with every background evaluation result.
+     *
+     * @param listener the listener to add
+     */
+    void addListener(HealthEvaluationListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Starts a background evaluation unless one is already in flight, and arms the timeout.
+     *
+     * @param evaluator pool the delegate is evaluated on
+     * @param scheduler scheduler used to enforce the timeout
+     * @param meterRegistry registry evaluation latency is recorded to
+     */
+    void refresh(ExecutorService evaluator, ScheduledExecutorService scheduler, MeterRegistry meterRegistry) {
+        if (!inFlight.compareAndSet(false, true)) {
+            return;
+        }
+        Future<?> evaluation = evaluator.submit(() -> evaluate(meterRegistry));
+        scheduler.schedule(() -> {
+            if (!evaluation.isDone()) {
+                Timer.builder("health.indicator.evaluation")
+                        .tag("indicator", name)
+                        .tag("status", "TIMEOUT")
+                        .register(meterRegistry)
+                        .record(timeout);
+                snapshot = new Snapshot(timedOut, System.nanoTime());
+                notifyListeners(timedOut);
+                evaluation.cancel(true);
+            }
+        }, timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private void evaluate(MeterRegistry meterRegistry) {
+        long start = System.nanoTime();
+        Health health;
+        try {
+            health = delegate.health();
+        }
+        catch (Exception ex) {
+            health = Health.down(ex).build();
+        }
+        finally {
+            inFlight.set(false);
+        }
+        long end = System.nanoTime();
+        if (Thread.currentThread().isInterrupted()) {
+            // Timed out: the UNKNOWN result has already been published
+            return;
+        }
+        // Recorded before publishing, so a caller that sees the result also sees its timing
+        Timer.builder("health.indicator.evaluation")
+                .description("Time taken to evaluate a health indicator in the background")
+                .tag("indicator", name)
+                .tag("status", health.getStatus().getCode())
+                .register(meterRegistry)
+                .record(end - start, TimeUnit.NANOSECONDS);
+        snapshot = new Snapshot(health, end);
+        notifyListeners(health);
+    }
+
+    private void notifyListeners(Health health) {
+        for (HealthEvaluationListener listener : listeners) {
+            listener.onEvaluated(name, health);
+        }
+    }
+
+    /**
+     * Immutable evaluated health together with the time it was produced.
+     */
+    private static final class Snapshot {
+
+        private final Health health;
+
+        private final long evaluatedAt;
+
+        private Snapshot(Health health, long evaluatedAt) {
+            this.health = health;
+            this.evaluatedAt = evaluatedAt;
+        }
+    }
+}
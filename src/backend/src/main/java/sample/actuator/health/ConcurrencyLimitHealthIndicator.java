@@ -0,0 +1,45 @@
+package sample.actuator.health;
+
+// Spring Boot Actuator Health - v3.0.0
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+import sample.actuator.filter.AdaptiveConcurrencyLimiter;
+
+/**
+ * Health indicator reporting the state of the adaptive concurrency limiter.
+ *
+ * Always UP: shedding load is the limiter working as intended, not the service failing.
+ * The details show how far the limit has backed off and how much is being shed.
+ *
+ * Requirements addressed:
+ * - Load Shedding: Exposes the current limit, in-flight and shed counts on
+ *   /actuator/health
+ */
+public class ConcurrencyLimitHealthIndicator implements HealthIndicator {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    /**
+     * Creates the indicator.
+     *
+     * @param limiter the limiter to report on
+     */
+    public ConcurrencyLimitHealthIndicator(AdaptiveConcurrencyLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    /**
+     * Reports the limiter state.
+     *
+     * @return Health object indicating UP with limit, inFlight and shed details
+     */
+    @Override
+    public Health health() {
+        return Health.up()
+                .withDetail("limit", limiter.getLimit())
+                .withDetail("inFlight", limiter.getInFlight())
+                .withDetail("shed", limiter.getShed())
+                .build();
+    }
+}
@@ -0,0 +1,93 @@
+package sample.actuator.health;
+
+// Spring Boot Actuator Health - v3.0.0
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+// HikariCP 5.0.1
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import sample.actuator.datasource.ReplicaLagMonitor;
+import sample.actuator.datasource.ReplicaPool;
+
+/**
+ * Health indicator reporting the primary and replica connection pools.
+ *
+ * DOWN only when the replication heartbeat cannot be written to the primary. A replica
+ * that lags or cannot be reached merely leaves the read rotation, with reads falling back
+ * to the primary, so its state is reported in the details without failing the indicator.
+ *
+ * Requirements addressed:
+ * - Read Replicas: Exposes the state, lag and connection counts of every pool on
+ *   /actuator/health
+ */
+public class DataSourcePoolsHealthIndicator implements HealthIndicator {
+
+    private final HikariDataSource primary;
+
+    private final List<ReplicaPool> replicas;
+
+    private final ReplicaLagMonitor monitor;
+
+    /**
+     * Creates the indicator.
+     *
+     * @param primary Pool of the primary
+     * @param replicas Pools of the replicas
+     * @param monitor Monitor reporting heartbeat failures on the primary
+     */
+    public DataSourcePoolsHealthIndicator(HikariDataSource primary, List<ReplicaPool> replicas,
+                                          ReplicaLagMonitor monitor) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.monitor = monitor;
+    }
+
+    /**
+     * Reports the pools.
+     *
+     * @return Health object indicating UP, or DOWN if the primary rejects the heartbeat, with
+     *         one detail per pool
+     */
+    @Override
+    public Health health() {
+        String heartbeatError = monitor.getHeartbeatError();
+        Map<String, Object> primaryDetails = poolDetails(primary);
+        if (heartbeatError != null) {
+            primaryDetails.put("error", heartbeatError);
+        }
+        Health.Builder builder = heartbeatError == null ? Health.up() : Health.down();
+        builder.withDetail(primary.getPoolName(), primaryDetails);
+        for (ReplicaPool replica : replicas) {
+            ReplicaPool.Status status = replica.getStatus();
+            Map<String, Object> details = poolDetails(replica.getDataSource());
+            details.put("state", status.getState());
+            if (status.getLag() != null) {
+                details.put("lagMillis", status.getLag().toMillis());
+            }
+            if (status.getError() != null) {
+                details.put("error", status.getError());
+            }
+            builder.withDetail(replica.getName(), details);
+        }
+        return builder.build();
+    }
+
+    private static Map<String, Object> poolDetails(HikariDataSource dataSource) {
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("maxPoolSize", dataSource.getMaximumPoolSize());
+        // Null until the pool has handed out its first connection
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        if (pool != null) {
+            details.put("active", pool.getActiveConnections());
+            details.put("idle", pool.getIdleConnections());
+            details.put("pending", pool.getThreadsAwaitingConnection());
+        }
+        return details;
+    }
+}
@@ -0,0 +1,23 @@
+package sample.actuator.health;
+
+// Spring Boot Actuator Health - v3.0.0
+import org.springframework.boot.actuate.health.Health;
+
+/**
+ * Callback notified with the result of each background health indicator evaluation.
+ * Invoked on the evaluation thread, so implementations must return quickly.
+ *
+ * Requirements addressed:
+ * - Health History: Lets components observe health results without evaluating indicators
+ */
+@FunctionalInterface
+public interface HealthEvaluationListener {
+
+    /**
+     * Called after an indicator has been evaluated or has timed out.
+     *
+     * @param indicator name of the evaluated indicator bean
+     * @param health the evaluation result
+     */
+    void onEvaluated(String indicator, Health health);
+}
@@ -0,0 +1,93 @@
+package sample.actuator.health;
+
+// Spring Boot Actuator Endpoint - v3.0.0
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+// Spring Framework 6.0.0
+import org.springframework.data.domain.PageRequest;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import sample.actuator.ServiceProperties;
+import sample.actuator.dto.HealthTimelineEntryResponse;
+import sample.actuator.dto.HealthTimelineResponse;
+import sample.actuator.model.HealthStatusRecord;
+import sample.actuator.repository.HealthStatusRepository;
+
+/**
+ * Actuator endpoint exposing the recorded health timeline of one component at
+ * /actuator/healthhistory/{component}?limit=&before=.
+ *
+ * Every query is an equality lookup on idx_health_component fetching at most limit + 1
+ * rows, the extra row only telling whether an older page exists. The limit is capped by
+ * service.health-history.max-timeline-size.
+ *
+ * Requirements addressed:
+ * - Health History: Bounded, index-backed queries over the recorded health states
+ */
+@Component
+@Endpoint(id = "healthhistory")
+public class HealthHistoryEndpoint {
+
+    private static final int DEFAULT_LIMIT = 50;
+
+    private final HealthStatusRepository healthStatusRepository;
+
+    private final int maxTimelineSize;
+
+    /**
+     * Constructs the endpoint.
+     *
+     * @param healthStatusRepository Repository providing the timeline queries
+     * @param serviceProperties Service configuration providing service.health-history.max-timeline-size
+     */
+    public HealthHistoryEndpoint(HealthStatusRepository healthStatusRepository,
+                                 ServiceProperties serviceProperties) {
+        this.healthStatusRepository = healthStatusRepository;
+        this.maxTimelineSize = serviceProperties.getHealthHistory().getMaxTimelineSize();
+    }
+
+    /**
+     * Returns the recorded health states of a component, newest first.
+     *
+     * @param component name of the health indicator bean
+     * @param limit number of records to return, 50 if absent
+     * @param before only return records with a smaller id, for paging
+     * @return one page of the component's timeline
+     * @throws InvalidEndpointRequestException if the limit is out of range
+     */
+    @ReadOperation
+    public HealthTimelineResponse timeline(@Selector String component, @Nullable Integer limit,
+                                           @Nullable Long before) {
+        int size = (limit != null) ? limit : Math.min(DEFAULT_LIMIT, maxTimelineSize);
+        if (size <= 0 || size > maxTimelineSize) {
+            throw new InvalidEndpointRequestException("Limit must be between 1 and " + maxTimelineSize,
+                "Invalid limit");
+        }
+        PageRequest window = PageRequest.ofSize(size + 1);
+        List<HealthStatusRecord> rows = (before != null)
+            ? healthStatusRepository.findTimelineBefore(component, before, window)
+            : healthStatusRepository.findTimeline(component, window);
+
+        boolean hasMore = rows.size() > size;
+        int count = hasMore ? size : rows.size();
+        List<HealthTimelineEntryResponse> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            HealthStatusRecord record = rows.get(i);
+            entries.add(HealthTimelineEntryResponse.builder()
+                .id(record.getId())
+                .status(record.getStatus())
+                .details(record.getDetails())
+                .checkedAt(record.getLastChecked())
+                .build());
+        }
+        Long nextBefore = hasMore ? entries.get(count - 1).getId() : null;
+        return new HealthTimelineResponse(component, entries, nextBefore);
+    }
+}
@@ -0,0 +1,284 @@
+package sample.actuator.health;
+
+// Spring Boot Actuator Health - v3.0.0
+import org.springframework.boot.actuate.health.Health;
+
+// Spring Framework 6.0.0
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+// Jackson 2.15.0
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+// Micrometer 1.11.0
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// SLF4J 2.0.7
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import sample.actuator.ServiceProperties;
+import sample.actuator.model.HealthStatusRecord;
+import sample.actuator.repository.HealthStatusRepository;
+
+/**
+ * Records the health state of every cached health indicator into the health_status table.
+ *
+ * Evaluation results arrive through HealthEvaluationListener on the health evaluation
+ * threads. A result is compared with the last recorded state of its component and only a
+ * change of status or of its stable details is buffered; a periodic writer flushes the
+ * buffer with one JDBC batch. The health path therefore never touches the database, and a
+ * steady state costs one map lookup per evaluation.
+ *
+ * Numeric details are gauges that move on every evaluation (free disk space, pool
+ * connections, in-flight requests), so they are left out of the comparison. A record
+ * still stores the full details seen when its status or non-numeric details changed.
+ *
+ * The last recorded state is kept in memory only, so the first evaluation after a restart
+ * records every component once.
+ *
+ * Exposed metrics:
+ * - health.history.pending: records waiting to be written
+ * - health.history.flush: flush latency
+ * - health.history.records{result=recorded|unchanged|dropped|failed}: evaluation outcomes
+ *
+ * Requirements addressed:
+ * - Health History: Persists health state changes with batched, change-only writes
+ */
+@Component
+public class HealthHistoryRecorder implements HealthEvaluationListener, SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(HealthHistoryRecorder.class);
+
+    private final HealthStatusRepository healthStatusRepository;
+
+    private final ObjectMapper objectMapper;
+
+    private final boolean enabled;
+
+    private final long flushIntervalMillis;
+
+    private final int maxPending;
+
+    private final BlockingQueue<HealthStatusRecord> pending;
+
+    private final Map<String, RecordedState> lastRecorded = new ConcurrentHashMap<>();
+
+    private final Timer flushTimer;
+
+    private final Counter recordedCounter;
+
+    private final Counter unchangedCounter;
+
+    private final Counter droppedCounter;
+
+    private final Counter failedCounter;
+
+    private volatile boolean running;
+
+    private ScheduledExecutorService writer;
+
+    /**
+     * Constructs the recorder and registers its metrics.
+     *
+     * @param healthStatusRepository Repository used for the batched inserts
+     * @param objectMapper Mapper serializing health details to JSON
+     * @param serviceProperties Service configuration providing the service.health-history.* settings
+     * @param meterRegistry Registry the recorder metrics are published to
+     */
+    public HealthHistoryRecorder(HealthStatusRepository healthStatusRepository, ObjectMapper objectMapper,
+                                 ServiceProperties serviceProperties, MeterRegistry meterRegistry) {
+        ServiceProperties.HealthHistory settings = serviceProperties.getHealthHistory();
+        this.healthStatusRepository = healthStatusRepository;
+        this.objectMapper = objectMapper;
+        this.enabled = settings.isEnabled();
+        this.flushIntervalMillis = settings.getFlushInterval().toMillis();
+        this.maxPending = settings.getMaxPending();
+        this.pending = new ArrayBlockingQueue<>(maxPending);
+
+        Gauge.builder("health.history.pending", pending, BlockingQueue::size)
+            .description("Health records waiting to be written")
+            .register(meterRegistry);
+        this.flushTimer = Timer.builder("health.history.flush")
+            .description("Time taken to write one batch of health records")
+            .register(meterRegistry);
+        this.recordedCounter = recordsCounter(meterRegistry, "recorded");
+        this.unchangedCounter = recordsCounter(meterRegistry, "unchanged");
+        this.droppedCounter = recordsCounter(meterRegistry, "dropped");
+        this.failedCounter = recordsCounter(meterRegistry, "failed");
+    }
+
+    /**
+     * Buffers the evaluated health if it differs from the last recorded state of the indicator.
+     *
+     * @param indicator name of the evaluated indicator bean
+     * @param health the evaluation result
+     */
+    @Override
+    public void onEvaluated(String indicator, Health health) {
+        if (!enabled) {
+            return;
+        }
+        String status = health.getStatus().getCode();
+        String stableDetails = toJson(stableDetails(health.getDetails()));
+        RecordedState previous = lastRecorded.get(indicator);
+        if (previous != null && previous.record.getStatus().equals(status)
+                && Objects.equals(previous.stableDetails, stableDetails)) {
+            unchangedCounter.increment();
+            return;
+        }
+        HealthStatusRecord record = new HealthStatusRecord(indicator, status, toJson(health.getDetails()),
+            Instant.now());
+        if (pending.offer(record)) {
+            lastRecorded.put(indicator, new RecordedState(record, stableDetails));
+        }
+        else {
+            // Not remembered, so the next evaluation offers the change again
+            droppedCounter.increment();
+        }
+    }
+
+    /**
+     * Writes all buffered records with one JDBC batch. Called periodically by the writer
+     * thread and once more on shutdown.
+     */
+    void flush() {
+        List<HealthStatusRecord> batch = new ArrayList<>(Math.min(pending.size(), maxPending));
+        pending.drainTo(batch);
+        if (batch.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            healthStatusRepository.insertBatch(batch);
+            recordedCounter.increment(batch.size());
+        }
+        catch (RuntimeException ex) {
+            failedCounter.increment(batch.size());
+            logger.error("Failed to write {} health record(s)", batch.size(), ex);
+            // Forget the lost states so the next evaluation records them again
+            for (HealthStatusRecord record : batch) {
+                lastRecorded.computeIfPresent(record.getComponent(),
+                    (component, state) -> state.record == record ? null : state);
+            }
+        }
+        finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        if (!enabled) {
+            return;
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("health-history-");
+        threadFactory.setDaemon(true);
+        writer = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        writer.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis,
+            TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the periodic writer and flushes the records still buffered.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        if (writer == null) {
+            return;
+        }
+        writer.shutdown();
+        try {
+            writer.awaitTermination(flushIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Copies the details without their numeric values, recursing into nested maps such as
+     * the per-pool details of dataSourcePools.
+     */
+    @SuppressWarnings("unchecked")
+    static Map<String, Object> stableDetails(Map<String, Object> details) {
+        Map<String, Object> stable = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> detail : details.entrySet()) {
+            Object value = detail.getValue();
+            if (value instanceof Number) {
+                continue;
+            }
+            if (value instanceof Map<?, ?> nested) {
+                Map<String, Object> nestedStable = stableDetails((Map<String, Object>) nested);
+                if (nestedStable.isEmpty()) {
+                    continue;
+                }
+                value = nestedStable;
+            }
+            stable.put(detail.getKey(), value);
+        }
+        return stable;
+    }
+
+    private String toJson(Map<String, Object> details) {
+        if (details.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(details);
+        }
+        catch (JsonProcessingException ex) {
+            // Keep a readable trace of details Jackson cannot serialize, still as valid JSON
+            return TextNode.valueOf(String.valueOf(details)).toString();
+        }
+    }
+
+    /**
+     * The last buffered record of a component with the stable details it was compared by.
+     */
+    private static final class RecordedState {
+
+        private final HealthStatusRecord record;
+
+        private final String stableDetails;
+
+        private RecordedState(HealthStatusRecord record, String stableDetails) {
+            this.record = record;
+            this.stableDetails = stableDetails;
+        }
+    }
+
+    private static Counter recordsCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("health.history.records")
+            .description("Health evaluation results seen by the history recorder")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,131 @@
+package sample.actuator.health;
+
+// Spring Boot Actuator Health - v3.0.0
+import org.springframework.boot.actuate.availability.AvailabilityStateHealthIndicator;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+// Spring Boot 3.0.0
+import org.springframework.boot.context.properties.bind.Binder;
+
+// Spring Framework 6.0.0
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+// Micrometer 1.11.0
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import sample.actuator.ServiceProperties;
+
+/**
+ * Wraps every HealthIndicator bean in a CachingHealthIndicator and drives their background
+ * evaluation once all singletons are instantiated. HealthEvaluationListener beans are
+ * notified of every evaluation result.
+ *
+ * Liveness and readiness state indicators are left alone: they only read an in-memory
+ * state, and Kubernetes expects their changes to be visible immediately.
+ *
+ * Requirements addressed:
+ * - Health Endpoint Performance: Moves indicator evaluation off the /actuator/health
+ *   request path for existing and future indicators alike
+ */
+public class HealthIndicatorCachingPostProcessor implements BeanPostProcessor, SmartInitializingSingleton,
+        DisposableBean, EnvironmentAware, BeanFactoryAware {
+
+    private final List<CachingHealthIndicator> indicators = new CopyOnWriteArrayList<>();
+
+    private ServiceProperties.HealthCache settings;
+
+    private BeanFactory beanFactory;
+
+    private ScheduledExecutorService scheduler;
+
+    private ExecutorService evaluator;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        // Bound directly: a BeanPostProcessor is created before configuration properties beans
+        this.settings = Binder.get(environment)
+                .bindOrCreate("service", ServiceProperties.class)
+                .getHealthCache();
+    }
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+        this.beanFactory = beanFactory;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+        if (!settings.isEnabled() || !(bean instanceof HealthIndicator indicator)
+                || bean instanceof AvailabilityStateHealthIndicator
+                || bean instanceof CachingHealthIndicator) {
+            return bean;
+        }
+        CachingHealthIndicator caching = new CachingHealthIndicator(beanName, indicator,
+                settings.getTtl(), settings.getTimeout());
+        indicators.add(caching);
+        return caching;
+    }
+
+    /**
+     * Starts the periodic background evaluation of all wrapped indicators.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (indicators.isEmpty()) {
+            return;
+        }
+        MeterRegistry meterRegistry = beanFactory.getBeanProvider(MeterRegistry.class)
+                .getIfAvailable(() -> Metrics.globalRegistry);
+        scheduler = Executors.newSingleThreadScheduledExecutor(daemonThreads("health-scheduler-"));
+        evaluator = Executors.newCachedThreadPool(daemonThreads("health-evaluator-"));
+        List<HealthEvaluationListener> listeners = beanFactory.getBeanProvider(HealthEvaluationListener.class)
+                .orderedStream()
+                .toList();
+        long interval = settings.getRefreshInterval().toMillis();
+        for (CachingHealthIndicator indicator : indicators) {
+            listeners.forEach(indicator::addListener);
+            scheduler.scheduleWithFixedDelay(() -> indicator.refresh(evaluator, scheduler, meterRegistry),
+                    0, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Gets the wrapped indicators.
+     *
+     * @return unmodifiable view of the caching indicators created so far
+     */
+    public List<CachingHealthIndicator> getIndicators() {
+        return Collections.unmodifiableList(indicators);
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            evaluator.shutdownNow();
+        }
+    }
+
+    private static CustomizableThreadFactory daemonThreads(String prefix) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(prefix);
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+}
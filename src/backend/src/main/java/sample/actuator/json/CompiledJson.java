@@ -0,0 +1,24 @@
+package sample.actuator.json;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a DTO for which a reflection-free JsonWriter is generated at build time.
+ *
+ * The writer is generated by the json-processor module when the application is built with
+ * the compiled-json profile; without it the annotation has no effect and the DTO keeps
+ * being serialized by the ObjectMapper.
+ *
+ * Requirements addressed:
+ * - Response Serialization Performance: Declares which response types bypass Jackson's
+ *   bean introspection
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface CompiledJson {
+}
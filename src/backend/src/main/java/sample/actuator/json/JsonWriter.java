@@ -0,0 +1,40 @@
+package sample.actuator.json;
+
+// Jackson 2.15.0
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+
+/**
+ * Writes one type as a JSON object straight to a Jackson streaming generator.
+ *
+ * Implementations are generated for @CompiledJson types and registered as services under
+ * META-INF/services/sample.actuator.json.JsonWriter.
+ *
+ * Requirements addressed:
+ * - Response Serialization Performance: Serializes a DTO without reflection or
+ *   per-request serializer lookups
+ *
+ * @param <T> the written type
+ */
+public interface JsonWriter<T> {
+
+    /**
+     * Gets the type this writer serializes.
+     *
+     * @return the exact class written by this writer
+     */
+    Class<T> type();
+
+    /**
+     * Writes the value as a JSON object. Values other than strings, numbers and booleans
+     * are delegated to the generator's codec.
+     *
+     * @param value the value to write, never null
+     * @param generator the generator to write to
+     * @param omitNulls whether the ObjectMapper's default inclusion omits null values; it
+     *                  applies to the properties without a @JsonInclude rule of their own
+     * @throws IOException if writing to the generator fails
+     */
+    void write(T value, JsonGenerator generator, boolean omitNulls) throws IOException;
+}
@@ -0,0 +1,64 @@
+package sample.actuator.json;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * Lookup of JsonWriters by the exact type they write.
+ *
+ * Requirements addressed:
+ * - Response Serialization Performance: Resolves the generated writer of a response type
+ *   with a single map lookup
+ */
+public class JsonWriterRegistry {
+
+    private final Map<Class<?>, JsonWriter<?>> writers = new HashMap<>();
+
+    /**
+     * Creates a registry holding the given writers.
+     *
+     * @param writers the writers to register
+     * @throws IllegalArgumentException if two writers are registered for the same type
+     */
+    public JsonWriterRegistry(Iterable<? extends JsonWriter<?>> writers) {
+        for (JsonWriter<?> writer : writers) {
+            if (this.writers.putIfAbsent(writer.type(), writer) != null) {
+                throw new IllegalArgumentException("Duplicate JSON writer for " + writer.type().getName());
+            }
+        }
+    }
+
+    /**
+     * Creates a registry of the writers generated at build time.
+     *
+     * @param classLoader class loader the writer services are loaded from
+     * @return the registry, empty if the application was built without the compiled-json profile
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static JsonWriterRegistry load(ClassLoader classLoader) {
+        return new JsonWriterRegistry((ServiceLoader) ServiceLoader.load(JsonWriter.class, classLoader));
+    }
+
+    /**
+     * Finds the writer of a type. Subclasses are not matched, since their extra properties
+     * would be silently dropped.
+     *
+     * @param type the type to write
+     * @param <T> the written type
+     * @return the writer, or null if none is registered for exactly this type
+     */
+    @SuppressWarnings("unchecked")
+    public <T> JsonWriter<T> find(Class<T> type) {
+        return (JsonWriter<T>) writers.get(type);
+    }
+
+    /**
+     * Gets whether no writer is registered.
+     *
+     * @return true if the registry is empty
+     */
+    public boolean isEmpty() {
+        return writers.isEmpty();
+    }
+}
@@ -0,0 +1,185 @@
+package sample.actuator.logging;
+
+// Logback 1.4.7
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.StackTraceElementProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.encoder.EncoderBase;
+
+// Spring Boot 3.0.0
+import org.springframework.boot.convert.DurationStyle;
+
+// Jackson 2.15.0
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Encodes logging events as one JSON object per line.
+ *
+ * Each line carries @timestamp, level, thread, logger, message, the MDC if it is not empty
+ * and, for events with an exception, its class, message and stack trace. Repeated stack
+ * traces are throttled per exception fingerprint (the exception types and frames of the
+ * whole cause chain): within stackTraceInterval of a full stack trace, further occurrences
+ * carry the fingerprint and "stackTraceSuppressed": true instead, and the next full stack
+ * trace reports how many were suppressed as "suppressedRepeats".
+ *
+ * The stack trace throttle is not thread-safe. RingBufferAppender only encodes on its
+ * writer thread; with a synchronous appender, events are encoded under its lock.
+ *
+ * Requirements addressed:
+ * - Asynchronous Logging: Structured log output with deduplicated stack traces
+ */
+public class JsonEventEncoder extends EncoderBase<ILoggingEvent> {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    private Duration stackTraceInterval = Duration.ofMinutes(1);
+
+    private int maxFingerprints = 1024;
+
+    private StackTraceThrottle throttle;
+
+    /**
+     * Sets how long repeats of a written stack trace are suppressed.
+     *
+     * @param stackTraceInterval a duration such as 60s or PT1M; zero writes every stack trace
+     * @throws IllegalArgumentException if the value is not a duration or is negative
+     */
+    public void setStackTraceInterval(String stackTraceInterval) {
+        Duration interval = DurationStyle.detectAndParse(stackTraceInterval);
+        if (interval.isNegative()) {
+            throw new IllegalArgumentException("Stack trace interval must not be negative");
+        }
+        this.stackTraceInterval = interval;
+    }
+
+    /**
+     * Sets how many exception fingerprints are tracked at once.
+     *
+     * @param maxFingerprints the maximum, at least 1
+     * @throws IllegalArgumentException if maxFingerprints is less than 1
+     */
+    public void setMaxFingerprints(int maxFingerprints) {
+        if (maxFingerprints < 1) {
+            throw new IllegalArgumentException("Max fingerprints must be at least 1");
+        }
+        this.maxFingerprints = maxFingerprints;
+    }
+
+    /**
+     * Gets the number of stack traces left out as repeats.
+     *
+     * @return the count since the encoder was started
+     */
+    public long getSuppressedStackTraces() {
+        StackTraceThrottle current = this.throttle;
+        return current == null ? 0 : current.getSuppressed();
+    }
+
+    @Override
+    public void start() {
+        this.throttle = new StackTraceThrottle(stackTraceInterval.toMillis(), maxFingerprints,
+            System::currentTimeMillis);
+        super.start();
+    }
+
+    @Override
+    public byte[] headerBytes() {
+        return EMPTY;
+    }
+
+    @Override
+    public byte[] encode(ILoggingEvent event) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        try (JsonGenerator generator = jsonFactory.createGenerator(out, JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeStringField("@timestamp", Instant.ofEpochMilli(event.getTimeStamp()).toString());
+            generator.writeStringField("level", event.getLevel().toString());
+            generator.writeStringField("thread", event.getThreadName());
+            generator.writeStringField("logger", event.getLoggerName());
+            generator.writeStringField("message", event.getFormattedMessage());
+            Map<String, String> mdc = event.getMDCPropertyMap();
+            if (mdc != null && !mdc.isEmpty()) {
+                generator.writeObjectFieldStart("mdc");
+                for (Map.Entry<String, String> entry : mdc.entrySet()) {
+                    generator.writeStringField(entry.getKey(), entry.getValue());
+                }
+                generator.writeEndObject();
+            }
+            IThrowableProxy throwable = event.getThrowableProxy();
+            if (throwable != null) {
+                writeException(generator, throwable);
+            }
+            generator.writeEndObject();
+        }
+        catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        out.write('\n');
+        return out.toByteArray();
+    }
+
+    @Override
+    public byte[] footerBytes() {
+        return EMPTY;
+    }
+
+    private void writeException(JsonGenerator generator, IThrowableProxy throwable) throws IOException {
+        String fingerprint = fingerprint(throwable);
+        long repeats = throttle.acquire(fingerprint);
+        generator.writeObjectFieldStart("exception");
+        generator.writeStringField("class", throwable.getClassName());
+        generator.writeStringField("message", throwable.getMessage());
+        generator.writeStringField("fingerprint", fingerprint);
+        if (repeats == StackTraceThrottle.SUPPRESS) {
+            generator.writeBooleanField("stackTraceSuppressed", true);
+        }
+        else {
+            if (repeats > 0) {
+                generator.writeNumberField("suppressedRepeats", repeats);
+            }
+            generator.writeStringField("stackTrace", ThrowableProxyUtil.asString(throwable));
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Computes a 64-bit FNV-1a hash over the exception types and stack frames of the cause
+     * chain. Messages are left out, since they often contain request-specific values.
+     */
+    static String fingerprint(IThrowableProxy throwable) {
+        long hash = FNV_OFFSET;
+        for (IThrowableProxy current = throwable; current != null; current = current.getCause()) {
+            hash = hash(hash, current.getClassName());
+            for (StackTraceElementProxy frame : current.getStackTraceElementProxyArray()) {
+                StackTraceElement element = frame.getStackTraceElement();
+                hash = hash(hash, element.getClassName());
+                hash = hash(hash, element.getMethodName());
+                hash = (hash ^ element.getLineNumber()) * FNV_PRIME;
+            }
+        }
+        return Long.toHexString(hash);
+    }
+
+    private static long hash(long hash, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+        }
+        return hash;
+    }
+}
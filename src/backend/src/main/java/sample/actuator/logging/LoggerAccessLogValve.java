@@ -0,0 +1,36 @@
+package sample.actuator.logging;
+
+// Apache Tomcat 10.1.8
+import org.apache.catalina.valves.AbstractAccessLogValve;
+
+// SLF4J 2.0.7
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.CharArrayWriter;
+
+/**
+ * Tomcat access log valve that hands each formatted access log line to the
+ * sample.actuator.access logger instead of writing a file.
+ *
+ * Tomcat's AccessLogValve writes on the request thread under a lock. Routed through the
+ * logger, access log lines go through the same RingBufferAppender as application logs and
+ * are written in batches by its writer thread.
+ *
+ * Requirements addressed:
+ * - Asynchronous Logging: Takes access log writes off the request thread
+ */
+public class LoggerAccessLogValve extends AbstractAccessLogValve {
+
+    /**
+     * Name of the logger access log lines are logged to at INFO level.
+     */
+    public static final String LOGGER_NAME = "sample.actuator.access";
+
+    private static final Logger logger = LoggerFactory.getLogger(LOGGER_NAME);
+
+    @Override
+    protected void log(CharArrayWriter message) {
+        logger.info(message.toString());
+    }
+}
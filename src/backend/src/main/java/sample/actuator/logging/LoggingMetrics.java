@@ -0,0 +1,73 @@
+package sample.actuator.logging;
+
+// Logback 1.4.7
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+
+// Micrometer 1.11.0
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * Publishes the state of every RingBufferAppender in the Logback context:
+ * logging.events.dropped (events dropped because the ring buffer was full),
+ * logging.queue.size (events waiting to be written) and, for appenders encoding with
+ * JsonEventEncoder, logging.stacktraces.suppressed. All are tagged with the appender name.
+ *
+ * Requirements addressed:
+ * - Asynchronous Logging: Makes dropped log events visible
+ */
+public class LoggingMetrics implements MeterBinder {
+
+    private final LoggerContext loggerContext;
+
+    /**
+     * Creates the binder.
+     *
+     * @param loggerContext the Logback context whose appenders are published
+     */
+    public LoggingMetrics(LoggerContext loggerContext) {
+        this.loggerContext = loggerContext;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Set<Appender<ILoggingEvent>> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Logger logger : loggerContext.getLoggerList()) {
+            Iterator<Appender<ILoggingEvent>> appenders = logger.iteratorForAppenders();
+            while (appenders.hasNext()) {
+                Appender<ILoggingEvent> appender = appenders.next();
+                if (appender instanceof RingBufferAppender ringBuffer && seen.add(appender)) {
+                    bind(registry, ringBuffer);
+                }
+            }
+        }
+    }
+
+    private static void bind(MeterRegistry registry, RingBufferAppender appender) {
+        FunctionCounter.builder("logging.events.dropped", appender, RingBufferAppender::getDropped)
+            .description("Log events dropped because the appender's ring buffer was full")
+            .tag("appender", appender.getName())
+            .register(registry);
+        Gauge.builder("logging.queue.size", appender, RingBufferAppender::getQueueSize)
+            .description("Log events waiting to be written")
+            .tag("appender", appender.getName())
+            .register(registry);
+        if (appender.getEncoder() instanceof JsonEventEncoder encoder) {
+            FunctionCounter.builder("logging.stacktraces.suppressed", encoder,
+                    JsonEventEncoder::getSuppressedStackTraces)
+                .description("Stack traces left out as repeats of a recently written one")
+                .tag("appender", appender.getName())
+                .register(registry);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package sample.actuator.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded, lock-free ring buffer for many producer threads and a single consumer thread.
+ *
+ * Every slot carries a sequence number telling whose turn it is: a producer claims the next
+ * position with one compare-and-set on the tail and publishes the element by advancing the
+ * slot's sequence; the consumer takes an element once its sequence shows it was published
+ * and hands the slot back for the next lap. A producer never waits: when the slot it would
+ * claim has not been consumed yet, offer fails and the caller decides what to drop.
+ *
+ * Requirements addressed:
+ * - Asynchronous Logging: Hands log events off the request thread without locks
+ *
+ * @param <E> the element type
+ */
+final class MpscRingBuffer<E> {
+
+    private final int capacity;
+
+    private final int mask;
+
+    private final AtomicReferenceArray<E> elements;
+
+    private final AtomicLongArray sequences;
+
+    private final AtomicLong tail = new AtomicLong();
+
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * Creates an empty buffer.
+     *
+     * @param capacity number of slots, a power of two of at least 2
+     * @throws IllegalArgumentException if capacity is not a power of two of at least 2
+     */
+    MpscRingBuffer(int capacity) {
+        // With one slot, a published and a free slot have the same sequence relative to the
+        // tail, so producers would overwrite events the consumer has not taken yet
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two of at least 2");
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.elements = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Adds an element unless the buffer is full. Safe to call from any thread.
+     *
+     * @param element the element to add, not null
+     * @return true if the element was added, false if the buffer is full
+     */
+    boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.lazySet(index, element);
+                    sequences.lazySet(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            }
+            else if (difference < 0) {
+                // The slot still holds the element from the previous lap
+                return false;
+            }
+            else {
+                // Another producer claimed this position first
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Removes the oldest element. Must only be called from the consumer thread.
+     *
+     * @return the oldest element, or null if none has been published yet
+     */
+    E poll() {
+        long position = head.get();
+        int index = (int) (position & mask);
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+        E element = elements.get(index);
+        elements.lazySet(index, null);
+        sequences.lazySet(index, position + capacity);
+        head.lazySet(position + 1);
+        return element;
+    }
+
+    /**
+     * Removes up to max elements in order. Must only be called from the consumer thread.
+     *
+     * @param consumer receives each removed element
+     * @param max maximum number of elements to remove
+     * @return the number of elements removed
+     */
+    int drain(Consumer<? super E> consumer, int max) {
+        int drained = 0;
+        E element;
+        while (drained < max && (element = poll()) != null) {
+            consumer.accept(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * Gets the approximate number of elements in the buffer.
+     *
+     * @return the number of claimed but not yet consumed slots
+     */
+    int size() {
+        return (int) Math.max(0, Math.min(capacity, tail.get() - head.get()));
+    }
+
+    /**
+     * Gets the number of slots.
+     *
+     * @return the capacity
+     */
+    int capacity() {
+        return capacity;
+    }
+}
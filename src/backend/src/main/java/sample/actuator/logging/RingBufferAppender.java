@@ -0,0 +1,217 @@
+package sample.actuator.logging;
+
+// Logback 1.4.7
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.encoder.Encoder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Appender that moves encoding and writing off the logging thread.
+ *
+ * append() only snapshots the event's thread-bound state and offers it to a bounded,
+ * lock-free ring buffer; it never blocks. A single writer thread drains up to batchSize
+ * events at a time, encodes them into one buffer and writes and flushes that buffer to
+ * standard output in a single call. When the ring buffer is full the event is dropped and
+ * counted rather than slowing down the caller; getDropped() exposes the count, and
+ * LoggingMetrics publishes it as logging.events.dropped.
+ *
+ * On stop, events still in the buffer are written for up to maxFlushTime.
+ *
+ * Requirements addressed:
+ * - Asynchronous Logging: Request threads never wait on log output
+ */
+public class RingBufferAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final LongAdder dropped = new LongAdder();
+
+    private Encoder<ILoggingEvent> encoder;
+
+    private int bufferSize = 8192;
+
+    private int batchSize = 256;
+
+    private int maxFlushTime = 1000;
+
+    private OutputStream outputStream = System.out;
+
+    private MpscRingBuffer<ILoggingEvent> buffer;
+
+    private Thread writer;
+
+    private volatile boolean running;
+
+    /**
+     * Sets the encoder events are written with.
+     *
+     * @param encoder the encoder
+     */
+    public void setEncoder(Encoder<ILoggingEvent> encoder) {
+        this.encoder = encoder;
+    }
+
+    /**
+     * Gets the encoder events are written with.
+     *
+     * @return the encoder
+     */
+    public Encoder<ILoggingEvent> getEncoder() {
+        return this.encoder;
+    }
+
+    /**
+     * Sets the ring buffer size. Rounded up to the next power of two, and to at least 2.
+     *
+     * @param bufferSize number of events that can wait to be written
+     */
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Sets the maximum number of events written with one write call.
+     *
+     * @param batchSize the batch size
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Sets how long stop() waits for buffered events to be written.
+     *
+     * @param maxFlushTime the wait in milliseconds
+     */
+    public void setMaxFlushTime(int maxFlushTime) {
+        this.maxFlushTime = maxFlushTime;
+    }
+
+    /**
+     * Replaces standard output as destination, for tests.
+     *
+     * @param outputStream the destination
+     */
+    void setOutputStream(OutputStream outputStream) {
+        this.outputStream = outputStream;
+    }
+
+    /**
+     * Gets the number of events dropped because the ring buffer was full.
+     *
+     * @return the count since creation
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Gets the number of events waiting to be written.
+     *
+     * @return the approximate ring buffer occupancy
+     */
+    public int getQueueSize() {
+        MpscRingBuffer<ILoggingEvent> current = this.buffer;
+        return current == null ? 0 : current.size();
+    }
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (encoder == null) {
+            addError("No encoder set for the appender named [" + name + "].");
+            return;
+        }
+        if (bufferSize < 1 || batchSize < 1) {
+            addError("Buffer size and batch size of the appender named [" + name + "] must be positive.");
+            return;
+        }
+        // The ring needs at least two slots
+        buffer = new MpscRingBuffer<>(ceilingPowerOfTwo(Math.max(2, Math.min(bufferSize, 1 << 30))));
+        running = true;
+        writer = new Thread(this::writeLoop, "log-writer-" + name);
+        writer.setDaemon(true);
+        writer.start();
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(maxFlushTime);
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            addWarn("Log writer did not finish within " + maxFlushTime + " ms; " + buffer.size()
+                + " events were not written.");
+        }
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        // Thread name, MDC and formatted message must be captured on the calling thread
+        event.prepareForDeferredProcessing();
+        if (!buffer.offer(event)) {
+            dropped.increment();
+        }
+    }
+
+    private void writeLoop() {
+        ByteArrayOutputStream batch = new ByteArrayOutputStream(64 * 1024);
+        while (true) {
+            int drained = buffer.drain(event -> encode(event, batch), batchSize);
+            if (drained > 0) {
+                flush(batch);
+            }
+            else if (running) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            else {
+                return;
+            }
+        }
+    }
+
+    private void encode(ILoggingEvent event, ByteArrayOutputStream batch) {
+        try {
+            batch.writeBytes(encoder.encode(event));
+        }
+        catch (RuntimeException ex) {
+            addError("Failed to encode logging event", ex);
+        }
+    }
+
+    private void flush(ByteArrayOutputStream batch) {
+        try {
+            batch.writeTo(outputStream);
+            outputStream.flush();
+        }
+        catch (IOException ex) {
+            addError("Failed to write logging events", ex);
+        }
+        finally {
+            batch.reset();
+        }
+    }
+
+    private static int ceilingPowerOfTwo(int value) {
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+}
@@ -0,0 +1,104 @@
+package sample.actuator.logging;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Decides whether the stack trace of an exception is written in full, keyed by the
+ * exception's fingerprint.
+ *
+ * The first occurrence of a fingerprint writes the full stack trace and opens a window of
+ * the configured interval. Further occurrences within the window are suppressed and only
+ * counted; the first occurrence after the window writes the full stack trace again along
+ * with the number of repeats suppressed in between. Fingerprints are kept in an LRU map of
+ * bounded size, so a flood of distinct exceptions degrades to writing every stack trace
+ * instead of growing without bound.
+ *
+ * Not thread-safe: only the log writer thread calls {@link #acquire(String)}.
+ *
+ * Requirements addressed:
+ * - Asynchronous Logging: Rate-limits repeated stack traces during error storms
+ */
+final class StackTraceThrottle {
+
+    /**
+     * Returned by acquire when the stack trace must not be written.
+     */
+    static final long SUPPRESS = -1;
+
+    private final long intervalMillis;
+
+    private final LongSupplier clock;
+
+    private final Map<String, Window> windows;
+
+    private final LongAdder suppressed = new LongAdder();
+
+    /**
+     * Creates the throttle.
+     *
+     * @param intervalMillis length of the window after a full stack trace, in milliseconds
+     * @param maxFingerprints maximum number of fingerprints tracked at once
+     * @param clock source of the current time in milliseconds
+     */
+    StackTraceThrottle(long intervalMillis, int maxFingerprints, LongSupplier clock) {
+        this.intervalMillis = intervalMillis;
+        this.clock = clock;
+        this.windows = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Window> eldest) {
+                return size() > maxFingerprints;
+            }
+        };
+    }
+
+    /**
+     * Records an occurrence of the fingerprint.
+     *
+     * @param fingerprint fingerprint of the exception
+     * @return SUPPRESS if the stack trace must be left out, otherwise the number of
+     *         occurrences suppressed since the stack trace was last written
+     */
+    long acquire(String fingerprint) {
+        long now = clock.getAsLong();
+        Window window = windows.get(fingerprint);
+        if (window == null) {
+            windows.put(fingerprint, new Window(now));
+            return 0;
+        }
+        if (now - window.startMillis >= intervalMillis) {
+            long repeats = window.suppressed;
+            window.startMillis = now;
+            window.suppressed = 0;
+            return repeats;
+        }
+        window.suppressed++;
+        suppressed.increment();
+        return SUPPRESS;
+    }
+
+    /**
+     * Gets the total number of suppressed stack traces.
+     *
+     * @return the count since creation, safe to read from any thread
+     */
+    long getSuppressed() {
+        return suppressed.sum();
+    }
+
+    /**
+     * Window opened by the last full stack trace of a fingerprint.
+     */
+    private static final class Window {
+
+        private long startMillis;
+
+        private long suppressed;
+
+        private Window(long startMillis) {
+            this.startMillis = startMillis;
+        }
+    }
+}
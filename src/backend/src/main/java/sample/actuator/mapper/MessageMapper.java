@@ -2,8 +2,20 @@ package sample.actuator.mapper;
 
 // MapStruct v1.5.3.Final
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
-import java.util.Date;
+// Spring Framework 6.0.0
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+
+import sample.actuator.SampleController;
 import sample.actuator.model.Message;
 import sample.actuator.dto.MessageResponse;
 
@@ -17,16 +29,46 @@ import sample.actuator.dto.MessageResponse;
  */
 
 /**
- * MapStruct mapper interface for converting between Message and MessageResponse objects.
+ * MapStruct mapper converting accepted messages into MessageResponse objects.
  * 
  * Requirement Addressed: Message Response Mapping
  * Location: Technical Specification/SampleController/POST Endpoint
  * Description: Maps Message model objects to MessageResponse DTOs with required fields 
  * for the response format, ensuring proper transformation of validated message content 
  * along with static title and current timestamp
+ *
+ * The implementation (MessageMapperImpl) is generated at compile time: the mappings are
+ * plain getter and builder calls, and list mappings allocate their result presized to the
+ * source list. Timestamps are taken from the injected Clock, the CoarseClock bean in the
+ * application, so mapping does not read the system clock or allocate a Date per response.
  */
 @Mapper(componentModel = "spring")
-public interface MessageMapper {
+public abstract class MessageMapper {
+
+    /**
+     * The mappings shared by every source of a MessageResponse. The sources have no common
+     * type, so @InheritConfiguration cannot apply; MapStruct expands this composed
+     * annotation on each mapping method instead.
+     */
+    @Retention(RetentionPolicy.CLASS)
+    @Target(ElementType.METHOD)
+    @Mapping(target = "message", source = "value")
+    @Mapping(target = "title", constant = "Hello Home")
+    @Mapping(target = "date", expression = "java(now())")
+    protected @interface MessageResponseMapping {
+    }
+
+    private Clock clock = Clock.systemUTC();
+
+    /**
+     * Sets the clock the response timestamp is taken from.
+     *
+     * @param clock the clock, the system UTC clock if never set
+     */
+    @Autowired
+    public void setClock(Clock clock) {
+        this.clock = clock;
+    }
 
     /**
      * Maps a validated Message object to a MessageResponse DTO with required fields.
@@ -36,17 +78,34 @@ public interface MessageMapper {
      * - Sets current timestamp
      *
      * @param message The validated Message object to map
-     * @return MessageResponse containing mapped data with required fields
+     * @return MessageResponse containing mapped data with required fields, or null for a null message
+     */
+    @MessageResponseMapping
+    public abstract MessageResponse toMessageResponse(Message message);
+
+    /**
+     * Maps the request body of POST / to its response, like toMessageResponse(Message).
+     *
+     * @param message The validated request body
+     * @return MessageResponse containing mapped data with required fields, or null for a null message
+     */
+    @MessageResponseMapping
+    public abstract MessageResponse toMessageResponse(SampleController.Message message);
+
+    /**
+     * Maps a list of messages, preserving their order.
+     *
+     * @param messages The messages to map
+     * @return list of the same size as messages, or null for a null list
+     */
+    public abstract List<MessageResponse> toMessageResponses(List<Message> messages);
+
+    /**
+     * Gets the response timestamp.
+     *
+     * @return the current instant of the clock
      */
-    default MessageResponse toMessageResponse(Message message) {
-        if (message == null) {
-            return null;
-        }
-        
-        return MessageResponse.builder()
-                .message(message.getValue())
-                .title("Hello Home")
-                .date(new Date())
-                .build();
+    protected Instant now() {
+        return clock.instant();
     }
-}
\ No newline at end of file
+}
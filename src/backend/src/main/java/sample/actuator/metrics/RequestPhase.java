@@ -0,0 +1,60 @@
+package sample.actuator.metrics;
+
+/**
+ * Phases of a SampleController request that are timed separately.
+ *
+ * The controller phase runs from handler dispatch until the return value is handed to the
+ * message converter. It therefore contains request body binding and the validation,
+ * mapping and queue phases, which are also reported on their own. Persisting the message
+ * happens later on the write-behind thread and is timed by messages.writebehind.flush.
+ *
+ * Requirements addressed:
+ * - Request Latency Breakdown: Names the phases latency histograms are recorded for
+ */
+public enum RequestPhase {
+
+    /**
+     * Spring Security filter chain.
+     */
+    SECURITY("security"),
+
+    /**
+     * Bean Validation of the @Valid request body.
+     */
+    VALIDATION("validation"),
+
+    /**
+     * Handler invocation up to the response body write.
+     */
+    CONTROLLER("controller"),
+
+    /**
+     * MessageMapper conversion to the response DTO.
+     */
+    MAPPING("mapping"),
+
+    /**
+     * Hand-off of the message to the write-behind queue.
+     */
+    QUEUE("queue"),
+
+    /**
+     * Response body serialization and write.
+     */
+    SERIALIZATION("serialization");
+
+    private final String tagValue;
+
+    RequestPhase(String tagValue) {
+        this.tagValue = tagValue;
+    }
+
+    /**
+     * Gets the value of the phase tag.
+     *
+     * @return the lower-case phase name
+     */
+    public String getTagValue() {
+        return tagValue;
+    }
+}
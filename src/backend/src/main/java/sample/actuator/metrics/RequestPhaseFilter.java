@@ -0,0 +1,76 @@
+package sample.actuator.metrics;
+
+// Jakarta Servlet 6.0.0
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Spring Framework 6.0.0
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Times the phases of SampleController requests. Registered directly ahead of the Spring
+ * Security chain: it binds RequestPhaseTimings to the request thread and, once the
+ * response is complete, records the collected phases through RequestPhaseMetrics.
+ *
+ * The phases are recorded while the timings are still bound, so the Prometheus exemplar
+ * sampler can attach the request's trace id to the histogram buckets.
+ *
+ * Requirements addressed:
+ * - Request Latency Breakdown: Scopes phase timing to one request
+ */
+public class RequestPhaseFilter extends OncePerRequestFilter {
+
+    /**
+     * W3C Trace Context request header.
+     */
+    static final String TRACEPARENT = "traceparent";
+
+    private final RequestPhaseMetrics requestPhaseMetrics;
+
+    /**
+     * Constructs the filter.
+     *
+     * @param requestPhaseMetrics Recorder the completed phases are reported to
+     */
+    public RequestPhaseFilter(RequestPhaseMetrics requestPhaseMetrics) {
+        this.requestPhaseMetrics = requestPhaseMetrics;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestPhaseTimings timings = RequestPhaseTimings.begin(request.getHeader(TRACEPARENT));
+        try {
+            filterChain.doFilter(request, response);
+        }
+        finally {
+            try {
+                requestPhaseMetrics.record(request.getMethod(), request.getServletPath(), timings);
+            }
+            finally {
+                RequestPhaseTimings.end();
+            }
+        }
+    }
+
+    /**
+     * Ends the security phase. Registered directly after the Spring Security chain, so the
+     * phase covers exactly the chain.
+     */
+    public static class SecurityCompleted extends OncePerRequestFilter {
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                        FilterChain filterChain) throws ServletException, IOException {
+            RequestPhaseTimings timings = RequestPhaseTimings.current();
+            if (timings != null) {
+                timings.securityCompleted();
+            }
+            filterChain.doFilter(request, response);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package sample.actuator.metrics;
+
+// Jakarta Servlet 6.0.0
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Spring Framework 6.0.0
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+// Spring Boot 3.0.0
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+
+/**
+ * Marks the controller and serialization phase boundaries in Spring MVC.
+ *
+ * As interceptor, preHandle starts the controller phase and afterCompletion ends the
+ * serialization phase. As response body advice, beforeBodyWrite is the boundary between
+ * them: the handler (or an exception handler) has returned and the message converter is
+ * about to write the body.
+ *
+ * Requirements addressed:
+ * - Request Latency Breakdown: Separates handler time from response serialization
+ *
+ * WebConfig registers the interceptor for the SampleController paths; on other requests
+ * no timings are bound and every callback returns immediately.
+ */
+@ControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class RequestPhaseInterceptor implements HandlerInterceptor, ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestPhaseTimings timings = RequestPhaseTimings.current();
+        if (timings != null) {
+            timings.handlerStarted();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestPhaseTimings timings = RequestPhaseTimings.current();
+        if (timings != null) {
+            timings.bodyWriteStarted();
+        }
+        return body;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        RequestPhaseTimings timings = RequestPhaseTimings.current();
+        if (timings != null) {
+            timings.requestCompleted();
+        }
+    }
+}
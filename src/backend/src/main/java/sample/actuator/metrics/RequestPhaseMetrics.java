@@ -0,0 +1,106 @@
+package sample.actuator.metrics;
+
+// Micrometer 1.11.0
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Records the phase durations of completed requests into the http.server.phase timers.
+ *
+ * One timer exists per method, URI and phase. Each publishes client-side percentiles
+ * computed from an HdrHistogram over a sliding window, and cumulative buckets at the
+ * configured boundaries so Prometheus can aggregate quantiles across instances. With a
+ * Prometheus registry that has an exemplar sampler, the buckets carry the trace id of a
+ * recent request as exemplar.
+ *
+ * A timer is created the first time its phase runs for a method and URI, so phases an
+ * endpoint never goes through publish no series. Afterwards it is looked up without
+ * allocation.
+ *
+ * Requirements addressed:
+ * - Request Latency Breakdown: Exposes per-endpoint, per-phase latency distributions
+ */
+public class RequestPhaseMetrics {
+
+    static final String METRIC_NAME = "http.server.phase";
+
+    private static final Set<String> KNOWN_METHODS =
+        Set.of("GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS", "TRACE");
+
+    private static final RequestPhase[] PHASES = RequestPhase.values();
+
+    private final MeterRegistry meterRegistry;
+
+    private final double[] percentiles;
+
+    private final Duration[] buckets;
+
+    private final Map<String, Map<String, AtomicReferenceArray<Timer>>> timers = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the recorder.
+     *
+     * @param meterRegistry registry the timers are registered with
+     * @param percentiles client-side percentiles to publish, between 0 and 1
+     * @param buckets histogram bucket boundaries to publish
+     */
+    public RequestPhaseMetrics(MeterRegistry meterRegistry, double[] percentiles, Duration[] buckets) {
+        this.meterRegistry = meterRegistry;
+        this.percentiles = percentiles.clone();
+        this.buckets = buckets.clone();
+    }
+
+    /**
+     * Records every phase that ran during the request.
+     *
+     * @param method HTTP method of the request
+     * @param uri servlet path of the endpoint
+     * @param timings the phase durations of the request
+     */
+    public void record(String method, String uri, RequestPhaseTimings timings) {
+        String methodTag = KNOWN_METHODS.contains(method) ? method : "OTHER";
+        AtomicReferenceArray<Timer> phaseTimers = timersFor(methodTag, uri);
+        for (int i = 0; i < PHASES.length; i++) {
+            long duration = timings.getDuration(PHASES[i]);
+            if (duration >= 0) {
+                Timer timer = phaseTimers.get(i);
+                if (timer == null) {
+                    // Registration is idempotent, so concurrent first requests share one timer
+                    timer = register(methodTag, uri, PHASES[i]);
+                    phaseTimers.set(i, timer);
+                }
+                timer.record(duration, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private AtomicReferenceArray<Timer> timersFor(String method, String uri) {
+        Map<String, AtomicReferenceArray<Timer>> byMethod = timers.get(uri);
+        if (byMethod == null) {
+            byMethod = timers.computeIfAbsent(uri, key -> new ConcurrentHashMap<>());
+        }
+        AtomicReferenceArray<Timer> phaseTimers = byMethod.get(method);
+        if (phaseTimers == null) {
+            phaseTimers = byMethod.computeIfAbsent(method, key -> new AtomicReferenceArray<>(PHASES.length));
+        }
+        return phaseTimers;
+    }
+
+    private Timer register(String method, String uri, RequestPhase phase) {
+        return Timer.builder(METRIC_NAME)
+            .description("Time spent in one phase of a SampleController request")
+            .tag("method", method)
+            .tag("uri", uri)
+            .tag("phase", phase.getTagValue())
+            .publishPercentiles(percentiles)
+            .serviceLevelObjectives(buckets)
+            .register(meterRegistry);
+    }
+}
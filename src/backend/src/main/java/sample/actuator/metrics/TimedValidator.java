@@ -0,0 +1,59 @@
+package sample.actuator.metrics;
+
+// Spring Framework 6.0.0
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+
+/**
+ * Validator decorator reporting the time spent validating as the validation phase of the
+ * current request.
+ *
+ * Requirements addressed:
+ * - Request Latency Breakdown: Times @Valid request body validation
+ */
+public class TimedValidator implements SmartValidator {
+
+    private final SmartValidator delegate;
+
+    /**
+     * Creates the decorator.
+     *
+     * @param delegate the validator doing the actual validation
+     */
+    public TimedValidator(SmartValidator delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return delegate.supports(clazz);
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        long start = System.nanoTime();
+        try {
+            delegate.validate(target, errors);
+        }
+        finally {
+            RequestPhaseTimings.record(RequestPhase.VALIDATION, start);
+        }
+    }
+
+    @Override
+    public void validate(Object target, Errors errors, Object... validationHints) {
+        long start = System.nanoTime();
+        try {
+            delegate.validate(target, errors, validationHints);
+        }
+        finally {
+            RequestPhaseTimings.record(RequestPhase.VALIDATION, start);
+        }
+    }
+
+    @Override
+    public void validateValue(Class<?> targetType, String fieldName, Object value, Errors errors,
+                              Object... validationHints) {
+        delegate.validateValue(targetType, fieldName, value, errors, validationHints);
+    }
+}
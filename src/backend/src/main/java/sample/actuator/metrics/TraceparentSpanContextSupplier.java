@@ -0,0 +1,65 @@
+package sample.actuator.metrics;
+
+// Prometheus Java Client 0.16.0
+import io.prometheus.client.exemplars.tracer.common.SpanContextSupplier;
+
+/**
+ * Supplies the trace context of the current SampleController request to the Prometheus
+ * exemplar sampler, taken from its W3C traceparent header
+ * (version-traceid-parentid-flags).
+ *
+ * Only requests that arrive with a valid, sampled traceparent get exemplars: a trace id
+ * made up here would not lead to a trace anywhere.
+ *
+ * Requirements addressed:
+ * - Request Latency Breakdown: Links histogram buckets to the traces of requests in them
+ */
+public class TraceparentSpanContextSupplier implements SpanContextSupplier {
+
+    private static final int LENGTH = 55;
+
+    @Override
+    public String getTraceId() {
+        String traceparent = current();
+        return traceparent == null ? null : traceparent.substring(3, 35);
+    }
+
+    @Override
+    public String getSpanId() {
+        String traceparent = current();
+        return traceparent == null ? null : traceparent.substring(36, 52);
+    }
+
+    @Override
+    public boolean isSampled() {
+        String traceparent = current();
+        return traceparent != null && (Character.digit(traceparent.charAt(54), 16) & 1) == 1;
+    }
+
+    /**
+     * Gets the traceparent of the current request if it is well-formed.
+     */
+    private static String current() {
+        RequestPhaseTimings timings = RequestPhaseTimings.current();
+        String traceparent = timings == null ? null : timings.getTraceparent();
+        return isValid(traceparent) ? traceparent : null;
+    }
+
+    static boolean isValid(String traceparent) {
+        if (traceparent == null || traceparent.length() < LENGTH
+                || traceparent.charAt(2) != '-' || traceparent.charAt(35) != '-' || traceparent.charAt(52) != '-') {
+            return false;
+        }
+        if (traceparent.startsWith("00") && traceparent.length() != LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < LENGTH; i++) {
+            if (i != 2 && i != 35 && i != 52 && Character.digit(traceparent.charAt(i), 16) < 0) {
+                return false;
+            }
+        }
+        return !traceparent.startsWith("ff")
+            && !traceparent.regionMatches(3, "00000000000000000000000000000000", 0, 32)
+            && !traceparent.regionMatches(36, "0000000000000000", 0, 16);
+    }
+}
@@ -0,0 +1,80 @@
+package sample.actuator.model;
+
+// Jakarta Persistence v3.1.0
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+// lombok v1.18.22
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Model class representing one recorded health state of a health indicator.
+ *
+ * Addresses requirement: Health History
+ * - Mapped to the health_status table created by V1__init.sql, including its
+ *   idx_health_component index, so schema generation in dev and test matches the migration
+ * - A row is only written when the status or details of a component change, so
+ *   last_checked is the time the component entered this state
+ */
+@Entity
+@Table(name = "health_status", indexes = @Index(name = "idx_health_component", columnList = "component"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class HealthStatusRecord {
+
+    /**
+     * Database generated identifier (health_status.id AUTO_INCREMENT).
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Name of the health indicator bean (health_status.component).
+     */
+    @Column(name = "component", nullable = false, length = 100)
+    private String component;
+
+    /**
+     * Health status code such as UP, DOWN or UNKNOWN (health_status.status).
+     */
+    @Column(name = "status", nullable = false, length = 20)
+    private String status;
+
+    /**
+     * Health details serialized as JSON (health_status.details).
+     */
+    @Column(name = "details", columnDefinition = "TEXT")
+    private String details;
+
+    /**
+     * Time the evaluation producing this state completed (health_status.last_checked).
+     */
+    @Column(name = "last_checked")
+    private Instant lastChecked;
+
+    /**
+     * Creates a health record.
+     *
+     * @param component name of the health indicator
+     * @param status health status code
+     * @param details health details as JSON, may be null
+     * @param lastChecked time of the evaluation
+     */
+    public HealthStatusRecord(String component, String status, String details, Instant lastChecked) {
+        this.component = component;
+        this.status = status;
+        this.details = details;
+        this.lastChecked = lastChecked;
+    }
+}
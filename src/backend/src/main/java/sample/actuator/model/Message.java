@@ -1,30 +1,120 @@
 package sample.actuator.model;
 
-// javax.validation.constraints v6.0.0
-import javax.validation.constraints.NotBlank;
+// Jakarta Persistence v3.1.0
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+
+// Jakarta Validation v3.0.2
+import jakarta.validation.constraints.NotBlank;
 
 // lombok v1.18.22
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
+
 /**
  * Model class representing a message with validation constraints for use in REST endpoints.
- * 
+ *
  * Addresses requirement: Message Validation
  * Location: Technical Specification/SampleController/POST Endpoint
  * - Implements message model with validation constraints ensuring message value is not blank
  * - Used by the POST endpoint in SampleController for handling message submissions
+ *
+ * Addresses requirement: Message Persistence
+ * - Mapped to the messages table created by V1__init.sql
+ *
+ * Addresses requirement: Message Deduplication
+ * - Carries the value_hash digest added by V3__message_value_hash.sql, computed on first use
  */
+@Entity
+@Table(name = "messages", indexes = @Index(name = "idx_messages_value_hash", columnList = "value_hash"))
 @Getter
 @Setter
 @NoArgsConstructor
 public class Message {
-    
+
+    /**
+     * Database generated identifier (messages.id AUTO_INCREMENT).
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
     /**
      * The message value that must not be blank when set.
      * Validated using @NotBlank constraint to ensure non-empty meaningful messages.
      */
     @NotBlank(message = "Message value cannot be blank")
+    @Column(name = "value", nullable = false)
     private String value;
+
+    /**
+     * Time the message was accepted by the application (messages.created_at).
+     */
+    @Column(name = "created_at")
+    private Instant createdAt;
+
+    /**
+     * SHA-256 digest of the value (messages.value_hash), computed lazily by getValueHash().
+     */
+    @Column(name = "value_hash", nullable = false, updatable = false, length = MessageValueHash.LENGTH)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private byte[] valueHash;
+
+    /**
+     * Creates a message with the given value and acceptance time.
+     *
+     * @param value the message value
+     * @param createdAt the time the message was accepted
+     */
+    public Message(String value, Instant createdAt) {
+        this.value = value;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * Sets the message value and discards the digest of the previous value.
+     *
+     * @param value the message value
+     */
+    public void setValue(String value) {
+        this.value = value;
+        this.valueHash = null;
+    }
+
+    /**
+     * Gets the SHA-256 digest of the value, computing it on first use.
+     *
+     * @return the digest stored in messages.value_hash
+     * @throws IllegalArgumentException if the value is null
+     */
+    public byte[] getValueHash() {
+        if (this.valueHash == null) {
+            this.valueHash = MessageValueHash.of(this.value);
+        }
+        return this.valueHash;
+    }
+
+    /**
+     * Stamps messages saved without an explicit acceptance time, since Hibernate inserts
+     * null rather than letting the created_at column default apply, and fills in the value
+     * digest, since Hibernate reads the field directly.
+     */
+    @PrePersist
+    void onPrePersist() {
+        if (this.createdAt == null) {
+            this.createdAt = Instant.now();
+        }
+        getValueHash();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,78 @@
+package sample.actuator.model;
+
+// Jakarta Persistence v3.1.0
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+// lombok v1.18.22
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Model class representing one time bucket of the messages table.
+ *
+ * Addresses requirement: Message Time Buckets
+ * - Mapped to the message_buckets table created by V4__message_buckets.sql
+ * - Messages are stamped when they are written, so the messages of one UTC hour or day
+ *   occupy the contiguous id range [firstId, lastId] and buckets never overlap
+ */
+@Entity
+@Table(name = "message_buckets")
+@Getter
+@Setter
+@NoArgsConstructor
+public class MessageBucket {
+
+    /**
+     * Inclusive start of the bucket, aligned to the UTC hour or day (message_buckets.bucket_start).
+     */
+    @Id
+    @Column(name = "bucket_start")
+    private Instant bucketStart;
+
+    /**
+     * Exclusive end of the bucket (message_buckets.bucket_end).
+     */
+    @Column(name = "bucket_end", nullable = false)
+    private Instant bucketEnd;
+
+    /**
+     * Lowest message id in the bucket (message_buckets.first_id).
+     */
+    @Column(name = "first_id", nullable = false)
+    private long firstId;
+
+    /**
+     * Highest message id in the bucket (message_buckets.last_id).
+     */
+    @Column(name = "last_id", nullable = false)
+    private long lastId;
+
+    /**
+     * Number of messages written to the bucket (message_buckets.row_count).
+     */
+    @Column(name = "row_count", nullable = false)
+    private long rowCount;
+
+    /**
+     * Creates a bucket.
+     *
+     * @param bucketStart inclusive start of the bucket
+     * @param bucketEnd exclusive end of the bucket
+     * @param firstId lowest message id
+     * @param lastId highest message id
+     * @param rowCount number of messages
+     */
+    public MessageBucket(Instant bucketStart, Instant bucketEnd, long firstId, long lastId, long rowCount) {
+        this.bucketStart = bucketStart;
+        this.bucketEnd = bucketEnd;
+        this.firstId = firstId;
+        this.lastId = lastId;
+        this.rowCount = rowCount;
+    }
+}
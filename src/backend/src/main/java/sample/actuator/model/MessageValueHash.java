@@ -0,0 +1,76 @@
+package sample.actuator.model;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * SHA-256 digest of a message value, stored in messages.value_hash.
+ *
+ * The digest is taken over the UTF-8 encoding of the value, which is what H2's
+ * HASH('SHA-256', value) computes, so V3__message_value_hash.sql backfills existing rows
+ * with the same bytes. Its first 8 bytes also key the value table of the mapped message
+ * store, so a value is hashed once per write.
+ *
+ * Addresses requirement: Message Deduplication
+ * - Provides the fixed-width key of the value_hash index
+ */
+public final class MessageValueHash {
+
+    /**
+     * Length of a digest in bytes.
+     */
+    public static final int LENGTH = 32;
+
+    private static final MessageDigest PROTOTYPE;
+
+    static {
+        try {
+            PROTOTYPE = MessageDigest.getInstance("SHA-256");
+        }
+        catch (NoSuchAlgorithmException ex) {
+            // Every Java platform is required to support SHA-256
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    private MessageValueHash() {
+        // Utility class with static methods only
+    }
+
+    /**
+     * Computes the digest of a message value.
+     *
+     * @param value the message value
+     * @return the 32 byte SHA-256 digest of the UTF-8 encoded value
+     * @throws IllegalArgumentException if value is null
+     */
+    public static byte[] of(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value must not be null");
+        }
+        MessageDigest digest;
+        try {
+            digest = (MessageDigest) PROTOTYPE.clone();
+        }
+        catch (CloneNotSupportedException ex) {
+            throw new IllegalStateException("SHA-256 digest cannot be cloned", ex);
+        }
+        return digest.digest(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads eight bytes of a digest as a big-endian long.
+     *
+     * @param hash the digest
+     * @param offset index of the first byte
+     * @return the decoded long
+     */
+    public static long longAt(byte[] hash, int offset) {
+        long result = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            result = (result << 8) | (hash[offset + i] & 0xFFL);
+        }
+        return result;
+    }
+}
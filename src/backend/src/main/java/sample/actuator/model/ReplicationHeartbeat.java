@@ -0,0 +1,48 @@
+package sample.actuator.model;
+
+// Jakarta Persistence v3.1.0
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+// lombok v1.18.22
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Model class representing the replication heartbeat row.
+ *
+ * Addresses requirement: Read Replicas
+ * - Mapped to the replication_heartbeat table created by V5__replication_heartbeat.sql
+ * - ReplicaLagMonitor writes the current time to the single row on the primary and reads it
+ *   back from every replica; the difference is the replication lag of that replica
+ */
+@Entity
+@Table(name = "replication_heartbeat")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ReplicationHeartbeat {
+
+    /**
+     * Id of the only row (replication_heartbeat.id).
+     */
+    public static final int ID = 1;
+
+    /**
+     * Primary key, always ID (replication_heartbeat.id).
+     */
+    @Id
+    @Column(name = "id")
+    private int id;
+
+    /**
+     * When the heartbeat was last written to the primary (replication_heartbeat.beat_at).
+     */
+    @Column(name = "beat_at", nullable = false)
+    private Instant beatAt;
+}
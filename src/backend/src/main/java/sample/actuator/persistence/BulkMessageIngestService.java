@@ -0,0 +1,300 @@
+package sample.actuator.persistence;
+
+// Jackson 2.15.0
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+// SLF4J 2.0.7
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Spring Framework 6.0.0
+import org.springframework.stereotype.Service;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import sample.actuator.ServiceProperties;
+import sample.actuator.model.Message;
+import sample.actuator.validation.MessageValidator;
+
+/**
+ * Streaming bulk ingestion of messages from a JSON array or an NDJSON body.
+ *
+ * The body is read token by token with Jackson's streaming parser: only the element being
+ * parsed and the current batch (service.persistence.batch-size items) are held in memory,
+ * so payload size does not affect heap usage. Each element is validated with
+ * MessageValidator; valid ones are written in JDBC batches through
+ * MessageWriteBehindQueue.persist(), one transaction per batch. Per-item results are
+ * streamed to the response as soon as their batch is written, in input order.
+ *
+ * Item results:
+ * - CREATED with the generated id
+ * - DUPLICATE, for elements whose value was already stored (service.dedup.enabled only)
+ * - INVALID with field errors, for elements failing validation
+ * - FAILED with an error message, for elements whose batch could not be written
+ * A malformed body stops ingestion after a final ABORTED result; batches written before
+ * it stay committed.
+ *
+ * Requirements addressed:
+ * - Message Persistence: Ingests many messages per request in constant memory
+ * - Message Validation: Validates every element with the shared MessageValidator
+ */
+@Service
+public class BulkMessageIngestService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkMessageIngestService.class);
+
+    private final MessageWriteBehindQueue messageWriteBehindQueue;
+
+    private final MessageValidator messageValidator;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Writer for single results that leaves flushing to the end of each batch.
+     */
+    private final ObjectWriter resultWriter;
+
+    private final int batchSize;
+
+    /**
+     * Constructs the service.
+     *
+     * @param messageWriteBehindQueue Pipeline performing the serialized batch writes
+     * @param messageValidator Validator applied to every element
+     * @param objectMapper Mapper providing the streaming parser and generator
+     * @param serviceProperties Service configuration providing service.persistence.batch-size
+     */
+    public BulkMessageIngestService(MessageWriteBehindQueue messageWriteBehindQueue,
+                                    MessageValidator messageValidator, ObjectMapper objectMapper,
+                                    ServiceProperties serviceProperties) {
+        this.messageWriteBehindQueue = messageWriteBehindQueue;
+        this.messageValidator = messageValidator;
+        this.objectMapper = objectMapper;
+        this.resultWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.batchSize = serviceProperties.getPersistence().getBatchSize();
+    }
+
+    /**
+     * Ingests every message of the body and streams one result per element.
+     *
+     * @param body request body, a JSON array of messages or newline-delimited messages
+     * @param results response body the results are written to
+     * @param ndjson true to write results as NDJSON, false to write one JSON array
+     * @return summary of the ingestion
+     * @throws IOException if the response cannot be written
+     */
+    public Summary ingest(InputStream body, OutputStream results, boolean ndjson) throws IOException {
+        Summary summary = new Summary();
+        try (JsonParser parser = objectMapper.getFactory().createParser(body);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(results, JsonEncoding.UTF8)) {
+            if (ndjson) {
+                generator.setRootValueSeparator(null);
+            }
+            else {
+                generator.writeStartArray();
+            }
+            List<Item> pending = new ArrayList<>(batchSize);
+            int index = 0;
+            try {
+                JsonToken token = parser.nextToken();
+                // A top-level array is unwrapped; otherwise the body is a sequence of root values
+                boolean array = token == JsonToken.START_ARRAY;
+                if (array) {
+                    token = parser.nextToken();
+                }
+                while (token != null && token != JsonToken.END_ARRAY) {
+                    JsonNode element = parser.readValueAsTree();
+                    pending.add(parseItem(index++, element));
+                    if (pending.size() == batchSize) {
+                        writeBatch(pending, generator, ndjson, summary);
+                    }
+                    token = parser.nextToken();
+                }
+                writeBatch(pending, generator, ndjson, summary);
+            }
+            catch (JsonProcessingException ex) {
+                writeBatch(pending, generator, ndjson, summary);
+                Map<String, Object> aborted = new LinkedHashMap<>();
+                aborted.put("index", index);
+                aborted.put("status", "ABORTED");
+                aborted.put("error", "Malformed body: " + ex.getOriginalMessage());
+                writeResult(generator, aborted, ndjson);
+                summary.aborted = true;
+            }
+            if (!ndjson) {
+                generator.writeEndArray();
+            }
+        }
+        return summary;
+    }
+
+    private Item parseItem(int index, JsonNode element) {
+        Message message = new Message();
+        JsonNode value = element != null ? element.get("value") : null;
+        if (value != null && value.isTextual()) {
+            message.setValue(value.textValue());
+        }
+        BeanPropertyBindingResult errors = new BeanPropertyBindingResult(message, "message");
+        messageValidator.validate(message, errors);
+        return new Item(index, message, errors.hasErrors() ? errors.getFieldErrors() : null);
+    }
+
+    private void writeBatch(List<Item> pending, JsonGenerator generator, boolean ndjson, Summary summary)
+            throws IOException {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Message> valid = new ArrayList<>(pending.size());
+        for (Item item : pending) {
+            if (item.errors == null) {
+                valid.add(item.message);
+            }
+        }
+        String failure = null;
+        if (!valid.isEmpty()) {
+            try {
+                messageWriteBehindQueue.persist(valid);
+            }
+            catch (RuntimeException ex) {
+                logger.error("Failed to write bulk batch of {} message(s)", valid.size(), ex);
+                failure = "Batch could not be written";
+            }
+        }
+
+        for (Item item : pending) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("index", item.index);
+            if (item.errors != null) {
+                Map<String, String> fieldErrors = new LinkedHashMap<>();
+                for (FieldError error : item.errors) {
+                    fieldErrors.putIfAbsent(error.getField(),
+                        error.getDefaultMessage() != null ? error.getDefaultMessage() : "Invalid value");
+                }
+                result.put("status", "INVALID");
+                result.put("errors", fieldErrors);
+                summary.invalid++;
+            }
+            else if (failure != null) {
+                result.put("status", "FAILED");
+                result.put("error", failure);
+                summary.failed++;
+            }
+            else if (item.message.getId() == null) {
+                result.put("status", "DUPLICATE");
+                summary.duplicate++;
+            }
+            else {
+                result.put("status", "CREATED");
+                result.put("id", item.message.getId());
+                summary.created++;
+            }
+            writeResult(generator, result, ndjson);
+        }
+        // Push this batch's results to the client so nothing accumulates in the response buffer
+        generator.flush();
+        pending.clear();
+    }
+
+    private void writeResult(JsonGenerator generator, Map<String, Object> result, boolean ndjson)
+            throws IOException {
+        resultWriter.writeValue(generator, result);
+        if (ndjson) {
+            generator.writeRaw('\n');
+        }
+    }
+
+    /**
+     * One parsed element awaiting its batch write.
+     */
+    private static final class Item {
+
+        private final int index;
+
+        private final Message message;
+
+        private final List<FieldError> errors;
+
+        private Item(int index, Message message, List<FieldError> errors) {
+            this.index = index;
+            this.message = message;
+            this.errors = errors;
+        }
+    }
+
+    /**
+     * Counts of item outcomes of one bulk ingestion.
+     */
+    public static final class Summary {
+
+        private int created;
+
+        private int invalid;
+
+        private int failed;
+
+        private int duplicate;
+
+        private boolean aborted;
+
+        /**
+         * Gets the number of messages written.
+         *
+         * @return created item count
+         */
+        public int getCreated() {
+            return created;
+        }
+
+        /**
+         * Gets the number of elements rejected by validation.
+         *
+         * @return invalid item count
+         */
+        public int getInvalid() {
+            return invalid;
+        }
+
+        /**
+         * Gets the number of valid elements whose batch could not be written.
+         *
+         * @return failed item count
+         */
+        public int getFailed() {
+            return failed;
+        }
+
+        /**
+         * Gets the number of valid elements skipped because their value was already stored.
+         *
+         * @return duplicate item count
+         */
+        public int getDuplicate() {
+            return duplicate;
+        }
+
+        /**
+         * Gets whether ingestion stopped on a malformed body.
+         *
+         * @return true if the body was malformed
+         */
+        public boolean isAborted() {
+            return aborted;
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package sample.actuator.persistence;
+
+// Micrometer 1.11.0
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// SLF4J 2.0.7
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Spring Framework 6.0.0
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import sample.actuator.ServiceProperties;
+import sample.actuator.model.Message;
+import sample.actuator.model.MessageBucket;
+import sample.actuator.repository.MessageBucketRepository;
+import sample.actuator.repository.MessageStoreRepository;
+
+/**
+ * Catalog of the time buckets of the messages table.
+ *
+ * A bucket is a UTC hour or day (service.buckets.granularity) together with the
+ * contiguous range of ids written during it. Messages are stamped by MessageWriteBehindQueue,
+ * the single writer, which adds every written batch here; a message stamped before the
+ * newest bucket after a clock step back is counted in the newest bucket, so ranges
+ * stay ascending and never overlap. The catalog is persisted in message_buckets and
+ * loaded at startup, and messages past its last id, e.g. written before a crash, are
+ * folded in then.
+ *
+ * The catalog serves two purposes:
+ * - pruning: a created_at window resolves to an id range, read through the primary key
+ * - retention: expired buckets are purged oldest first with one primary key range DELETE each
+ *
+ * Exposed metrics:
+ * - messages.buckets: buckets in the catalog
+ * - messages.buckets.rows: messages in all buckets
+ *
+ * Requirements addressed:
+ * - Message Time Buckets: Time bucketing of the messages table with key range retention
+ */
+@Component
+public class MessageBuckets implements InitializingBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(MessageBuckets.class);
+
+    private final MessageBucketRepository messageBucketRepository;
+
+    private final MessageStoreRepository messageRepository;
+
+    private final RecentMessageCache recentMessageCache;
+
+    private final MessageSearchIndex messageSearchIndex;
+
+    private final ChronoUnit granularity;
+
+    private final Duration retention;
+
+    private final int fetchSize;
+
+    /**
+     * Buckets by start. Entries are replaced, never modified, so readers see consistent
+     * buckets.
+     */
+    private final ConcurrentSkipListMap<Instant, MessageBucket> buckets = new ConcurrentSkipListMap<>();
+
+    /**
+     * Constructs the catalog and registers its metrics.
+     *
+     * @param messageBucketRepository Repository persisting the catalog
+     * @param messageRepository Repository scanned for messages past the catalog at startup
+     * @param recentMessageCache Cache told about purged messages
+     * @param messageSearchIndex Index told about purged messages
+     * @param serviceProperties Service configuration providing service.buckets.* and the
+     *                          export fetch size used for the startup scan
+     * @param meterRegistry Registry the catalog metrics are published to
+     * @throws IllegalStateException if retention is enabled for the mapped message store or
+     *                               is shorter than one bucket
+     */
+    public MessageBuckets(MessageBucketRepository messageBucketRepository,
+                          MessageStoreRepository messageRepository, RecentMessageCache recentMessageCache,
+                          MessageSearchIndex messageSearchIndex, ServiceProperties serviceProperties,
+                          MeterRegistry meterRegistry) {
+        ServiceProperties.Buckets settings = serviceProperties.getBuckets();
+        this.messageBucketRepository = messageBucketRepository;
+        this.messageRepository = messageRepository;
+        this.recentMessageCache = recentMessageCache;
+        this.messageSearchIndex = messageSearchIndex;
+        this.granularity = settings.getGranularity();
+        this.retention = settings.isRetentionEnabled() ? settings.getRetention() : null;
+        this.fetchSize = serviceProperties.getPersistence().getExportFetchSize();
+        if (retention != null && serviceProperties.getStore().getMode() != ServiceProperties.Store.Mode.JPA) {
+            throw new IllegalStateException("Bucket retention requires service.store.mode=jpa");
+        }
+        if (retention != null && retention.compareTo(granularity.getDuration()) < 0) {
+            throw new IllegalStateException("Bucket retention must be at least one " + granularity);
+        }
+
+        Gauge.builder("messages.buckets", buckets, Map::size)
+            .description("Time buckets of the messages table")
+            .register(meterRegistry);
+        Gauge.builder("messages.buckets.rows", this, MessageBuckets::rowCount)
+            .description("Messages in the time buckets of the messages table")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Loads the catalog and adds the messages written after its last id.
+     */
+    @Override
+    public void afterPropertiesSet() {
+        for (MessageBucket bucket : messageBucketRepository.findAllByOrderByBucketStartAsc()) {
+            buckets.put(bucket.getBucketStart(), bucket);
+        }
+        Map.Entry<Instant, MessageBucket> newest = buckets.lastEntry();
+        long lastId = newest != null ? newest.getValue().getLastId() : 0;
+        Map<Instant, MessageBucket> changed = new LinkedHashMap<>();
+        long folded = messageRepository.streamAfter(lastId, fetchSize, message -> add(message, changed));
+        if (!changed.isEmpty()) {
+            messageBucketRepository.saveAll(changed.values());
+        }
+        logger.info("Loaded {} message bucket(s), {} message(s) added after id {}", buckets.size(), folded,
+            lastId);
+    }
+
+    /**
+     * Adds persisted messages to their buckets and persists the changed buckets.
+     * Must only be called by the single writer, with messages in ascending id order;
+     * messages without an id are ignored.
+     *
+     * @param messages persisted messages, oldest first
+     */
+    public void addAll(List<Message> messages) {
+        Map<Instant, MessageBucket> changed = new LinkedHashMap<>();
+        for (Message message : messages) {
+            if (message.getId() != null) {
+                add(message, changed);
+            }
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
+        try {
+            messageBucketRepository.saveAll(changed.values());
+        }
+        catch (RuntimeException ex) {
+            // The next batch of the same bucket writes its absolute state again
+            logger.error("Failed to persist {} message bucket(s)", changed.size(), ex);
+        }
+    }
+
+    /**
+     * Resolves a created_at window to the ids of the buckets overlapping it. Messages
+     * at the edges of the range may lie outside the window and must be filtered by the caller.
+     *
+     * @param from inclusive start of the window, or null for no lower bound
+     * @param to exclusive end of the window, or null for no upper bound
+     * @return the first and last id of the overlapping buckets, or null if none overlaps
+     */
+    public long[] idRange(Instant from, Instant to) {
+        Long firstId = null;
+        long lastId = 0;
+        for (MessageBucket bucket : buckets.values()) {
+            if (to != null && !bucket.getBucketStart().isBefore(to)) {
+                break;
+            }
+            if (from == null || bucket.getBucketEnd().isAfter(from)) {
+                if (firstId == null) {
+                    firstId = bucket.getFirstId();
+                }
+                lastId = bucket.getLastId();
+            }
+        }
+        return firstId != null ? new long[] {firstId, lastId} : null;
+    }
+
+    /**
+     * Purges every bucket that ended longer than the retention period before now,
+     * oldest first. Called by MessageRetentionJob.
+     *
+     * @param now the current time
+     * @return number of deleted messages
+     */
+    public long purgeExpired(Instant now) {
+        if (retention == null) {
+            return 0;
+        }
+        Instant cutoff = now.minus(retention);
+        long purged = 0;
+        for (MessageBucket bucket : buckets.values()) {
+            if (bucket.getBucketEnd().isAfter(cutoff)) {
+                break;
+            }
+            long rows = messageBucketRepository.purgeBucket(bucket);
+            buckets.remove(bucket.getBucketStart(), bucket);
+            recentMessageCache.retainAfter(bucket.getLastId());
+            messageSearchIndex.retainAfter(bucket.getLastId(), rows);
+            purged += rows;
+            logger.info("Purged message bucket {} with {} message(s)", bucket.getBucketStart(), rows);
+        }
+        return purged;
+    }
+
+    /**
+     * Returns the catalog.
+     *
+     * @return all buckets, oldest first
+     */
+    public List<MessageBucket> getBuckets() {
+        return new ArrayList<>(buckets.values());
+    }
+
+    /**
+     * Gets the bucket length.
+     *
+     * @return HOURS or DAYS
+     */
+    public ChronoUnit getGranularity() {
+        return granularity;
+    }
+
+    /**
+     * Gets the retention period.
+     *
+     * @return the retention period, or null if retention is disabled
+     */
+    public Duration getRetention() {
+        return retention;
+    }
+
+    /**
+     * Gets the number of messages in all buckets.
+     *
+     * @return the message count
+     */
+    public long rowCount() {
+        long rows = 0;
+        for (MessageBucket bucket : buckets.values()) {
+            rows += bucket.getRowCount();
+        }
+        return rows;
+    }
+
+    /**
+     * Adds a message to its bucket, replacing the bucket entry, and records the
+     * bucket as changed.
+     */
+    private void add(Message message, Map<Instant, MessageBucket> changed) {
+        Instant start = message.getCreatedAt().truncatedTo(granularity);
+        Map.Entry<Instant, MessageBucket> newest = buckets.lastEntry();
+        if (newest != null && start.isBefore(newest.getKey())) {
+            start = newest.getKey();
+        }
+        MessageBucket current = buckets.get(start);
+        MessageBucket updated = current == null
+            ? new MessageBucket(start, start.plus(1, granularity), message.getId(), message.getId(), 1)
+            : new MessageBucket(start, current.getBucketEnd(), current.getFirstId(), message.getId(),
+                current.getRowCount() + 1);
+        buckets.put(start, updated);
+        changed.put(start, updated);
+    }
+}
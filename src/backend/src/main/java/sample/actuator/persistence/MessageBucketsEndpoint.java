@@ -0,0 +1,65 @@
+package sample.actuator.persistence;
+
+// Spring Boot Actuator Endpoint - v3.0.0
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+// Spring Framework 6.0.0
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import sample.actuator.dto.MessageBucketResponse;
+import sample.actuator.dto.MessageBucketsResponse;
+import sample.actuator.model.MessageBucket;
+
+/**
+ * Actuator endpoint exposing the bucket catalog of the messages table at
+ * /actuator/messagebuckets.
+ *
+ * The catalog is served from memory. The duration of retention runs is published as the
+ * messages.retention.run timer.
+ *
+ * Requirements addressed:
+ * - Message Time Buckets: Exposes bucket counts and row counts through Actuator
+ */
+@Component
+@Endpoint(id = "messagebuckets")
+public class MessageBucketsEndpoint {
+
+    private final MessageBuckets messageBuckets;
+
+    /**
+     * Constructs the endpoint.
+     *
+     * @param messageBuckets Catalog of the messages table buckets
+     */
+    public MessageBucketsEndpoint(MessageBuckets messageBuckets) {
+        this.messageBuckets = messageBuckets;
+    }
+
+    /**
+     * Returns the bucket catalog.
+     *
+     * @return the buckets, oldest first, with the bucket layout and retention period
+     */
+    @ReadOperation
+    public MessageBucketsResponse buckets() {
+        List<MessageBucket> catalog = messageBuckets.getBuckets();
+        List<MessageBucketResponse> entries = new ArrayList<>(catalog.size());
+        long rows = 0;
+        for (MessageBucket bucket : catalog) {
+            entries.add(MessageBucketResponse.builder()
+                .start(bucket.getBucketStart())
+                .end(bucket.getBucketEnd())
+                .firstId(bucket.getFirstId())
+                .lastId(bucket.getLastId())
+                .rows(bucket.getRowCount())
+                .build());
+            rows += bucket.getRowCount();
+        }
+        return new MessageBucketsResponse(messageBuckets.getGranularity().name(),
+            messageBuckets.getRetention(), rows, entries);
+    }
+}
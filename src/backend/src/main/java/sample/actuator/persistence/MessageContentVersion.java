@@ -0,0 +1,57 @@
+package sample.actuator.persistence;
+
+// Spring Framework 6.0.0
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+import sample.actuator.repository.MessageStoreRepository;
+
+/**
+ * Strong ETags for pages of GET /messages, derived from the state of the messages table.
+ *
+ * A tag combines the lowest and highest stored message id with a digest of the page
+ * query (cursor and limit). Every write raises the highest id and retention purges raise
+ * the lowest, so the tag of a page changes whenever the stored messages do, no matter
+ * which replica wrote them, and two different pages never share a tag. Both ids are read
+ * from the ends of the primary key index, so validating a tag costs two index lookups
+ * instead of reading and serializing the page.
+ *
+ * A row inserted by a concurrent transaction with a lower id than the highest committed
+ * one does not change the tag until the next write; with the single batched writer per
+ * instance that window is one batch.
+ *
+ * Requirements addressed:
+ * - HTTP Response Caching: Lets message reads be answered with 304 Not Modified without
+ *   reading the page
+ */
+@Component
+public class MessageContentVersion {
+
+    private final MessageStoreRepository messageRepository;
+
+    /**
+     * Constructs the version source.
+     *
+     * @param messageRepository Repository the id range is read from
+     */
+    public MessageContentVersion(MessageStoreRepository messageRepository) {
+        this.messageRepository = messageRepository;
+    }
+
+    /**
+     * Gets the strong ETag of a page of messages.
+     *
+     * @param cursor the cursor query parameter, or null for the first page
+     * @param limit the limit query parameter, or null for the default page size
+     * @return the quoted ETag value
+     */
+    public String getEtag(String cursor, String limit) {
+        Long minId = messageRepository.findMinId();
+        Long maxId = messageRepository.findMaxId();
+        String query = (cursor != null ? cursor : "") + "&" + (limit != null ? limit : "");
+        return "\"" + (minId != null ? minId : 0) + "-" + (maxId != null ? maxId : 0) + "-"
+            + DigestUtils.md5DigestAsHex(query.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
@@ -0,0 +1,94 @@
+package sample.actuator.persistence;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import sample.actuator.model.Message;
+
+/**
+ * Keyset pagination cursor identifying the last message of a page by (created_at, id).
+ * Encoded as URL-safe Base64 so clients treat it as an opaque token.
+ *
+ * Requirements addressed:
+ * - Message Retrieval: Position of a page in the created_at/id ordering, independent of
+ *   how many rows precede it
+ */
+public final class MessageCursor {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private static final char SEPARATOR = ',';
+
+    private final Instant createdAt;
+
+    private final long id;
+
+    private MessageCursor(Instant createdAt, long id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    /**
+     * Creates the cursor pointing after the given message.
+     *
+     * @param message the last message of a page, must have been persisted
+     * @return the cursor for the following page
+     */
+    public static MessageCursor after(Message message) {
+        return new MessageCursor(message.getCreatedAt(), message.getId());
+    }
+
+    /**
+     * Decodes a cursor previously produced by {@link #encode()}.
+     *
+     * @param token the encoded cursor
+     * @return the decoded cursor
+     * @throws IllegalArgumentException if the token is not a valid cursor
+     */
+    public static MessageCursor decode(String token) {
+        try {
+            String decoded = new String(DECODER.decode(token), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new MessageCursor(Instant.parse(decoded.substring(0, separator)),
+                Long.parseLong(decoded.substring(separator + 1)));
+        }
+        catch (DateTimeParseException | NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid cursor", ex);
+        }
+    }
+
+    /**
+     * Encodes this cursor as an opaque URL-safe token.
+     *
+     * @return the encoded cursor
+     */
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Gets the created_at of the message the cursor points after.
+     *
+     * @return the creation time
+     */
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Gets the id of the message the cursor points after.
+     *
+     * @return the message id
+     */
+    public long getId() {
+        return id;
+    }
+}
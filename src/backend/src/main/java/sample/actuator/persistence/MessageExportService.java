@@ -0,0 +1,204 @@
+package sample.actuator.persistence;
+
+// Jackson 2.15.0
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Spring Framework 6.0.0
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+import sample.actuator.ServiceProperties;
+import sample.actuator.exception.ExportLimitExceededException;
+import sample.actuator.model.Message;
+import sample.actuator.repository.MessageStoreRepository;
+
+/**
+ * Streams the whole messages table to an output stream as NDJSON or Server-Sent Events.
+ *
+ * Rows come from MessageStoreRepository.streamAfter(), a forward-only JDBC cursor with the
+ * configured fetch size, and each row is written to the response as soon as it is read;
+ * the output is flushed once per fetch, so memory use is bounded by one fetch regardless
+ * of table size. Rows are exported in id order, which makes any exported id a valid
+ * resume point: NDJSON clients pass the last id they received as afterId, SSE clients
+ * get it for free through the event id and the Last-Event-ID header.
+ *
+ * An export can be limited to a created_at window. MessageBuckets resolves the window
+ * to the id range of the buckets overlapping it, so only those buckets are read, by
+ * primary key; rows at the edges of the range are filtered by created_at.
+ *
+ * An export holds a database connection until the client has received the last row, so at
+ * most service.persistence.export-max-concurrent exports stream at once; the endpoints also
+ * require authentication.
+ *
+ * Row format: {"id":1,"value":"...","createdAt":"2024-01-01T00:00:00Z"}
+ *
+ * Requirements addressed:
+ * - Message Export: Constant-memory, resumable export of every persisted message
+ * - Message Time Buckets: Time-windowed exports read only the buckets in the window
+ */
+@Service
+public class MessageExportService {
+
+    /**
+     * Output formats of the export.
+     */
+    public enum Format {
+        /**
+         * One JSON object per line (application/x-ndjson).
+         */
+        NDJSON,
+        /**
+         * One event per row with the row id as event id, followed by a complete event
+         * (text/event-stream).
+         */
+        SSE
+    }
+
+    private final MessageStoreRepository messageRepository;
+
+    private final MessageBuckets messageBuckets;
+
+    private final ObjectMapper objectMapper;
+
+    private final int fetchSize;
+
+    private final int maxConcurrent;
+
+    private final Semaphore exports;
+
+    /**
+     * Constructs the service.
+     *
+     * @param messageRepository Repository providing the cursor scan
+     * @param messageBuckets Catalog resolving created_at windows to id ranges
+     * @param objectMapper Mapper providing the JSON generator
+     * @param serviceProperties Service configuration providing service.persistence.export-fetch-size
+     *                          and service.persistence.export-max-concurrent
+     */
+    public MessageExportService(MessageStoreRepository messageRepository, MessageBuckets messageBuckets,
+                                ObjectMapper objectMapper, ServiceProperties serviceProperties) {
+        this.messageRepository = messageRepository;
+        this.messageBuckets = messageBuckets;
+        this.objectMapper = objectMapper;
+        this.fetchSize = serviceProperties.getPersistence().getExportFetchSize();
+        this.maxConcurrent = serviceProperties.getPersistence().getExportMaxConcurrent();
+        this.exports = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * Writes every message with an id greater than afterId, in id order.
+     *
+     * @param afterId id of the last message already received, 0 for a full export
+     * @param out stream the export is written to
+     * @param format output format
+     * @return number of exported messages
+     * @throws ExportLimitExceededException if the maximum number of exports is already streaming
+     * @throws IOException if writing to the stream fails, e.g. because the client disconnected
+     */
+    public long export(long afterId, OutputStream out, Format format) throws IOException {
+        return export(afterId, null, null, out, format);
+    }
+
+    /**
+     * Writes every message with an id greater than afterId and a created_at within the
+     * window, in id order.
+     *
+     * @param afterId id of the last message already received, 0 for a full export
+     * @param since inclusive start of the window, or null for no lower bound
+     * @param until exclusive end of the window, or null for no upper bound
+     * @param out stream the export is written to
+     * @param format output format
+     * @return number of exported messages
+     * @throws IllegalArgumentException if afterId is negative or since is not before until
+     * @throws ExportLimitExceededException if the maximum number of exports is already streaming
+     * @throws IOException if writing to the stream fails, e.g. because the client disconnected
+     */
+    public long export(long afterId, Instant since, Instant until, OutputStream out, Format format)
+            throws IOException {
+        if (afterId < 0) {
+            throw new IllegalArgumentException("afterId must not be negative");
+        }
+        if (since != null && until != null && !since.isBefore(until)) {
+            throw new IllegalArgumentException("since must be before until");
+        }
+        if (!exports.tryAcquire()) {
+            throw new ExportLimitExceededException("At most " + maxConcurrent + " exports can run at once");
+        }
+        try {
+            return stream(afterId, since, until, out, format);
+        }
+        finally {
+            exports.release();
+        }
+    }
+
+    private long stream(long afterId, Instant since, Instant until, OutputStream out, Format format)
+            throws IOException {
+        boolean windowed = since != null || until != null;
+        long[] range = windowed ? messageBuckets.idRange(since, until) : null;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.setRootValueSeparator(null);
+            long[] lastId = {afterId};
+            long[] written = {0};
+            try {
+                Consumer<Message> writer = message -> {
+                    if (windowed && !within(message.getCreatedAt(), since, until)) {
+                        return;
+                    }
+                    try {
+                        writeRow(generator, message, format);
+                        lastId[0] = message.getId();
+                        if (++written[0] % fetchSize == 0) {
+                            generator.flush();
+                        }
+                    }
+                    catch (IOException ex) {
+                        // Aborts the cursor scan and releases the connection
+                        throw new UncheckedIOException(ex);
+                    }
+                };
+                if (!windowed) {
+                    messageRepository.streamAfter(afterId, fetchSize, writer);
+                }
+                else if (range != null) {
+                    messageRepository.streamRange(Math.max(afterId, range[0] - 1), range[1], fetchSize, writer);
+                }
+            }
+            catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+            if (format == Format.SSE) {
+                generator.writeRaw("event: complete\ndata: {\"lastId\":" + lastId[0] + "}\n\n");
+            }
+            return written[0];
+        }
+    }
+
+    private static boolean within(Instant createdAt, Instant since, Instant until) {
+        return createdAt != null && (since == null || !createdAt.isBefore(since))
+            && (until == null || createdAt.isBefore(until));
+    }
+
+    private void writeRow(JsonGenerator generator, Message message, Format format) throws IOException {
+        if (format == Format.SSE) {
+            generator.writeRaw("id: ");
+            generator.writeRaw(Long.toString(message.getId()));
+            generator.writeRaw("\ndata: ");
+        }
+        generator.writeStartObject();
+        generator.writeNumberField("id", message.getId());
+        generator.writeStringField("value", message.getValue());
+        generator.writeStringField("createdAt",
+            message.getCreatedAt() != null ? message.getCreatedAt().toString() : null);
+        generator.writeEndObject();
+        generator.writeRaw(format == Format.SSE ? "\n\n" : "\n");
+    }
+}
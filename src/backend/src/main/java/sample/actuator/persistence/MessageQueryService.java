@@ -0,0 +1,154 @@
+package sample.actuator.persistence;
+
+// Spring Framework 6.0.0
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import sample.actuator.ServiceProperties;
+import sample.actuator.dto.MessageItemResponse;
+import sample.actuator.dto.MessagePageResponse;
+import sample.actuator.model.Message;
+import sample.actuator.repository.MessageStoreRepository;
+
+/**
+ * Read side for persisted messages, serving bounded, keyset-paginated pages newest first.
+ *
+ * Each page is fetched with LIMIT pageSize + 1: the extra row only tells whether an older
+ * page exists, so no count query or OFFSET is ever issued. Pages within the window held by
+ * RecentMessageCache are served from memory; only larger windows reach the database.
+ *
+ * Searches resolve matching ids in the MessageSearchIndex and load only the rows of the
+ * requested page by primary key; their cursor is the lowest id of the page.
+ *
+ * Requirements addressed:
+ * - Message Retrieval: Reading the newest N messages costs O(N) regardless of table size
+ * - Message Search: A search page costs one primary key lookup per returned message
+ */
+@Service
+public class MessageQueryService {
+
+    private final MessageStoreRepository messageRepository;
+
+    private final RecentMessageCache recentMessageCache;
+
+    private final MessageSearchIndex messageSearchIndex;
+
+    private final int maxPageSize;
+
+    /**
+     * Constructs the service.
+     *
+     * @param messageRepository Repository providing the keyset queries
+     * @param recentMessageCache In-memory cache of the newest messages, consulted first
+     * @param messageSearchIndex Index resolving search queries to message ids
+     * @param serviceProperties Service configuration providing service.persistence.max-page-size
+     */
+    public MessageQueryService(MessageStoreRepository messageRepository, RecentMessageCache recentMessageCache,
+                               MessageSearchIndex messageSearchIndex, ServiceProperties serviceProperties) {
+        this.messageRepository = messageRepository;
+        this.recentMessageCache = recentMessageCache;
+        this.messageSearchIndex = messageSearchIndex;
+        this.maxPageSize = serviceProperties.getPersistence().getMaxPageSize();
+    }
+
+    /**
+     * Fetches one page of messages, newest first.
+     *
+     * @param cursor cursor returned with the previous page, or null for the newest page
+     * @param limit number of messages to return, between 1 and the configured maximum
+     * @return the page with the cursor of the next page, if any
+     * @throws IllegalArgumentException if the limit is out of range or the cursor is invalid
+     */
+    public MessagePageResponse findPage(String cursor, int limit) {
+        checkLimit(limit);
+        int window = limit + 1;
+        List<Message> rows;
+        if (cursor == null || cursor.isEmpty()) {
+            rows = recentMessageCache.findLatest(window);
+            if (rows == null) {
+                rows = messageRepository.findNewest(PageRequest.ofSize(window));
+            }
+        }
+        else {
+            MessageCursor position = MessageCursor.decode(cursor);
+            rows = recentMessageCache.findOlderThan(position.getId(), window);
+            if (rows == null) {
+                rows = messageRepository.findOlderThan(position.getCreatedAt(), position.getId(),
+                    PageRequest.ofSize(window));
+            }
+        }
+
+        boolean hasMore = rows.size() > limit;
+        int size = hasMore ? limit : rows.size();
+        List<MessageItemResponse> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(toItem(rows.get(i)));
+        }
+        String nextCursor = hasMore ? MessageCursor.after(rows.get(size - 1)).encode() : null;
+        return new MessagePageResponse(items, nextCursor);
+    }
+
+    /**
+     * Fetches one page of the messages matching a search query, newest first.
+     *
+     * @param query the search terms; every term must match
+     * @param prefix whether query terms also match the terms they are a prefix of
+     * @param cursor cursor returned with the previous page, or null for the newest page
+     * @param limit number of messages to return, between 1 and the configured maximum
+     * @return the page with the cursor of the next page, if any
+     * @throws IllegalArgumentException if the query has no terms, the limit is out of range
+     *                                  or the cursor is invalid
+     */
+    public MessagePageResponse search(String query, boolean prefix, String cursor, int limit) {
+        checkLimit(limit);
+        long beforeId = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isEmpty()) {
+            try {
+                beforeId = Long.parseLong(cursor);
+            }
+            catch (NumberFormatException ex) {
+                throw new IllegalArgumentException("Invalid cursor", ex);
+            }
+        }
+        long[] ids = messageSearchIndex.search(query, prefix, beforeId, limit + 1);
+
+        boolean hasMore = ids.length > limit;
+        int size = hasMore ? limit : ids.length;
+        List<Long> pageIds = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            pageIds.add(ids[i]);
+        }
+        Map<Long, Message> rows = new HashMap<>();
+        for (Message message : messageRepository.findAllById(pageIds)) {
+            rows.put(message.getId(), message);
+        }
+        List<MessageItemResponse> items = new ArrayList<>(size);
+        for (Long id : pageIds) {
+            Message message = rows.get(id);
+            if (message != null) {
+                items.add(toItem(message));
+            }
+        }
+        String nextCursor = hasMore ? Long.toString(ids[size - 1]) : null;
+        return new MessagePageResponse(items, nextCursor);
+    }
+
+    private void checkLimit(int limit) {
+        if (limit <= 0 || limit > maxPageSize) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + maxPageSize);
+        }
+    }
+
+    private static MessageItemResponse toItem(Message message) {
+        return MessageItemResponse.builder()
+            .id(message.getId())
+            .value(message.getValue())
+            .createdAt(message.getCreatedAt())
+            .build();
+    }
+}
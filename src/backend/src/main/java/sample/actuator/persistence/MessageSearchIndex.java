@@ -0,0 +1,446 @@
+package sample.actuator.persistence;
+
+// Micrometer 1.11.0
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// SLF4J 2.0.7
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Spring Framework 6.0.0
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import sample.actuator.ServiceProperties;
+import sample.actuator.model.Message;
+import sample.actuator.repository.MessageStoreRepository;
+
+/**
+ * In-process inverted index over the values of persisted messages: a sorted term
+ * dictionary mapping each term to the ascending ids of the messages containing it.
+ *
+ * Terms are the maximal runs of letters and digits of a value, lower-cased; runs longer
+ * than 64 characters are not indexed. A query matches the messages containing every one of
+ * its terms, or with prefix=true a term starting with every one of them. Results are
+ * produced newest (highest id) first by walking the shortest posting list backwards and
+ * probing the others with binary search.
+ *
+ * At startup the index is built from the messages table: the id range is split into
+ * service.search.rebuild-threads partitions, each streamed on its own connection into a
+ * partial index, and the partials are appended in id order. Afterwards
+ * MessageWriteBehindQueue adds every written batch, so the index has a single writer and
+ * readers never block it.
+ *
+ * Rows written by other instances reach the index through rebuild(), which
+ * MessageSearchRefreshJob runs every service.search.refresh-interval. The new index is
+ * built beside the current one, which keeps serving queries; the rows written meanwhile
+ * are then streamed into it and it replaces the current one under the writer lock, so no
+ * locally written batch is lost. A row committed with an id below the highest one already
+ * indexed, which happens when instances commit out of id order, is picked up by the next
+ * rebuild.
+ *
+ * Messages dropped by retention are excluded from results at once through a floor id; the
+ * writer removes their ids from the posting lists with the next written batch.
+ *
+ * Exposed metrics:
+ * - messages.search.terms: distinct terms in the dictionary
+ * - messages.search.documents: messages indexed
+ *
+ * Requirements addressed:
+ * - Message Search: Term and prefix search without scanning the messages table
+ */
+@Component
+public class MessageSearchIndex implements InitializingBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(MessageSearchIndex.class);
+
+    /**
+     * Longest term that is indexed; longer runs are usually identifiers or encoded data.
+     */
+    static final int MAX_TERM_LENGTH = 64;
+
+    /**
+     * Most terms a query may contain.
+     */
+    static final int MAX_QUERY_TERMS = 8;
+
+    private static final long[] NO_RESULTS = new long[0];
+
+    private final MessageStoreRepository messageRepository;
+
+    private final int rebuildThreads;
+
+    private final int maxPrefixTerms;
+
+    private final int fetchSize;
+
+    private volatile ConcurrentSkipListMap<String, PostingList> terms = new ConcurrentSkipListMap<>();
+
+    private volatile long documents;
+
+    /**
+     * Serializes addAll() with the replacement of the index by rebuild().
+     */
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    /**
+     * Highest id dropped by retention; lower ids are never returned.
+     */
+    private volatile long floorId;
+
+    /**
+     * Floor the posting lists were last compacted to. Guarded by writeLock.
+     */
+    private long compactedFloorId;
+
+    /**
+     * Messages dropped by retention and not yet subtracted from documents.
+     */
+    private final AtomicLong droppedDocuments = new AtomicLong();
+
+    /**
+     * Constructs the index and registers its metrics.
+     *
+     * @param messageRepository Repository the index is rebuilt from at startup
+     * @param serviceProperties Service configuration providing service.search.* and the
+     *                          export fetch size used for the rebuild
+     * @param meterRegistry Registry the index metrics are published to
+     */
+    public MessageSearchIndex(MessageStoreRepository messageRepository, ServiceProperties serviceProperties,
+                              MeterRegistry meterRegistry) {
+        ServiceProperties.Search settings = serviceProperties.getSearch();
+        this.messageRepository = messageRepository;
+        this.rebuildThreads = settings.getRebuildThreads();
+        this.maxPrefixTerms = settings.getMaxPrefixTerms();
+        this.fetchSize = serviceProperties.getPersistence().getExportFetchSize();
+
+        Gauge.builder("messages.search.terms", this, index -> index.terms.size())
+            .description("Distinct terms in the message search index")
+            .register(meterRegistry);
+        Gauge.builder("messages.search.documents", this, index -> index.documents)
+            .description("Messages in the message search index")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Builds the index from the messages table.
+     *
+     * @throws IllegalStateException if a partition cannot be read
+     */
+    @Override
+    public void afterPropertiesSet() {
+        rebuild();
+    }
+
+    /**
+     * Rebuilds the index from the messages table, partitions in parallel, and replaces the
+     * current index with it. Queries keep using the current index until then.
+     *
+     * @return number of indexed messages
+     * @throws IllegalStateException if a partition cannot be read
+     */
+    public long rebuild() {
+        long start = System.nanoTime();
+        long floor = floorId;
+        long dropped = droppedDocuments.get();
+        Long minId = messageRepository.findMinId();
+        Long maxId = messageRepository.findMaxId();
+        Partition rebuilt = minId != null && maxId != null ? indexParallel(minId - 1, maxId) : new Partition();
+        ConcurrentSkipListMap<String, PostingList> rebuiltTerms = new ConcurrentSkipListMap<>(rebuilt.terms);
+        long indexedId = maxId != null ? maxId : 0;
+
+        writeLock.lock();
+        try {
+            // Rows written since maxId was read, by this instance or another
+            Long latestId = messageRepository.findMaxId();
+            if (latestId != null && latestId > indexedId) {
+                Partition tail = indexRange(indexedId, latestId);
+                tail.terms.forEach((term, postings) ->
+                    rebuiltTerms.computeIfAbsent(term, key -> new PostingList()).addAll(postings));
+                rebuilt.documents += tail.documents;
+            }
+            terms = rebuiltTerms;
+            documents = rebuilt.documents;
+            // The rebuilt index holds no row dropped before the rebuild started
+            compactedFloorId = Math.max(compactedFloorId, floor);
+            droppedDocuments.addAndGet(-dropped);
+        }
+        finally {
+            writeLock.unlock();
+        }
+        logger.info("Indexed {} message(s), {} term(s) in {} ms", rebuilt.documents, rebuiltTerms.size(),
+            (System.nanoTime() - start) / 1_000_000);
+        return rebuilt.documents;
+    }
+
+    /**
+     * Indexes an id range, split into rebuildThreads partitions streamed in parallel.
+     */
+    private Partition indexParallel(long afterId, long maxId) {
+        Partition merged = new Partition();
+        long span = maxId - afterId;
+        int partitions = (int) Math.min(rebuildThreads, span);
+        long step = (span + partitions - 1) / partitions;
+        ExecutorService pool = Executors.newFixedThreadPool(partitions,
+            new CustomizableThreadFactory("search-index-rebuild-"));
+        try {
+            List<Future<Partition>> futures = new ArrayList<>(partitions);
+            for (int i = 0; i < partitions; i++) {
+                long from = afterId + i * step;
+                long to = Math.min(maxId, from + step);
+                futures.add(pool.submit(() -> indexRange(from, to)));
+            }
+            // Partitions cover ascending id ranges, so appending them in order keeps every
+            // posting list sorted
+            for (Future<Partition> future : futures) {
+                Partition partition = future.get();
+                partition.terms.forEach((term, postings) ->
+                    merged.terms.computeIfAbsent(term, key -> new PostingList()).addAll(postings));
+                merged.documents += partition.documents;
+            }
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while rebuilding the message search index", ex);
+        }
+        catch (ExecutionException ex) {
+            throw new IllegalStateException("Failed to rebuild the message search index", ex.getCause());
+        }
+        finally {
+            pool.shutdownNow();
+        }
+        return merged;
+    }
+
+    /**
+     * Adds persisted messages to the index. Must only be called by the single writer, with
+     * messages in ascending id order; messages without an id are ignored.
+     *
+     * @param messages persisted messages, oldest first
+     */
+    public void addAll(List<Message> messages) {
+        writeLock.lock();
+        try {
+            long floor = floorId;
+            if (floor > compactedFloorId) {
+                compact(floor);
+            }
+            ConcurrentSkipListMap<String, PostingList> current = terms;
+            long added = 0;
+            for (Message message : messages) {
+                if (message.getId() == null) {
+                    continue;
+                }
+                long id = message.getId();
+                for (String term : tokenize(message.getValue())) {
+                    current.computeIfAbsent(term, key -> new PostingList()).add(id);
+                }
+                added++;
+            }
+            documents += added;
+        }
+        finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Excludes the messages up to an id, after retention deleted them from the messages
+     * table. Called by the retention job, oldest bucket first.
+     *
+     * @param lastDroppedId highest dropped id
+     * @param dropped number of dropped messages
+     */
+    public void retainAfter(long lastDroppedId, long dropped) {
+        droppedDocuments.addAndGet(dropped);
+        floorId = Math.max(floorId, lastDroppedId);
+    }
+
+    /**
+     * Finds the ids of the messages matching every term of the query, newest first.
+     *
+     * @param query the query text, tokenized like message values
+     * @param prefix whether each query term matches the terms it is a prefix of
+     * @param beforeId only ids lower than this are returned
+     * @param limit maximum number of ids to return
+     * @return the matching ids, highest first
+     * @throws IllegalArgumentException if the query has no terms or more than 8
+     */
+    public long[] search(String query, boolean prefix, long beforeId, int limit) {
+        Set<String> queryTerms = tokenize(query);
+        if (queryTerms.isEmpty()) {
+            throw new IllegalArgumentException("Query must contain at least one letter or digit");
+        }
+        if (queryTerms.size() > MAX_QUERY_TERMS) {
+            throw new IllegalArgumentException("Query must not contain more than " + MAX_QUERY_TERMS + " terms");
+        }
+        PostingList.Snapshot[] lists = new PostingList.Snapshot[queryTerms.size()];
+        int n = 0;
+        for (String term : queryTerms) {
+            PostingList.Snapshot postings = prefix ? matchPrefix(term) : matchTerm(term);
+            if (postings.size() == 0) {
+                return NO_RESULTS;
+            }
+            lists[n++] = postings;
+        }
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.size(), b.size()));
+
+        PostingList.Snapshot shortest = lists[0];
+        long[] results = new long[Math.min(limit, shortest.size())];
+        int found = 0;
+        long floor = floorId;
+        for (int i = lowerBound(shortest, beforeId) - 1; i >= 0 && found < results.length; i--) {
+            long id = shortest.ids()[i];
+            if (id <= floor) {
+                break;
+            }
+            if (containsInAll(lists, id)) {
+                results[found++] = id;
+            }
+        }
+        return found == results.length ? results : Arrays.copyOf(results, found);
+    }
+
+    /**
+     * Splits text into its distinct lower-case terms, in order of first occurrence.
+     *
+     * @param text the text to tokenize, may be null
+     * @return the terms, empty if the text has no letters or digits
+     */
+    static Set<String> tokenize(String text) {
+        Set<String> result = new LinkedHashSet<>();
+        if (text == null) {
+            return result;
+        }
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            while (i < length && !Character.isLetterOrDigit(text.codePointAt(i))) {
+                i += Character.charCount(text.codePointAt(i));
+            }
+            int start = i;
+            while (i < length && Character.isLetterOrDigit(text.codePointAt(i))) {
+                i += Character.charCount(text.codePointAt(i));
+            }
+            if (i > start && i - start <= MAX_TERM_LENGTH) {
+                result.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+            }
+        }
+        return result;
+    }
+
+    private Partition indexRange(long afterId, long toId) {
+        Partition partition = new Partition();
+        partition.documents = messageRepository.streamRange(afterId, toId, fetchSize, message -> {
+            for (String term : tokenize(message.getValue())) {
+                partition.terms.computeIfAbsent(term, key -> new PostingList()).add(message.getId());
+            }
+        });
+        return partition;
+    }
+
+    /**
+     * Removes the ids up to the floor from every posting list, replacing lists rather than
+     * modifying them so concurrent readers keep a consistent snapshot. Writer only.
+     */
+    private void compact(long floor) {
+        ConcurrentSkipListMap<String, PostingList> current = terms;
+        for (Map.Entry<String, PostingList> entry : current.entrySet()) {
+            PostingList postings = entry.getValue();
+            PostingList retained = postings.after(floor);
+            if (retained == null) {
+                current.remove(entry.getKey(), postings);
+            }
+            else if (retained != postings) {
+                current.replace(entry.getKey(), postings, retained);
+            }
+        }
+        compactedFloorId = floor;
+        documents -= droppedDocuments.getAndSet(0);
+    }
+
+    private PostingList.Snapshot matchTerm(String term) {
+        PostingList postings = terms.get(term);
+        return postings != null ? postings.snapshot() : new PostingList.Snapshot(NO_RESULTS, 0);
+    }
+
+    /**
+     * Unions the posting lists of up to maxPrefixTerms dictionary terms starting with the
+     * prefix into one sorted, duplicate-free array.
+     */
+    private PostingList.Snapshot matchPrefix(String prefix) {
+        Map<String, PostingList> matches = terms.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+        List<PostingList.Snapshot> snapshots = new ArrayList<>();
+        int total = 0;
+        for (PostingList postings : matches.values()) {
+            if (snapshots.size() == maxPrefixTerms) {
+                break;
+            }
+            PostingList.Snapshot snapshot = postings.snapshot();
+            snapshots.add(snapshot);
+            total += snapshot.size();
+        }
+        if (snapshots.size() == 1) {
+            return snapshots.get(0);
+        }
+        long[] union = new long[total];
+        int offset = 0;
+        for (PostingList.Snapshot snapshot : snapshots) {
+            System.arraycopy(snapshot.ids(), 0, union, offset, snapshot.size());
+            offset += snapshot.size();
+        }
+        Arrays.sort(union);
+        int size = 0;
+        for (int i = 0; i < total; i++) {
+            if (size == 0 || union[size - 1] != union[i]) {
+                union[size++] = union[i];
+            }
+        }
+        return new PostingList.Snapshot(union, size);
+    }
+
+    private static boolean containsInAll(PostingList.Snapshot[] lists, long id) {
+        for (int j = 1; j < lists.length; j++) {
+            if (Arrays.binarySearch(lists[j].ids(), 0, lists[j].size(), id) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the index of the first id not lower than the bound.
+     */
+    private static int lowerBound(PostingList.Snapshot postings, long bound) {
+        int index = Arrays.binarySearch(postings.ids(), 0, postings.size(), bound);
+        return index >= 0 ? index : -(index + 1);
+    }
+
+    /**
+     * Partial index of one id range built during the rebuild.
+     */
+    private static final class Partition {
+
+        private final Map<String, PostingList> terms = new HashMap<>();
+
+        private long documents;
+    }
+}
@@ -0,0 +1,119 @@
+package sample.actuator.persistence;
+
+// Micrometer 1.11.0
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// SLF4J 2.0.7
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Spring Framework 6.0.0
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import sample.actuator.ServiceProperties;
+
+/**
+ * Periodically rebuilds the MessageSearchIndex from the messages table, so messages written
+ * by other instances become searchable here.
+ *
+ * The first run starts one service.search.refresh-interval after startup, since the index
+ * was just built, then one every interval; a zero interval disables the job. A failed run
+ * is logged, the current index stays in use, and the rebuild is retried at the next
+ * interval.
+ *
+ * Exposed metrics:
+ * - messages.search.refresh{result=success|failure}: duration of each rebuild
+ *
+ * Requirements addressed:
+ * - Message Search: Keeps the per-instance index in step with the shared messages table
+ */
+@Component
+public class MessageSearchRefreshJob implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(MessageSearchRefreshJob.class);
+
+    private final MessageSearchIndex messageSearchIndex;
+
+    private final long intervalMillis;
+
+    private final Timer successTimer;
+
+    private final Timer failureTimer;
+
+    private volatile boolean running;
+
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Constructs the job and registers its metrics.
+     *
+     * @param messageSearchIndex Index that is rebuilt
+     * @param serviceProperties Service configuration providing service.search.refresh-interval
+     * @param meterRegistry Registry the job metrics are published to
+     */
+    public MessageSearchRefreshJob(MessageSearchIndex messageSearchIndex, ServiceProperties serviceProperties,
+                                   MeterRegistry meterRegistry) {
+        this.messageSearchIndex = messageSearchIndex;
+        this.intervalMillis = serviceProperties.getSearch().getRefreshInterval().toMillis();
+        this.successTimer = runTimer(meterRegistry, "success");
+        this.failureTimer = runTimer(meterRegistry, "failure");
+    }
+
+    /**
+     * Rebuilds the index once. Called periodically by the scheduler thread.
+     */
+    void run() {
+        long start = System.nanoTime();
+        try {
+            messageSearchIndex.rebuild();
+            successTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        catch (RuntimeException ex) {
+            if (!running) {
+                // Interrupted by stop()
+                return;
+            }
+            failureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            logger.error("Failed to rebuild the message search index", ex);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        if (intervalMillis == 0) {
+            return;
+        }
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("message-search-refresh-");
+        threadFactory.setDaemon(true);
+        scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+        scheduler.scheduleWithFixedDelay(this::run, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private static Timer runTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("messages.search.refresh")
+            .description("Time taken by one rebuild of the message search index")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,334 @@
+package sample.actuator.persistence;
+
+// Micrometer 1.11.0
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// SLF4J 2.0.7
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// Spring Framework 6.0.0
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import sample.actuator.ServiceProperties;
+import sample.actuator.exception.MessageQueueFullException;
+import sample.actuator.model.Message;
+import sample.actuator.repository.MessageStoreRepository;
+
+/**
+ * Asynchronous write-behind pipeline that persists accepted messages in JDBC batches.
+ *
+ * Request threads only enqueue into a bounded queue; a single writer thread drains up to
+ * service.persistence.batch-size messages at a time and inserts them through
+ * MessageStoreRepository.insertBatch(), then publishes the written messages to the
+ * RecentMessageCache and adds them to the MessageSearchIndex and MessageBuckets. When the queue is full, enqueue fails fast so the caller can answer 429
+ * instead of blocking a request thread.
+ *
+ * The pipeline is a SmartLifecycle stopped after the web server, so requests accepted
+ * before shutdown are flushed before the DataSource is closed. enqueue() checks the running
+ * flag and offers under the read side of acceptLock and stop() clears the flag under the
+ * write side, so every message enqueue() accepted is in the queue before the writer sees
+ * the flag cleared and runs its final drain.
+ *
+ * persist() writes a batch synchronously for callers that need the outcome, such as bulk
+ * ingestion. Every write, from either path, runs under one lock and stamps created_at at
+ * write time, so the (created_at, id) order of the table always matches the order in
+ * which batches are published to the RecentMessageCache.
+ *
+ * With service.dedup.enabled, every write first drops the messages whose value is already
+ * stored or repeated within the batch (MessageValueIndex.retainAbsent()). Since writes are
+ * serialized, this makes each write "insert if absent" for this instance; two instances
+ * writing the same new value in the same moment can still both store it. Dropped messages
+ * keep a null id.
+ *
+ * Exposed metrics:
+ * - messages.writebehind.queue.depth: messages waiting to be written
+ * - messages.writebehind.batch.size: messages per flushed batch
+ * - messages.writebehind.flush: flush latency
+ * - messages.writebehind.persisted / rejected / failed / deduplicated: message counters
+ *
+ * Requirements addressed:
+ * - Message Persistence: Persists POSTed messages without one insert per request
+ */
+@Component
+public class MessageWriteBehindQueue implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(MessageWriteBehindQueue.class);
+
+    /**
+     * Stop after the embedded web server (which stops at DEFAULT_PHASE - 2048) so no new
+     * messages arrive while the queue is drained.
+     */
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final MessageStoreRepository messageRepository;
+
+    private final RecentMessageCache recentMessageCache;
+
+    private final MessageSearchIndex messageSearchIndex;
+
+    private final MessageValueIndex messageValueIndex;
+
+    private final MessageBuckets messageBuckets;
+
+    private final boolean deduplicate;
+
+    private final BlockingQueue<Message> queue;
+
+    private final int batchSize;
+
+    private final long flushIntervalNanos;
+
+    private final long shutdownTimeoutMillis;
+
+    private final DistributionSummary batchSizeSummary;
+
+    private final Timer flushTimer;
+
+    private final Counter persistedCounter;
+
+    private final Counter rejectedCounter;
+
+    private final Counter failedCounter;
+
+    private final Counter deduplicatedCounter;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private final ReentrantReadWriteLock acceptLock = new ReentrantReadWriteLock();
+
+    private volatile boolean running;
+
+    private Thread writer;
+
+    /**
+     * Constructs the pipeline and registers its metrics.
+     *
+     * @param messageRepository Repository used for the batched inserts
+     * @param recentMessageCache Cache the written messages are published to
+     * @param messageSearchIndex Search index the written messages are added to
+     * @param messageValueIndex Value index the written messages are added to and checked
+     *                          against for deduplication
+     * @param messageBuckets Bucket catalog the written messages are added to
+     * @param serviceProperties Service configuration providing the service.persistence.* and
+     *                          service.dedup.enabled settings
+     * @param meterRegistry Registry the pipeline metrics are published to
+     */
+    public MessageWriteBehindQueue(MessageStoreRepository messageRepository, RecentMessageCache recentMessageCache,
+                                   MessageSearchIndex messageSearchIndex, MessageValueIndex messageValueIndex,
+                                   MessageBuckets messageBuckets, ServiceProperties serviceProperties,
+                                   MeterRegistry meterRegistry) {
+        ServiceProperties.Persistence persistence = serviceProperties.getPersistence();
+        this.messageRepository = messageRepository;
+        this.recentMessageCache = recentMessageCache;
+        this.messageSearchIndex = messageSearchIndex;
+        this.messageValueIndex = messageValueIndex;
+        this.messageBuckets = messageBuckets;
+        this.deduplicate = serviceProperties.getDedup().isEnabled();
+        this.queue = new ArrayBlockingQueue<>(persistence.getQueueCapacity());
+        this.batchSize = persistence.getBatchSize();
+        this.flushIntervalNanos = persistence.getFlushInterval().toNanos();
+        this.shutdownTimeoutMillis = persistence.getShutdownTimeout().toMillis();
+
+        Gauge.builder("messages.writebehind.queue.depth", queue, BlockingQueue::size)
+            .description("Messages waiting to be written")
+            .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("messages.writebehind.batch.size")
+            .description("Messages per flushed batch")
+            .register(meterRegistry);
+        this.flushTimer = Timer.builder("messages.writebehind.flush")
+            .description("Time taken to write one batch")
+            .register(meterRegistry);
+        this.persistedCounter = Counter.builder("messages.writebehind.persisted")
+            .description("Messages written to the database")
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("messages.writebehind.rejected")
+            .description("Messages rejected because the queue was full")
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder("messages.writebehind.failed")
+            .description("Messages dropped because their batch failed to be written")
+            .register(meterRegistry);
+        this.deduplicatedCounter = Counter.builder("messages.writebehind.deduplicated")
+            .description("Messages not written because their value was already stored")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Accepts a message for asynchronous persistence without blocking.
+     *
+     * @param value the validated message value
+     * @return the queued message, timestamped with its acceptance time until it is written
+     * @throws MessageQueueFullException if the queue is full or the pipeline is stopped
+     */
+    public Message enqueue(String value) {
+        Message message = new Message(value, Instant.now());
+        boolean accepted;
+        acceptLock.readLock().lock();
+        try {
+            accepted = running && queue.offer(message);
+        }
+        finally {
+            acceptLock.readLock().unlock();
+        }
+        if (!accepted) {
+            rejectedCounter.increment();
+            throw new MessageQueueFullException("Message queue is full, retry later");
+        }
+        return message;
+    }
+
+    /**
+     * Writes the given messages synchronously on the caller's thread, serialized with the
+     * background writer. Generated ids are set on the written messages; messages skipped as
+     * duplicates keep a null id.
+     *
+     * @param messages Messages to insert, oldest first
+     * @return number of inserted rows
+     * @throws org.springframework.dao.DataAccessException if the batch cannot be written
+     */
+    public int persist(List<Message> messages) {
+        long start = System.nanoTime();
+        try {
+            return write(messages);
+        }
+        catch (RuntimeException ex) {
+            failedCounter.increment(messages.size());
+            throw ex;
+        }
+        finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            batchSizeSummary.record(messages.size());
+        }
+    }
+
+    /**
+     * Gets the number of messages waiting to be written.
+     *
+     * @return current queue depth
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writer = new Thread(this::drainLoop, "message-write-behind");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Stops accepting messages and waits up to the shutdown timeout for the writer to
+     * flush everything still queued.
+     */
+    @Override
+    public void stop() {
+        acceptLock.writeLock().lock();
+        try {
+            running = false;
+        }
+        finally {
+            acceptLock.writeLock().unlock();
+        }
+        try {
+            writer.join(shutdownTimeoutMillis);
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            logger.warn("Write-behind queue not drained within {} ms, {} message(s) lost",
+                shutdownTimeoutMillis, queue.size());
+            writer.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void drainLoop() {
+        List<Message> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Message first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            }
+            catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<Message> batch) {
+        long start = System.nanoTime();
+        try {
+            write(batch);
+        }
+        catch (RuntimeException ex) {
+            failedCounter.increment(batch.size());
+            logger.error("Failed to write batch of {} message(s)", batch.size(), ex);
+        }
+        finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            batchSizeSummary.record(batch.size());
+        }
+    }
+
+    private int write(List<Message> batch) {
+        writeLock.lock();
+        try {
+            List<Message> written = batch;
+            if (deduplicate) {
+                written = messageValueIndex.retainAbsent(batch);
+                deduplicatedCounter.increment(batch.size() - written.size());
+                if (written.isEmpty()) {
+                    return 0;
+                }
+            }
+            Instant writtenAt = Instant.now();
+            for (Message message : written) {
+                message.setCreatedAt(writtenAt);
+            }
+            int inserted = messageRepository.insertBatch(written);
+            persistedCounter.increment(inserted);
+            recentMessageCache.publishAll(written);
+            messageSearchIndex.addAll(written);
+            messageBuckets.addAll(written);
+            return inserted;
+        }
+        finally {
+            writeLock.unlock();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,142 @@
+package sample.actuator.persistence;
+
+import java.util.Arrays;
+
+/**
+ * Ascending message ids containing one term, stored in a primitive long array that doubles
+ * when full.
+ *
+ * A single writer appends; any number of readers take a snapshot concurrently. The writer
+ * stores the element (or the grown array) before publishing the new size, and readers read
+ * the size before the array, so a reader never sees an id past the size it read.
+ *
+ * Requirements addressed:
+ * - Message Search: Keeps posting lists free of boxed ids
+ */
+final class PostingList {
+
+    private static final long[] EMPTY = new long[0];
+
+    private volatile long[] ids;
+
+    private volatile int size;
+
+    PostingList() {
+        this.ids = EMPTY;
+    }
+
+    /**
+     * Appends an id. Must only be called by the single writer, with ids in ascending order;
+     * an id not greater than the last one is ignored.
+     *
+     * @param id the message id
+     */
+    void add(long id) {
+        int n = size;
+        long[] current = ids;
+        if (n > 0 && current[n - 1] >= id) {
+            return;
+        }
+        if (n == current.length) {
+            current = Arrays.copyOf(current, Math.max(4, n * 2));
+            current[n] = id;
+            ids = current;
+        }
+        else {
+            current[n] = id;
+        }
+        size = n + 1;
+    }
+
+    /**
+     * Appends all ids of another list whose ids are all greater than those of this list.
+     * Must only be called by the single writer.
+     *
+     * @param other the list to append
+     */
+    void addAll(PostingList other) {
+        int count = other.size;
+        long[] source = other.ids;
+        for (int i = 0; i < count; i++) {
+            add(source[i]);
+        }
+    }
+
+    /**
+     * Drops the ids up to a floor, for messages removed by retention. Must only be called
+     * by the single writer; the list itself is not modified, so readers holding it are not
+     * affected.
+     *
+     * @param floor highest id to drop
+     * @return this list if it has no id up to the floor, a new list holding the remaining
+     *         ids, or null if no id remains
+     */
+    PostingList after(long floor) {
+        int n = size;
+        long[] current = ids;
+        if (n > 0 && current[0] > floor) {
+            return this;
+        }
+        int index = Arrays.binarySearch(current, 0, n, floor + 1);
+        int from = index >= 0 ? index : -(index + 1);
+        if (from == n) {
+            return null;
+        }
+        PostingList retained = new PostingList();
+        retained.ids = Arrays.copyOfRange(current, from, n);
+        retained.size = n - from;
+        return retained;
+    }
+
+    /**
+     * Gets the number of ids.
+     *
+     * @return the size
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Takes a consistent view of the ids appended so far.
+     *
+     * @return the ids appended so far
+     */
+    Snapshot snapshot() {
+        int n = size;
+        return new Snapshot(ids, n);
+    }
+
+    /**
+     * Ids of a posting list at the time of the snapshot, ascending.
+     */
+    static final class Snapshot {
+
+        private final long[] ids;
+
+        private final int size;
+
+        Snapshot(long[] ids, int size) {
+            this.ids = ids;
+            this.size = size;
+        }
+
+        /**
+         * Gets the backing array, shared with the list.
+         *
+         * @return the ids; only the first size() elements are valid
+         */
+        long[] ids() {
+            return ids;
+        }
+
+        /**
+         * Gets the number of valid ids.
+         *
+         * @return the size
+         */
+        int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package sample.actuator.persistence;
+
+// Micrometer 1.11.0
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Spring Framework 6.0.0
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import sample.actuator.ServiceProperties;
+import sample.actuator.model.Message;
+import sample.actuator.repository.MessageStoreRepository;
+
+/**
+ * Bounded, lock-free ring buffer of the most recently persisted messages, newest last.
+ *
+ * Writers claim a sequence number with a single atomic increment and publish the message
+ * into slot (sequence % capacity) together with that sequence number. Readers walk back
+ * from the newest claimed sequence and only accept a slot whose sequence matches the one
+ * they expect, so a slot that is still being written or was already overwritten is seen
+ * as a miss and the caller falls back to MessageStoreRepository. No reader ever blocks a writer.
+ *
+ * The ring is warmed from the database at startup, so it reflects the newest rows of the
+ * table rather than only what this instance wrote. It is a per-instance view: messages
+ * written by other instances are not seen until they age out of the requested window.
+ * Only full pages are served from the ring. A page the ring cannot fill is a miss, even
+ * when the ring was warmed with the whole table, because other instances may have written
+ * the rest; messages dropped by retention end the ring like any other short page.
+ *
+ * Exposed metrics:
+ * - messages.cache.requests{result=hit|miss}: lookups answered from the ring or not
+ * - messages.cache.size: messages currently held
+ *
+ * Requirements addressed:
+ * - Message Retrieval: Serves latest-message reads without touching the DataSource
+ */
+@Component
+public class RecentMessageCache implements InitializingBean {
+
+    private final MessageStoreRepository messageRepository;
+
+    private final boolean enabled;
+
+    private final int capacity;
+
+    private final AtomicReferenceArray<Slot> slots;
+
+    /**
+     * Number of sequence numbers claimed so far; the newest message has sequence head - 1.
+     */
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * Highest id dropped by retention; older messages are no longer in the table.
+     */
+    private volatile long floorId;
+
+    private final Counter hits;
+
+    private final Counter misses;
+
+    /**
+     * Constructs the cache and registers its metrics.
+     *
+     * @param messageRepository Repository used to warm the ring at startup
+     * @param serviceProperties Service configuration providing service.recent-messages.*
+     * @param meterRegistry Registry the cache metrics are published to
+     */
+    public RecentMessageCache(MessageStoreRepository messageRepository, ServiceProperties serviceProperties,
+                              MeterRegistry meterRegistry) {
+        ServiceProperties.RecentMessages settings = serviceProperties.getRecentMessages();
+        this.messageRepository = messageRepository;
+        this.enabled = settings.isEnabled();
+        this.capacity = settings.getCapacity();
+        this.slots = new AtomicReferenceArray<>(capacity);
+
+        this.hits = Counter.builder("messages.cache.requests")
+            .tag("result", "hit")
+            .description("Latest-message lookups answered by the recent message cache")
+            .register(meterRegistry);
+        this.misses = Counter.builder("messages.cache.requests")
+            .tag("result", "miss")
+            .description("Latest-message lookups that fell back to the database")
+            .register(meterRegistry);
+        Gauge.builder("messages.cache.size", this, RecentMessageCache::size)
+            .description("Messages held by the recent message cache")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Loads the newest rows of the messages table, oldest first, so the ring starts out
+     * consistent with the database.
+     */
+    @Override
+    public void afterPropertiesSet() {
+        if (!enabled) {
+            return;
+        }
+        List<Message> newest = messageRepository.findLatestMessages(capacity);
+        for (int i = newest.size() - 1; i >= 0; i--) {
+            publish(newest.get(i));
+        }
+    }
+
+    /**
+     * Publishes persisted messages in the order they were written. Messages without an id
+     * are ignored, since they cannot be addressed by a cursor.
+     *
+     * @param messages persisted messages, oldest first
+     */
+    public void publishAll(List<Message> messages) {
+        if (!enabled) {
+            return;
+        }
+        for (Message message : messages) {
+            if (message.getId() != null) {
+                publish(message);
+            }
+        }
+    }
+
+    /**
+     * Returns the newest messages, newest first.
+     *
+     * @param count number of messages wanted
+     * @return exactly count messages, or null on a miss
+     */
+    public List<Message> findLatest(int count) {
+        return collect(head.get() - 1, count);
+    }
+
+    /**
+     * Returns the messages published before the message with the given id, newest first.
+     *
+     * @param id id of the last message of the previous page
+     * @param count number of messages wanted
+     * @return exactly count messages, or null on a miss
+     */
+    public List<Message> findOlderThan(long id, int count) {
+        if (!enabled) {
+            misses.increment();
+            return null;
+        }
+        long newest = head.get() - 1;
+        long oldest = Math.max(0, newest - capacity + 1);
+        for (long sequence = newest; sequence >= oldest; sequence--) {
+            Slot slot = slots.get(index(sequence));
+            if (slot == null || slot.sequence != sequence) {
+                break;
+            }
+            if (slot.message.getId() == id) {
+                return collect(sequence - 1, count);
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Stops serving the messages up to an id, after retention deleted them from the
+     * messages table.
+     *
+     * @param lastDroppedId highest dropped id
+     */
+    public void retainAfter(long lastDroppedId) {
+        floorId = Math.max(floorId, lastDroppedId);
+    }
+
+    /**
+     * Gets the number of messages currently held.
+     *
+     * @return held message count
+     */
+    public int size() {
+        return (int) Math.min(head.get(), capacity);
+    }
+
+    private void publish(Message message) {
+        long sequence = head.getAndIncrement();
+        slots.set(index(sequence), new Slot(sequence, message));
+    }
+
+    private List<Message> collect(long from, int count) {
+        if (!enabled) {
+            misses.increment();
+            return null;
+        }
+        long oldest = Math.max(0, head.get() - capacity);
+        long floor = floorId;
+        List<Message> result = new ArrayList<>(count);
+        for (long sequence = from; sequence >= oldest && result.size() < count; sequence--) {
+            Slot slot = slots.get(index(sequence));
+            if (slot == null || slot.sequence != sequence) {
+                // Slot claimed but not yet written, or overwritten by a newer message
+                misses.increment();
+                return null;
+            }
+            if (slot.message.getId() <= floor) {
+                break;
+            }
+            result.add(slot.message);
+        }
+        // The rest of a short page may have been written by another instance
+        if (result.size() < count) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return result;
+    }
+
+    private int index(long sequence) {
+        return (int) (sequence % capacity);
+    }
+
+    /**
+     * Immutable ring entry pairing a message with the sequence number it was published under.
+     */
+    private static final class Slot {
+
+        private final long sequence;
+
+        private final Message message;
+
+        private Slot(long sequence, Message message) {
+            this.sequence = sequence;
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package sample.actuator.repository;
+
+import sample.actuator.model.HealthStatusRecord;
+import java.util.List;
+
+/**
+ * Repository fragment for inserting health records as JDBC batches.
+ *
+ * Like messages, health records use an IDENTITY id, so Hibernate would insert them one
+ * statement at a time. This fragment issues a single JDBC batch instead.
+ *
+ * Addresses requirement: Health History
+ * - Provides the batched insert used by HealthHistoryRecorder
+ */
+public interface HealthStatusBatchRepository {
+
+    /**
+     * Inserts the given health records using one JDBC batch. Generated ids are not read back.
+     *
+     * @param records Records to insert
+     * @return number of inserted rows
+     */
+    int insertBatch(List<HealthStatusRecord> records);
+}
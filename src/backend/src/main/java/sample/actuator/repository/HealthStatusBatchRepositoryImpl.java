@@ -0,0 +1,54 @@
+package sample.actuator.repository;
+
+// Spring Framework v6.0.0
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import sample.actuator.model.HealthStatusRecord;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * JdbcTemplate based implementation of the HealthStatusBatchRepository fragment, picked up
+ * by Spring Data through the Impl naming convention and mixed into HealthStatusRepository.
+ *
+ * Addresses requirement: Health History
+ * - Groups health record inserts into one JDBC batch within a single transaction
+ */
+public class HealthStatusBatchRepositoryImpl implements HealthStatusBatchRepository {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO health_status (component, status, details, last_checked) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructs the fragment with the JdbcTemplate bound to the application DataSource.
+     *
+     * @param jdbcTemplate JdbcTemplate used to execute the batch inserts
+     */
+    public HealthStatusBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public int insertBatch(List<HealthStatusRecord> records) {
+        if (records.isEmpty()) {
+            return 0;
+        }
+        int[] counts = jdbcTemplate.batchUpdate(INSERT_SQL, records, records.size(), (ps, record) -> {
+            ps.setString(1, record.getComponent());
+            ps.setString(2, record.getStatus());
+            ps.setString(3, record.getDetails());
+            ps.setTimestamp(4, Timestamp.from(record.getLastChecked()));
+        })[0];
+        int total = 0;
+        for (int count : counts) {
+            // Drivers may report SUCCESS_NO_INFO (-2) for batched statements
+            total += count < 0 ? 1 : count;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,50 @@
+package sample.actuator.repository;
+
+// Spring Data JPA v3.0.0
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Pageable;
+// Spring Framework v6.0.0
+import org.springframework.stereotype.Repository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import sample.actuator.model.HealthStatusRecord;
+import java.util.List;
+
+/**
+ * Repository interface for recorded health states.
+ *
+ * Addresses requirement: Health History
+ * - Provides the per-component timeline queries behind the healthhistory endpoint
+ * - Mixes in HealthStatusBatchRepository for JDBC batch inserts
+ *
+ * Timelines are ordered by id rather than last_checked: records are inserted in evaluation
+ * order, and the equality predicate on component lets the database seek into
+ * idx_health_component, whose entries already carry the row id.
+ */
+@Repository
+public interface HealthStatusRepository extends JpaRepository<HealthStatusRecord, Long>, HealthStatusBatchRepository {
+
+    /**
+     * Retrieves the newest recorded states of a component.
+     *
+     * @param component name of the health indicator
+     * @param pageable Page size to fetch
+     * @return Records of the component, newest first
+     */
+    @Query("SELECT h FROM HealthStatusRecord h WHERE h.component = :component ORDER BY h.id DESC")
+    List<HealthStatusRecord> findTimeline(@Param("component") String component, Pageable pageable);
+
+    /**
+     * Retrieves the recorded states of a component older than the given record.
+     *
+     * @param component name of the health indicator
+     * @param before id of the oldest record of the previous page
+     * @param pageable Page size to fetch
+     * @return Records of the component older than the cursor, newest first
+     */
+    @Query("SELECT h FROM HealthStatusRecord h WHERE h.component = :component AND h.id < :before "
+        + "ORDER BY h.id DESC")
+    List<HealthStatusRecord> findTimelineBefore(@Param("component") String component,
+                                                @Param("before") long before, Pageable pageable);
+}
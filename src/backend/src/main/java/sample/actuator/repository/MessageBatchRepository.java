@@ -0,0 +1,39 @@
+package sample.actuator.repository;
+
+import sample.actuator.model.Message;
+import java.util.List;
+
+/**
+ * Repository fragment for inserting messages as JDBC batches.
+ *
+ * Messages use an IDENTITY id (messages.id AUTO_INCREMENT), which makes Hibernate disable
+ * insert batching regardless of hibernate.jdbc.batch_size. This fragment bypasses the
+ * persistence context and issues real JDBC batch inserts instead.
+ *
+ * Addresses requirement: Message Persistence
+ * - Provides the batched insert used by the write-behind persistence pipeline
+ *
+ * Addresses requirement: Message Deduplication
+ * - Provides the single index probe that checks a batch for stored duplicates
+ */
+public interface MessageBatchRepository {
+
+    /**
+     * Inserts the given messages using JDBC batches. Generated ids are read back and set on
+     * the given messages, and a missing created_at is stamped with the current time.
+     *
+     * @param messages Messages to insert, each with a non-blank value
+     * @return number of inserted rows
+     */
+    int insertBatch(List<Message> messages);
+
+    /**
+     * Finds the stored values whose digest is one of the given ones, with one query on
+     * idx_messages_value_hash. Digest collisions are not resolved: callers compare the
+     * returned values with their own.
+     *
+     * @param valueHashes SHA-256 digests of the values to look up
+     * @return values of the stored messages with one of the digests, in no particular order
+     */
+    List<String> findValuesByHashes(List<byte[]> valueHashes);
+}
@@ -0,0 +1,99 @@
+package sample.actuator.repository;
+
+// Spring Framework v6.0.0
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import sample.actuator.model.Message;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * JdbcTemplate based implementation of the MessageBatchRepository fragment, picked up by
+ * Spring Data through the Impl naming convention and mixed into MessageRepository.
+ *
+ * Addresses requirement: Message Persistence
+ * - Groups message inserts into JDBC batches within a single transaction
+ *
+ * Addresses requirement: Message Deduplication
+ * - Resolves the possible duplicates of a batch with one value_hash index query
+ */
+public class MessageBatchRepositoryImpl implements MessageBatchRepository {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO messages (value, created_at, value_hash) VALUES (?, ?, ?)";
+
+    private static final String SELECT_VALUES_SQL = "SELECT value FROM messages WHERE value_hash IN (";
+
+    private static final String[] GENERATED_COLUMNS = {"id"};
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructs the fragment with the JdbcTemplate bound to the application DataSource.
+     *
+     * @param jdbcTemplate JdbcTemplate used to execute the batch inserts
+     */
+    public MessageBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public int insertBatch(List<Message> messages) {
+        if (messages.isEmpty()) {
+            return 0;
+        }
+        Integer inserted = jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL, GENERATED_COLUMNS)) {
+                for (Message message : messages) {
+                    if (message.getCreatedAt() == null) {
+                        message.setCreatedAt(Instant.now());
+                    }
+                    ps.setString(1, message.getValue());
+                    ps.setTimestamp(2, Timestamp.from(message.getCreatedAt()));
+                    ps.setBytes(3, message.getValueHash());
+                    ps.addBatch();
+                }
+                int[] counts = ps.executeBatch();
+
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    int index = 0;
+                    while (keys.next() && index < messages.size()) {
+                        messages.get(index++).setId(keys.getLong(1));
+                    }
+                }
+
+                int total = 0;
+                for (int count : counts) {
+                    // Drivers may report SUCCESS_NO_INFO (-2) for batched statements
+                    total += count < 0 ? 1 : count;
+                }
+                return total;
+            }
+        });
+        return inserted != null ? inserted : 0;
+    }
+
+    // Read-write so that it runs on the primary: the deduplication check must see rows
+    // written moments ago, which a read replica may not have received yet
+    @Override
+    @Transactional
+    public List<String> findValuesByHashes(List<byte[]> valueHashes) {
+        if (valueHashes.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String sql = SELECT_VALUES_SQL + String.join(", ", Collections.nCopies(valueHashes.size(), "?")) + ")";
+        return jdbcTemplate.query(sql, ps -> {
+            for (int i = 0; i < valueHashes.size(); i++) {
+                ps.setBytes(i + 1, valueHashes.get(i));
+            }
+        }, (rs, rowNum) -> rs.getString(1));
+    }
+}
@@ -0,0 +1,28 @@
+package sample.actuator.repository;
+
+import sample.actuator.model.MessageBucket;
+
+/**
+ * Repository fragment for purging expired time buckets from the messages table.
+ *
+ * Buckets are logical: every message stays in the one messages table, since H2 has no
+ * declarative partitioning that a bucket could be detached or dropped from. Purging a bucket
+ * therefore deletes its rows one by one, but selects them by primary key range, resolved
+ * through the primary index alone instead of walking idx_messages_created_at as a DELETE by
+ * created_at would.
+ *
+ * Addresses requirement: Message Time Buckets
+ * - Provides the key range delete behind the retention job
+ */
+public interface MessageBucketPurgeRepository {
+
+    /**
+     * Deletes every message with an id up to the last id of the bucket, together with
+     * the bucket's catalog row, in one transaction. Buckets must be purged oldest
+     * first; messages the catalog missed below the bucket go with it.
+     *
+     * @param bucket the oldest bucket
+     * @return number of deleted messages
+     */
+    long purgeBucket(MessageBucket bucket);
+}
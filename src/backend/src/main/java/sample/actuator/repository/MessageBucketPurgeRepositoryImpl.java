@@ -0,0 +1,43 @@
+package sample.actuator.repository;
+
+// Spring Framework v6.0.0
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import sample.actuator.model.MessageBucket;
+
+import java.sql.Timestamp;
+
+/**
+ * JdbcTemplate based implementation of the MessageBucketPurgeRepository fragment, picked
+ * up by Spring Data through the Impl naming convention and mixed into
+ * MessageBucketRepository.
+ *
+ * Addresses requirement: Message Time Buckets
+ * - Deletes a bucket's messages and its catalog row atomically
+ */
+public class MessageBucketPurgeRepositoryImpl implements MessageBucketPurgeRepository {
+
+    private static final String DELETE_MESSAGES_SQL = "DELETE FROM messages WHERE id <= ?";
+
+    private static final String DELETE_BUCKET_SQL = "DELETE FROM message_buckets WHERE bucket_start = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructs the fragment with the JdbcTemplate bound to the application DataSource.
+     *
+     * @param jdbcTemplate JdbcTemplate used to execute the deletes
+     */
+    public MessageBucketPurgeRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public long purgeBucket(MessageBucket bucket) {
+        int deleted = jdbcTemplate.update(DELETE_MESSAGES_SQL, bucket.getLastId());
+        jdbcTemplate.update(DELETE_BUCKET_SQL, Timestamp.from(bucket.getBucketStart()));
+        return deleted;
+    }
+}
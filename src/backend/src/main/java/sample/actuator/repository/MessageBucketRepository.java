@@ -0,0 +1,29 @@
+package sample.actuator.repository;
+
+// Spring Data JPA v3.0.0
+import org.springframework.data.jpa.repository.JpaRepository;
+// Spring Framework v6.0.0
+import org.springframework.stereotype.Repository;
+
+import sample.actuator.model.MessageBucket;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Repository interface for the bucket catalog of the messages table.
+ *
+ * Addresses requirement: Message Time Buckets
+ * - Persists the id range of every bucket, keyed by its start
+ * - Mixes in MessageBucketPurgeRepository for purging expired buckets
+ */
+@Repository
+public interface MessageBucketRepository extends JpaRepository<MessageBucket, Instant>,
+        MessageBucketPurgeRepository {
+
+    /**
+     * Retrieves the whole catalog.
+     *
+     * @return all buckets, oldest first
+     */
+    List<MessageBucket> findAllByOrderByBucketStartAsc();
+}
@@ -0,0 +1,39 @@
+package sample.actuator.repository;
+
+import sample.actuator.model.Message;
+import java.util.function.Consumer;
+
+/**
+ * Repository fragment for reading the messages table through a forward-only JDBC cursor.
+ *
+ * List-returning queries materialize every row in the heap; this fragment hands rows to
+ * the caller one at a time while the driver fetches them in batches of the fetch size.
+ *
+ * Addresses requirement: Message Export
+ * - Provides the constant-memory, resumable table scan behind the streaming export
+ */
+public interface MessageExportRepository {
+
+    /**
+     * Streams all messages with an id greater than afterId in ascending id order. Each row
+     * is passed to the consumer as a detached Message before the next one is read.
+     *
+     * @param afterId id of the last message already seen, 0 to start from the beginning
+     * @param fetchSize JDBC fetch size hint
+     * @param consumer receiver of each row
+     * @return number of streamed rows
+     */
+    long streamAfter(long afterId, int fetchSize, Consumer<Message> consumer);
+
+    /**
+     * Streams the messages with an id greater than afterId and at most toId in ascending id
+     * order. Disjoint ranges can be streamed concurrently, each on its own connection.
+     *
+     * @param afterId exclusive lower bound of the id range
+     * @param toId inclusive upper bound of the id range
+     * @param fetchSize JDBC fetch size hint
+     * @param consumer receiver of each row
+     * @return number of streamed rows
+     */
+    long streamRange(long afterId, long toId, int fetchSize, Consumer<Message> consumer);
+}
@@ -0,0 +1,74 @@
+package sample.actuator.repository;
+
+// Spring Framework v6.0.0
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.annotation.Transactional;
+
+import sample.actuator.model.Message;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.function.Consumer;
+
+/**
+ * JdbcTemplate based implementation of the MessageExportRepository fragment, picked up by
+ * Spring Data through the Impl naming convention and mixed into MessageRepository.
+ *
+ * The scan is keyed on the primary key, so resuming after a given id is an index seek
+ * and rows written during an export are picked up by the next resumed export. It runs in
+ * a read-only transaction because several drivers (PostgreSQL among them) only honour the
+ * fetch size with auto-commit disabled.
+ *
+ * Addresses requirement: Message Export
+ * - Streams the messages table row by row with a bounded driver-side buffer
+ */
+public class MessageExportRepositoryImpl implements MessageExportRepository {
+
+    private static final String SELECT_SQL =
+        "SELECT id, value, created_at FROM messages WHERE id > ? AND id <= ? ORDER BY id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructs the fragment with the JdbcTemplate bound to the application DataSource.
+     *
+     * @param jdbcTemplate JdbcTemplate used to run the cursor query
+     */
+    public MessageExportRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long streamAfter(long afterId, int fetchSize, Consumer<Message> consumer) {
+        return streamRange(afterId, Long.MAX_VALUE, fetchSize, consumer);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long streamRange(long afterId, long toId, int fetchSize, Consumer<Message> consumer) {
+        long[] count = {0};
+        RowCallbackHandler handler = rs -> {
+            Message message = new Message(rs.getString(2), toInstant(rs.getTimestamp(3)));
+            message.setId(rs.getLong(1));
+            consumer.accept(message);
+            count[0]++;
+        };
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(SELECT_SQL,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            ps.setLong(1, afterId);
+            ps.setLong(2, toId);
+            return ps;
+        }, handler);
+        return count[0];
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+}
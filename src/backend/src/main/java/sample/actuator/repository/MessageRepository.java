@@ -2,12 +2,15 @@ package sample.actuator.repository;
 
 // Spring Data JPA v3.0.0
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Pageable;
 // Spring Framework v6.0.0
 import org.springframework.stereotype.Repository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import sample.actuator.model.Message;
+import java.time.Instant;
 import java.util.List;
 
 /**
@@ -18,27 +21,74 @@ import java.util.List;
  * - Provides data access layer for persisting and retrieving Message entities
  * - Implements custom query methods with support for filtering and pagination
  * - Extends JpaRepository to inherit standard CRUD operations
+ * - Implements MessageStoreRepository, the type the application depends on, with JPQL
+ *   queries and the MessageBatchRepository and MessageExportRepository JDBC fragments
+ * - Runs its queries in read-only transactions, which are served by a read replica when
+ *   service.replicas.enabled is set
  */
 @Repository
-public interface MessageRepository extends JpaRepository<Message, Long> {
+// The fragments are repeated here because Spring Data only looks up Impl classes for the
+// interfaces a repository extends directly
+public interface MessageRepository extends JpaRepository<Message, Long>, MessageStoreRepository,
+        MessageBatchRepository, MessageExportRepository {
     
     /**
-     * Finds messages by their value content using Spring Data JPA query derivation.
-     * 
-     * @param value The message value to search for
+     * Finds messages by value digest and value.
+     *
+     * @param valueHash SHA-256 digest of the value, see MessageValueHash
+     * @param value The message value, compared to rule out digest collisions
      * @return List of messages matching the value, empty list if none found
-     * @throws IllegalArgumentException if value parameter is null
      */
-    List<Message> findByValue(String value);
+    @Override
+    @Transactional(readOnly = true)
+    @Query("SELECT m FROM Message m WHERE m.valueHash = :valueHash AND m.value = :value")
+    List<Message> findByValueHash(@Param("valueHash") byte[] valueHash, @Param("value") String value);
     
     /**
-     * Retrieves the most recent messages ordered by creation timestamp.
-     * Uses a custom JPQL query to fetch latest messages with limit.
-     * 
-     * @param limit Maximum number of messages to retrieve
-     * @return List of most recent messages limited by parameter, ordered by newest first
-     * @throws IllegalArgumentException if limit parameter is not positive
+     * Retrieves the first page of messages, newest first, for keyset pagination.
+     * Only the page size of the Pageable is used; no count query is issued.
+     *
+     * @param pageable Page size to fetch
+     * @return Messages ordered by created_at and id, newest first
      */
-    @Query("SELECT m FROM Message m ORDER BY m.id DESC")
-    List<Message> findLatestMessages(@Param("limit") int limit);
+    @Override
+    @Transactional(readOnly = true)
+    @Query("SELECT m FROM Message m ORDER BY m.createdAt DESC, m.id DESC")
+    List<Message> findNewest(Pageable pageable);
+
+    /**
+     * Retrieves the page of messages strictly older than the given keyset cursor.
+     * The (created_at, id) predicate lets the database seek into idx_messages_created_at
+     * instead of skipping over an OFFSET, so every page costs the same regardless of depth.
+     *
+     * @param createdAt created_at of the last message of the previous page
+     * @param id id of the last message of the previous page, breaking created_at ties
+     * @param pageable Page size to fetch
+     * @return Messages older than the cursor, newest first
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Query("SELECT m FROM Message m WHERE m.createdAt < :createdAt "
+        + "OR (m.createdAt = :createdAt AND m.id < :id) ORDER BY m.createdAt DESC, m.id DESC")
+    List<Message> findOlderThan(@Param("createdAt") Instant createdAt, @Param("id") long id, Pageable pageable);
+
+    /**
+     * Finds the lowest message id, read from the start of the primary key index.
+     *
+     * @return the lowest id, or null if the table is empty
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Query("SELECT MIN(m.id) FROM Message m")
+    Long findMinId();
+
+    /**
+     * Finds the highest message id, read from the end of the primary key index.
+     *
+     * @return the highest id, or null if the table is empty
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Query("SELECT MAX(m.id) FROM Message m")
+    Long findMaxId();
 }
\ No newline at end of file
@@ -0,0 +1,99 @@
+package sample.actuator.repository;
+
+// Spring Data JPA v3.0.0
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import sample.actuator.model.Message;
+import sample.actuator.model.MessageValueHash;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * The message operations the application uses, independent of where messages are stored.
+ *
+ * Addresses requirement: Off-Heap Message Store
+ * - Is the only message repository type the write-behind queue, caches, indexes, export
+ *   and queries depend on
+ * - Is implemented by the JPA MessageRepository (service.store.mode=jpa) and by
+ *   MappedMessageRepository (service.store.mode=mapped), so neither has to stub the generic
+ *   CRUD operations the application never calls
+ */
+public interface MessageStoreRepository extends MessageBatchRepository, MessageExportRepository {
+
+    /**
+     * Finds the messages with the given ids; ids without a message are skipped.
+     *
+     * @param ids Message ids to look up
+     * @return The messages found, in no particular order
+     */
+    List<Message> findAllById(Iterable<Long> ids);
+
+    /**
+     * Finds messages by their value content, through the digest of the value.
+     *
+     * @param value The message value to search for
+     * @return List of messages matching the value, empty list if none found
+     * @throws IllegalArgumentException if value parameter is null
+     */
+    default List<Message> findByValue(String value) {
+        return findByValueHash(MessageValueHash.of(value), value);
+    }
+
+    /**
+     * Finds messages by value digest and value.
+     *
+     * @param valueHash SHA-256 digest of the value, see MessageValueHash
+     * @param value The message value, compared to rule out digest collisions
+     * @return List of messages matching the value, empty list if none found
+     */
+    List<Message> findByValueHash(byte[] valueHash, String value);
+
+    /**
+     * Retrieves the most recent messages, newest first.
+     *
+     * @param limit Maximum number of messages to retrieve
+     * @return List of most recent messages limited by parameter, ordered by newest first
+     * @throws IllegalArgumentException if limit parameter is not positive; the JPA repository
+     *         proxy translates it into an InvalidDataAccessApiUsageException that keeps it as
+     *         its cause
+     */
+    default List<Message> findLatestMessages(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        return findNewest(PageRequest.ofSize(limit));
+    }
+
+    /**
+     * Retrieves the first page of messages, newest first, for keyset pagination.
+     *
+     * @param pageable Page size to fetch
+     * @return Messages ordered by created_at and id, newest first
+     */
+    List<Message> findNewest(Pageable pageable);
+
+    /**
+     * Retrieves the page of messages strictly older than the given keyset cursor.
+     *
+     * @param createdAt created_at of the last message of the previous page
+     * @param id id of the last message of the previous page, breaking created_at ties
+     * @param pageable Page size to fetch
+     * @return Messages older than the cursor, newest first
+     */
+    List<Message> findOlderThan(Instant createdAt, long id, Pageable pageable);
+
+    /**
+     * Finds the lowest message id.
+     *
+     * @return the lowest id, or null if there are no messages
+     */
+    Long findMinId();
+
+    /**
+     * Finds the highest message id.
+     *
+     * @return the highest id, or null if there are no messages
+     */
+    Long findMaxId();
+}
@@ -0,0 +1,121 @@
+package sample.actuator.store;
+
+// Spring Data JPA v3.0.0
+import org.springframework.data.domain.Pageable;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import sample.actuator.model.Message;
+import sample.actuator.repository.MessageStoreRepository;
+
+/**
+ * MessageStoreRepository backed by a MappedMessageStore instead of the messages table.
+ *
+ * The store is append-only and orders messages by id, which matches created_at order
+ * because messages are stamped when they are written; findOlderThan() therefore pages by
+ * id alone. Messages are only ever appended through insertBatch().
+ *
+ * Requirements addressed:
+ * - Off-Heap Message Store: Lets every message component run on the mapped store unchanged
+ */
+public class MappedMessageRepository implements MessageStoreRepository {
+
+    private final MappedMessageStore store;
+
+    /**
+     * Constructs the repository.
+     *
+     * @param store the store holding the messages
+     */
+    public MappedMessageRepository(MappedMessageStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public List<Message> findAllById(Iterable<Long> ids) {
+        List<Message> messages = new ArrayList<>();
+        for (Long id : ids) {
+            Message message = id != null ? store.read(id) : null;
+            if (message != null) {
+                messages.add(message);
+            }
+        }
+        return messages;
+    }
+
+    @Override
+    public List<Message> findByValueHash(byte[] valueHash, String value) {
+        List<Message> found = new ArrayList<>();
+        store.forEachWithValueHash(valueHash, id -> {
+            Message message = store.read(id);
+            if (message.getValue().equals(value)) {
+                found.add(message);
+            }
+        });
+        found.sort((a, b) -> Long.compare(a.getId(), b.getId()));
+        return found;
+    }
+
+    @Override
+    public List<String> findValuesByHashes(List<byte[]> valueHashes) {
+        List<String> found = new ArrayList<>();
+        for (byte[] valueHash : valueHashes) {
+            store.forEachWithValueHash(valueHash, id -> found.add(store.read(id).getValue()));
+        }
+        return found;
+    }
+
+    @Override
+    public List<Message> findNewest(Pageable pageable) {
+        return readDescending(store.count(), pageable.getPageSize());
+    }
+
+    @Override
+    public List<Message> findOlderThan(Instant createdAt, long id, Pageable pageable) {
+        return readDescending(Math.min(id - 1, store.count()), pageable.getPageSize());
+    }
+
+    @Override
+    public Long findMinId() {
+        return store.count() > 0 ? 1L : null;
+    }
+
+    @Override
+    public Long findMaxId() {
+        long count = store.count();
+        return count > 0 ? count : null;
+    }
+
+    @Override
+    public int insertBatch(List<Message> messages) {
+        store.appendAll(messages);
+        return messages.size();
+    }
+
+    @Override
+    public long streamAfter(long afterId, int fetchSize, Consumer<Message> consumer) {
+        return streamRange(afterId, Long.MAX_VALUE, fetchSize, consumer);
+    }
+
+    @Override
+    public long streamRange(long afterId, long toId, int fetchSize, Consumer<Message> consumer) {
+        long last = Math.min(toId, store.count());
+        long streamed = 0;
+        for (long id = Math.max(afterId, 0) + 1; id <= last; id++) {
+            consumer.accept(store.read(id));
+            streamed++;
+        }
+        return streamed;
+    }
+
+    private List<Message> readDescending(long fromId, int limit) {
+        List<Message> messages = new ArrayList<>(limit);
+        for (long id = fromId; id >= 1 && messages.size() < limit; id--) {
+            messages.add(store.read(id));
+        }
+        return messages;
+    }
+}
@@ -0,0 +1,416 @@
+package sample.actuator.store;
+
+// SLF4J 2.0.7
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongConsumer;
+import java.util.zip.CRC32;
+
+import sample.actuator.model.Message;
+import sample.actuator.model.MessageValueHash;
+
+/**
+ * Append-only message store in memory-mapped files, for running without a database.
+ *
+ * The store belongs to a single process: it holds an exclusive lock on store.lock in its
+ * directory while open, so a second instance pointed at the same directory, such as
+ * another replica sharing the volume, fails to start instead of corrupting the log. A
+ * store is local to its directory, so replicas with separate directories do not see each
+ * other's messages.
+ *
+ * Three files live in the store directory:
+ * - messages.log: the records, appended in id order
+ * - messages.idx: a header with the checkpointed message count, followed by the log
+ *   offset of every id as a dense array of longs
+ * - values.idx: a ValueHashTable from value digest to id
+ *
+ * A record is [int length][int CRC-32 of the body][body], with the body holding
+ * [long id][long epoch second][int nano][32 byte value digest][UTF-8 value]. Records never
+ * span a mapped region; a length of -1 pads to the end of a region and a length of 0 marks
+ * the end of the log, since new regions are zero-filled. The length is written last, so a
+ * record is either complete or ends the log.
+ *
+ * Ids are assigned by the store, starting at 1. Appends are serialized; each batch updates
+ * the checkpoint and then publishes the new count, and readers never look past the count
+ * they read, so reads need no lock. Nothing but transient Message objects is kept on the
+ * heap.
+ *
+ * On open, the checkpointed count is validated against its record and the log tail after
+ * it is replayed: every following record with the next id and a valid checksum is indexed
+ * again, and a torn record ends the log and is cleared. Without service.store.sync the
+ * store survives process crashes, as written pages belong to the operating system; with
+ * it, every batch is forced to disk before it is acknowledged.
+ *
+ * Requirements addressed:
+ * - Off-Heap Message Store: Retains millions of messages with flat heap usage and
+ *   crash-safe recovery
+ */
+public class MappedMessageStore implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(MappedMessageStore.class);
+
+    private static final long INDEX_MAGIC = 0x4D5347494E444558L;
+
+    private static final int INDEX_HEADER = 64;
+
+    private static final int RECORD_HEADER = 8;
+
+    private static final int DIGEST_OFFSET = 20;
+
+    private static final int BODY_FIXED = DIGEST_OFFSET + MessageValueHash.LENGTH;
+
+    private static final int PADDING = -1;
+
+    private final FileChannel lockChannel;
+
+    private final MappedRegions log;
+
+    private final MappedRegions index;
+
+    private final ValueHashTable values;
+
+    private final int regionSize;
+
+    private final boolean sync;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile long count;
+
+    private long tail;
+
+    /**
+     * Opens the store in a directory, creating it if necessary, and recovers the log tail.
+     *
+     * @param directory directory holding the store files
+     * @param regionSize size of one mapped region in bytes, a multiple of 4096
+     * @param sync whether every appended batch is forced to disk
+     * @throws UncheckedIOException if the files cannot be opened
+     * @throws IllegalStateException if another process or store holds the directory
+     */
+    public MappedMessageStore(Path directory, int regionSize, boolean sync) {
+        try {
+            Files.createDirectories(directory);
+            this.lockChannel = FileChannel.open(directory.resolve("store.lock"),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        }
+        catch (IOException ex) {
+            throw new UncheckedIOException("Failed to open " + directory, ex);
+        }
+        lockDirectory(lockChannel, directory);
+        this.regionSize = regionSize;
+        this.sync = sync;
+        this.log = new MappedRegions(directory.resolve("messages.log"), regionSize);
+        this.index = new MappedRegions(directory.resolve("messages.idx"), regionSize);
+        this.values = new ValueHashTable(directory.resolve("values.idx"), regionSize);
+        recover();
+    }
+
+    /**
+     * Appends messages, assigning consecutive ids and stamping a missing created_at with
+     * the current time. Ids are set on the messages.
+     *
+     * @param messages messages to append, each with a non-null value
+     * @throws IllegalArgumentException if a value is null or a message is too large for one
+     *                                  region; nothing of the batch is written then
+     */
+    public void appendAll(List<Message> messages) {
+        writeLock.lock();
+        try {
+            long n = count;
+            // Encoded up front, so an oversized message rejects the batch before anything is written
+            byte[][] bodies = new byte[messages.size()][];
+            for (int i = 0; i < bodies.length; i++) {
+                Message message = messages.get(i);
+                if (message.getCreatedAt() == null) {
+                    message.setCreatedAt(Instant.now());
+                }
+                bodies[i] = encode(n + 1 + i, message);
+                if (RECORD_HEADER + bodies[i].length > regionSize) {
+                    throw new IllegalArgumentException("Message of " + bodies[i].length
+                        + " bytes exceeds the region size");
+                }
+            }
+            for (int i = 0; i < bodies.length; i++) {
+                Message message = messages.get(i);
+                append(++n, bodies[i]);
+                values.insert(MessageValueHash.longAt(message.getValueHash(), 0), n);
+                message.setId(n);
+            }
+            if (sync) {
+                log.force();
+                index.force();
+                values.force();
+            }
+            index.putLong(8, n);
+            count = n;
+        }
+        finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of stored messages, which is also the highest id.
+     *
+     * @return the message count
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Gets the size of the log file, which grows a region at a time.
+     *
+     * @return the log file size in bytes
+     */
+    public long logSize() {
+        return log.capacity();
+    }
+
+    /**
+     * Reads a message.
+     *
+     * @param id the message id
+     * @return the message, or null if no message has the id
+     */
+    public Message read(long id) {
+        if (id < 1 || id > count) {
+            return null;
+        }
+        long offset = offsetOf(id);
+        int length = log.getInt(offset);
+        byte[] body = new byte[length];
+        log.get(offset + RECORD_HEADER, body, length);
+        ByteBuffer buffer = ByteBuffer.wrap(body);
+        Message message = new Message(
+            new String(body, BODY_FIXED, length - BODY_FIXED, StandardCharsets.UTF_8),
+            Instant.ofEpochSecond(buffer.getLong(8), buffer.getInt(16)));
+        message.setId(buffer.getLong(0));
+        return message;
+    }
+
+    /**
+     * Reads the value digest of a message without decoding its value.
+     *
+     * @param id the message id, between 1 and count()
+     * @return the SHA-256 digest of the value
+     */
+    public byte[] readValueHash(long id) {
+        byte[] digest = new byte[MessageValueHash.LENGTH];
+        log.get(offsetOf(id) + RECORD_HEADER + DIGEST_OFFSET, digest, digest.length);
+        return digest;
+    }
+
+    /**
+     * Passes the id of every message whose value has the given digest to the consumer, in
+     * no particular order.
+     *
+     * @param valueHash SHA-256 digest of the value
+     * @param ids receiver of the matching ids
+     */
+    public void forEachWithValueHash(byte[] valueHash, LongConsumer ids) {
+        long published = count;
+        values.forEach(MessageValueHash.longAt(valueHash, 0), id -> {
+            if (id <= published && Arrays.equals(readValueHash(id), valueHash)) {
+                ids.accept(id);
+            }
+        });
+    }
+
+    /**
+     * Forces all written pages to disk.
+     */
+    public void force() {
+        writeLock.lock();
+        try {
+            log.force();
+            index.force();
+            values.force();
+        }
+        finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        writeLock.lock();
+        try {
+            log.close();
+            index.close();
+            values.close();
+            // Releases the directory lock
+            lockChannel.close();
+        }
+        catch (IOException ex) {
+            logger.warn("Failed to release the lock of the mapped message store", ex);
+        }
+        finally {
+            writeLock.unlock();
+        }
+    }
+
+    private static void lockDirectory(FileChannel channel, Path directory) {
+        FileLock lock;
+        try {
+            lock = channel.tryLock();
+        }
+        catch (OverlappingFileLockException ex) {
+            lock = null;
+        }
+        catch (IOException ex) {
+            closeQuietly(channel);
+            throw new UncheckedIOException("Failed to lock " + directory, ex);
+        }
+        if (lock == null) {
+            closeQuietly(channel);
+            throw new IllegalStateException("Mapped message store " + directory
+                + " is in use by another instance; every instance needs its own directory");
+        }
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        try {
+            channel.close();
+        }
+        catch (IOException ex) {
+            logger.debug("Failed to close the store lock file", ex);
+        }
+    }
+
+    private void append(long id, byte[] body) {
+        int recordSize = RECORD_HEADER + body.length;
+        int remaining = regionSize - (int) (tail % regionSize);
+        if (remaining < recordSize) {
+            if (remaining >= Integer.BYTES) {
+                log.putInt(tail, PADDING);
+            }
+            tail += remaining;
+        }
+        log.ensureCapacity(tail + recordSize - 1);
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        log.put(tail + RECORD_HEADER, body);
+        log.putInt(tail + Integer.BYTES, (int) crc.getValue());
+        // The length commits the record
+        log.putInt(tail, body.length);
+
+        long entry = INDEX_HEADER + (id - 1) * Long.BYTES;
+        index.ensureCapacity(entry + Long.BYTES - 1);
+        index.putLong(entry, tail);
+        tail += recordSize;
+    }
+
+    private void recover() {
+        long checkpoint = index.getLong(0) == INDEX_MAGIC ? index.getLong(8) : 0;
+        long position = 0;
+        if (checkpoint > 0) {
+            int length = INDEX_HEADER + checkpoint * Long.BYTES <= index.capacity()
+                ? validLength(offsetOf(checkpoint), checkpoint) : -1;
+            if (length < 0) {
+                logger.warn("Message store checkpoint {} is invalid, replaying the whole log", checkpoint);
+                checkpoint = 0;
+            }
+            else {
+                position = offsetOf(checkpoint) + RECORD_HEADER + length;
+            }
+        }
+        if (values.isFresh()) {
+            for (long id = 1; id <= checkpoint; id++) {
+                values.insert(MessageValueHash.longAt(readValueHash(id), 0), id);
+            }
+        }
+
+        long n = checkpoint;
+        while (true) {
+            position = skipPadding(position);
+            if (position >= log.capacity() || log.getInt(position) == 0) {
+                break;
+            }
+            int length = validLength(position, n + 1);
+            if (length < 0) {
+                logger.warn("Discarding torn message store record at offset {}", position);
+                log.clearToRegionEnd(position);
+                break;
+            }
+            long entry = INDEX_HEADER + n * Long.BYTES;
+            index.ensureCapacity(entry + Long.BYTES - 1);
+            index.putLong(entry, position);
+            n++;
+            byte[] digest = new byte[MessageValueHash.LENGTH];
+            log.get(position + RECORD_HEADER + DIGEST_OFFSET, digest, digest.length);
+            values.insert(MessageValueHash.longAt(digest, 0), n);
+            position += RECORD_HEADER + length;
+        }
+        tail = position;
+        index.putLong(8, n);
+        index.putLong(0, INDEX_MAGIC);
+        count = n;
+        logger.info("Opened message store with {} message(s), {} replayed from the log tail", n, n - checkpoint);
+    }
+
+    /**
+     * Moves a read position past padding and region ends too small to hold a record.
+     */
+    private long skipPadding(long position) {
+        int remaining = regionSize - (int) (position % regionSize);
+        if (remaining < RECORD_HEADER + BODY_FIXED
+                || (position < log.capacity() && log.getInt(position) == PADDING)) {
+            return position + remaining;
+        }
+        return position;
+    }
+
+    /**
+     * Validates the record at a position against the expected id.
+     *
+     * @return the body length, or -1 if the record is torn, corrupt or has another id
+     */
+    private int validLength(long position, long expectedId) {
+        int length = log.getInt(position);
+        if (length < BODY_FIXED || RECORD_HEADER + length > regionSize - (int) (position % regionSize)) {
+            return -1;
+        }
+        byte[] body = new byte[length];
+        log.get(position + RECORD_HEADER, body, length);
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        if ((int) crc.getValue() != log.getInt(position + Integer.BYTES)
+                || ByteBuffer.wrap(body).getLong(0) != expectedId) {
+            return -1;
+        }
+        return length;
+    }
+
+    private long offsetOf(long id) {
+        return index.getLong(INDEX_HEADER + (id - 1) * Long.BYTES);
+    }
+
+    private static byte[] encode(long id, Message message) {
+        byte[] digest = message.getValueHash();
+        byte[] value = message.getValue().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer body = ByteBuffer.allocate(BODY_FIXED + value.length);
+        body.putLong(id);
+        body.putLong(message.getCreatedAt().getEpochSecond());
+        body.putInt(message.getCreatedAt().getNano());
+        body.put(digest);
+        body.put(value);
+        return body.array();
+    }
+}
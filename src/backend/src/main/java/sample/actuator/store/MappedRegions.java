@@ -0,0 +1,164 @@
+package sample.actuator.store;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * A file mapped into memory as consecutive fixed-size regions, grown one region at a time.
+ *
+ * A single MappedByteBuffer is limited to 2 GB, so the file is addressed with long
+ * positions and mapped in regions of regionSize bytes. Callers never let one value span
+ * two regions. All accesses use absolute positions, which are safe for concurrent readers;
+ * growth is serialized by the single writer and published through a volatile array.
+ * Mapped pages live in the page cache, not on the Java heap.
+ *
+ * Requirements addressed:
+ * - Off-Heap Message Store: Provides off-heap, file-backed storage of any size
+ */
+final class MappedRegions implements AutoCloseable {
+
+    private final FileChannel channel;
+
+    private final int regionSize;
+
+    private volatile MappedByteBuffer[] regions;
+
+    /**
+     * Opens or creates the file and maps the regions covering its current length.
+     *
+     * @param file the backing file
+     * @param regionSize size of one mapped region in bytes, a multiple of 8
+     * @throws UncheckedIOException if the file cannot be opened or mapped
+     */
+    MappedRegions(Path file, int regionSize) {
+        this.regionSize = regionSize;
+        try {
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+            int count = (int) Math.max(1, (channel.size() + regionSize - 1) / regionSize);
+            MappedByteBuffer[] mapped = new MappedByteBuffer[count];
+            for (int i = 0; i < count; i++) {
+                mapped[i] = map(i);
+            }
+            this.regions = mapped;
+        }
+        catch (IOException ex) {
+            throw new UncheckedIOException("Failed to map " + file, ex);
+        }
+    }
+
+    /**
+     * Gets the region size.
+     *
+     * @return the size of one region in bytes
+     */
+    int regionSize() {
+        return regionSize;
+    }
+
+    /**
+     * Gets the number of mapped bytes.
+     *
+     * @return the size of all mapped regions
+     */
+    long capacity() {
+        return (long) regions.length * regionSize;
+    }
+
+    /**
+     * Maps further regions until the given position is covered. Writer only.
+     *
+     * @param position the position that must be addressable
+     * @throws UncheckedIOException if the file cannot be extended
+     */
+    void ensureCapacity(long position) {
+        MappedByteBuffer[] current = regions;
+        int needed = (int) (position / regionSize) + 1;
+        if (needed <= current.length) {
+            return;
+        }
+        MappedByteBuffer[] grown = Arrays.copyOf(current, needed);
+        try {
+            for (int i = current.length; i < needed; i++) {
+                grown[i] = map(i);
+            }
+        }
+        catch (IOException ex) {
+            throw new UncheckedIOException("Failed to extend mapped file", ex);
+        }
+        regions = grown;
+    }
+
+    int getInt(long position) {
+        return region(position).getInt(offset(position));
+    }
+
+    void putInt(long position, int value) {
+        region(position).putInt(offset(position), value);
+    }
+
+    long getLong(long position) {
+        return region(position).getLong(offset(position));
+    }
+
+    void putLong(long position, long value) {
+        region(position).putLong(offset(position), value);
+    }
+
+    void get(long position, byte[] destination, int length) {
+        region(position).get(offset(position), destination, 0, length);
+    }
+
+    void put(long position, byte[] source) {
+        region(position).put(offset(position), source);
+    }
+
+    /**
+     * Zeroes the bytes from position to the end of its region.
+     *
+     * @param position first byte to clear
+     */
+    void clearToRegionEnd(long position) {
+        MappedByteBuffer region = region(position);
+        for (int i = offset(position); i < regionSize; i++) {
+            region.put(i, (byte) 0);
+        }
+    }
+
+    /**
+     * Writes modified pages of every region to the storage device.
+     */
+    void force() {
+        for (MappedByteBuffer region : regions) {
+            region.force();
+        }
+    }
+
+    @Override
+    public void close() {
+        force();
+        try {
+            channel.close();
+        }
+        catch (IOException ex) {
+            throw new UncheckedIOException("Failed to close mapped file", ex);
+        }
+    }
+
+    private MappedByteBuffer map(int index) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_WRITE, (long) index * regionSize, regionSize);
+    }
+
+    private MappedByteBuffer region(long position) {
+        return regions[(int) (position / regionSize)];
+    }
+
+    private int offset(long position) {
+        return (int) (position % regionSize);
+    }
+}
@@ -0,0 +1,203 @@
+package sample.actuator.store;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.function.LongConsumer;
+
+/**
+ * Open-addressing hash table from value digest to message id, stored in a memory-mapped
+ * file.
+ *
+ * Each 16 byte slot holds the first 8 bytes of a value digest and a message id (0 marks an
+ * empty slot). Lookups probe linearly from the slot selected by the digest; equal digests
+ * occupy consecutive slots, so all messages with one value are found by one probe sequence.
+ * The table doubles, into a new file renamed over the old one, when it is half full.
+ *
+ * A single writer inserts; concurrent readers may observe a slot whose id is written but
+ * not yet published by the store, so callers ignore ids above the published count.
+ * Insertions are idempotent, which lets recovery replay ids that may already be present.
+ *
+ * Requirements addressed:
+ * - Off-Heap Message Store: Serves exact value lookups without an on-heap map
+ */
+final class ValueHashTable implements AutoCloseable {
+
+    private static final long MAGIC = 0x4D53475641484153L;
+
+    private static final int HEADER = 64;
+
+    private static final int SLOT = 16;
+
+    private static final long INITIAL_CAPACITY = 1 << 16;
+
+    private final Path file;
+
+    private final int regionSize;
+
+    private final boolean fresh;
+
+    private volatile Table table;
+
+    /**
+     * Opens the table, or creates an empty one if the file is missing or incomplete.
+     *
+     * @param file the backing file
+     * @param regionSize size of one mapped region, a multiple of 16
+     */
+    ValueHashTable(Path file, int regionSize) {
+        this.file = file;
+        this.regionSize = regionSize;
+        try {
+            Files.deleteIfExists(resizeFile());
+        }
+        catch (IOException ex) {
+            throw new UncheckedIOException("Failed to remove " + resizeFile(), ex);
+        }
+        MappedRegions regions = new MappedRegions(file, regionSize);
+        if (regions.getLong(0) == MAGIC) {
+            this.table = new Table(regions, regions.getLong(8), regions.getLong(16));
+            this.fresh = false;
+        }
+        else {
+            this.table = create(regions, INITIAL_CAPACITY);
+            this.fresh = true;
+        }
+    }
+
+    /**
+     * Gets whether the table was created empty because no complete file existed.
+     *
+     * @return true if the caller must insert every stored message
+     */
+    boolean isFresh() {
+        return fresh;
+    }
+
+    /**
+     * Adds a message id under a digest unless it is already present. Writer only.
+     *
+     * @param digest first 8 bytes of the value digest
+     * @param id the message id, greater than 0
+     */
+    void insert(long digest, long id) {
+        Table current = table;
+        if ((current.size + 1) * 2 > current.capacity) {
+            current = resize(current);
+        }
+        if (insert(current, digest, id)) {
+            current.size++;
+            current.regions.putLong(16, current.size);
+        }
+    }
+
+    /**
+     * Passes every id stored under a digest to the consumer. Ids of other values sharing
+     * the 8 byte prefix may be included; callers compare the full digest.
+     *
+     * @param digest first 8 bytes of the value digest
+     * @param ids receiver of the candidate ids
+     */
+    void forEach(long digest, LongConsumer ids) {
+        Table current = table;
+        long mask = current.capacity - 1;
+        for (long slot = digest & mask; ; slot = (slot + 1) & mask) {
+            long position = HEADER + slot * SLOT;
+            long id = current.regions.getLong(position + 8);
+            if (id == 0) {
+                return;
+            }
+            if (current.regions.getLong(position) == digest) {
+                ids.accept(id);
+            }
+        }
+    }
+
+    /**
+     * Writes modified pages to the storage device.
+     */
+    void force() {
+        table.regions.force();
+    }
+
+    @Override
+    public void close() {
+        table.regions.close();
+    }
+
+    private Table create(MappedRegions regions, long capacity) {
+        regions.ensureCapacity(HEADER + capacity * SLOT - 1);
+        regions.putLong(8, capacity);
+        regions.putLong(16, 0);
+        // Written last, so a table interrupted while being created is recreated on open
+        regions.putLong(0, MAGIC);
+        return new Table(regions, capacity, 0);
+    }
+
+    private Table resize(Table current) {
+        Path target = resizeFile();
+        MappedRegions regions = new MappedRegions(target, regionSize);
+        Table grown = create(regions, current.capacity * 2);
+        for (long slot = 0; slot < current.capacity; slot++) {
+            long position = HEADER + slot * SLOT;
+            long id = current.regions.getLong(position + 8);
+            if (id != 0) {
+                insert(grown, current.regions.getLong(position), id);
+                grown.size++;
+            }
+        }
+        regions.putLong(16, grown.size);
+        regions.force();
+        try {
+            Files.move(target, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        }
+        catch (IOException ex) {
+            regions.close();
+            throw new UncheckedIOException("Failed to replace " + file, ex);
+        }
+        // Readers still probing the old mapping keep it alive until they finish
+        current.regions.close();
+        table = grown;
+        return grown;
+    }
+
+    private static boolean insert(Table table, long digest, long id) {
+        long mask = table.capacity - 1;
+        for (long slot = digest & mask; ; slot = (slot + 1) & mask) {
+            long position = HEADER + slot * SLOT;
+            long existing = table.regions.getLong(position + 8);
+            if (existing == id) {
+                return false;
+            }
+            if (existing == 0) {
+                table.regions.putLong(position, digest);
+                table.regions.putLong(position + 8, id);
+                return true;
+            }
+        }
+    }
+
+    private Path resizeFile() {
+        return file.resolveSibling(file.getFileName() + ".resize");
+    }
+
+    /**
+     * One generation of the table: its mapping, slot count and number of used slots.
+     */
+    private static final class Table {
+
+        private final MappedRegions regions;
+
+        private final long capacity;
+
+        private long size;
+
+        private Table(MappedRegions regions, long capacity, long size) {
+            this.regions = regions;
+            this.capacity = capacity;
+            this.size = size;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package sample.actuator.time;
+
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * Formats response timestamps with a configured DateFormat, caching the text of the most
+ * recent instant.
+ *
+ * The DateFormat is the ObjectMapper's, so its pattern and time zone come from
+ * spring.jackson.date-format and spring.jackson.time-zone and the text is the one Jackson
+ * writes for a java.util.Date. A pattern without a millisecond field is cached per second,
+ * so all responses produced within one second share a single String; any other format,
+ * including Jackson's default, is cached per millisecond. Formatting a cached timestamp
+ * costs a volatile read and a comparison instead of a formatter run.
+ *
+ * Requirements addressed:
+ * - Timestamp Performance: Replaces per-serialization date formatting with a per-second
+ *   cached string
+ */
+public final class TimestampFormat {
+
+    private final DateFormat source;
+
+    private final DateFormat dateFormat;
+
+    private final long unitMillis;
+
+    private volatile FormattedInstant latest = new FormattedInstant(Long.MIN_VALUE, null);
+
+    /**
+     * Creates a cache for a date format.
+     *
+     * @param dateFormat the format to apply, which is cloned and never modified
+     */
+    public TimestampFormat(DateFormat dateFormat) {
+        this.source = dateFormat;
+        this.dateFormat = (DateFormat) dateFormat.clone();
+        this.unitMillis = hasMillisecondField(dateFormat) ? 1 : 1000;
+    }
+
+    /**
+     * Checks whether this cache formats with the given date format.
+     *
+     * @param dateFormat the date format currently configured
+     * @return true if this cache was created for that same instance
+     */
+    public boolean isFor(DateFormat dateFormat) {
+        return source == dateFormat;
+    }
+
+    /**
+     * Formats an instant, truncated to the unit the format shows.
+     *
+     * @param instant the instant to format
+     * @return the formatted instant
+     */
+    public String format(Instant instant) {
+        long unit = Math.floorDiv(instant.toEpochMilli(), unitMillis);
+        FormattedInstant cached = latest;
+        if (cached.unit == unit) {
+            return cached.text;
+        }
+        String text;
+        synchronized (dateFormat) {
+            text = dateFormat.format(new Date(unit * unitMillis));
+        }
+        if (unit > cached.unit) {
+            // Older instants are formatted without evicting the current one
+            latest = new FormattedInstant(unit, text);
+        }
+        return text;
+    }
+
+    private static boolean hasMillisecondField(DateFormat dateFormat) {
+        if (!(dateFormat instanceof SimpleDateFormat simpleDateFormat)) {
+            return true;
+        }
+        boolean quoted = false;
+        for (char c : simpleDateFormat.toPattern().toCharArray()) {
+            if (c == '\'') {
+                quoted = !quoted;
+            }
+            else if (c == 'S' && !quoted) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Immutable pair of an instant, in units of the format's precision, and its text.
+     */
+    private static final class FormattedInstant {
+
+        private final long unit;
+
+        private final String text;
+
+        private FormattedInstant(long unit, String text) {
+            this.unit = unit;
+            this.text = text;
+        }
+    }
+}
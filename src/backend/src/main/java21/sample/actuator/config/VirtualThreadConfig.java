@@ -0,0 +1,64 @@
+package sample.actuator.config;
+
+// Spring Framework 6.0.0
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+
+// Spring Boot 3.0.0
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+
+// SLF4J 2.0.7
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Executors;
+
+/**
+ * Virtual-thread execution mode, compiled only by the java21 Maven profile.
+ *
+ * Spring Boot 3.1 does not act on spring.threads.virtual.enabled, so this configuration
+ * applies it: every Tomcat request is dispatched to a new virtual thread instead of the
+ * server.tomcat.threads.max platform pool, and the application task executor used for
+ * @Async methods and async MVC requests starts a virtual thread per task. Blocking JDBC
+ * calls through MessageRepository made on those threads park the virtual thread and
+ * release its carrier; the Hikari pool size then bounds database concurrency instead of
+ * the request thread count.
+ *
+ * Requirements addressed:
+ * - Virtual Threads: Runs the web tier and blocking repository calls on virtual threads
+ *   behind a single toggle
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    /**
+     * Replaces the Tomcat worker pool with a virtual thread per request.
+     *
+     * @return Customizer installing the virtual-thread executor on the protocol handler
+     */
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        logger.info("Tomcat request handling runs on virtual threads");
+        return protocolHandler -> protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    /**
+     * Replaces the auto-configured application task executor. Registered under both names
+     * looked up by @Async and by Spring MVC async request processing.
+     *
+     * @return Executor starting a virtual thread per task
+     */
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+        AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(Executors.newVirtualThreadPerTaskExecutor());
+    }
+}
@@ -0,0 +1,46 @@
+package sample.actuator.config;
+
+// Spring Security 6.0.0
+import org.springframework.http.HttpMethod;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Bean;
+
+// Spring Boot 3.0.0
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+
+/**
+ * Security configuration for the reactive runtime mode, applying the access rules of
+ * SecurityConfig to the WebFlux filter chain.
+ *
+ * Requirement Addressed: Spring Boot 3 Migration
+ * - Keeps endpoint access rules identical between the servlet and reactive modes
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableWebFluxSecurity
+public class ReactiveSecurityConfig {
+
+    /**
+     * Configures the reactive security filter chain.
+     *
+     * @param http The ServerHttpSecurity instance to configure
+     * @return Configured SecurityWebFilterChain instance
+     */
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+        return http
+            // Same as SecurityConfig: CSRF disabled for the sample application
+            .csrf(ServerHttpSecurity.CsrfSpec::disable)
+            .authorizeExchange(exchange -> exchange
+                .pathMatchers("/").permitAll()
+                .pathMatchers(HttpMethod.GET, "/messages", "/messages/search").permitAll()
+                .pathMatchers("/actuator/**").permitAll()
+                .anyExchange().authenticated()
+            )
+            .httpBasic(basic -> {})
+            .build();
+    }
+}
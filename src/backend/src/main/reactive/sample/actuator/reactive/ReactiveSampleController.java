@@ -0,0 +1,117 @@
+package sample.actuator.reactive;
+
+// Spring Framework 6.0.0
+import org.springframework.stereotype.Controller;
+import org.springframework.context.annotation.Description;
+import org.springframework.http.MediaType;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindException;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+// Spring Boot 3.0.0
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+
+// Project Reactor 3.5.6
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.Map;
+
+import sample.actuator.HelloWorldService;
+import sample.actuator.dto.MessageResponse;
+import sample.actuator.mapper.MessageMapper;
+import sample.actuator.model.Message;
+import sample.actuator.persistence.MessageWriteBehindQueue;
+import sample.actuator.validation.MessageValidator;
+
+/**
+ * Reactive counterpart of SampleController, active when the application runs on WebFlux
+ * (reactive profile). It serves the same GET / and POST / contract on the Netty event loop.
+ *
+ * Nothing on this path blocks: the hello message is a constant, validation is in-memory,
+ * and accepted messages are offered to the bounded write-behind queue, which fails fast
+ * with MessageQueueFullException instead of waiting. Errors use the GlobalExceptionHandler
+ * contract shared with the servlet mode.
+ *
+ * Requirements addressed:
+ * - REST API Implementation: Same hello and message endpoints on a non-blocking stack
+ * - Message Validation: Validates POSTed messages with the shared MessageValidator
+ */
+@Controller
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@Description("A reactive controller for handling requests for hello messages")
+@RequestMapping("/")
+public class ReactiveSampleController {
+
+    private final HelloWorldService helloWorldService;
+
+    private final MessageValidator messageValidator;
+
+    private final MessageMapper messageMapper;
+
+    private final MessageWriteBehindQueue messageWriteBehindQueue;
+
+    /**
+     * Constructs a new ReactiveSampleController with required dependencies.
+     *
+     * @param helloWorldService Service component for generating hello messages
+     * @param messageValidator Validator rejecting blank messages
+     * @param messageMapper Mapper producing the POST response
+     * @param messageWriteBehindQueue Write-behind pipeline persisting accepted messages
+     */
+    public ReactiveSampleController(HelloWorldService helloWorldService, MessageValidator messageValidator,
+                                    MessageMapper messageMapper, MessageWriteBehindQueue messageWriteBehindQueue) {
+        this.helloWorldService = helloWorldService;
+        this.messageValidator = messageValidator;
+        this.messageMapper = messageMapper;
+        this.messageWriteBehindQueue = messageWriteBehindQueue;
+    }
+
+    /**
+     * Handles GET requests to the root endpoint, returning a hello message from the service.
+     *
+     * @return Mono emitting the hello message in JSON format
+     */
+    @GetMapping(value = "/", produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseBody
+    public Mono<Map<String, String>> hello() {
+        return Mono.fromSupplier(() -> Collections.singletonMap("message", helloWorldService.getHelloMessage()));
+    }
+
+    /**
+     * Handles POST requests to the root endpoint with message validation.
+     * The validated message is queued for asynchronous batched persistence.
+     *
+     * @param body The request body containing the message value
+     * @return Mono emitting the validated message and additional metadata, or a
+     *         BindException for a blank value or MessageQueueFullException if the queue is full
+     */
+    @PostMapping(value = "/", produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseBody
+    public Mono<MessageResponse> olleh(@RequestBody Mono<Message> body) {
+        return body.flatMap(message -> {
+            BeanPropertyBindingResult errors = new BeanPropertyBindingResult(message, "message");
+            messageValidator.validate(message, errors);
+            if (errors.hasErrors()) {
+                return Mono.error(new BindException(errors));
+            }
+            messageWriteBehindQueue.enqueue(message.getValue());
+            return Mono.just(messageMapper.toMessageResponse(message));
+        });
+    }
+
+    /**
+     * Endpoint that demonstrates error handling by signalling an exception.
+     *
+     * @return Mono always failing with IllegalArgumentException
+     */
+    @RequestMapping("/foo")
+    @ResponseBody
+    public Mono<String> foo() {
+        return Mono.error(new IllegalArgumentException("Server error"));
+    }
+}
@@ -0,0 +1,17 @@
+-- Addresses requirement: Message Deduplication
+-- Location: Technical Specification/Message Endpoints/POST /
+-- Adds an indexed SHA-256 digest of messages.value so exact value lookups probe a
+-- fixed-width index instead of scanning the table
+
+-- The digest is computed by MessageValueHash.of() for new rows; HASH() produces the same
+-- bytes for the UTF-8 encoding of existing values
+ALTER TABLE messages ADD COLUMN value_hash BINARY(32);
+
+UPDATE messages SET value_hash = HASH('SHA-256', value);
+
+ALTER TABLE messages ALTER COLUMN value_hash SET NOT NULL;
+
+-- Non-unique: duplicates stay allowed unless service.dedup.enabled is set
+CREATE INDEX idx_messages_value_hash ON messages(value_hash);
+
+COMMENT ON COLUMN messages.value_hash IS 'SHA-256 digest of the UTF-8 encoded value, used for exact value lookups';
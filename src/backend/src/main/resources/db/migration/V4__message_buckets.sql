@@ -0,0 +1,33 @@
+-- Addresses requirement: Message Time Buckets
+-- Location: Technical Specification/Message Endpoints/GET /messages/export
+-- Adds the bucket catalog: every UTC hour or day of messages.created_at covers one
+-- contiguous id range, so time windows resolve to primary key ranges and retention deletes a
+-- bucket's rows with one key range DELETE instead of scanning idx_messages_created_at. The
+-- buckets are logical: all messages stay in the one messages table
+
+CREATE TABLE message_buckets (
+    bucket_start TIMESTAMP NOT NULL PRIMARY KEY,
+    bucket_end TIMESTAMP NOT NULL,
+    first_id BIGINT NOT NULL,
+    last_id BIGINT NOT NULL,
+    row_count BIGINT NOT NULL
+);
+
+-- Backfills daily buckets (service.buckets.granularity=days), assuming created_at
+-- increases with id as it does for rows written by MessageWriteBehindQueue. Rows written
+-- after this migration are catalogued by the application, which also folds in any rows past
+-- the last catalogued id at startup
+INSERT INTO message_buckets (bucket_start, bucket_end, first_id, last_id, row_count)
+SELECT DATE_TRUNC('DAY', created_at), DATEADD('DAY', 1, DATE_TRUNC('DAY', created_at)),
+       MIN(id), MAX(id), COUNT(*)
+FROM messages
+GROUP BY DATE_TRUNC('DAY', created_at);
+
+GRANT SELECT, INSERT, UPDATE, DELETE ON message_buckets TO PUBLIC;
+
+COMMENT ON TABLE message_buckets IS 'Time buckets of the messages table and the id range each covers';
+COMMENT ON COLUMN message_buckets.bucket_start IS 'Inclusive start of the bucket, aligned to the UTC hour or day';
+COMMENT ON COLUMN message_buckets.bucket_end IS 'Exclusive end of the bucket';
+COMMENT ON COLUMN message_buckets.first_id IS 'Lowest message id in the bucket';
+COMMENT ON COLUMN message_buckets.last_id IS 'Highest message id in the bucket';
+COMMENT ON COLUMN message_buckets.row_count IS 'Number of messages written to the bucket';
@@ -0,0 +1,18 @@
+-- Addresses requirement: Read Replicas
+-- Location: Technical Specification/Persistence/Read Replicas
+-- Adds the heartbeat row used to measure replication lag: ReplicaLagMonitor writes the
+-- current time to the primary every service.replicas.heartbeat-interval and reads it back
+-- from every replica, which only serves reads while the value it returns is recent enough
+
+CREATE TABLE replication_heartbeat (
+    id INT NOT NULL PRIMARY KEY,
+    beat_at TIMESTAMP NOT NULL
+);
+
+-- A single row, updated in place; the monitor inserts it if it is missing
+INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, CURRENT_TIMESTAMP);
+
+GRANT SELECT, INSERT, UPDATE ON replication_heartbeat TO PUBLIC;
+
+COMMENT ON TABLE replication_heartbeat IS 'Heartbeat replicated from the primary to measure replica lag';
+COMMENT ON COLUMN replication_heartbeat.beat_at IS 'When the heartbeat was last written to the primary';
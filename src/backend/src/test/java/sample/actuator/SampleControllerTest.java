@@ -21,8 +21,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 // Mockito 5.3.1
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import sample.actuator.mapper.MessageMapperImpl;
+import sample.actuator.persistence.MessageWriteBehindQueue;
+
 /**
  * Unit tests for SampleController that verify REST endpoint behaviors.
  * 
@@ -39,6 +45,9 @@ public class SampleControllerTest {
     @Mock
     private HelloWorldService helloWorldService;
 
+    @Mock
+    private MessageWriteBehindQueue messageWriteBehindQueue;
+
     private SampleController sampleController;
 
     /*
@@ -51,7 +60,8 @@ public class SampleControllerTest {
     @BeforeEach
     void setUp() {
         objectMapper = new ObjectMapper();
-        sampleController = new SampleController(helloWorldService);
+        sampleController = new SampleController(helloWorldService, messageWriteBehindQueue,
+            new MessageMapperImpl());
         mockMvc = MockMvcBuilders.standaloneSetup(sampleController)
                                 .build();
     }
@@ -85,7 +95,9 @@ public class SampleControllerTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.message").value("Test message"))
                 .andExpect(jsonPath("$.title").value("Hello Home"))
-                .andExpect(jsonPath("$.date").exists());
+                .andExpect(jsonPath("$.date").isNumber());
+
+        verify(messageWriteBehindQueue).enqueue("Test message");
     }
 
     @Test
@@ -100,6 +112,8 @@ public class SampleControllerTest {
                 .content(objectMapper.writeValueAsString(message))
                 .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isBadRequest());
+
+        verify(messageWriteBehindQueue, never()).enqueue(anyString());
     }
 
     @Test
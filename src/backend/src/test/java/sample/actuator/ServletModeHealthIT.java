@@ -0,0 +1,38 @@
+package sample.actuator;
+
+// JUnit 5 imports - version 5.9.0
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+
+// Spring Boot 3.0.0
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Runs the unchanged HealthIT tests against an application started in the
+ * servlet (Tomcat) runtime mode.
+ *
+ * Requirement: REST API Implementation - Same GET / and health contract in every runtime mode
+ */
+public class ServletModeHealthIT extends HealthIT {
+
+    private static ConfigurableApplicationContext context;
+
+    /**
+     * Starts the application after HealthIT.setup() and redirects REST Assured to it.
+     */
+    @BeforeAll
+    public static void startApplication() {
+        context = WebModeApplication.start(WebApplicationType.SERVLET);
+    }
+
+    /**
+     * Stops the application started for this mode.
+     */
+    @AfterAll
+    public static void stopApplication() {
+        if (context != null) {
+            context.close();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package sample.actuator;
+
+// Spring Boot 3.0.0
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+// Spring Framework 6.0.0
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.PropertySource;
+
+import java.util.Arrays;
+
+// REST Assured imports - version 5.3.0
+import io.restassured.RestAssured;
+
+/**
+ * Starts the application in a given web runtime mode on a random port and points REST
+ * Assured at it, so HealthIT can be run unchanged against each mode.
+ *
+ * Requirements addressed:
+ * - REST API Implementation: Lets the same integration tests cover servlet and reactive modes
+ */
+final class WebModeApplication {
+
+    private static final String MANAGEMENT_ADDRESS = "management.server.address";
+
+    private WebModeApplication() {
+        // Utility class with static helpers only
+    }
+
+    /**
+     * Starts the application and redirects REST Assured to its port.
+     *
+     * @param type the web runtime mode
+     * @param profiles profiles to activate
+     * @return the running application context, to be closed by the caller
+     */
+    static ConfigurableApplicationContext start(WebApplicationType type, String... profiles) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(SampleActuatorApplication.class)
+            .web(type)
+            .profiles(profiles)
+            // HealthIT reads /actuator/health on the application port, where Spring Boot rejects
+            // the management.server.address of application.properties
+            .initializers(application -> hide(application.getEnvironment().getPropertySources(),
+                MANAGEMENT_ADDRESS))
+            // Command line arguments override the server.port system property set by failsafe
+            .run("--server.port=0", "--spring.main.web-application-type=" + type.name().toLowerCase());
+        RestAssured.baseURI = "http://localhost";
+        RestAssured.port = Integer.parseInt(context.getEnvironment().getProperty("local.server.port"));
+        return context;
+    }
+
+    /**
+     * Hides a property from every property source defining it, since a property cannot be
+     * unset by a source of higher precedence.
+     */
+    private static void hide(MutablePropertySources sources, String hiddenProperty) {
+        for (PropertySource<?> source : sources) {
+            if (source instanceof EnumerablePropertySource<?> enumerable
+                    && enumerable.containsProperty(hiddenProperty)) {
+                sources.replace(source.getName(), new EnumerablePropertySource<EnumerablePropertySource<?>>(
+                        source.getName(), enumerable) {
+                    @Override
+                    public String[] getPropertyNames() {
+                        return Arrays.stream(getSource().getPropertyNames())
+                            .filter(property -> !property.equals(hiddenProperty))
+                            .toArray(String[]::new);
+                    }
+
+                    @Override
+                    public Object getProperty(String property) {
+                        return property.equals(hiddenProperty) ? null : getSource().getProperty(property);
+                    }
+                });
+            }
+        }
+    }
+}
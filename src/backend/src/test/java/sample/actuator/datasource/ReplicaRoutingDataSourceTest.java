@@ -0,0 +1,170 @@
+package sample.actuator.datasource;
+
+// JUnit Jupiter 5.9.3
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Spring Framework 6.0.0
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Micrometer 1.11.0
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// HikariCP 5.0.1
+import com.zaxxer.hikari.HikariDataSource;
+
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import sample.actuator.ServiceProperties;
+
+/**
+ * Unit tests for ReplicaRoutingDataSource and ReplicaLagMonitor over in-memory H2 databases
+ * standing in for the primary and its replicas.
+ *
+ * A replica pool opened on the primary's own database behaves like a replica without lag;
+ * a separate database only sees the heartbeats written to it by the test.
+ *
+ * Requirements addressed:
+ * - Read Replicas: Verifies read-only transactions reach an in-sync replica and fall back
+ *   to the primary when every replica lags or is unreachable
+ */
+public class ReplicaRoutingDataSourceTest {
+
+    private static final String CREATE_HEARTBEAT_SQL =
+        "CREATE TABLE replication_heartbeat (id INT PRIMARY KEY, beat_at TIMESTAMP NOT NULL)";
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+
+    private String databasePrefix;
+
+    private ServiceProperties serviceProperties;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private HikariDataSource primary;
+
+    @BeforeEach
+    void setUp() {
+        databasePrefix = UUID.randomUUID().toString();
+        serviceProperties = new ServiceProperties();
+        serviceProperties.getReplicas().setMaxLag(Duration.ofSeconds(5));
+        meterRegistry = new SimpleMeterRegistry();
+        primary = pool("primary", "primary");
+        new JdbcTemplate(primary).execute(CREATE_HEARTBEAT_SQL);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        pools.forEach(HikariDataSource::close);
+    }
+
+    @Test
+    void testRoutesReadOnlyTransactionsToInSyncReplica() throws Exception {
+        ReplicaPool inSync = new ReplicaPool("replica-1", pool("replica-1", "primary"));
+        ReplicaPool lagging = new ReplicaPool("replica-2", pool("replica-2", "replica"));
+        JdbcTemplate laggingDatabase = new JdbcTemplate(lagging.getDataSource());
+        laggingDatabase.execute(CREATE_HEARTBEAT_SQL);
+        laggingDatabase.update("INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, ?)",
+            Timestamp.from(Instant.now().minus(Duration.ofHours(1))));
+        ReplicaRoutingDataSource routing = newRouting(List.of(inSync, lagging));
+
+        newMonitor(routing).run();
+
+        assertEquals(ReplicaPool.State.IN_SYNC, inSync.getStatus().getState());
+        assertEquals(ReplicaPool.State.LAGGING, lagging.getStatus().getState());
+        assertTrue(lagging.getStatus().getLag().compareTo(Duration.ofMinutes(59)) > 0);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        for (int i = 0; i < 4; i++) {
+            try (Connection connection = routing.getConnection()) {
+                assertEquals(1, inSync.getDataSource().getHikariPoolMXBean().getActiveConnections());
+            }
+        }
+        assertEquals(4.0, reads("replica"));
+        assertEquals(0.0, reads("primary"));
+        assertEquals(1.0, meterRegistry.get("datasource.replica.available").tag("pool", "replica-1").gauge().value());
+    }
+
+    @Test
+    void testWritesAndReadsWithoutReplicaGoToPrimary() throws Exception {
+        ReplicaPool unreachable = new ReplicaPool("replica-1", pool("replica-1", "replica"));
+        ReplicaRoutingDataSource routing = newRouting(List.of(unreachable));
+
+        try (Connection connection = routing.getConnection()) {
+            assertEquals(1, primary.getHikariPoolMXBean().getActiveConnections());
+        }
+        assertEquals(ReplicaPool.State.UNKNOWN, unreachable.getStatus().getState());
+
+        newMonitor(routing).run();
+        assertEquals(ReplicaPool.State.UNREACHABLE, unreachable.getStatus().getState());
+        assertNotNull(unreachable.getStatus().getError());
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try (Connection connection = routing.getConnection()) {
+            assertEquals(1, primary.getHikariPoolMXBean().getActiveConnections());
+        }
+        assertEquals(1.0, reads("primary"));
+        assertEquals(0.0, reads("replica"));
+    }
+
+    @Test
+    void testHeartbeatRowIsInsertedThenUpdated() {
+        ReplicaPool replica = new ReplicaPool("replica-1", pool("replica-1", "primary"));
+        ReplicaLagMonitor monitor = newMonitor(newRouting(List.of(replica)));
+        JdbcTemplate primaryDatabase = new JdbcTemplate(primary);
+
+        monitor.run();
+        Timestamp first = primaryDatabase.queryForObject("SELECT beat_at FROM replication_heartbeat", Timestamp.class);
+        monitor.run();
+
+        assertEquals(1, primaryDatabase.queryForObject("SELECT COUNT(*) FROM replication_heartbeat", Integer.class));
+        assertFalse(primaryDatabase.queryForObject("SELECT beat_at FROM replication_heartbeat", Timestamp.class)
+            .before(first));
+        assertNull(monitor.getHeartbeatError());
+    }
+
+    @Test
+    void testHeartbeatFailureIsReported() {
+        new JdbcTemplate(primary).execute("DROP TABLE replication_heartbeat");
+        ReplicaPool replica = new ReplicaPool("replica-1", pool("replica-1", "primary"));
+        ReplicaLagMonitor monitor = newMonitor(newRouting(List.of(replica)));
+
+        monitor.run();
+
+        assertNotNull(monitor.getHeartbeatError());
+        assertFalse(replica.isAvailable());
+    }
+
+    private HikariDataSource pool(String name, String database) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + databasePrefix + "-" + database + ";DB_CLOSE_DELAY=-1");
+        dataSource.setPoolName(name);
+        dataSource.setMaximumPoolSize(2);
+        pools.add(dataSource);
+        return dataSource;
+    }
+
+    private ReplicaRoutingDataSource newRouting(List<ReplicaPool> replicas) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replicas, meterRegistry);
+        routing.afterPropertiesSet();
+        return routing;
+    }
+
+    private ReplicaLagMonitor newMonitor(ReplicaRoutingDataSource routing) {
+        return new ReplicaLagMonitor(primary, routing.getReplicas(), serviceProperties, meterRegistry);
+    }
+
+    private double reads(String target) {
+        return meterRegistry.get("datasource.reads").tag("target", target).counter().count();
+    }
+}
@@ -0,0 +1,115 @@
+package sample.actuator.filter;
+
+// JUnit Jupiter 5.9.3
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Unit tests for AdaptiveConcurrencyLimiter covering admission, backoff on slow requests
+ * once per sample window and growth under healthy load.
+ *
+ * Requirements addressed:
+ * - Load Shedding: Verifies the limit backs off when latency rises and excess requests
+ *   are shed
+ */
+public class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private static final long SLOW = TimeUnit.SECONDS.toNanos(1);
+
+    private static final Duration SAMPLE_WINDOW = Duration.ofSeconds(1);
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void testShedsBeyondLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(2, 1, 10);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+
+        assertEquals(2, limiter.getInFlight());
+        assertEquals(1, limiter.getShed());
+    }
+
+    @Test
+    void testSlowRequestsReduceLimitDownToMinimum() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 4, 20);
+
+        for (int i = 0; i < 20; i++) {
+            limiter.tryAcquire();
+            limiter.release(SLOW, false);
+            now.addAndGet(SAMPLE_WINDOW.toNanos());
+        }
+
+        assertEquals(4, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void testSlowRequestsWithinOneWindowReduceLimitOnce() {
+        AdaptiveConcurrencyLimiter limiter = limiter(100, 1, 100);
+
+        for (int i = 0; i < 50; i++) {
+            limiter.tryAcquire();
+        }
+        for (int i = 0; i < 50; i++) {
+            limiter.release(SLOW, false);
+        }
+        assertEquals(90, limiter.getLimit(), "One latency spike backs off once");
+
+        now.addAndGet(SAMPLE_WINDOW.toNanos() - 1);
+        limiter.tryAcquire();
+        limiter.release(SLOW, false);
+        assertEquals(90, limiter.getLimit());
+
+        now.incrementAndGet();
+        limiter.tryAcquire();
+        limiter.release(SLOW, false);
+        assertEquals(81, limiter.getLimit(), "The next window backs off again");
+    }
+
+    @Test
+    void testFailedRequestsReduceLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 1, 20);
+
+        limiter.tryAcquire();
+        limiter.release(FAST, true);
+
+        assertEquals(9, limiter.getLimit());
+    }
+
+    @Test
+    void testFastRequestsGrowLimitOnlyWhenUtilized() {
+        AdaptiveConcurrencyLimiter limiter = limiter(4, 1, 5);
+
+        limiter.tryAcquire();
+        limiter.release(FAST, false);
+        assertEquals(4, limiter.getLimit(), "One request in flight out of four does not probe for more");
+
+        for (int i = 0; i < 4; i++) {
+            limiter.tryAcquire();
+        }
+        for (int i = 0; i < 4; i++) {
+            limiter.release(FAST, false);
+        }
+        assertEquals(5, limiter.getLimit(), "Limit is capped at the maximum");
+    }
+
+    @Test
+    void testRejectsInitialLimitOutsideBounds() {
+        assertThrows(IllegalArgumentException.class, () -> limiter(1, 2, 10));
+        assertThrows(IllegalArgumentException.class, () -> limiter(11, 2, 10));
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(int initial, int min, int max) {
+        return new AdaptiveConcurrencyLimiter(initial, min, max, Duration.ofMillis(250), 0.9, SAMPLE_WINDOW,
+            now::get);
+    }
+}
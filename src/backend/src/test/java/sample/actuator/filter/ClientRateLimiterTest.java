@@ -0,0 +1,78 @@
+package sample.actuator.filter;
+
+// JUnit Jupiter 5.9.3
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Unit tests for ClientRateLimiter covering bursts, refill, per-client isolation and the
+ * bounded client table.
+ *
+ * Requirements addressed:
+ * - Rate Limiting: Verifies each client is held to its burst and sustained rate and that
+ *   the number of tracked clients stays bounded
+ */
+public class ClientRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+
+    @Test
+    void testAdmitsBurstThenRejects() {
+        ClientRateLimiter limiter = new ClientRateLimiter(3, 10, 100, now::get);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire("10.0.0.1"), "Request " + i + " is within the burst");
+        }
+        long wait = limiter.tryAcquire("10.0.0.1");
+
+        assertTrue(wait > 0 && wait <= TimeUnit.MILLISECONDS.toNanos(100),
+            "Next token is at most one emission interval away, was " + wait);
+    }
+
+    @Test
+    void testRefillsAtSustainedRate() {
+        ClientRateLimiter limiter = new ClientRateLimiter(1, 10, 100, now::get);
+
+        assertEquals(0, limiter.tryAcquire("10.0.0.1"));
+        assertNotEquals(0, limiter.tryAcquire("10.0.0.1"));
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        assertEquals(0, limiter.tryAcquire("10.0.0.1"));
+        assertNotEquals(0, limiter.tryAcquire("10.0.0.1"));
+    }
+
+    @Test
+    void testIdleClientDoesNotAccumulateMoreThanBurst() {
+        ClientRateLimiter limiter = new ClientRateLimiter(2, 10, 100, now::get);
+        limiter.tryAcquire("10.0.0.1");
+
+        now.addAndGet(TimeUnit.MINUTES.toNanos(1));
+
+        assertEquals(0, limiter.tryAcquire("10.0.0.1"));
+        assertEquals(0, limiter.tryAcquire("10.0.0.1"));
+        assertNotEquals(0, limiter.tryAcquire("10.0.0.1"));
+    }
+
+    @Test
+    void testClientsAreLimitedIndependently() {
+        ClientRateLimiter limiter = new ClientRateLimiter(1, 1, 100, now::get);
+
+        assertEquals(0, limiter.tryAcquire("10.0.0.1"));
+        assertNotEquals(0, limiter.tryAcquire("10.0.0.1"));
+        assertEquals(0, limiter.tryAcquire("10.0.0.2"));
+    }
+
+    @Test
+    void testClientTableIsBounded() {
+        ClientRateLimiter limiter = new ClientRateLimiter(1, 1, 64, now::get);
+
+        for (int i = 0; i < 10_000; i++) {
+            limiter.tryAcquire("client-" + i);
+        }
+
+        assertTrue(limiter.size() <= 64, "Tracked clients should stay bounded, was " + limiter.size());
+    }
+}
@@ -0,0 +1,90 @@
+package sample.actuator.filter;
+
+// JUnit Jupiter 5.9.3
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Jakarta Servlet 6.0.0
+import jakarta.servlet.ServletException;
+
+// Spring Framework Test 6.0.0
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+// Jackson 2.15.0
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Micrometer 1.11.0
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+
+/**
+ * Unit tests for ConcurrencyLimitFilter verifying shed responses, release of admitted
+ * requests and the exposed metrics.
+ *
+ * Requirements addressed:
+ * - Load Shedding: Verifies requests beyond the limit fail fast with 503 and Retry-After
+ */
+public class ConcurrencyLimitFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private AdaptiveConcurrencyLimiter limiter;
+
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        limiter = new AdaptiveConcurrencyLimiter(1, 1, 10, Duration.ofSeconds(10), 0.5, Duration.ZERO);
+        filter = new ConcurrencyLimitFilter(limiter, new ObjectMapper(), meterRegistry);
+    }
+
+    @Test
+    void testShedsWhileLimitIsInUse() throws Exception {
+        MockHttpServletResponse shed = new MockHttpServletResponse();
+
+        // The second request arrives while the first one still holds the only permit
+        filter.doFilter(new MockHttpServletRequest("POST", "/"), new MockHttpServletResponse(),
+            (request, response) -> filter.doFilter(new MockHttpServletRequest("GET", "/messages"), shed,
+                new MockFilterChain()));
+
+        assertEquals(503, shed.getStatus());
+        assertEquals("1", shed.getHeader("Retry-After"));
+        JsonNode body = new ObjectMapper().readTree(shed.getContentAsString());
+        assertEquals("OVERLOADED", body.get("errorType").asText());
+        assertEquals(1.0, meterRegistry.get("concurrency.shed").functionCounter().count());
+        assertEquals(0.0, meterRegistry.get("concurrency.inflight").gauge().value());
+    }
+
+    @Test
+    void testAdmitsAfterRelease() throws Exception {
+        MockFilterChain first = new MockFilterChain();
+        MockFilterChain second = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/"), new MockHttpServletResponse(), first);
+        filter.doFilter(new MockHttpServletRequest("POST", "/"), new MockHttpServletResponse(), second);
+
+        assertNotNull(first.getRequest());
+        assertNotNull(second.getRequest());
+        assertEquals(0, limiter.getShed());
+    }
+
+    @Test
+    void testFailedRequestIsReleasedAndBacksOff() {
+        AdaptiveConcurrencyLimiter wide = new AdaptiveConcurrencyLimiter(4, 1, 10, Duration.ofSeconds(10), 0.5, Duration.ZERO);
+        ConcurrencyLimitFilter failing = new ConcurrencyLimitFilter(wide, new ObjectMapper(), new SimpleMeterRegistry());
+
+        assertThrows(ServletException.class, () -> failing.doFilter(new MockHttpServletRequest("POST", "/"),
+            new MockHttpServletResponse(), (request, response) -> {
+                throw new ServletException("boom");
+            }));
+
+        assertEquals(0, wide.getInFlight());
+        assertEquals(2, wide.getLimit());
+    }
+}
@@ -0,0 +1,156 @@
+package sample.actuator.filter;
+
+// JUnit Jupiter 5.9.3
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Jakarta Servlet 6.0.0
+import jakarta.servlet.http.HttpServletResponse;
+
+// Spring Framework Test 6.0.0
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Unit tests for ConditionalGetFilter verifying 304 short-circuits, validator headers on
+ * successful responses and the requests it leaves alone.
+ *
+ * Requirements addressed:
+ * - HTTP Response Caching: Verifies clients holding the current ETag are answered without
+ *   invoking the controller
+ */
+public class ConditionalGetFilterTest {
+
+    private final AtomicReference<String> etag = new AtomicReference<>("\"v1\"");
+
+    private ConditionalGetFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new ConditionalGetFilter(Map.of("/messages",
+            new ConditionalGetFilter.Route(etag::get, "no-cache")));
+    }
+
+    @Test
+    void testNotModifiedWhenEtagMatches() throws Exception {
+        MockHttpServletRequest request = get("/messages");
+        request.addHeader("If-None-Match", "\"v0\", W/\"v1\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertNull(chain.getRequest(), "Controller should not be invoked");
+        assertEquals(304, response.getStatus());
+        assertEquals("\"v1\"", response.getHeader("ETag"));
+        assertEquals("no-cache", response.getHeader("Cache-Control"));
+        assertEquals(0, response.getContentLength());
+    }
+
+    @Test
+    void testChangedContentIsSentWithValidators() throws Exception {
+        etag.set("\"v2\"");
+        MockHttpServletRequest request = get("/messages");
+        request.addHeader("If-None-Match", "\"v1\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> res.getWriter().write("[]"));
+
+        assertEquals(200, response.getStatus());
+        assertEquals("[]", response.getContentAsString());
+        assertEquals("\"v2\"", response.getHeader("ETag"));
+        assertEquals("no-cache", response.getHeader("Cache-Control"));
+    }
+
+    @Test
+    void testKeepsEtagSetByHandler() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(get("/messages"), response, (req, res) -> {
+            ((HttpServletResponse) res).setHeader("ETag", "\"v1-gzip\"");
+            res.getOutputStream().write('x');
+        });
+
+        assertEquals("\"v1-gzip\"", response.getHeader("ETag"));
+        assertEquals("no-cache", response.getHeader("Cache-Control"));
+    }
+
+    @Test
+    void testErrorResponseGetsNoValidators() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(get("/messages"), response, (req, res) -> {
+            ((HttpServletResponse) res).setStatus(500);
+            res.getOutputStream().write('x');
+        });
+
+        assertEquals(500, response.getStatus());
+        assertNull(response.getHeader("ETag"));
+        assertNull(response.getHeader("Cache-Control"));
+    }
+
+    @Test
+    void testUnconditionalRoutesAndMethodsPassThrough() throws Exception {
+        MockFilterChain post = new MockFilterChain();
+        MockHttpServletRequest postRequest = new MockHttpServletRequest("POST", "/messages");
+        postRequest.setServletPath("/messages");
+        postRequest.addHeader("If-None-Match", "\"v1\"");
+        filter.doFilter(postRequest, new MockHttpServletResponse(), post);
+
+        MockFilterChain other = new MockFilterChain();
+        MockHttpServletRequest otherRequest = get("/messages/export");
+        otherRequest.addHeader("If-None-Match", "\"v1\"");
+        filter.doFilter(otherRequest, new MockHttpServletResponse(), other);
+
+        MockFilterChain crossOrigin = new MockFilterChain();
+        MockHttpServletRequest crossOriginRequest = get("/messages");
+        crossOriginRequest.addHeader("Origin", "https://example.org");
+        crossOriginRequest.addHeader("If-None-Match", "\"v1\"");
+        filter.doFilter(crossOriginRequest, new MockHttpServletResponse(), crossOrigin);
+
+        assertNotNull(post.getRequest());
+        assertNotNull(other.getRequest());
+        assertNotNull(crossOrigin.getRequest());
+    }
+
+    @Test
+    void testRequestDependentRouteTagsEachPage() throws Exception {
+        ConditionalGetFilter paged = new ConditionalGetFilter(Map.of("/messages",
+            new ConditionalGetFilter.Route(
+                request -> "\"v1-" + request.getParameter("limit") + "\"", "no-cache")));
+        MockHttpServletRequest firstPage = get("/messages");
+        firstPage.setParameter("limit", "10");
+        firstPage.addHeader("If-None-Match", "\"v1-10\"");
+        MockHttpServletResponse notModified = new MockHttpServletResponse();
+        MockHttpServletRequest otherPage = get("/messages");
+        otherPage.setParameter("limit", "20");
+        otherPage.addHeader("If-None-Match", "\"v1-10\"");
+        MockHttpServletResponse sent = new MockHttpServletResponse();
+
+        paged.doFilter(firstPage, notModified, new MockFilterChain());
+        paged.doFilter(otherPage, sent, (req, res) -> res.getWriter().write("[]"));
+
+        assertEquals(304, notModified.getStatus());
+        assertEquals(200, sent.getStatus());
+        assertEquals("\"v1-20\"", sent.getHeader("ETag"));
+    }
+
+    @Test
+    void testMatchesWildcardAndLists() {
+        assertTrue(ConditionalGetFilter.matches("*", "\"v1\""));
+        assertTrue(ConditionalGetFilter.matches("\"a\" , \"v1\"", "\"v1\""));
+        assertFalse(ConditionalGetFilter.matches("\"v10\"", "\"v1\""));
+        assertFalse(ConditionalGetFilter.matches(null, "\"v1\""));
+    }
+
+    private static MockHttpServletRequest get(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        return request;
+    }
+}
@@ -0,0 +1,149 @@
+package sample.actuator.filter;
+
+// JUnit Jupiter 5.9.3
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Spring Framework Test 6.0.0
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+// Jackson 2.15.0
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayInputStream;
+import java.util.zip.GZIPInputStream;
+
+import sample.actuator.HelloResponseCache;
+import sample.actuator.HelloWorldService;
+
+/**
+ * Unit tests for PrecomputedHelloFilter verifying the pre-serialized GET / response mode.
+ *
+ * Requirements addressed:
+ * - Hello Endpoint Performance: Verifies the cached body matches the controller contract,
+ *   carries Content-Length and ETag, honours If-None-Match and leaves other requests alone
+ */
+public class PrecomputedHelloFilterTest {
+
+    private HelloResponseCache cache;
+
+    private PrecomputedHelloFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        cache = new HelloResponseCache(new HelloWorldService(), new ObjectMapper());
+        filter = new PrecomputedHelloFilter(cache);
+    }
+
+    @Test
+    void testServesCachedBody() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.setServletPath("/");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertNull(chain.getRequest(), "Chain should not be invoked for the cached response");
+        assertEquals(200, response.getStatus());
+        assertEquals("{\"message\":\"Spring boot says hello from a Docker container\"}",
+            response.getContentAsString());
+        assertEquals(response.getContentAsByteArray().length, response.getContentLength());
+        assertEquals(cache.get().getEtag(), response.getHeader("ETag"));
+        assertSame(cache.get(), cache.get(), "Body should be rendered only once");
+    }
+
+    @Test
+    void testNotModifiedWhenEtagMatches() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.setServletPath("/");
+        request.addHeader("If-None-Match", cache.get().getEtag());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        assertEquals(304, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void testNotModifiedForWeakListedOrWildcardEtag() throws Exception {
+        String etag = cache.get().getEtag();
+        for (String ifNoneMatch : new String[] {"W/" + etag, "\"stale\", " + etag, "*"}) {
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+            request.setServletPath("/");
+            request.addHeader("If-None-Match", ifNoneMatch);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            filter.doFilter(request, response, new MockFilterChain());
+
+            assertEquals(304, response.getStatus(), ifNoneMatch);
+        }
+    }
+
+    @Test
+    void testPassesThroughOtherRequests() throws Exception {
+        MockHttpServletRequest post = new MockHttpServletRequest("POST", "/");
+        post.setServletPath("/");
+        MockFilterChain postChain = new MockFilterChain();
+        filter.doFilter(post, new MockHttpServletResponse(), postChain);
+        assertNotNull(postChain.getRequest(), "POST / should reach the controller");
+
+        MockHttpServletRequest crossOrigin = new MockHttpServletRequest("GET", "/");
+        crossOrigin.setServletPath("/");
+        crossOrigin.addHeader("Origin", "https://example.com");
+        MockFilterChain corsChain = new MockFilterChain();
+        filter.doFilter(crossOrigin, new MockHttpServletResponse(), corsChain);
+        assertNotNull(corsChain.getRequest(), "Cross-origin GET / should go through CORS processing");
+
+        MockHttpServletRequest xml = new MockHttpServletRequest("GET", "/");
+        xml.setServletPath("/");
+        xml.addHeader("Accept", "application/xml");
+        MockFilterChain xmlChain = new MockFilterChain();
+        filter.doFilter(xml, new MockHttpServletResponse(), xmlChain);
+        assertNotNull(xmlChain.getRequest(), "Non-JSON Accept should be negotiated by the controller");
+    }
+
+    @Test
+    void testServesPrecompressedBodyToGzipClients() throws Exception {
+        HelloResponseCache longCache = new HelloResponseCache(new HelloWorldService() {
+            @Override
+            public String getHelloMessage() {
+                return "Spring boot says hello ".repeat(20);
+            }
+        }, new ObjectMapper());
+        PrecomputedHelloFilter longFilter = new PrecomputedHelloFilter(longCache);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.setServletPath("/");
+        request.addHeader("Accept-Encoding", "gzip, deflate, br");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        longFilter.doFilter(request, response, new MockFilterChain());
+
+        assertEquals("gzip", response.getHeader("Content-Encoding"));
+        assertEquals("Accept-Encoding", response.getHeader("Vary"));
+        assertEquals(longCache.get().getGzipEtag(), response.getHeader("ETag"));
+        assertNotEquals(longCache.get().getEtag(), response.getHeader("ETag"));
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertArrayEquals(longCache.get().getBody(), gzip.readAllBytes());
+        }
+        assertTrue(response.getContentLength() < longCache.get().getContentLength());
+    }
+
+    @Test
+    void testShortBodyIsNotCompressed() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.setServletPath("/");
+        request.addHeader("Accept-Encoding", "gzip");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        assertNull(cache.get().getGzipBody(), "Compressing the short hello body would make it larger");
+        assertNull(response.getHeader("Content-Encoding"));
+        assertEquals(cache.get().getEtag(), response.getHeader("ETag"));
+    }
+}
@@ -0,0 +1,96 @@
+package sample.actuator.filter;
+
+// JUnit Jupiter 5.9.3
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Spring Framework Test 6.0.0
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+// Jackson 2.15.0
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Micrometer 1.11.0
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for RateLimitFilter verifying admitted and rejected requests and the
+ * methods and paths it leaves alone.
+ *
+ * Requirements addressed:
+ * - Rate Limiting: Verifies clients over their limit receive 429 with Retry-After and that
+ *   decisions are counted
+ */
+public class RateLimitFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RateLimitFilter(new ClientRateLimiter(1, 0.5, 100), new ObjectMapper(), meterRegistry);
+    }
+
+    @Test
+    void testRejectsClientOverLimit() throws Exception {
+        MockHttpServletResponse first = post("10.0.0.1");
+        MockHttpServletResponse second = post("10.0.0.1");
+
+        assertEquals(200, first.getStatus());
+        assertEquals(429, second.getStatus());
+        assertEquals("2", second.getHeader("Retry-After"));
+        JsonNode body = new ObjectMapper().readTree(second.getContentAsString());
+        assertEquals(429, body.get("status").asInt());
+        assertEquals("RATE_LIMITED", body.get("errorType").asText());
+        assertEquals(1.0, meterRegistry.get("ratelimit.requests").tag("result", "allowed").counter().count());
+        assertEquals(1.0, meterRegistry.get("ratelimit.requests").tag("result", "rejected").counter().count());
+    }
+
+    @Test
+    void testOtherClientIsAdmitted() throws Exception {
+        post("10.0.0.1");
+
+        assertEquals(200, post("10.0.0.2").getStatus());
+    }
+
+    @Test
+    void testGetIsNotLimited() throws Exception {
+        post("10.0.0.1");
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+        request.setServletPath("/");
+        request.setRemoteAddr("10.0.0.1");
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertNotNull(chain.getRequest(), "GET / should always reach the controller");
+    }
+
+    @Test
+    void testOtherPathsAreNotLimited() throws Exception {
+        post("10.0.0.1");
+
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/messages");
+        request.setServletPath("/messages");
+        request.setRemoteAddr("10.0.0.1");
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertNotNull(chain.getRequest(), "Only SampleController paths are limited");
+    }
+
+    private MockHttpServletResponse post(String client) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/");
+        request.setServletPath("/");
+        request.setRemoteAddr(client);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
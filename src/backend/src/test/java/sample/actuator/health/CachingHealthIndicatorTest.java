@@ -0,0 +1,122 @@
+package sample.actuator.health;
+
+// JUnit Jupiter 5.9.3
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Spring Boot Actuator Health - v3.0.0
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+// Micrometer 1.11.0
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unit tests for CachingHealthIndicator covering cached serving, timeouts and TTL expiry.
+ *
+ * Requirements addressed:
+ * - Health Endpoint Performance: Verifies health requests are answered from the last
+ *   background result and never wait for a slow indicator
+ */
+public class CachingHealthIndicatorTest {
+
+    private ExecutorService evaluator;
+
+    private ScheduledExecutorService scheduler;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        evaluator = Executors.newCachedThreadPool();
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        evaluator.shutdownNow();
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void testServesLastResultWithoutReevaluating() throws Exception {
+        AtomicInteger evaluations = new AtomicInteger();
+        CachingHealthIndicator indicator = new CachingHealthIndicator("example",
+            () -> Health.up().withDetail("counter", evaluations.incrementAndGet()).build(),
+            Duration.ofMinutes(1), Duration.ofSeconds(1));
+
+        assertEquals(Status.UNKNOWN, indicator.health().getStatus(), "No result before the first evaluation");
+
+        indicator.refresh(evaluator, scheduler, meterRegistry);
+        awaitStatus(indicator, Status.UP);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(1, indicator.health().getDetails().get("counter"));
+        }
+        assertEquals(1, evaluations.get());
+        assertEquals(1, meterRegistry.get("health.indicator.evaluation").tag("indicator", "example")
+            .tag("status", "UP").timer().count());
+    }
+
+    @Test
+    void testSlowIndicatorIsReportedUnknown() throws Exception {
+        CountDownLatch never = new CountDownLatch(1);
+        CachingHealthIndicator indicator = new CachingHealthIndicator("slow", () -> {
+            try {
+                never.await();
+            }
+            catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return Health.up().build();
+        }, Duration.ofMinutes(1), Duration.ofMillis(50));
+
+        indicator.refresh(evaluator, scheduler, meterRegistry);
+        Thread.sleep(200);
+
+        Health health = indicator.health();
+        assertEquals(Status.UNKNOWN, health.getStatus());
+        assertTrue(health.getDetails().get("reason").toString().contains("timed out"));
+    }
+
+    @Test
+    void testExpiredResultIsReportedUnknown() throws Exception {
+        CachingHealthIndicator indicator = new CachingHealthIndicator("expiring",
+            () -> Health.up().build(), Duration.ofMillis(50), Duration.ofSeconds(1));
+
+        indicator.refresh(evaluator, scheduler, meterRegistry);
+        awaitStatus(indicator, Status.UP);
+        Thread.sleep(100);
+
+        assertEquals(Status.UNKNOWN, indicator.health().getStatus());
+    }
+
+    @Test
+    void testFailingIndicatorIsReportedDown() throws Exception {
+        CachingHealthIndicator indicator = new CachingHealthIndicator("failing", () -> {
+            throw new IllegalStateException("boom");
+        }, Duration.ofMinutes(1), Duration.ofSeconds(1));
+
+        indicator.refresh(evaluator, scheduler, meterRegistry);
+        awaitStatus(indicator, Status.DOWN);
+    }
+
+    private static void awaitStatus(CachingHealthIndicator indicator, Status expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!expected.equals(indicator.health().getStatus()) && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, indicator.health().getStatus());
+    }
+}
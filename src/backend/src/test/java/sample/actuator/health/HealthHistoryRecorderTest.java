@@ -0,0 +1,169 @@
+package sample.actuator.health;
+
+// JUnit Jupiter 5.9.3
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Mockito 5.3.1
+import org.mockito.Mockito;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Spring Boot Actuator Health - v3.0.0
+import org.springframework.boot.actuate.health.Health;
+
+// Jackson 2.15.0
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Micrometer 1.11.0
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import sample.actuator.ServiceProperties;
+import sample.actuator.model.HealthStatusRecord;
+import sample.actuator.repository.HealthStatusRepository;
+
+/**
+ * Unit tests for HealthHistoryRecorder covering change detection, batching, buffer
+ * overflow and recovery from failed writes.
+ *
+ * Requirements addressed:
+ * - Health History: Verifies only status or detail changes are written, in batches
+ */
+public class HealthHistoryRecorderTest {
+
+    private HealthStatusRepository healthStatusRepository;
+
+    private ServiceProperties serviceProperties;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private List<List<String>> writtenBatches;
+
+    @BeforeEach
+    void setUp() {
+        healthStatusRepository = Mockito.mock(HealthStatusRepository.class);
+        serviceProperties = new ServiceProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        writtenBatches = new ArrayList<>();
+        when(healthStatusRepository.insertBatch(anyList())).thenAnswer(invocation -> {
+            List<HealthStatusRecord> records = invocation.getArgument(0);
+            writtenBatches.add(records.stream()
+                .map(record -> record.getComponent() + ":" + record.getStatus() + ":" + record.getDetails())
+                .toList());
+            return records.size();
+        });
+    }
+
+    @Test
+    void testRecordsOnlyChangesInOneBatch() {
+        HealthHistoryRecorder recorder = newRecorder();
+
+        recorder.onEvaluated("db", Health.up().withDetail("database", "H2").build());
+        recorder.onEvaluated("db", Health.up().withDetail("database", "H2").build());
+        recorder.onEvaluated("example", Health.up().build());
+        recorder.onEvaluated("db", Health.down().withDetail("database", "H2").build());
+        recorder.onEvaluated("example", Health.up().build());
+        recorder.flush();
+
+        assertEquals(List.of(List.of(
+            "db:UP:{\"database\":\"H2\"}",
+            "example:UP:null",
+            "db:DOWN:{\"database\":\"H2\"}")), writtenBatches);
+        assertEquals(2.0, records("unchanged"));
+        assertEquals(3.0, records("recorded"));
+    }
+
+    @Test
+    void testDetailChangeIsRecorded() {
+        HealthHistoryRecorder recorder = newRecorder();
+
+        recorder.onEvaluated("replicas", Health.up().withDetail("replica-1", Map.of("state", "HEALTHY")).build());
+        recorder.onEvaluated("replicas", Health.up().withDetail("replica-1", Map.of("state", "LAGGING")).build());
+        recorder.flush();
+
+        assertEquals(2, writtenBatches.get(0).size());
+    }
+
+    @Test
+    void testNumericDetailChangeIsNotRecorded() {
+        HealthHistoryRecorder recorder = newRecorder();
+
+        recorder.onEvaluated("diskSpace", Health.up().withDetail("free", 1000L).withDetail("exists", true).build());
+        recorder.onEvaluated("diskSpace", Health.up().withDetail("free", 900L).withDetail("exists", true).build());
+        recorder.onEvaluated("pools", Health.up().withDetail("primary", Map.of("active", 1)).build());
+        recorder.onEvaluated("pools", Health.up().withDetail("primary", Map.of("active", 2)).build());
+        recorder.onEvaluated("diskSpace", Health.down().withDetail("free", 10L).withDetail("exists", true).build());
+        recorder.flush();
+
+        assertEquals(List.of(List.of(
+            "diskSpace:UP:{\"free\":1000,\"exists\":true}",
+            "pools:UP:{\"primary\":{\"active\":1}}",
+            "diskSpace:DOWN:{\"free\":10,\"exists\":true}")), writtenBatches);
+        assertEquals(2.0, records("unchanged"));
+    }
+
+    @Test
+    void testFlushWithoutChangesDoesNotWrite() {
+        HealthHistoryRecorder recorder = newRecorder();
+
+        recorder.flush();
+
+        verify(healthStatusRepository, never()).insertBatch(anyList());
+    }
+
+    @Test
+    void testDroppedChangeIsOfferedAgain() {
+        serviceProperties.getHealthHistory().setMaxPending(1);
+        HealthHistoryRecorder recorder = newRecorder();
+
+        recorder.onEvaluated("db", Health.up().build());
+        recorder.onEvaluated("example", Health.up().build());
+        assertEquals(1.0, records("dropped"));
+
+        recorder.flush();
+        recorder.onEvaluated("example", Health.up().build());
+        recorder.flush();
+
+        assertEquals(List.of(List.of("db:UP:null"), List.of("example:UP:null")), writtenBatches);
+    }
+
+    @Test
+    void testFailedWriteIsRecordedAgain() {
+        HealthHistoryRecorder recorder = newRecorder();
+        when(healthStatusRepository.insertBatch(anyList())).thenThrow(new IllegalStateException("down"));
+
+        recorder.onEvaluated("db", Health.up().build());
+        recorder.flush();
+        assertEquals(1.0, records("failed"));
+
+        recorder.onEvaluated("db", Health.up().build());
+        assertEquals(0.0, records("unchanged"), "A state lost by a failed write must be buffered again");
+    }
+
+    @Test
+    void testDisabledRecorderIgnoresResults() {
+        serviceProperties.getHealthHistory().setEnabled(false);
+        HealthHistoryRecorder recorder = newRecorder();
+
+        recorder.onEvaluated("db", Health.up().build());
+        recorder.flush();
+
+        verify(healthStatusRepository, never()).insertBatch(anyList());
+    }
+
+    private HealthHistoryRecorder newRecorder() {
+        return new HealthHistoryRecorder(healthStatusRepository, new ObjectMapper(), serviceProperties,
+            meterRegistry);
+    }
+
+    private double records(String result) {
+        return meterRegistry.get("health.history.records").tag("result", result).counter().count();
+    }
+}
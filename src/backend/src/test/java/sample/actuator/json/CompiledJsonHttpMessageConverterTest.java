@@ -0,0 +1,116 @@
+package sample.actuator.json;
+
+// JUnit Jupiter 5.9.3
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Spring Framework 6.0.0
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+// Jackson 2.15.0
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import sample.actuator.dto.HealthResponse;
+import sample.actuator.dto.InfoResponse;
+
+/**
+ * Unit tests for CompiledJsonHttpMessageConverter. A hand-written writer stands in for the
+ * generated one, which only exists in builds with the compiled-json profile.
+ *
+ * Requirements addressed:
+ * - Response Serialization Performance: Verifies only types with a writer are claimed and
+ *   that they are written with the ObjectMapper's configuration
+ */
+public class CompiledJsonHttpMessageConverterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final CompiledJsonHttpMessageConverter converter = new CompiledJsonHttpMessageConverter(objectMapper,
+        new JsonWriterRegistry(List.of(new HealthResponseWriter())));
+
+    @Test
+    void testClaimsOnlyTypesWithWriterForWriting() {
+        assertTrue(converter.canWrite(HealthResponse.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(InfoResponse.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(HealthResponse.class, MediaType.TEXT_PLAIN));
+        assertFalse(converter.canRead(HealthResponse.class, MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void testWritesSameJsonAsObjectMapper() throws IOException {
+        HealthResponse response = new HealthResponse();
+        response.setStatus("UP");
+        response.setDetails(Map.of("checkedAt", new Date(0)));
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        converter.write(response, MediaType.APPLICATION_JSON, output);
+
+        assertEquals(objectMapper.writeValueAsString(response), output.getBodyAsString(StandardCharsets.UTF_8));
+        assertEquals(MediaType.APPLICATION_JSON, output.getHeaders().getContentType());
+    }
+
+    @Test
+    void testOmitsNullsLikeObjectMapperWithNonNullInclusion() throws IOException {
+        ObjectMapper nonNullMapper = new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        CompiledJsonHttpMessageConverter nonNullConverter = new CompiledJsonHttpMessageConverter(nonNullMapper,
+            new JsonWriterRegistry(List.of(new HealthResponseWriter())));
+        HealthResponse response = new HealthResponse();
+        response.setStatus("UP");
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        nonNullConverter.write(response, MediaType.APPLICATION_JSON, output);
+
+        assertEquals("{\"status\":\"UP\"}", output.getBodyAsString(StandardCharsets.UTF_8));
+        assertEquals(nonNullMapper.writeValueAsString(response), output.getBodyAsString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testLeavesUnsupportedInclusionToJackson() {
+        ObjectMapper nonEmptyMapper = new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
+        CompiledJsonHttpMessageConverter nonEmptyConverter = new CompiledJsonHttpMessageConverter(nonEmptyMapper,
+            new JsonWriterRegistry(List.of(new HealthResponseWriter())));
+
+        assertFalse(nonEmptyConverter.canWrite(HealthResponse.class, MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void testRejectsDuplicateWriters() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new JsonWriterRegistry(List.of(new HealthResponseWriter(), new HealthResponseWriter())));
+    }
+
+    /**
+     * Equivalent of the writer the processor would generate for HealthResponse.
+     */
+    private static final class HealthResponseWriter implements JsonWriter<HealthResponse> {
+
+        @Override
+        public Class<HealthResponse> type() {
+            return HealthResponse.class;
+        }
+
+        @Override
+        public void write(HealthResponse value, JsonGenerator generator, boolean omitNulls) throws IOException {
+            generator.writeStartObject();
+            if (value.getStatus() != null || !omitNulls) {
+                generator.writeStringField("status", value.getStatus());
+            }
+            if (value.getDetails() != null || !omitNulls) {
+                generator.writeFieldName("details");
+                generator.writeObject(value.getDetails());
+            }
+            generator.writeEndObject();
+        }
+    }
+}
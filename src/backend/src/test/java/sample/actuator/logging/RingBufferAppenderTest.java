@@ -0,0 +1,143 @@
+package sample.actuator.logging;
+
+// JUnit Jupiter 5.9.3
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Logback 1.4.7
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+
+// Jackson 2.15.0
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Micrometer 1.11.0
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit tests for RingBufferAppender with JsonEventEncoder, covering the written JSON lines,
+ * stack trace suppression, dropped events and the published metrics.
+ *
+ * Requirements addressed:
+ * - Asynchronous Logging: Verifies events are written off the logging thread as JSON and
+ *   that overload is counted instead of blocking
+ */
+public class RingBufferAppenderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private LoggerContext loggerContext;
+
+    private Logger logger;
+
+    private ByteArrayOutputStream output;
+
+    private RingBufferAppender appender;
+
+    private JsonEventEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        loggerContext = new LoggerContext();
+        logger = loggerContext.getLogger("test");
+        output = new ByteArrayOutputStream();
+        encoder = new JsonEventEncoder();
+        encoder.setContext(loggerContext);
+        encoder.setStackTraceInterval("1m");
+        encoder.start();
+        appender = new RingBufferAppender();
+        appender.setContext(loggerContext);
+        appender.setName("async");
+        appender.setEncoder(encoder);
+        appender.setOutputStream(output);
+    }
+
+    @AfterEach
+    void tearDown() {
+        appender.stop();
+    }
+
+    @Test
+    void testWritesEventsAsJsonLines() throws Exception {
+        appender.start();
+        logger.addAppender(appender);
+        logger.info("Hello {}", "world");
+
+        List<JsonNode> lines = stopAndRead();
+
+        assertEquals(1, lines.size());
+        JsonNode line = lines.get(0);
+        assertEquals("INFO", line.get("level").asText());
+        assertEquals("test", line.get("logger").asText());
+        assertEquals("Hello world", line.get("message").asText());
+        assertEquals(Thread.currentThread().getName(), line.get("thread").asText());
+        assertTrue(line.has("@timestamp"));
+    }
+
+    @Test
+    void testRepeatedStackTraceIsSuppressed() throws Exception {
+        appender.start();
+        logger.addAppender(appender);
+        for (int i = 0; i < 3; i++) {
+            logger.error("Failed", failure());
+        }
+        logger.error("Other", new IllegalArgumentException("other"));
+
+        List<JsonNode> lines = stopAndRead();
+
+        JsonNode first = lines.get(0).get("exception");
+        assertEquals(IllegalStateException.class.getName(), first.get("class").asText());
+        assertTrue(first.get("stackTrace").asText().contains("failure"));
+        for (int i = 1; i < 3; i++) {
+            JsonNode repeat = lines.get(i).get("exception");
+            assertTrue(repeat.get("stackTraceSuppressed").asBoolean());
+            assertFalse(repeat.has("stackTrace"));
+            assertEquals(first.get("fingerprint"), repeat.get("fingerprint"));
+        }
+        assertTrue(lines.get(3).get("exception").has("stackTrace"), "A different exception is not suppressed");
+        assertEquals(2, encoder.getSuppressedStackTraces());
+    }
+
+    @Test
+    void testEventsOverCapacityAreDroppedAndCounted() throws Exception {
+        appender.setBufferSize(1);
+        appender.setBatchSize(1);
+        appender.start();
+        logger.addAppender(appender);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new LoggingMetrics(loggerContext).bindTo(registry);
+        for (int i = 0; i < 10_000; i++) {
+            logger.info("Event {}", i);
+        }
+
+        long written = stopAndRead().size();
+
+        assertEquals(10_000, written + appender.getDropped(), "Every event is either written or counted");
+        assertEquals(appender.getDropped(), registry.get("logging.events.dropped").tag("appender", "async")
+            .functionCounter().count());
+        assertNotNull(registry.find("logging.queue.size").tag("appender", "async").gauge());
+    }
+
+    private static Exception failure() {
+        return new IllegalStateException("failure");
+    }
+
+    private List<JsonNode> stopAndRead() throws Exception {
+        appender.stop();
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isEmpty()) {
+                lines.add(objectMapper.readTree(line));
+            }
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,59 @@
+package sample.actuator.logging;
+
+// JUnit Jupiter 5.9.3
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Unit tests for StackTraceThrottle covering suppression windows per fingerprint.
+ *
+ * Requirements addressed:
+ * - Asynchronous Logging: Verifies a repeated exception writes its stack trace once per
+ *   interval and reports how often it was suppressed
+ */
+public class StackTraceThrottleTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final StackTraceThrottle throttle = new StackTraceThrottle(1000, 2, clock::get);
+
+    @Test
+    void testRepeatsAreSuppressedWithinInterval() {
+        assertEquals(0, throttle.acquire("a"));
+        assertEquals(StackTraceThrottle.SUPPRESS, throttle.acquire("a"));
+        clock.set(999);
+        assertEquals(StackTraceThrottle.SUPPRESS, throttle.acquire("a"));
+
+        assertEquals(2, throttle.getSuppressed());
+    }
+
+    @Test
+    void testNextStackTraceReportsSuppressedRepeats() {
+        throttle.acquire("a");
+        throttle.acquire("a");
+        throttle.acquire("a");
+        clock.set(1000);
+
+        assertEquals(2, throttle.acquire("a"));
+        assertEquals(StackTraceThrottle.SUPPRESS, throttle.acquire("a"));
+    }
+
+    @Test
+    void testFingerprintsAreThrottledIndependently() {
+        throttle.acquire("a");
+
+        assertEquals(0, throttle.acquire("b"));
+        assertEquals(StackTraceThrottle.SUPPRESS, throttle.acquire("a"));
+    }
+
+    @Test
+    void testEvictedFingerprintWritesStackTraceAgain() {
+        throttle.acquire("a");
+        throttle.acquire("b");
+        throttle.acquire("c");
+
+        assertEquals(0, throttle.acquire("a"), "Only two fingerprints are tracked");
+    }
+}
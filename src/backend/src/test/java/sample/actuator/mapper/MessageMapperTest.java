@@ -2,13 +2,14 @@ package sample.actuator.mapper;
 
 // JUnit 5 v5.8.2
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
 import static org.junit.jupiter.api.Assertions.*;
 
-// Mockito v4.5.1
-import org.mockito.InjectMocks;
-import org.mockito.junit.jupiter.MockitoExtension;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
 
+import sample.actuator.SampleController;
 import sample.actuator.model.Message;
 import sample.actuator.dto.MessageResponse;
 
@@ -31,11 +32,11 @@ import sample.actuator.dto.MessageResponse;
  * with all required fields including message content, static title 'Hello Home', 
  * and current timestamp
  */
-@ExtendWith(MockitoExtension.class)
 public class MessageMapperTest {
 
-    @InjectMocks
-    private MessageMapper messageMapper;
+    private static final Instant NOW = Instant.parse("2024-01-01T12:00:00.123Z");
+
+    private final MessageMapper messageMapper = new MessageMapperImpl();
 
     /**
      * Tests the mapping from Message to MessageResponse ensuring all fields are 
@@ -44,10 +45,12 @@ public class MessageMapperTest {
      * Validates:
      * - Message content is transferred correctly
      * - Static title "Hello Home" is set
-     * - Current timestamp is generated
+     * - Current timestamp is taken from the mapper's clock
      */
     @Test
     public void testToMessageResponse() {
+        messageMapper.setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+
         // Create and configure test Message object
         Message testMessage = new Message();
         testMessage.setValue("Test Message");
@@ -64,13 +67,41 @@ public class MessageMapperTest {
         assertEquals("Hello Home", result.getTitle(), 
             "Title should be set to 'Hello Home'");
 
-        // Verify timestamp is generated
-        assertNotNull(result.getDate(), 
-            "Timestamp should be generated");
-        
-        // Verify timestamp is recent (within last second)
-        long timeDifference = System.currentTimeMillis() - result.getDate().getTime();
-        assertTrue(timeDifference < 1000, 
-            "Timestamp should represent current time");
+        // Verify timestamp comes from the clock
+        assertEquals(NOW, result.getDate(), 
+            "Timestamp should be taken from the clock");
+    }
+
+    /**
+     * Tests that the POST / request body maps to the same response as a Message.
+     */
+    @Test
+    public void testToMessageResponseFromRequestBody() {
+        messageMapper.setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+        SampleController.Message body = new SampleController.Message();
+        body.setValue("Request body");
+
+        MessageResponse result = messageMapper.toMessageResponse(body);
+
+        assertEquals("Request body", result.getMessage());
+        assertEquals("Hello Home", result.getTitle());
+        assertEquals(NOW, result.getDate());
+        assertNull(messageMapper.toMessageResponse((SampleController.Message) null));
+    }
+
+    /**
+     * Tests that list mapping preserves size and order.
+     */
+    @Test
+    public void testToMessageResponses() {
+        Message first = new Message();
+        first.setValue("first");
+        Message second = new Message();
+        second.setValue("second");
+
+        List<MessageResponse> results = messageMapper.toMessageResponses(List.of(first, second));
+
+        assertEquals(List.of("first", "second"), results.stream().map(MessageResponse::getMessage).toList());
+        assertNull(messageMapper.toMessageResponses(null));
     }
-}
\ No newline at end of file
+}
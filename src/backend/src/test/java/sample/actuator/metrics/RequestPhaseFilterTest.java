@@ -0,0 +1,124 @@
+package sample.actuator.metrics;
+
+// JUnit Jupiter 5.9.3
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Spring Framework Test 6.0.0
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+// Spring Framework 6.0.0
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+// Jakarta Servlet 6.0.0
+import jakarta.servlet.FilterChain;
+
+// Micrometer 1.11.0
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+
+import sample.actuator.SampleController;
+
+/**
+ * Unit tests for RequestPhaseFilter and the phase hooks it binds timings for.
+ *
+ * Requirements addressed:
+ * - Request Latency Breakdown: Verifies each phase of a request lands in its own
+ *   http.server.phase timer and that timing stays scoped to the request
+ */
+public class RequestPhaseFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private RequestPhaseFilter filter;
+
+    private RequestPhaseInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RequestPhaseFilter(new RequestPhaseMetrics(meterRegistry, new double[] {0.5, 0.99},
+            new Duration[] {Duration.ofMillis(1), Duration.ofMillis(10)}));
+        interceptor = new RequestPhaseInterceptor();
+    }
+
+    @Test
+    void testRecordsEveryPhaseOfRequest() throws Exception {
+        LocalValidatorFactoryBean beanValidator = new LocalValidatorFactoryBean();
+        beanValidator.afterPropertiesSet();
+        TimedValidator validator = new TimedValidator(beanValidator);
+        SampleController.Message message = new SampleController.Message();
+        message.setValue("Hello");
+
+        FilterChain handler = (req, res) -> {
+            interceptor.preHandle(null, null, this);
+            validator.validate(message, new BeanPropertyBindingResult(message, "message"));
+            RequestPhaseTimings.record(RequestPhase.QUEUE, System.nanoTime());
+            RequestPhaseTimings.record(RequestPhase.MAPPING, System.nanoTime());
+            interceptor.beforeBodyWrite(message, null, null, null, null, null);
+            interceptor.afterCompletion(null, null, this, null);
+        };
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/");
+        request.setServletPath("/");
+        filter.doFilter(request, new MockHttpServletResponse(),
+            (req, res) -> new RequestPhaseFilter.SecurityCompleted().doFilter(req, res, handler));
+
+        for (RequestPhase phase : RequestPhase.values()) {
+            assertEquals(1, timer("POST", "/", phase).count(), phase.getTagValue());
+        }
+        assertNull(RequestPhaseTimings.current(), "Timings must be unbound after the request");
+    }
+
+    @Test
+    void testPhasesThatDidNotRunAreNotRecorded() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/foo");
+        request.setServletPath("/foo");
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            interceptor.preHandle(null, null, this);
+            interceptor.afterCompletion(null, null, this, null);
+        });
+
+        assertNull(meterRegistry.find(RequestPhaseMetrics.METRIC_NAME).tag("phase", "controller").timer());
+        assertNull(meterRegistry.find(RequestPhaseMetrics.METRIC_NAME).tag("phase", "serialization").timer());
+    }
+
+    @Test
+    void testNonStandardMethodIsTaggedOther() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("PROPFIND", "/");
+        request.setServletPath("/");
+        filter.doFilter(request, new MockHttpServletResponse(),
+            (req, res) -> RequestPhaseTimings.record(RequestPhase.QUEUE, System.nanoTime()));
+
+        assertEquals(1, timer("OTHER", "/", RequestPhase.QUEUE).count());
+    }
+
+    @Test
+    void testRecordOutsideRequestIsIgnored() {
+        RequestPhaseTimings.record(RequestPhase.MAPPING, System.nanoTime());
+
+        assertNull(RequestPhaseTimings.current());
+        assertTrue(meterRegistry.getMeters().isEmpty());
+    }
+
+    @Test
+    void testTraceparentIsBoundForRequest() throws Exception {
+        String traceparent = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/");
+        request.addHeader("traceparent", traceparent);
+        String[] seen = new String[1];
+        filter.doFilter(request, new MockHttpServletResponse(),
+            (req, res) -> seen[0] = RequestPhaseTimings.current().getTraceparent());
+
+        assertEquals(traceparent, seen[0]);
+    }
+
+    private Timer timer(String method, String uri, RequestPhase phase) {
+        return meterRegistry.get(RequestPhaseMetrics.METRIC_NAME).tag("method", method).tag("uri", uri)
+            .tag("phase", phase.getTagValue()).timer();
+    }
+}
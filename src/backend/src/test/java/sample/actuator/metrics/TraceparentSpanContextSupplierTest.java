@@ -0,0 +1,65 @@
+package sample.actuator.metrics;
+
+// JUnit Jupiter 5.9.3
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TraceparentSpanContextSupplier covering W3C traceparent parsing.
+ *
+ * Requirements addressed:
+ * - Request Latency Breakdown: Verifies exemplars carry the trace id of sampled requests
+ *   only, and never one taken from a malformed header
+ */
+public class TraceparentSpanContextSupplierTest {
+
+    private static final String SAMPLED = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+
+    private final TraceparentSpanContextSupplier supplier = new TraceparentSpanContextSupplier();
+
+    @AfterEach
+    void tearDown() {
+        RequestPhaseTimings.end();
+    }
+
+    @Test
+    void testSuppliesContextOfSampledRequest() {
+        RequestPhaseTimings.begin(SAMPLED);
+
+        assertEquals("4bf92f3577b34da6a3ce929d0e0e4736", supplier.getTraceId());
+        assertEquals("00f067aa0ba902b7", supplier.getSpanId());
+        assertTrue(supplier.isSampled());
+    }
+
+    @Test
+    void testUnsampledRequestIsNotSampled() {
+        RequestPhaseTimings.begin("00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-00");
+
+        assertFalse(supplier.isSampled());
+    }
+
+    @Test
+    void testNoContextOutsideRequestOrWithoutHeader() {
+        assertNull(supplier.getTraceId());
+        assertFalse(supplier.isSampled());
+
+        RequestPhaseTimings.begin(null);
+
+        assertNull(supplier.getTraceId());
+        assertFalse(supplier.isSampled());
+    }
+
+    @Test
+    void testRejectsMalformedHeaders() {
+        assertTrue(TraceparentSpanContextSupplier.isValid(SAMPLED));
+        assertTrue(TraceparentSpanContextSupplier.isValid(
+            "01-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01-future"), "Later versions may append fields");
+        assertFalse(TraceparentSpanContextSupplier.isValid(SAMPLED + "-extra"), "Version 00 has a fixed length");
+        assertFalse(TraceparentSpanContextSupplier.isValid(SAMPLED.substring(1)));
+        assertFalse(TraceparentSpanContextSupplier.isValid(SAMPLED.replace('b', 'x')));
+        assertFalse(TraceparentSpanContextSupplier.isValid("ff" + SAMPLED.substring(2)));
+        assertFalse(TraceparentSpanContextSupplier.isValid("00-00000000000000000000000000000000-00f067aa0ba902b7-01"));
+        assertFalse(TraceparentSpanContextSupplier.isValid("00-4bf92f3577b34da6a3ce929d0e0e4736-0000000000000000-01"));
+    }
+}
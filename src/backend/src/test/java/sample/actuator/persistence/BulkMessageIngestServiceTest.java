@@ -0,0 +1,142 @@
+package sample.actuator.persistence;
+
+// JUnit Jupiter 5.9.3
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Mockito 5.3.1
+import org.mockito.Mockito;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+// Jackson 2.15.0
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import sample.actuator.ServiceProperties;
+import sample.actuator.model.Message;
+import sample.actuator.validation.MessageValidator;
+
+/**
+ * Unit tests for BulkMessageIngestService covering both body formats, per-item validation,
+ * batching, failed batches and malformed bodies.
+ *
+ * Requirements addressed:
+ * - Message Persistence: Verifies bulk bodies are written in batches with one result per item
+ * - Message Validation: Verifies invalid elements are reported without failing the request
+ */
+public class BulkMessageIngestServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private MessageWriteBehindQueue messageWriteBehindQueue;
+
+    private ServiceProperties serviceProperties;
+
+    private List<Integer> batchSizes;
+
+    @BeforeEach
+    void setUp() {
+        batchSizes = new ArrayList<>();
+        AtomicLong ids = new AtomicLong();
+        messageWriteBehindQueue = Mockito.mock(MessageWriteBehindQueue.class);
+        when(messageWriteBehindQueue.persist(anyList())).thenAnswer(invocation -> {
+            List<Message> batch = invocation.getArgument(0);
+            batch.forEach(message -> message.setId(ids.incrementAndGet()));
+            batchSizes.add(batch.size());
+            return batch.size();
+        });
+        serviceProperties = new ServiceProperties();
+        serviceProperties.getPersistence().setBatchSize(2);
+    }
+
+    @Test
+    void testJsonArrayIsWrittenInBatchesWithPerItemResults() throws IOException {
+        String body = "[{\"value\":\"a\"},{\"value\":\" \"},{\"value\":\"b\"},{\"value\":\"c\"},{\"other\":1}]";
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BulkMessageIngestService.Summary summary = newService().ingest(stream(body), out, false);
+
+        JsonNode results = objectMapper.readTree(out.toByteArray());
+        assertEquals(5, results.size());
+        assertEquals("CREATED", results.get(0).get("status").asText());
+        assertEquals(1, results.get(0).get("id").asLong());
+        assertEquals("INVALID", results.get(1).get("status").asText());
+        assertEquals("Message value cannot be empty", results.get(1).get("errors").get("value").asText());
+        assertEquals(2, results.get(2).get("id").asLong());
+        assertEquals(3, results.get(3).get("id").asLong());
+        assertEquals("INVALID", results.get(4).get("status").asText());
+        assertEquals(4, results.get(4).get("index").asInt());
+
+        // Batches are counted in elements, so invalid elements do not inflate write batches
+        assertEquals(List.of(1, 2), batchSizes);
+        assertEquals(3, summary.getCreated());
+        assertEquals(2, summary.getInvalid());
+    }
+
+    @Test
+    void testNdjsonBodyProducesNdjsonResults() throws IOException {
+        String body = "{\"value\":\"a\"}\n{\"value\":\"b\"}\n{\"value\":\"c\"}\n";
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        newService().ingest(stream(body), out, true);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        for (int i = 0; i < lines.length; i++) {
+            JsonNode result = objectMapper.readTree(lines[i]);
+            assertEquals(i, result.get("index").asInt());
+            assertEquals("CREATED", result.get("status").asText());
+        }
+        assertEquals(List.of(2, 1), batchSizes);
+    }
+
+    @Test
+    void testFailedBatchIsReportedPerItem() throws IOException {
+        when(messageWriteBehindQueue.persist(anyList())).thenThrow(new IllegalStateException("down"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BulkMessageIngestService.Summary summary =
+            newService().ingest(stream("[{\"value\":\"a\"},{\"value\":\"\"}]"), out, false);
+
+        JsonNode results = objectMapper.readTree(out.toByteArray());
+        assertEquals("FAILED", results.get(0).get("status").asText());
+        assertEquals("INVALID", results.get(1).get("status").asText());
+        assertEquals(1, summary.getFailed());
+    }
+
+    @Test
+    void testMalformedBodyKeepsWrittenBatchesAndAborts() throws IOException {
+        String body = "[{\"value\":\"a\"},{\"value\":\"b\"},{\"value\":\"c\"},{\"value\": oops}]";
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BulkMessageIngestService.Summary summary = newService().ingest(stream(body), out, false);
+
+        JsonNode results = objectMapper.readTree(out.toByteArray());
+        assertEquals(4, results.size(), "Three results and the final ABORTED entry");
+        assertEquals("CREATED", results.get(2).get("status").asText());
+        assertEquals("ABORTED", results.get(3).get("status").asText());
+        assertEquals(3, results.get(3).get("index").asInt());
+        assertTrue(summary.isAborted());
+        assertEquals(List.of(2, 1), batchSizes);
+    }
+
+    private BulkMessageIngestService newService() {
+        return new BulkMessageIngestService(messageWriteBehindQueue, new MessageValidator(), objectMapper,
+            serviceProperties);
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,187 @@
+package sample.actuator.persistence;
+
+// JUnit Jupiter 5.9.3
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Mockito 5.3.1
+import org.mockito.Mockito;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Micrometer 1.11.0
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import sample.actuator.ServiceProperties;
+import sample.actuator.model.Message;
+import sample.actuator.model.MessageBucket;
+import sample.actuator.repository.MessageBucketRepository;
+import sample.actuator.repository.MessageStoreRepository;
+
+/**
+ * Unit tests for MessageBuckets covering the startup catalog load, bucketing of written
+ * messages, created_at window pruning and retention.
+ *
+ * Requirements addressed:
+ * - Message Time Buckets: Verifies buckets cover contiguous, ascending id ranges and
+ *   expired buckets are purged oldest first
+ */
+public class MessageBucketsTest {
+
+    private static final Instant DAY_1 = Instant.parse("2024-01-01T00:00:00Z");
+
+    private static final Instant DAY_2 = Instant.parse("2024-01-02T00:00:00Z");
+
+    private static final Instant DAY_3 = Instant.parse("2024-01-03T00:00:00Z");
+
+    private MessageBucketRepository messageBucketRepository;
+
+    private MessageStoreRepository messageRepository;
+
+    private RecentMessageCache recentMessageCache;
+
+    private MessageSearchIndex messageSearchIndex;
+
+    private ServiceProperties serviceProperties;
+
+    private List<Message> table;
+
+    @BeforeEach
+    void setUp() {
+        table = new ArrayList<>();
+        messageBucketRepository = Mockito.mock(MessageBucketRepository.class);
+        messageRepository = Mockito.mock(MessageStoreRepository.class);
+        when(messageRepository.streamAfter(anyLong(), anyInt(), any())).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(0);
+            Consumer<Message> consumer = invocation.getArgument(2);
+            long count = 0;
+            for (Message message : table) {
+                if (message.getId() > afterId) {
+                    consumer.accept(message);
+                    count++;
+                }
+            }
+            return count;
+        });
+        recentMessageCache = Mockito.mock(RecentMessageCache.class);
+        messageSearchIndex = Mockito.mock(MessageSearchIndex.class);
+        serviceProperties = new ServiceProperties();
+    }
+
+    @Test
+    void testAddsMessagesWrittenAfterCatalog() {
+        when(messageBucketRepository.findAllByOrderByBucketStartAsc())
+            .thenReturn(List.of(new MessageBucket(DAY_1, DAY_2, 1, 2, 2)));
+        table.add(message(1, DAY_1));
+        table.add(message(2, DAY_1.plusSeconds(60)));
+        table.add(message(3, DAY_1.plusSeconds(120)));
+        table.add(message(4, DAY_2.plusSeconds(60)));
+
+        MessageBuckets buckets = newBuckets();
+
+        assertEquals(List.of(bucket(DAY_1, 1, 3, 3), bucket(DAY_2, 4, 4, 1)),
+            summaries(buckets.getBuckets()));
+        assertEquals(4, buckets.rowCount());
+        verify(messageRepository).streamAfter(Mockito.eq(2L), anyInt(), any());
+        verify(messageBucketRepository).saveAll(any());
+    }
+
+    @Test
+    void testClockStepBackStaysInNewestBucket() {
+        when(messageBucketRepository.findAllByOrderByBucketStartAsc()).thenReturn(List.of());
+        MessageBuckets buckets = newBuckets();
+
+        buckets.addAll(List.of(message(1, DAY_1.plusSeconds(10)), message(2, DAY_2.plusSeconds(10))));
+        buckets.addAll(List.of(message(3, DAY_1.plusSeconds(20)), new Message("unsaved", DAY_2)));
+
+        assertEquals(List.of(bucket(DAY_1, 1, 1, 1), bucket(DAY_2, 2, 3, 2)),
+            summaries(buckets.getBuckets()));
+    }
+
+    @Test
+    void testResolvesWindowToOverlappingBuckets() {
+        when(messageBucketRepository.findAllByOrderByBucketStartAsc()).thenReturn(List.of(
+            new MessageBucket(DAY_1, DAY_2, 1, 10, 10),
+            new MessageBucket(DAY_2, DAY_3, 11, 15, 5)));
+        MessageBuckets buckets = newBuckets();
+
+        assertArrayEquals(new long[] {1, 15}, buckets.idRange(null, null));
+        assertArrayEquals(new long[] {11, 15}, buckets.idRange(DAY_2, null));
+        assertArrayEquals(new long[] {1, 10}, buckets.idRange(DAY_1.plusSeconds(3600), DAY_2));
+        assertNull(buckets.idRange(DAY_3, null));
+    }
+
+    @Test
+    void testPurgesExpiredBucketsOldestFirst() {
+        serviceProperties.getBuckets().setRetentionEnabled(true);
+        serviceProperties.getBuckets().setRetention(Duration.ofDays(1));
+        MessageBucket first = new MessageBucket(DAY_1, DAY_2, 1, 10, 10);
+        MessageBucket second = new MessageBucket(DAY_2, DAY_3, 11, 15, 5);
+        when(messageBucketRepository.findAllByOrderByBucketStartAsc()).thenReturn(List.of(first, second));
+        when(messageBucketRepository.purgeBucket(first)).thenReturn(10L);
+        MessageBuckets buckets = newBuckets();
+
+        assertEquals(0, buckets.purgeExpired(DAY_3.minusSeconds(1)));
+
+        assertEquals(10, buckets.purgeExpired(DAY_3.plusSeconds(1)));
+        verify(messageBucketRepository, never()).purgeBucket(second);
+        verify(recentMessageCache).retainAfter(10);
+        verify(messageSearchIndex).retainAfter(10, 10);
+        assertEquals(List.of(bucket(DAY_2, 11, 15, 5)), summaries(buckets.getBuckets()));
+    }
+
+    @Test
+    void testRetentionDisabledNeverPurges() {
+        when(messageBucketRepository.findAllByOrderByBucketStartAsc())
+            .thenReturn(List.of(new MessageBucket(DAY_1, DAY_2, 1, 10, 10)));
+        MessageBuckets buckets = newBuckets();
+
+        assertEquals(0, buckets.purgeExpired(Instant.now()));
+        assertNull(buckets.getRetention());
+        verify(messageBucketRepository, never()).purgeBucket(any());
+    }
+
+    @Test
+    void testRetentionRequiresJpaStore() {
+        serviceProperties.getBuckets().setRetentionEnabled(true);
+        serviceProperties.getStore().setMode(ServiceProperties.Store.Mode.MAPPED);
+
+        assertThrows(IllegalStateException.class, this::newBuckets);
+    }
+
+    private MessageBuckets newBuckets() {
+        MessageBuckets buckets = new MessageBuckets(messageBucketRepository, messageRepository,
+            recentMessageCache, messageSearchIndex, serviceProperties,
+            new SimpleMeterRegistry());
+        buckets.afterPropertiesSet();
+        return buckets;
+    }
+
+    private static Message message(long id, Instant createdAt) {
+        Message message = new Message("message " + id, createdAt);
+        message.setId(id);
+        return message;
+    }
+
+    private static String bucket(Instant start, long firstId, long lastId, long rows) {
+        return start + " " + firstId + "-" + lastId + " (" + rows + ")";
+    }
+
+    private static List<String> summaries(List<MessageBucket> buckets) {
+        return buckets.stream()
+            .map(bucket -> bucket(bucket.getBucketStart(), bucket.getFirstId(), bucket.getLastId(),
+                bucket.getRowCount()))
+            .toList();
+    }
+}
@@ -0,0 +1,195 @@
+package sample.actuator.persistence;
+
+// JUnit Jupiter 5.9.3
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Mockito 5.3.1
+import org.mockito.Mockito;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Jackson 2.15.0
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import sample.actuator.ServiceProperties;
+import sample.actuator.exception.ExportLimitExceededException;
+import sample.actuator.model.Message;
+import sample.actuator.repository.MessageStoreRepository;
+
+/**
+ * Unit tests for MessageExportService covering both output formats, client disconnects,
+ * created_at windows and the concurrent export limit.
+ *
+ * Requirements addressed:
+ * - Message Export: Verifies rows are written as NDJSON lines or SSE events with resumable ids
+ * - Message Time Buckets: Verifies windowed exports only read the buckets in the window
+ */
+public class MessageExportServiceTest {
+
+    private MessageStoreRepository messageRepository;
+
+    private MessageBuckets messageBuckets;
+
+    private MessageExportService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        messageRepository = Mockito.mock(MessageStoreRepository.class);
+        when(messageRepository.streamAfter(anyLong(), anyInt(), any(Consumer.class))).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(0);
+            Consumer<Message> consumer = invocation.getArgument(2);
+            long count = 0;
+            for (long id = afterId + 1; id <= 3; id++) {
+                Message message = new Message("message " + id, Instant.ofEpochSecond(id));
+                message.setId(id);
+                consumer.accept(message);
+                count++;
+            }
+            return count;
+        });
+        when(messageRepository.streamRange(anyLong(), anyLong(), anyInt(), any(Consumer.class))).thenAnswer(
+            invocation -> {
+                long afterId = invocation.getArgument(0);
+                long toId = invocation.getArgument(1);
+                Consumer<Message> consumer = invocation.getArgument(3);
+                for (long id = afterId + 1; id <= toId; id++) {
+                    Message message = new Message("message " + id, Instant.ofEpochSecond(id));
+                    message.setId(id);
+                    consumer.accept(message);
+                }
+                return toId - afterId;
+            });
+        messageBuckets = Mockito.mock(MessageBuckets.class);
+        ServiceProperties serviceProperties = new ServiceProperties();
+        serviceProperties.getPersistence().setExportFetchSize(2);
+        service = new MessageExportService(messageRepository, messageBuckets, new ObjectMapper(), serviceProperties);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRejectsExportsBeyondTheConcurrencyLimit() throws Exception {
+        ServiceProperties serviceProperties = new ServiceProperties();
+        serviceProperties.getPersistence().setExportMaxConcurrent(1);
+        MessageExportService limited = new MessageExportService(messageRepository, messageBuckets,
+            new ObjectMapper(), serviceProperties);
+        CountDownLatch streaming = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(messageRepository.streamAfter(anyLong(), anyInt(), any(Consumer.class))).thenAnswer(invocation -> {
+            streaming.countDown();
+            release.await();
+            return 0L;
+        });
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Long> first = executor.submit(
+                () -> limited.export(0, new ByteArrayOutputStream(), MessageExportService.Format.NDJSON));
+            assertTrue(streaming.await(5, TimeUnit.SECONDS));
+
+            assertThrows(ExportLimitExceededException.class,
+                () -> limited.export(0, new ByteArrayOutputStream(), MessageExportService.Format.NDJSON));
+
+            release.countDown();
+            assertEquals(0L, first.get(5, TimeUnit.SECONDS));
+            assertEquals(0L, limited.export(0, new ByteArrayOutputStream(), MessageExportService.Format.NDJSON),
+                "The permit is released when an export finishes");
+        }
+        finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testNdjsonWritesOneLinePerRow() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertEquals(2, service.export(1, out, MessageExportService.Format.NDJSON));
+
+        assertEquals("{\"id\":2,\"value\":\"message 2\",\"createdAt\":\"1970-01-01T00:00:02Z\"}\n"
+            + "{\"id\":3,\"value\":\"message 3\",\"createdAt\":\"1970-01-01T00:00:03Z\"}\n",
+            out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testSseUsesRowIdsAsEventIdsAndSignalsCompletion() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        service.export(2, out, MessageExportService.Format.SSE);
+
+        assertEquals("id: 3\ndata: {\"id\":3,\"value\":\"message 3\",\"createdAt\":\"1970-01-01T00:00:03Z\"}\n\n"
+            + "event: complete\ndata: {\"lastId\":3}\n\n", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testDisconnectedClientSurfacesIOException() {
+        OutputStream broken = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        assertThrows(IOException.class, () -> service.export(0, broken, MessageExportService.Format.NDJSON));
+    }
+
+    @Test
+    void testNegativeAfterIdIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+            () -> service.export(-1, new ByteArrayOutputStream(), MessageExportService.Format.NDJSON));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testWindowReadsOnlyOverlappingBuckets() throws IOException {
+        Instant since = Instant.ofEpochSecond(2);
+        Instant until = Instant.ofEpochSecond(3);
+        // The bucket covering the window also holds message 3, which is filtered out
+        when(messageBuckets.idRange(since, until)).thenReturn(new long[] {2, 3});
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertEquals(1, service.export(0, since, until, out, MessageExportService.Format.NDJSON));
+
+        assertEquals("{\"id\":2,\"value\":\"message 2\",\"createdAt\":\"1970-01-01T00:00:02Z\"}\n",
+            out.toString(StandardCharsets.UTF_8));
+        verify(messageRepository).streamRange(eq(1L), eq(3L), anyInt(), any(Consumer.class));
+        verify(messageRepository, never()).streamAfter(anyLong(), anyInt(), any(Consumer.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testWindowWithoutBucketsReadsNothing() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertEquals(0, service.export(0, Instant.ofEpochSecond(10), null, out, MessageExportService.Format.NDJSON));
+
+        assertEquals("", out.toString(StandardCharsets.UTF_8));
+        verify(messageRepository, never()).streamRange(anyLong(), anyLong(), anyInt(), any(Consumer.class));
+        assertThrows(IllegalArgumentException.class, () -> service.export(0, Instant.ofEpochSecond(3),
+            Instant.ofEpochSecond(3), out, MessageExportService.Format.NDJSON));
+    }
+}
@@ -0,0 +1,184 @@
+package sample.actuator.persistence;
+
+// JUnit Jupiter 5.9.3
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Mockito 5.3.1
+import org.mockito.Mockito;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+// Micrometer 1.11.0
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import sample.actuator.ServiceProperties;
+import sample.actuator.model.Message;
+import sample.actuator.repository.MessageStoreRepository;
+
+/**
+ * Unit tests for MessageSearchIndex covering the parallel rebuild, incremental updates,
+ * term and prefix queries and cursor paging.
+ *
+ * Requirements addressed:
+ * - Message Search: Verifies queries return every matching message exactly once, newest
+ *   first, whether it was indexed at startup or written afterwards
+ */
+public class MessageSearchIndexTest {
+
+    private static final long NO_CURSOR = Long.MAX_VALUE;
+
+    private MessageStoreRepository messageRepository;
+
+    private ServiceProperties serviceProperties;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private List<Message> table;
+
+    @BeforeEach
+    void setUp() {
+        table = new ArrayList<>();
+        messageRepository = Mockito.mock(MessageStoreRepository.class);
+        when(messageRepository.findMinId()).thenAnswer(invocation -> table.isEmpty() ? null : table.get(0).getId());
+        when(messageRepository.findMaxId())
+            .thenAnswer(invocation -> table.isEmpty() ? null : table.get(table.size() - 1).getId());
+        when(messageRepository.streamRange(anyLong(), anyLong(), anyInt(), any())).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(0);
+            long toId = invocation.getArgument(1);
+            Consumer<Message> consumer = invocation.getArgument(3);
+            long count = 0;
+            for (Message message : table) {
+                if (message.getId() > afterId && message.getId() <= toId) {
+                    consumer.accept(message);
+                    count++;
+                }
+            }
+            return count;
+        });
+        serviceProperties = new ServiceProperties();
+        serviceProperties.getSearch().setRebuildThreads(3);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void testRebuildsFromTableInParallel() {
+        for (long id = 11; id <= 110; id++) {
+            table.add(message(id, id % 2 == 0 ? "Even number " + id : "Odd number " + id));
+        }
+        MessageSearchIndex index = newIndex();
+
+        assertArrayEquals(new long[] {110, 108, 106}, index.search("even", false, NO_CURSOR, 3));
+        assertEquals(50, index.search("ODD", false, NO_CURSOR, 1000).length);
+        assertArrayEquals(new long[] {42}, index.search("number 42", false, NO_CURSOR, 10));
+        assertEquals(100.0, meterRegistry.get("messages.search.documents").gauge().value());
+    }
+
+    @Test
+    void testIndexesWrittenMessages() {
+        table.add(message(1, "hello world"));
+        MessageSearchIndex index = newIndex();
+
+        index.addAll(List.of(message(2, "Hello, again!"), message(3, "goodbye world")));
+
+        assertArrayEquals(new long[] {2, 1}, index.search("hello", false, NO_CURSOR, 10));
+        assertArrayEquals(new long[] {3}, index.search("world goodbye", false, NO_CURSOR, 10));
+        assertArrayEquals(new long[0], index.search("hello goodbye", false, NO_CURSOR, 10));
+    }
+
+    @Test
+    void testRebuildPicksUpMessagesWrittenByOtherInstances() {
+        table.add(message(1, "hello world"));
+        MessageSearchIndex index = newIndex();
+        Message local = message(2, "hello again");
+        table.add(local);
+        index.addAll(List.of(local));
+        // Written by another instance, so only the table has it
+        table.add(message(3, "hello from elsewhere"));
+
+        assertArrayEquals(new long[] {2, 1}, index.search("hello", false, NO_CURSOR, 10));
+
+        assertEquals(3, index.rebuild());
+
+        assertArrayEquals(new long[] {3, 2, 1}, index.search("hello", false, NO_CURSOR, 10));
+        assertArrayEquals(new long[] {3}, index.search("elsewhere", false, NO_CURSOR, 10));
+        index.addAll(List.of(message(4, "hello later")));
+        assertArrayEquals(new long[] {4, 3}, index.search("hello", false, NO_CURSOR, 2));
+        assertEquals(4.0, meterRegistry.get("messages.search.documents").gauge().value());
+    }
+
+    @Test
+    void testPrefixQueriesUnionMatchingTerms() {
+        MessageSearchIndex index = newIndex();
+        index.addAll(List.of(message(1, "search"), message(2, "searching searched"), message(3, "seal"),
+            message(4, "research")));
+
+        assertArrayEquals(new long[] {2, 1}, index.search("search", true, NO_CURSOR, 10));
+        assertArrayEquals(new long[] {3, 2, 1}, index.search("sea", true, NO_CURSOR, 10));
+        assertArrayEquals(new long[] {1}, index.search("search", false, NO_CURSOR, 10));
+    }
+
+    @Test
+    void testPagesWithCursor() {
+        MessageSearchIndex index = newIndex();
+        List<Message> messages = new ArrayList<>();
+        for (long id = 1; id <= 5; id++) {
+            messages.add(message(id, "page " + id));
+        }
+        index.addAll(messages);
+
+        assertArrayEquals(new long[] {5, 4}, index.search("page", false, NO_CURSOR, 2));
+        assertArrayEquals(new long[] {3, 2}, index.search("page", false, 4, 2));
+        assertArrayEquals(new long[] {1}, index.search("page", false, 2, 2));
+    }
+
+    @Test
+    void testForgetsMessagesDroppedByRetention() {
+        for (long id = 1; id <= 4; id++) {
+            table.add(message(id, "retained " + id));
+        }
+        MessageSearchIndex index = newIndex();
+
+        index.retainAfter(2, 2);
+        assertArrayEquals(new long[] {4, 3}, index.search("retained", false, NO_CURSOR, 10));
+
+        index.addAll(List.of(message(5, "retained 5")));
+        assertArrayEquals(new long[] {5, 4, 3}, index.search("retained", false, NO_CURSOR, 10));
+        assertArrayEquals(new long[0], index.search("1", false, NO_CURSOR, 10));
+        assertEquals(3.0, meterRegistry.get("messages.search.documents").gauge().value());
+    }
+
+    @Test
+    void testTokenizesLettersAndDigits() {
+        assertEquals(Set.of("grüße", "aus", "köln", "2024"), MessageSearchIndex.tokenize("Grüße aus KÖLN (2024)!"));
+        assertTrue(MessageSearchIndex.tokenize("x".repeat(MessageSearchIndex.MAX_TERM_LENGTH + 1)).isEmpty());
+    }
+
+    @Test
+    void testRejectsQueryWithoutTerms() {
+        MessageSearchIndex index = newIndex();
+
+        assertThrows(IllegalArgumentException.class, () -> index.search(" -- ", false, NO_CURSOR, 10));
+    }
+
+    private MessageSearchIndex newIndex() {
+        MessageSearchIndex index = new MessageSearchIndex(messageRepository, serviceProperties, meterRegistry);
+        index.afterPropertiesSet();
+        return index;
+    }
+
+    private static Message message(long id, String value) {
+        Message message = new Message(value, Instant.EPOCH);
+        message.setId(id);
+        return message;
+    }
+}
@@ -0,0 +1,72 @@
+package sample.actuator.persistence;
+
+// JUnit Jupiter 5.9.3
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Mockito 5.3.1
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Micrometer 1.11.0
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.List;
+
+import sample.actuator.model.Message;
+import sample.actuator.model.MessageValueHash;
+import sample.actuator.repository.MessageStoreRepository;
+
+/**
+ * Unit tests for MessageValueIndex covering batch deduplication against the value_hash
+ * index.
+ *
+ * Requirements addressed:
+ * - Message Deduplication: Verifies every value of a batch is checked against the
+ *   database with one query
+ */
+public class MessageValueIndexTest {
+
+    private MessageStoreRepository messageRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        messageRepository = Mockito.mock(MessageStoreRepository.class);
+        when(messageRepository.findValuesByHashes(anyList())).thenReturn(List.of("stored"));
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testRetainsOnlyAbsentValues() {
+        MessageValueIndex index = new MessageValueIndex(messageRepository, meterRegistry);
+        Message first = new Message("first", null);
+        Message stored = new Message("stored", null);
+        Message repeated = new Message("first", null);
+        Message second = new Message("second", null);
+
+        List<Message> absent = index.retainAbsent(List.of(first, stored, repeated, second));
+
+        assertEquals(List.of(first, second), absent);
+        ArgumentCaptor<List<byte[]>> valueHashes = ArgumentCaptor.forClass(List.class);
+        verify(messageRepository).findValuesByHashes(valueHashes.capture());
+        assertEquals(3, valueHashes.getValue().size(), "Values stored by other instances must be looked up too");
+        assertArrayEquals(MessageValueHash.of("second"), valueHashes.getValue().get(2));
+        assertEquals(1.0, meterRegistry.get("messages.dedup.lookups").tag("result", "present").counter().count());
+        assertEquals(2.0, meterRegistry.get("messages.dedup.lookups").tag("result", "absent").counter().count());
+    }
+
+    @Test
+    void testDigestMatchesSha256OfUtf8() {
+        // echo -n 'abc' | sha256sum
+        byte[] hash = MessageValueHash.of("abc");
+        assertEquals(MessageValueHash.LENGTH, hash.length);
+        assertEquals(0xba7816bf8f01cfeaL, MessageValueHash.longAt(hash, 0));
+    }
+}
@@ -0,0 +1,193 @@
+package sample.actuator.persistence;
+
+// JUnit Jupiter 5.9.3
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Mockito 5.3.1
+import org.mockito.Mockito;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Micrometer 1.11.0
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import sample.actuator.ServiceProperties;
+import sample.actuator.exception.MessageQueueFullException;
+import sample.actuator.model.Message;
+import sample.actuator.repository.MessageStoreRepository;
+
+/**
+ * Unit tests for MessageWriteBehindQueue covering batching, backpressure and flush on shutdown.
+ *
+ * Requirements addressed:
+ * - Message Persistence: Verifies POSTed messages are written in bounded batches, rejected
+ *   when the queue is full, and not lost when the application stops
+ */
+public class MessageWriteBehindQueueTest {
+
+    private MessageStoreRepository messageRepository;
+
+    private RecentMessageCache recentMessageCache;
+
+    private MessageSearchIndex messageSearchIndex;
+
+    private MessageValueIndex messageValueIndex;
+
+    private MessageBuckets messageBuckets;
+
+    private ServiceProperties serviceProperties;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private List<Integer> batchSizes;
+
+    @BeforeEach
+    void setUp() {
+        batchSizes = new CopyOnWriteArrayList<>();
+        messageRepository = Mockito.mock(MessageStoreRepository.class);
+        when(messageRepository.insertBatch(anyList())).thenAnswer(invocation -> {
+            List<?> batch = invocation.getArgument(0);
+            batchSizes.add(batch.size());
+            return batch.size();
+        });
+        recentMessageCache = Mockito.mock(RecentMessageCache.class);
+        messageSearchIndex = Mockito.mock(MessageSearchIndex.class);
+        messageValueIndex = Mockito.mock(MessageValueIndex.class);
+        messageBuckets = Mockito.mock(MessageBuckets.class);
+        serviceProperties = new ServiceProperties();
+        serviceProperties.getPersistence().setQueueCapacity(100);
+        serviceProperties.getPersistence().setBatchSize(10);
+        serviceProperties.getPersistence().setFlushInterval(Duration.ofMillis(10));
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void testFlushesQueuedMessagesInBatchesOnStop() {
+        MessageWriteBehindQueue queue = new MessageWriteBehindQueue(messageRepository, recentMessageCache,
+            messageSearchIndex, messageValueIndex, messageBuckets, serviceProperties,
+            meterRegistry);
+        queue.start();
+        for (int i = 0; i < 35; i++) {
+            queue.enqueue("message " + i);
+        }
+        queue.stop();
+
+        assertFalse(batchSizes.isEmpty(), "Messages should have been written");
+        for (int size : batchSizes) {
+            assertTrue(size <= 10, "Batches must not exceed the configured batch size");
+        }
+        assertEquals(35, batchSizes.stream().mapToInt(Integer::intValue).sum());
+        assertEquals(35.0, meterRegistry.get("messages.writebehind.persisted").counter().count());
+        assertEquals(0, queue.getQueueDepth());
+        assertFalse(queue.isRunning());
+        verify(recentMessageCache, atLeastOnce()).publishAll(anyList());
+        verify(messageSearchIndex, atLeastOnce()).addAll(anyList());
+        verify(messageBuckets, atLeastOnce()).addAll(anyList());
+        verify(messageValueIndex, never()).retainAbsent(anyList());
+    }
+
+    @Test
+    void testRejectsWhenQueueIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(messageRepository.insertBatch(anyList())).thenAnswer(invocation -> {
+            release.await();
+            List<?> batch = invocation.getArgument(0);
+            return batch.size();
+        });
+        serviceProperties.getPersistence().setQueueCapacity(2);
+        MessageWriteBehindQueue queue = new MessageWriteBehindQueue(messageRepository, recentMessageCache,
+            messageSearchIndex, messageValueIndex, messageBuckets, serviceProperties,
+            meterRegistry);
+        queue.start();
+        try {
+            // The writer blocks on the first batch, so the queue fills after a few messages
+            assertThrows(MessageQueueFullException.class, () -> {
+                for (int i = 0; i < 10; i++) {
+                    queue.enqueue("message " + i);
+                }
+            });
+            assertEquals(1.0, meterRegistry.get("messages.writebehind.rejected").counter().count());
+        }
+        finally {
+            release.countDown();
+            queue.stop();
+        }
+    }
+
+    @Test
+    void testEveryAcceptedMessageIsWrittenWhenStoppedDuringEnqueue() throws Exception {
+        serviceProperties.getPersistence().setQueueCapacity(100_000);
+        MessageWriteBehindQueue queue = new MessageWriteBehindQueue(messageRepository, recentMessageCache,
+            messageSearchIndex, messageValueIndex, messageBuckets, serviceProperties,
+            meterRegistry);
+        queue.start();
+        AtomicInteger accepted = new AtomicInteger();
+        CountDownLatch producing = new CountDownLatch(4);
+        Thread[] producers = new Thread[4];
+        for (int i = 0; i < producers.length; i++) {
+            producers[i] = new Thread(() -> {
+                producing.countDown();
+                while (true) {
+                    try {
+                        queue.enqueue("message");
+                        accepted.incrementAndGet();
+                    }
+                    catch (MessageQueueFullException ex) {
+                        return;
+                    }
+                }
+            });
+            producers[i].start();
+        }
+        producing.await();
+        queue.stop();
+        for (Thread producer : producers) {
+            producer.join();
+        }
+
+        assertEquals(accepted.get(), batchSizes.stream().mapToInt(Integer::intValue).sum(),
+            "Messages accepted while stopping must still be written");
+        assertEquals(0, queue.getQueueDepth());
+    }
+
+    @Test
+    void testRejectsWhenStopped() {
+        MessageWriteBehindQueue queue = new MessageWriteBehindQueue(messageRepository, recentMessageCache,
+            messageSearchIndex, messageValueIndex, messageBuckets, serviceProperties,
+            meterRegistry);
+
+        assertThrows(MessageQueueFullException.class, () -> queue.enqueue("rejected"));
+        verify(messageRepository, never()).insertBatch(anyList());
+    }
+
+    @Test
+    void testSkipsStoredValuesWhenDeduplicating() {
+        serviceProperties.getDedup().setEnabled(true);
+        when(messageValueIndex.retainAbsent(anyList())).thenAnswer(invocation -> {
+            List<Message> batch = invocation.getArgument(0);
+            return batch.stream().filter(message -> !message.getValue().equals("stored")).toList();
+        });
+        MessageWriteBehindQueue queue = new MessageWriteBehindQueue(messageRepository, recentMessageCache,
+            messageSearchIndex, messageValueIndex, messageBuckets, serviceProperties,
+            meterRegistry);
+
+        List<Message> batch = List.of(new Message("new", null), new Message("stored", null));
+        assertEquals(1, queue.persist(batch));
+        assertEquals(List.of(1), batchSizes);
+        assertEquals(1.0, meterRegistry.get("messages.writebehind.deduplicated").counter().count());
+
+        assertEquals(0, queue.persist(List.of(new Message("stored", null))));
+        assertEquals(List.of(1), batchSizes, "A batch of duplicates should not reach the database");
+    }
+}
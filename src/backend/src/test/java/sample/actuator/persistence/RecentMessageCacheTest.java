@@ -0,0 +1,135 @@
+package sample.actuator.persistence;
+
+// JUnit Jupiter 5.9.3
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Mockito 5.3.1
+import org.mockito.Mockito;
+import static org.mockito.Mockito.when;
+
+// Micrometer 1.11.0
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import sample.actuator.ServiceProperties;
+import sample.actuator.model.Message;
+import sample.actuator.repository.MessageStoreRepository;
+
+/**
+ * Unit tests for RecentMessageCache covering warm-up, wrap-around, cursor lookups and the
+ * hit/miss decision that triggers the database fallback.
+ *
+ * Requirements addressed:
+ * - Message Retrieval: Verifies latest-message reads are answered from memory only when
+ *   the ring holds the full requested window
+ */
+public class RecentMessageCacheTest {
+
+    private MessageStoreRepository messageRepository;
+
+    private ServiceProperties serviceProperties;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        messageRepository = Mockito.mock(MessageStoreRepository.class);
+        serviceProperties = new ServiceProperties();
+        serviceProperties.getRecentMessages().setCapacity(4);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void testServesFullPagesAndFallsBackOnShortOnes() {
+        when(messageRepository.findLatestMessages(4)).thenReturn(List.of(message(2), message(1)));
+        RecentMessageCache cache = newCache();
+
+        assertEquals(List.of(2L, 1L), ids(cache.findLatest(2)));
+        assertNull(cache.findLatest(3), "Other instances may hold the rest of a short page");
+
+        cache.publishAll(List.of(message(3)));
+        assertEquals(List.of(3L, 2L, 1L), ids(cache.findLatest(3)));
+        assertNull(cache.findLatest(10));
+        assertEquals(2.0, hits());
+        assertEquals(2.0, misses());
+    }
+
+    @Test
+    void testFallsBackWhenWindowExceedsCapacity() {
+        when(messageRepository.findLatestMessages(4)).thenReturn(List.of());
+        RecentMessageCache cache = newCache();
+        List<Message> written = new ArrayList<>();
+        for (long id = 1; id <= 6; id++) {
+            written.add(message(id));
+        }
+        cache.publishAll(written);
+
+        assertEquals(List.of(6L, 5L, 4L), ids(cache.findLatest(3)));
+        assertNull(cache.findLatest(5), "Ring has wrapped, so older rows must come from the database");
+        assertEquals(1.0, misses());
+    }
+
+    @Test
+    void testFindOlderThanFollowsCursorWithinRing() {
+        when(messageRepository.findLatestMessages(4)).thenReturn(List.of());
+        RecentMessageCache cache = newCache();
+        cache.publishAll(List.of(message(1), message(2), message(3), message(4), message(5)));
+
+        assertEquals(List.of(4L, 3L), ids(cache.findOlderThan(5, 2)));
+        assertNull(cache.findOlderThan(3, 2), "Only message 2 is still held, so the window is incomplete");
+        assertNull(cache.findOlderThan(1, 2), "Evicted cursor must fall back to the database");
+    }
+
+    @Test
+    void testStopsAtMessagesDroppedByRetention() {
+        when(messageRepository.findLatestMessages(4)).thenReturn(List.of());
+        RecentMessageCache cache = newCache();
+        cache.publishAll(List.of(message(1), message(2), message(3)));
+
+        cache.retainAfter(1);
+
+        assertEquals(List.of(3L, 2L), ids(cache.findLatest(2)));
+        assertNull(cache.findLatest(3), "Message 1 was dropped, so the page must come from the database");
+        assertNull(cache.findOlderThan(3, 5));
+    }
+
+    @Test
+    void testDisabledCacheAlwaysMisses() {
+        serviceProperties.getRecentMessages().setEnabled(false);
+        RecentMessageCache cache = newCache();
+        cache.publishAll(List.of(message(1)));
+
+        assertNull(cache.findLatest(1));
+        assertEquals(0, cache.size());
+    }
+
+    private RecentMessageCache newCache() {
+        RecentMessageCache cache = new RecentMessageCache(messageRepository, serviceProperties, meterRegistry);
+        cache.afterPropertiesSet();
+        return cache;
+    }
+
+    private static Message message(long id) {
+        Message message = new Message("message " + id, Instant.ofEpochSecond(id));
+        message.setId(id);
+        return message;
+    }
+
+    private static List<Long> ids(List<Message> messages) {
+        assertNotNull(messages, "Expected a cache hit");
+        return messages.stream().map(Message::getId).toList();
+    }
+
+    private double hits() {
+        return meterRegistry.get("messages.cache.requests").tag("result", "hit").counter().count();
+    }
+
+    private double misses() {
+        return meterRegistry.get("messages.cache.requests").tag("result", "miss").counter().count();
+    }
+}
@@ -5,11 +5,18 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Assertions;
 
 // Spring Boot Test v3.0.0
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 // Spring Framework v6.0.0
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
 
 import sample.actuator.model.Message;
+import sample.actuator.model.MessageValueHash;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -20,8 +27,13 @@ import java.util.List;
  * - Validates data access operations for Message entities
  * - Tests save, findByValue and findLatestMessages operations
  * - Uses Spring Data JPA test slice with in-memory database
+ * - Keeps the H2 URL of application-test.properties instead of a replacement embedded
+ *   database, since messages.value needs NON_KEYWORDS=VALUE in both the Hibernate DDL and
+ *   the JDBC fragments
  */
 @DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
 public class MessageRepositoryTest {
 
     @Autowired
@@ -83,4 +95,89 @@ public class MessageRepositoryTest {
         Assertions.assertEquals("second message", latestMessages.get(1).getValue(),
             "Second message should be the second latest");
     }
-}
\ No newline at end of file
+
+    /**
+     * Tests keyset pagination with findNewest and findOlderThan, including messages that
+     * share the same created_at.
+     *
+     * Addresses requirement: Message Retrieval
+     * - Validates pages are disjoint, ordered newest first and bounded by the page size
+     */
+    @Test
+    public void testKeysetPagination() {
+        Instant base = Instant.parse("2024-01-01T00:00:00Z");
+        for (int i = 0; i < 5; i++) {
+            // Pairs of messages share a timestamp so the id tie-breaker is exercised
+            messageRepository.save(new Message("message " + i, base.plusSeconds(i / 2)));
+        }
+
+        List<Message> firstPage = messageRepository.findNewest(PageRequest.ofSize(2));
+        Assertions.assertEquals(List.of("message 4", "message 3"),
+            firstPage.stream().map(Message::getValue).toList());
+
+        Message last = firstPage.get(1);
+        List<Message> secondPage = messageRepository.findOlderThan(last.getCreatedAt(), last.getId(),
+            PageRequest.ofSize(2));
+        Assertions.assertEquals(List.of("message 2", "message 1"),
+            secondPage.stream().map(Message::getValue).toList());
+
+        last = secondPage.get(1);
+        List<Message> thirdPage = messageRepository.findOlderThan(last.getCreatedAt(), last.getId(),
+            PageRequest.ofSize(2));
+        Assertions.assertEquals(List.of("message 0"),
+            thirdPage.stream().map(Message::getValue).toList());
+    }
+
+    /**
+     * Tests that findLatestMessages rejects non-positive limits instead of reading the table.
+     * The repository proxy translates the IllegalArgumentException into Spring's
+     * DataAccessException hierarchy.
+     */
+    @Test
+    public void testFindLatestMessagesRejectsInvalidLimit() {
+        InvalidDataAccessApiUsageException ex = Assertions.assertThrows(InvalidDataAccessApiUsageException.class,
+            () -> messageRepository.findLatestMessages(0));
+        Assertions.assertInstanceOf(IllegalArgumentException.class, ex.getCause());
+    }
+
+    /**
+     * Tests the cursor scan behind the streaming export, including resuming after an id.
+     *
+     * Addresses requirement: Message Export
+     * - Validates rows are streamed in id order and only after the given id
+     */
+    @Test
+    public void testStreamAfter() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(messageRepository.save(new Message("message " + i, Instant.now())).getId());
+        }
+
+        List<String> all = new ArrayList<>();
+        long streamed = messageRepository.streamAfter(0, 2, message -> all.add(message.getValue()));
+        Assertions.assertEquals(5, streamed);
+        Assertions.assertEquals(List.of("message 0", "message 1", "message 2", "message 3", "message 4"), all);
+
+        List<Long> resumed = new ArrayList<>();
+        messageRepository.streamAfter(ids.get(2), 2, message -> resumed.add(message.getId()));
+        Assertions.assertEquals(ids.subList(3, 5), resumed);
+    }
+
+    /**
+     * Tests the value_hash lookups behind deduplication for rows written by the JDBC batch
+     * insert.
+     *
+     * Addresses requirement: Message Deduplication
+     * - Validates batch inserts store the value digest and one query resolves many digests
+     */
+    @Test
+    public void testFindValuesByHashes() {
+        messageRepository.insertBatch(List.of(new Message("alpha", Instant.now()), new Message("beta", Instant.now())));
+
+        List<String> found = messageRepository.findValuesByHashes(List.of(MessageValueHash.of("alpha"),
+            MessageValueHash.of("beta"), MessageValueHash.of("gamma")));
+        Assertions.assertEquals(List.of("alpha", "beta"), found.stream().sorted().toList());
+        Assertions.assertEquals(1, messageRepository.findByValue("beta").size());
+        Assertions.assertTrue(messageRepository.findValuesByHashes(List.of()).isEmpty());
+    }
+}
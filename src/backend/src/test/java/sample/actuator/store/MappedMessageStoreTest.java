@@ -0,0 +1,190 @@
+package sample.actuator.store;
+
+// JUnit Jupiter 5.9.3
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Spring Data JPA v3.0.0
+import org.springframework.data.domain.PageRequest;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import sample.actuator.model.Message;
+import sample.actuator.model.MessageValueHash;
+
+/**
+ * Unit tests for MappedMessageStore and MappedMessageRepository covering appends across
+ * region boundaries, value lookups, and recovery after reopening, a torn record and a lost
+ * value table.
+ *
+ * Requirements addressed:
+ * - Off-Heap Message Store: Verifies messages survive restarts and crashes and are served
+ *   like the JPA repository serves them
+ */
+public class MappedMessageStoreTest {
+
+    // Small regions, so a few hundred messages span several of them
+    private static final int REGION_SIZE = 4096;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testAppendAndReadAcrossRegions() {
+        try (MappedMessageStore store = new MappedMessageStore(directory, REGION_SIZE, false)) {
+            List<Message> messages = messages(0, 300);
+            store.appendAll(messages);
+
+            assertEquals(300, store.count());
+            assertEquals(1L, messages.get(0).getId());
+            assertEquals(300L, messages.get(299).getId());
+            assertTrue(store.logSize() > REGION_SIZE);
+            for (Message message : messages) {
+                Message read = store.read(message.getId());
+                assertEquals(message.getValue(), read.getValue());
+                assertEquals(message.getCreatedAt(), read.getCreatedAt());
+                assertArrayEquals(MessageValueHash.of(message.getValue()), store.readValueHash(message.getId()));
+            }
+            assertNull(store.read(0));
+            assertNull(store.read(301));
+        }
+    }
+
+    @Test
+    void testRejectsMessageLargerThanRegionWithoutWritingTheBatch() {
+        try (MappedMessageStore store = new MappedMessageStore(directory, REGION_SIZE, false)) {
+            List<Message> batch = List.of(new Message("small", Instant.now()),
+                new Message("x".repeat(REGION_SIZE), Instant.now()));
+
+            assertThrows(IllegalArgumentException.class, () -> store.appendAll(batch));
+            assertEquals(0, store.count());
+            assertNull(batch.get(0).getId());
+        }
+    }
+
+    @Test
+    void testReopenKeepsMessagesAndContinuesIds() {
+        try (MappedMessageStore store = new MappedMessageStore(directory, REGION_SIZE, false)) {
+            store.appendAll(messages(0, 100));
+        }
+        try (MappedMessageStore store = new MappedMessageStore(directory, REGION_SIZE, true)) {
+            assertEquals(100, store.count());
+            List<Message> more = messages(100, 10);
+            store.appendAll(more);
+            assertEquals(101L, more.get(0).getId());
+            assertEquals("message 105", store.read(106).getValue());
+            assertEquals("message 42", store.read(43).getValue());
+        }
+    }
+
+    @Test
+    void testRecoveryReplaysTailAndDiscardsTornRecord() throws IOException {
+        try (MappedMessageStore store = new MappedMessageStore(directory, REGION_SIZE, false)) {
+            store.appendAll(messages(0, 50));
+            store.appendAll(messages(50, 3));
+        }
+        // Roll the checkpoint back to 50, as if the process died before writing it
+        writeLong(directory.resolve("messages.idx"), 8, 50);
+        // Corrupt the body of the last record, as if it was only partially written
+        long lastOffset = readLong(directory.resolve("messages.idx"), 64 + 52 * Long.BYTES);
+        writeLong(directory.resolve("messages.log"), lastOffset + 8, 0);
+
+        try (MappedMessageStore store = new MappedMessageStore(directory, REGION_SIZE, false)) {
+            assertEquals(52, store.count());
+            assertEquals("message 51", store.read(52).getValue());
+            assertNull(store.read(53));
+
+            Message next = new Message("after recovery", Instant.now());
+            store.appendAll(List.of(next));
+            assertEquals(53L, next.getId());
+        }
+        try (MappedMessageStore store = new MappedMessageStore(directory, REGION_SIZE, false)) {
+            assertEquals(53, store.count());
+            assertEquals("after recovery", store.read(53).getValue());
+        }
+    }
+
+    @Test
+    void testValueTableIsRebuiltWhenMissing() throws IOException {
+        try (MappedMessageStore store = new MappedMessageStore(directory, REGION_SIZE, false)) {
+            store.appendAll(messages(0, 20));
+            store.appendAll(List.of(new Message("message 3", Instant.now())));
+        }
+        Files.delete(directory.resolve("values.idx"));
+
+        try (MappedMessageStore store = new MappedMessageStore(directory, REGION_SIZE, false)) {
+            List<Long> ids = new ArrayList<>();
+            store.forEachWithValueHash(MessageValueHash.of("message 3"), ids::add);
+            assertEquals(List.of(4L, 21L), ids.stream().sorted().toList());
+        }
+    }
+
+    @Test
+    void testDirectoryIsLockedWhileOpen() {
+        try (MappedMessageStore store = new MappedMessageStore(directory, REGION_SIZE, false)) {
+            assertThrows(IllegalStateException.class,
+                () -> new MappedMessageStore(directory, REGION_SIZE, false));
+        }
+        try (MappedMessageStore reopened = new MappedMessageStore(directory, REGION_SIZE, false)) {
+            assertEquals(0, reopened.count());
+        }
+    }
+
+    @Test
+    void testRepositoryQueries() {
+        try (MappedMessageStore store = new MappedMessageStore(directory, REGION_SIZE, false)) {
+            MappedMessageRepository repository = new MappedMessageRepository(store);
+            assertNull(repository.findMaxId());
+            assertEquals(5, repository.insertBatch(messages(0, 5)));
+            Message appended = new Message("message 2", Instant.now());
+            assertEquals(1, repository.insertBatch(List.of(appended)));
+
+            assertEquals(6L, appended.getId());
+            assertEquals(List.of(3L, 6L),
+                repository.findByValue("message 2").stream().map(Message::getId).toList());
+            assertEquals(List.of("message 1"), repository.findValuesByHashes(
+                List.of(MessageValueHash.of("message 1"), MessageValueHash.of("absent"))));
+            assertEquals(List.of(6L, 5L),
+                repository.findLatestMessages(2).stream().map(Message::getId).toList());
+            Message oldest = repository.findNewest(PageRequest.ofSize(5)).get(4);
+            assertEquals(List.of(1L),
+                repository.findOlderThan(oldest.getCreatedAt(), oldest.getId(), PageRequest.ofSize(5)).stream()
+                    .map(Message::getId).toList());
+
+            List<Long> streamed = new ArrayList<>();
+            assertEquals(3, repository.streamAfter(3, 100, message -> streamed.add(message.getId())));
+            assertEquals(List.of(4L, 5L, 6L), streamed);
+            assertEquals(1L, repository.findMinId());
+            assertEquals(6L, repository.findMaxId());
+        }
+    }
+
+    private static List<Message> messages(int from, int count) {
+        Instant base = Instant.parse("2024-01-01T00:00:00.123456789Z");
+        List<Message> messages = new ArrayList<>();
+        for (int i = from; i < from + count; i++) {
+            messages.add(new Message("message " + i, base.plusSeconds(i)));
+        }
+        return messages;
+    }
+
+    private static long readLong(Path file, long position) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, position, Long.BYTES).getLong(0);
+        }
+    }
+
+    private static void writeLong(Path file, long position, long value) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            channel.map(FileChannel.MapMode.READ_WRITE, position, Long.BYTES).putLong(0, value);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package sample.actuator.time;
+
+// JUnit Jupiter 5.9.3
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+// Jackson 2.15.0
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.text.SimpleDateFormat;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import sample.actuator.dto.MessageResponse;
+
+/**
+ * Unit tests for CoarseClock covering tick publication, the unstarted fallback and the
+ * background ticker, and for the cached timestamp text written into responses.
+ *
+ * Requirements addressed:
+ * - Timestamp Performance: Verifies readers see the instant of the last tick only
+ */
+public class CoarseClockTest {
+
+    private final AtomicReference<Instant> source = new AtomicReference<>(Instant.parse("2024-01-01T12:00:00Z"));
+
+    private final Clock sourceClock = new Clock() {
+
+        @Override
+        public Instant instant() {
+            return source.get();
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    };
+
+    @Test
+    void testServesInstantOfLastTick() {
+        CoarseClock clock = new CoarseClock(sourceClock, Duration.ofHours(1));
+        clock.start();
+        try {
+            source.set(Instant.parse("2024-01-01T12:00:05Z"));
+            assertEquals(Instant.parse("2024-01-01T12:00:00Z"), clock.instant(), "Unchanged until the next tick");
+
+            clock.tick();
+            assertEquals(Instant.parse("2024-01-01T12:00:05Z"), clock.instant());
+            assertSame(clock.instant(), clock.instant(), "Readers share the published instant");
+        }
+        finally {
+            clock.stop();
+        }
+    }
+
+    @Test
+    void testFallsBackToSourceWhenNotRunning() {
+        CoarseClock clock = new CoarseClock(sourceClock, Duration.ofHours(1));
+
+        assertFalse(clock.isRunning());
+        source.set(Instant.parse("2024-01-01T12:00:07Z"));
+        assertEquals(Instant.parse("2024-01-01T12:00:07Z"), clock.instant());
+    }
+
+    @Test
+    void testTickerAdvancesClock() throws InterruptedException {
+        CoarseClock clock = new CoarseClock(sourceClock, Duration.ofMillis(1));
+        clock.start();
+        try {
+            source.set(Instant.parse("2024-01-01T13:00:00Z"));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (!source.get().equals(clock.instant()) && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            assertEquals(Instant.parse("2024-01-01T13:00:00Z"), clock.instant());
+        }
+        finally {
+            clock.stop();
+        }
+        assertFalse(clock.isRunning());
+    }
+
+    @Test
+    void testFormatsConfiguredPatternPerSecondAndReusesText() {
+        SimpleDateFormat pattern = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+        pattern.setTimeZone(TimeZone.getTimeZone("UTC"));
+        TimestampFormat format = new TimestampFormat(pattern);
+        String first = format.format(Instant.parse("2024-06-01T08:30:15.250Z"));
+        String second = format.format(Instant.parse("2024-06-01T08:30:15.999Z"));
+
+        assertEquals("2024-06-01 08:30:15", first);
+        assertSame(first, second, "Instants within one second share the cached text");
+        assertEquals("2024-06-01 08:30:14", format.format(Instant.parse("2024-06-01T08:30:14.500Z")));
+        assertSame(first, format.format(Instant.parse("2024-06-01T08:30:15Z")),
+            "Formatting an older second does not evict the cached one");
+        assertTrue(format.isFor(pattern));
+    }
+
+    @Test
+    void testSerializesInstantsLikeJacksonSerializesDates() throws Exception {
+        Instant instant = Instant.parse("2024-06-01T08:30:15.250Z");
+        ObjectMapper timestamps = new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        ObjectMapper defaults = timestamps.copy().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        ObjectMapper configured = defaults.copy()
+            .setDateFormat(new SimpleDateFormat("yyyy-MM-dd HH:mm:ss"))
+            .setTimeZone(TimeZone.getTimeZone("UTC"));
+
+        for (ObjectMapper mapper : List.of(defaults, configured, timestamps)) {
+            assertEquals(mapper.writeValueAsString(Map.of("date", Date.from(instant))),
+                mapper.writeValueAsString(new MessageResponse(null, null, instant)));
+        }
+    }
+}